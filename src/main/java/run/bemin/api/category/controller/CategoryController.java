@@ -5,11 +5,13 @@ import static run.bemin.api.category.dto.CategoryResponseCode.CATEGORIES_FETCHED
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import run.bemin.api.category.dto.CategoryDto;
 import run.bemin.api.category.service.CategoryService;
 import run.bemin.api.general.response.ApiResponse;
@@ -22,11 +24,20 @@ public class CategoryController {
   private final CategoryService categoryService;
 
 
+  /**
+   * 카테고리 목록 (ETag 가 같으면 목록을 읽지 않고 304)
+   */
   @GetMapping
   public ResponseEntity<ApiResponse<Page<CategoryDto>>> getAllCategories(
       @RequestParam(value = "page", defaultValue = "0") Integer page,
-      @RequestParam(value = "size", defaultValue = "10") Integer size
+      @RequestParam(value = "size", defaultValue = "10") Integer size,
+      WebRequest webRequest
   ) {
+    String etag = categoryService.getCategoriesEtag();
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+
     Page<CategoryDto> categories = categoryService.getAllCategories(
         null,
         false,
@@ -36,8 +47,10 @@ public class CategoryController {
         true,
         false);
 
-    return ResponseEntity.ok(
-        ApiResponse.from(CATEGORIES_FETCHED.getStatus(), CATEGORIES_FETCHED.getMessage(), categories));
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResponse.from(CATEGORIES_FETCHED.getStatus(), CATEGORIES_FETCHED.getMessage(), categories));
   }
 
 
@@ -0,0 +1,9 @@
+package run.bemin.api.category.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 목록 버전 (개수, 마지막 생성/수정 시각), 목록 ETag 계산용
+ */
+public record CategoryListVersion(Long count, LocalDateTime lastCreatedAt, LocalDateTime lastUpdatedAt) {
+}
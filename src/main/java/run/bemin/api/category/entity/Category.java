@@ -17,82 +17,79 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+import run.bemin.api.general.softdelete.SoftDeleteEntity;
+import run.bemin.api.general.util.NameNormalizer;
 import run.bemin.api.store.entity.StoreCategory;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "p_category")
-public class Category {
+public class Category extends SoftDeleteEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   @Column(name = "category_id", nullable = false, updatable = false, unique = true)
   private UUID id;
 
-  @Column(name = "name", nullable = false, unique = true)
+  @Column(name = "name", nullable = false)
   private String name;
 
+  // 이름 중복 판별용 (활성 카테고리 기준 unique 인덱스 uk_category_normalized_name)
+  @Column(name = "normalized_name", nullable = false)
+  private String normalizedName;
+
+  @Filter(name = SoftDeleteEntity.FILTER_NAME)
   @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = false)
   private final List<StoreCategory> storeCategories = new ArrayList<>();
 
-  @Column(name = "is_deleted", nullable = false)
-  private Boolean isDeleted;
-
   @Column(name = "created_by", updatable = false)
   private String createdBy;
 
   @Column(name = "updated_by", nullable = true)
   private String updatedBy;
 
-  @Column(name = "deleted_by", nullable = true)
-  private String deletedBy;
-
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
   @Column(name = "updated_at", nullable = true)
   private LocalDateTime updatedAt;
 
-  @Column(name = "deleted_at", nullable = true)
-  private LocalDateTime deletedAt;
-
-  private Category(String name, Boolean isDeleted, String createdBy, String updatedBy, String deletedBy,
-                   LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+  private Category(String name, String createdBy, String updatedBy, LocalDateTime createdAt,
+                   LocalDateTime updatedAt) {
     this.name = name;
-    this.isDeleted = isDeleted;
+    this.normalizedName = NameNormalizer.normalize(name);
     this.createdBy = createdBy;
     this.updatedBy = updatedBy;
-    this.deletedBy = deletedBy;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
-    this.deletedAt = deletedAt;
   }
 
   public static Category create(String name, String createdBy) {
     return new Category(
         name,
-        false,
         createdBy,
         null,
-        null,
         LocalDateTime.now(),
-        null,
         null);
   }
 
   public void update(String updatedBy, String name, Boolean isDeleted) {
     this.updatedBy = updatedBy;
     this.name = name;
-    this.isDeleted = isDeleted != null ? isDeleted : this.isDeleted;
+    this.normalizedName = NameNormalizer.normalize(name);
     this.updatedAt = LocalDateTime.now();
+    if (Boolean.TRUE.equals(isDeleted) && !Boolean.TRUE.equals(getIsDeleted())) {
+      markDeleted(updatedBy, this.updatedAt);
+    } else if (Boolean.FALSE.equals(isDeleted)) {
+      restore();
+    }
   }
 
   public void softDelete(String deletedBy) {
-    this.deletedBy = deletedBy;
-    this.isDeleted = true;
-    this.deletedAt = LocalDateTime.now();
     this.updatedAt = LocalDateTime.now();
     this.updatedBy = deletedBy;
+    markDeleted(deletedBy, this.updatedAt);
   }
 
   @PrePersist
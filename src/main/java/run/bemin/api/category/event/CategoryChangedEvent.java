@@ -0,0 +1,9 @@
+package run.bemin.api.category.event;
+
+import java.util.UUID;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트
+ */
+public record CategoryChangedEvent(UUID categoryId) {
+}
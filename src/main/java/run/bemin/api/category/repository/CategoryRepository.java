@@ -4,16 +4,25 @@ package run.bemin.api.category.repository;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import run.bemin.api.category.dto.CategoryListVersion;
 import run.bemin.api.category.entity.Category;
 
-public interface CategoryRepository extends CrudRepository<Category, UUID> {
+public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
-  Boolean existsCategoryByName(String name);
+  Boolean existsByNormalizedNameAndIsDeletedFalse(String normalizedName);
 
   Page<Category> findAll(Pageable pageable);
 
   Page<Category> findAllByIsDeleted(Boolean isDeleted, Pageable pageable);
 
   Page<Category> findAllByIsDeletedAndNameContainingIgnoreCase(Boolean isDeleted, String name, Pageable pageable);
+
+  /**
+   * 목록 버전 (생성/수정/삭제 모두 createdAt 또는 updatedAt 을 바꾼다)
+   */
+  @Query("SELECT new run.bemin.api.category.dto.CategoryListVersion(COUNT(c), MAX(c.createdAt), MAX(c.updatedAt)) "
+      + "FROM p_category c")
+  CategoryListVersion findListVersion();
 }
@@ -1,8 +1,11 @@
 package run.bemin.api.category.service;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -11,13 +14,18 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.bemin.api.category.dto.CategoryDto;
+import run.bemin.api.category.dto.CategoryListVersion;
 import run.bemin.api.category.dto.request.CreateCategoryRequestDto;
 import run.bemin.api.category.dto.request.SoftDeleteCategoryRequestDto;
 import run.bemin.api.category.dto.request.UpdateCategoryRequestDto;
 import run.bemin.api.category.entity.Category;
+import run.bemin.api.category.event.CategoryChangedEvent;
 import run.bemin.api.category.exception.CategoryAlreadyExistsByNameException;
 import run.bemin.api.category.exception.CategoryNotFoundException;
 import run.bemin.api.category.repository.CategoryRepository;
+import run.bemin.api.general.exception.ConstraintViolations;
+import run.bemin.api.general.softdelete.SoftDeleteFilter;
+import run.bemin.api.general.util.EntityTags;
 import run.bemin.api.security.UserDetailsImpl;
 import run.bemin.api.user.repository.UserRepository;
 
@@ -26,12 +34,24 @@ import run.bemin.api.user.repository.UserRepository;
 @Service
 public class CategoryService { // TODO: 회원 등록 유무/권한 체크 기능 구현이 필요하다.
 
+  private static final String NAME_UNIQUE_INDEX = "uk_category_normalized_name";
+
   private final CategoryRepository categoryRepository;
   private final UserRepository userRepository;
-
-  private void existsCategoryByName(String name) {
-    if (categoryRepository.existsCategoryByName(name)) {
-      throw new CategoryAlreadyExistsByNameException(name);
+  private final ApplicationEventPublisher eventPublisher;
+  private final SoftDeleteFilter softDeleteFilter;
+
+  /*
+   * 이름 중복은 사전 조회 없이 unique 인덱스 위반으로 판별한다. (조회 후 저장 사이의 경합 없음)
+   */
+  private Category saveAndFlushName(Category category) {
+    try {
+      return categoryRepository.saveAndFlush(category);
+    } catch (DataIntegrityViolationException e) {
+      if (ConstraintViolations.isViolated(e, NAME_UNIQUE_INDEX)) {
+        throw new CategoryAlreadyExistsByNameException(category.getName());
+      }
+      throw e;
     }
   }
 
@@ -43,13 +63,10 @@ public class CategoryService { // TODO: 회원 등록 유무/권한 체크 기
 
   @Transactional
   public CategoryDto createCategory(CreateCategoryRequestDto requestDto, UserDetailsImpl userDetails) {
-    existsCategoryByName(requestDto.name());
-
     existsByUserEmail(userDetails.getUsername());
 
-    Category category = Category.create(requestDto.name(), userDetails.getUsername());
-
-    categoryRepository.save(category);
+    Category category = saveAndFlushName(Category.create(requestDto.name(), userDetails.getUsername()));
+    eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
 
     return CategoryDto.fromEntity(category);
   }
@@ -64,27 +81,38 @@ public class CategoryService { // TODO: 회원 등록 유무/권한 체크 기
 
     if (isAdmin) {
       // 관리자: 삭제 여부 무관하게 전체 조회
-      return categoryRepository.findAll(pageable).map(CategoryDto::fromEntity);
+      return softDeleteFilter.includingDeleted(() -> categoryRepository.findAll(pageable))
+          .map(CategoryDto::fromEntity);
     }
 
     // 일반 사용자: 삭제되지 않은 카테고리만 조회
     Boolean filterDeleted = Optional.ofNullable(isDeleted).orElse(false);
-    Page<Category> categoryPage = (name != null)
+    Supplier<Page<Category>> query = () -> (name != null)
         ? categoryRepository.findAllByIsDeletedAndNameContainingIgnoreCase(filterDeleted, name, pageable)
         : categoryRepository.findAllByIsDeleted(filterDeleted, pageable);
+    Page<Category> categoryPage = filterDeleted ? softDeleteFilter.includingDeleted(query) : query.get();
 
     return categoryPage.map(CategoryDto::fromEntity);
   }
 
+  /**
+   * 카테고리 목록 ETag (목록을 읽지 않고 집계 한 번으로 계산)
+   */
+  @Transactional(readOnly = true)
+  public String getCategoriesEtag() {
+    // 관리자 목록에 나오는 삭제된 카테고리의 변경도 반영되도록 전체 행 기준
+    CategoryListVersion version = softDeleteFilter.includingDeleted(categoryRepository::findListVersion);
+    return EntityTags.of("categories", version.count(), version.lastCreatedAt(), version.lastUpdatedAt());
+  }
+
   @Transactional
   public CategoryDto updatedCategory(UpdateCategoryRequestDto requestDto) {
-    existsCategoryByName(requestDto.name());
-
     Category category = categoryRepository.findById(requestDto.categoryId())
         .orElseThrow(() -> new CategoryNotFoundException(requestDto.categoryId().toString()));
 
     category.update(requestDto.userEmail(), requestDto.name(), requestDto.isDeleted());
-    Category savedCategory = categoryRepository.save(category);
+    Category savedCategory = saveAndFlushName(category);
+    eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
 
     return CategoryDto.fromEntity(savedCategory);
   }
@@ -97,6 +125,7 @@ public class CategoryService { // TODO: 회원 등록 유무/권한 체크 기
 
     category.softDelete(requestDto.userEmail());
     Category softDeletedCategory = categoryRepository.save(category);
+    eventPublisher.publishEvent(new CategoryChangedEvent(softDeletedCategory.getId()));
 
     return CategoryDto.fromEntity(softDeletedCategory);
   }
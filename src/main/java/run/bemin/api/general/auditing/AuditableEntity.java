@@ -10,11 +10,15 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import run.bemin.api.general.softdelete.SoftDeleteEntity;
 
+/*
+ * 생성/수정 감사 컬럼 + 소프트 삭제 컬럼 (SoftDeleteEntity)
+ */
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 @MappedSuperclass
-public class AuditableEntity {
+public class AuditableEntity extends SoftDeleteEntity {
 
   @CreatedDate
   @Column(updatable = false, name = "created_at")
@@ -0,0 +1,23 @@
+package run.bemin.api.general.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/*
+ * DataIntegrityViolationException 이 특정 제약 조건 위반인지 판별
+ */
+public final class ConstraintViolations {
+
+  private ConstraintViolations() {
+  }
+
+  public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+        // DB 에 따라 스키마/테이블 이름이 붙거나 대문자로 올 수 있다.
+        return violation.getConstraintName().toLowerCase().contains(constraintName.toLowerCase());
+      }
+    }
+    return false;
+  }
+}
@@ -73,13 +73,23 @@ public enum ErrorCode {
   STORE_RATING_INVALID(HttpStatus.BAD_REQUEST.value(), "ST008", "가게 평점이 유효하지 않습니다."),
   STORE_ACCESS_DENIED(HttpStatus.FORBIDDEN.value(), "ST009", "가게에 대한 권한이 없습니다."),
   STORE_DISABLED(HttpStatus.FORBIDDEN.value(), "ST010", "비활성화된 가게입니다."),
+  STORE_HOURS_INVALID(HttpStatus.BAD_REQUEST.value(), "ST011", "가게 영업 시간이 유효하지 않습니다."),
 
   // Product (상품 관련 오류)
   PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND.value(),"PR001","상품을 찾을 수 없습니다."),
   DELETED_PRODUCT(HttpStatus.BAD_REQUEST.value(),"PR002","이미 삭제된 상품입니다."),
 
   // Payment Error Code (결제 관련 오류)
-  ORDER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "P001", "주문이 존재하지 않습니다.");
+  ORDER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "P001", "주문이 존재하지 않습니다."),
+  ORDER_NOT_PAYABLE(HttpStatus.BAD_REQUEST.value(), "P002", "결제할 수 없는 주문입니다."),
+  PAYMENT_ALREADY_EXISTS(HttpStatus.CONFLICT.value(), "P003", "이미 결제가 존재하는 주문입니다."),
+  INVALID_PAYMENT_WEBHOOK(HttpStatus.UNAUTHORIZED.value(), "P004", "유효하지 않은 결제 웹훅입니다."),
+  REFUND_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "P005", "환불 작업이 존재하지 않습니다."),
+
+  // Review Error Code (리뷰 관련 오류)
+  REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "R001", "리뷰가 존재하지 않습니다."),
+  REVIEW_ACCESS_DENIED(HttpStatus.FORBIDDEN.value(), "R002", "리뷰에 대한 권한이 없습니다."),
+  REVIEW_STORE_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "R003", "리뷰할 가게가 존재하지 않습니다.");
 
   private final int status;
   private final String code;
@@ -0,0 +1,229 @@
+package run.bemin.api.general.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * PostgreSQL 월 단위 RANGE 파티션 관리
+ * - 파티션 이름 규칙 : {부모 테이블}_p{yyyyMM}
+ * - 미래 파티션 선 생성 (기본 파티션 {부모 테이블}_default 가 있으면 해당 월의 행을 옮겨 온다)
+ * - 보관 기간이 지난 파티션을 분리(DETACH)하여 아카이브 스키마로 이동하거나, 요약 후 삭제
+ */
+@Slf4j
+@Component
+public class MonthlyPartitionManager {
+
+  private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+  private static final Pattern IDENTIFIER = Pattern.compile("^[a-z_][a-z0-9_]*$");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public MonthlyPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 테이블이 파티션 테이블로 생성되어 있는지 확인
+   */
+  public boolean isPartitioned(String table) {
+    validateIdentifier(table);
+    Boolean partitioned = jdbcTemplate.queryForObject("""
+        SELECT EXISTS (
+          SELECT 1
+          FROM pg_partitioned_table pt
+          JOIN pg_class c ON c.oid = pt.partrelid
+          WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+        )
+        """, Boolean.class, table);
+    return Boolean.TRUE.equals(partitioned);
+  }
+
+  /**
+   * from 월부터 monthsAhead 개월 뒤까지의 파티션을 생성 (이미 있으면 건너뜀)
+   * 기본 파티션에 같은 범위의 행이 있으면 PARTITION OF 생성이 실패하므로,
+   * 기본 파티션이 있는 테이블은 빈 테이블을 만들어 해당 범위의 행을 옮긴 뒤 연결(ATTACH)한다.
+   */
+  public void ensurePartitions(String table, YearMonth from, int monthsAhead) {
+    validateIdentifier(table);
+    boolean hasDefault = hasDefaultPartition(table);
+    Map<YearMonth, String> existing = hasDefault ? findPartitions(table) : Map.of();
+    for (int i = 0; i <= monthsAhead; i++) {
+      YearMonth month = from.plusMonths(i);
+      LocalDate start = month.atDay(1);
+      LocalDate end = month.plusMonths(1).atDay(1);
+      if (!hasDefault) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(table, month)
+            + " PARTITION OF " + table
+            + " FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+      } else if (!existing.containsKey(month)) {
+        attachFromDefault(table, month, start, end);
+      }
+    }
+  }
+
+  /**
+   * 기본 파티션에 남아 있는 행 수 (기본 파티션이 없으면 0)
+   * 월 파티션이 없는 범위의 행이 여기에 쌓인다.
+   */
+  public long countDefaultPartitionRows(String table) {
+    validateIdentifier(table);
+    if (!hasDefaultPartition(table)) {
+      return 0;
+    }
+    Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + defaultPartitionName(table), Long.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * 부모 테이블에 연결된 월 파티션 목록 (월 오름차순)
+   */
+  public Map<YearMonth, String> findPartitions(String table) {
+    validateIdentifier(table);
+    List<String> names = jdbcTemplate.queryForList("""
+        SELECT child.relname
+        FROM pg_inherits i
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        JOIN pg_class child ON child.oid = i.inhrelid
+        WHERE parent.relname = ? AND parent.relnamespace = current_schema()::regnamespace
+        """, String.class, table);
+
+    Map<YearMonth, String> partitions = new TreeMap<>();
+    String prefix = table + "_p";
+    for (String name : names) {
+      if (!name.startsWith(prefix)) {
+        continue;
+      }
+      try {
+        partitions.put(YearMonth.parse(name.substring(prefix.length()), SUFFIX_FORMAT), name);
+      } catch (DateTimeParseException e) {
+        log.warn("Skip partition with unexpected name : {}", name);
+      }
+    }
+    return partitions;
+  }
+
+  /**
+   * cutoff 월 이전의 파티션을 분리하여 아카이브 스키마로 이동
+   *
+   * @return 이동된 파티션 수
+   */
+  public int archivePartitionsBefore(String table, YearMonth cutoff, String archiveSchema) {
+    validateIdentifier(archiveSchema);
+    int archived = 0;
+
+    for (Map.Entry<YearMonth, String> entry : findPartitions(table).entrySet()) {
+      if (!entry.getKey().isBefore(cutoff)) {
+        break;
+      }
+      String partition = entry.getValue();
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+      });
+      log.info("Archived partition {} into schema {}", partition, archiveSchema);
+      archived++;
+    }
+    return archived;
+  }
+
+  /**
+   * cutoff 월 이전의 파티션을 요약한 뒤 삭제
+   * 파티션마다 summarizer(월, 파티션 이름) 실행과 DETACH/DROP 을 한 트랜잭션으로 처리한다.
+   *
+   * @return 삭제된 파티션 수
+   */
+  public int compactPartitionsBefore(String table, YearMonth cutoff, BiConsumer<YearMonth, String> summarizer) {
+    int compacted = 0;
+
+    for (Map.Entry<YearMonth, String> entry : findPartitions(table).entrySet()) {
+      if (!entry.getKey().isBefore(cutoff)) {
+        break;
+      }
+      String partition = entry.getValue();
+      transactionTemplate.executeWithoutResult(status -> {
+        summarizer.accept(entry.getKey(), partition);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+      });
+      log.info("Compacted partition {}", partition);
+      compacted++;
+    }
+    return compacted;
+  }
+
+  public String partitionName(String table, YearMonth month) {
+    return table + "_p" + month.format(SUFFIX_FORMAT);
+  }
+
+  public String defaultPartitionName(String table) {
+    return table + "_default";
+  }
+
+  private boolean hasDefaultPartition(String table) {
+    Boolean exists = jdbcTemplate.queryForObject("""
+        SELECT EXISTS (
+          SELECT 1
+          FROM pg_partitioned_table pt
+          JOIN pg_class c ON c.oid = pt.partrelid
+          WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+            AND pt.partdefid <> 0
+        )
+        """, Boolean.class, table);
+    return Boolean.TRUE.equals(exists);
+  }
+
+  // 빈 테이블로 만든 뒤 기본 파티션의 해당 월 행을 옮기고 연결한다. (한 트랜잭션)
+  private void attachFromDefault(String table, YearMonth month, LocalDate start, LocalDate end) {
+    String partition = partitionName(table, month);
+    String defaultPartition = defaultPartitionName(table);
+    String keyColumn = findPartitionKeyColumn(table);
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.execute("CREATE TABLE " + partition
+          + " (LIKE " + table + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+      int moved = jdbcTemplate.update("WITH moved AS ("
+              + "DELETE FROM " + defaultPartition + " WHERE " + keyColumn + " >= ? AND " + keyColumn + " < ? "
+              + "RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved",
+          start.atStartOfDay(), end.atStartOfDay());
+      jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition
+          + " FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+      if (moved > 0) {
+        log.info("Moved {} rows from {} into {}", moved, defaultPartition, partition);
+      }
+    });
+  }
+
+  // 월 파티션은 단일 컬럼 RANGE 이므로 첫 번째 키 컬럼만 본다.
+  private String findPartitionKeyColumn(String table) {
+    String column = jdbcTemplate.queryForObject("""
+        SELECT a.attname
+        FROM pg_partitioned_table pt
+        JOIN pg_class c ON c.oid = pt.partrelid
+        JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+        WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+        """, String.class, table);
+    validateIdentifier(column);
+    return column;
+  }
+
+  // DDL 에 그대로 들어가는 식별자이므로 소문자/숫자/밑줄만 허용
+  private void validateIdentifier(String identifier) {
+    if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+      throw new IllegalArgumentException("Invalid sql identifier : " + identifier);
+    }
+  }
+}
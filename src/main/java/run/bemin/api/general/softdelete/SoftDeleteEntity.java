@@ -0,0 +1,46 @@
+package run.bemin.api.general.softdelete;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+
+/*
+ * 소프트 삭제 공통 컬럼 (is_deleted, deleted_at, deleted_by)
+ * - softDeleteFilter 는 모든 세션에서 자동으로 켜져 JPQL/Criteria 조회에서 삭제된 행을 뺀다.
+ *   조건이 is_deleted = false 그대로 붙으므로 같은 조건의 부분 인덱스를 탄다. (db/14_soft_delete_partial_index.sql)
+ * - 연관 컬렉션은 컬렉션 필드에 @Filter(name = FILTER_NAME) 를 따로 달아야 걸러진다.
+ * - ID 로 직접 읽는 findById / 지연 로딩 프록시, 네이티브/JDBC 쿼리에는 걸리지 않는다.
+ * - 삭제된 행까지 읽어야 하면 SoftDeleteFilter.includingDeleted 로 감싼다.
+ */
+@Getter
+@MappedSuperclass
+@FilterDef(name = SoftDeleteEntity.FILTER_NAME, defaultCondition = "is_deleted = false", autoEnabled = true)
+@Filter(name = SoftDeleteEntity.FILTER_NAME)
+public abstract class SoftDeleteEntity {
+
+  public static final String FILTER_NAME = "softDeleteFilter";
+
+  @Column(name = "is_deleted", nullable = false)
+  private Boolean isDeleted = false;
+
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
+  @Column(name = "deleted_by")
+  private String deletedBy;
+
+  protected void markDeleted(String deletedBy, LocalDateTime deletedAt) {
+    this.isDeleted = true;
+    this.deletedBy = deletedBy;
+    this.deletedAt = deletedAt;
+  }
+
+  protected void restore() {
+    this.isDeleted = false;
+    this.deletedBy = null;
+    this.deletedAt = null;
+  }
+}
@@ -0,0 +1,37 @@
+package run.bemin.api.general.softdelete;
+
+import jakarta.persistence.EntityManager;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 삭제된 행까지 읽어야 하는 조회 (관리자 목록 등) 에서만 softDeleteFilter 를 잠시 끈다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+
+  private final EntityManager entityManager;
+
+  /**
+   * 현재 트랜잭션의 세션에서 필터를 끄고 query 를 실행한 뒤 다시 켠다.
+   * (트랜잭션 밖에서는 리포지토리가 다른 세션을 쓰므로 호출할 수 없다)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public <T> T includingDeleted(Supplier<T> query) {
+    Session session = entityManager.unwrap(Session.class);
+    if (session.getEnabledFilter(SoftDeleteEntity.FILTER_NAME) == null) {
+      return query.get();
+    }
+    session.disableFilter(SoftDeleteEntity.FILTER_NAME);
+    try {
+      return query.get();
+    } finally {
+      session.enableFilter(SoftDeleteEntity.FILTER_NAME);
+    }
+  }
+}
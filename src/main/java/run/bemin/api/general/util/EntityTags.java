@@ -0,0 +1,23 @@
+package run.bemin.api.general.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.util.DigestUtils;
+
+/*
+ * 조건부 GET 용 strong ETag
+ * 응답 본문 대신 응답을 결정하는 버전 값들(버전 번호, 수정 시각 등)로 만든다.
+ * 같은 URL 안에서만 비교되므로 페이지 번호 같은 요청 값은 넣지 않아도 된다.
+ */
+public final class EntityTags {
+
+  private EntityTags() {
+  }
+
+  public static String of(Object... versions) {
+    String joined = Arrays.stream(versions).map(Objects::toString).collect(Collectors.joining(":"));
+    return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+}
@@ -0,0 +1,26 @@
+package run.bemin.api.general.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/*
+ * 이름 중복 판별용 정규화
+ * 유니코드 호환 문자(NFKC)를 통일하고, 앞뒤 공백 제거, 연속 공백은 하나로, 대소문자는 소문자로 맞춘다.
+ * ("  BBQ  치킨 " 과 "bbq 치킨" 은 같은 이름)
+ */
+public final class NameNormalizer {
+
+  private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+  private NameNormalizer() {
+  }
+
+  public static String normalize(String name) {
+    if (name == null) {
+      return null;
+    }
+    String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).strip();
+    return WHITESPACES.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+}
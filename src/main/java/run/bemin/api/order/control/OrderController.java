@@ -1,10 +1,15 @@
 package run.bemin.api.order.control;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,9 +20,12 @@ import run.bemin.api.order.dto.CancelOrderRequest;
 import run.bemin.api.order.dto.CreateOrderRequest;
 import run.bemin.api.order.dto.PagesResponse;
 import run.bemin.api.order.dto.ReadOrderResponse;
+import run.bemin.api.order.dto.StoreOrderSearchResponse;
 import run.bemin.api.order.dto.UpdateOrderRequest;
 import run.bemin.api.order.entity.Order;
 import run.bemin.api.order.service.OrderService;
+import run.bemin.api.rider.dto.RiderLocationResponseDto;
+import run.bemin.api.rider.service.RiderLocationService;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +33,7 @@ import run.bemin.api.order.service.OrderService;
 public class OrderController {
 
   private final OrderService orderService;
+  private final RiderLocationService riderLocationService;
 
   /**
    * 주문 생성
@@ -37,14 +46,40 @@ public class OrderController {
 
   /**
    * 주문 내역 조회 (페이징 처리)
+   * from 을 생략하면 최근 hot-months 개월 (bemin.order.partition.hot-months)
    */
   @GetMapping("/check")
   public ResponseEntity<PagesResponse<ReadOrderResponse>> getOrdersByUserId(
+      @RequestParam(value = "from", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
       @RequestParam(value = "page", defaultValue = "0") int page,
       @RequestParam(value = "size", defaultValue = "10") int size,
       @RequestAttribute("userId") String userId // JWT 공용 메서드에서 값 획득
   ) {
-    PagesResponse<ReadOrderResponse> rep = orderService.getOrdersByUserId(userId, page, size);
+    PagesResponse<ReadOrderResponse> rep = orderService.getOrdersByUserId(userId, from, page, size);
+    return ResponseEntity.ok(rep);
+  }
+
+  /**
+   * 가게 주문 검색 (점주용)
+   */
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @GetMapping("/store/{storeId}")
+  public ResponseEntity<StoreOrderSearchResponse> searchStoreOrders(
+      @PathVariable UUID storeId,
+      @RequestParam(value = "status", required = false) Integer statusCode,
+      @RequestParam(value = "type", required = false) Integer typeCode,
+      @RequestParam(value = "from", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam(value = "to", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(value = "cursorCreatedAt", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+      @RequestParam(value = "cursorOrderId", required = false) UUID cursorOrderId,
+      @RequestParam(value = "size", defaultValue = "20") int size
+  ) {
+    StoreOrderSearchResponse rep = orderService.searchStoreOrders(
+        storeId, statusCode, typeCode, from, to, cursorCreatedAt, cursorOrderId, size);
     return ResponseEntity.ok(rep);
   }
 
@@ -57,6 +92,16 @@ public class OrderController {
     return ResponseEntity.ok(updatedOrder);
   }
 
+  /**
+   * 배달 중인 주문의 배달기사 실시간 위치 조회
+   */
+  @GetMapping("/order/{orderId}/rider-location")
+  public ResponseEntity<RiderLocationResponseDto> getRiderLocation(@PathVariable UUID orderId) {
+    return riderLocationService.getOrderRiderLocation(orderId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.noContent().build());
+  }
+
   @PatchMapping("/cancel")
   public ResponseEntity<Void> cancelOrder(@RequestBody @Valid CancelOrderRequest req) {
     orderService.cancelOrder(req);
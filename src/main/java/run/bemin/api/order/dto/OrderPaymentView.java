@@ -0,0 +1,21 @@
+package run.bemin.api.order.dto;
+
+import java.util.UUID;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+
+/**
+ * 결제 생성 시 필요한 주문 정보만 조회하는 프로젝션
+ */
+public record OrderPaymentView(
+    UUID orderId,
+    UUID storeId,
+    OrderType orderType,
+    OrderStatus orderStatus,
+    Boolean cancelled
+) {
+
+  public boolean isPayable() {
+    return !Boolean.TRUE.equals(cancelled) && orderStatus != OrderStatus.CANCELLED;
+  }
+}
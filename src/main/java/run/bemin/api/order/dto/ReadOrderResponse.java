@@ -9,7 +9,7 @@ import run.bemin.api.order.entity.OrderAddress;
 @Builder
 public class ReadOrderResponse {
   private UUID orderId;
-  private String storeId;
+  private UUID storeId;
   private String storeName;
   private Integer orderType;
   private Integer orderStatus;
@@ -0,0 +1,34 @@
+package run.bemin.api.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+
+/**
+ * 가게 주문 검색 조건
+ *
+ * @param storeId         가게 ID (필수)
+ * @param orderStatus     주문 상태 (선택)
+ * @param orderType       주문 타입 (선택)
+ * @param from            조회 시작 시각 (포함)
+ * @param to              조회 종료 시각 (미포함, 선택)
+ * @param cursorCreatedAt 이전 페이지 마지막 주문의 생성 시각 (선택)
+ * @param cursorOrderId   이전 페이지 마지막 주문 ID (선택)
+ * @param size            페이지 크기
+ */
+public record StoreOrderSearchCondition(
+    UUID storeId,
+    OrderStatus orderStatus,
+    OrderType orderType,
+    LocalDateTime from,
+    LocalDateTime to,
+    LocalDateTime cursorCreatedAt,
+    UUID cursorOrderId,
+    int size
+) {
+
+  public boolean hasCursor() {
+    return cursorCreatedAt != null && cursorOrderId != null;
+  }
+}
@@ -0,0 +1,16 @@
+package run.bemin.api.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StoreOrderSearchResponse {
+  private List<StoreOrderSummary> data; // 주문 목록
+  private boolean hasNext; // 다음 페이지 존재 여부
+  private LocalDateTime nextCursorCreatedAt; // 다음 페이지 조회용 커서
+  private UUID nextCursorOrderId; // 다음 페이지 조회용 커서
+}
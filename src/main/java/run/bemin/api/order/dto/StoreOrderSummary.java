@@ -0,0 +1,19 @@
+package run.bemin.api.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+
+/**
+ * 가게 주문 검색 결과 (필요한 컬럼만 조회하는 프로젝션)
+ */
+public record StoreOrderSummary(
+    UUID orderId,
+    OrderStatus orderStatus,
+    OrderType orderType,
+    String riderTel,
+    String roadAddress,
+    LocalDateTime createdAt
+) {
+}
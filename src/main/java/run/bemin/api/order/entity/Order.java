@@ -7,15 +7,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
 import run.bemin.api.user.entity.User;
 
 @Entity
@@ -23,7 +26,11 @@ import run.bemin.api.user.entity.User;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_user_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_orders_store_status_created_at", columnList = "store_id, order_status, created_at"),
+    @Index(name = "idx_orders_store_created_at", columnList = "store_id, created_at")
+})
 public class Order {
 
   @Id
@@ -35,10 +42,11 @@ public class Order {
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
-  @Column
-  private String storeId;
+  // p_store FK (db/02_orders_store_search.sql)
+  @Column(name = "store_id", columnDefinition = "UUID")
+  private UUID storeId;
 
-  @Convert(converter = OrderStatusConverter.class)
+  @Convert(converter = OrderTypeConverter.class)
   @Column(nullable = false)
   private OrderType orderType;
 
@@ -58,6 +66,11 @@ public class Order {
   @Builder.Default
   private Boolean cancelled = false;
 
+  // 월 파티션 키 (db/01_orders_partitioning.sql)
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
   /*
    * 추후 audit 필드 및 생성자, 갱신자, 삭제자 구현.
    */
@@ -1,12 +1,18 @@
 package run.bemin.api.order.repo;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.order.dto.OrderPaymentView;
 import run.bemin.api.order.entity.Order;
+import run.bemin.api.order.entity.OrderStatus;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderSearchRepository {
   /**
    * 특정 사용자(userId)의 주문 내역을 페이징 처리하여 조회
    *
@@ -15,4 +21,35 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
    * @return
    */
   Page<Order> findAllByUser_UserEmail(String userId, Pageable pageable);
+
+  /**
+   * 특정 사용자(userId)의 from 이후 주문 내역을 페이징 처리하여 조회
+   * created_at 조건으로 범위 밖의 월 파티션은 조회 대상에서 제외된다.
+   *
+   * @param userId
+   * @param from
+   * @param pageable
+   * @return
+   */
+  Page<Order> findAllByUser_UserEmailAndCreatedAtGreaterThanEqual(String userId, LocalDateTime from,
+                                                                  Pageable pageable);
+
+  /**
+   * 결제 검증에 필요한 주문 컬럼만 조회 (User 등 연관 엔티티를 로딩하지 않음)
+   */
+  @Query("""
+      SELECT new run.bemin.api.order.dto.OrderPaymentView(
+        o.orderId, o.storeId, o.orderType, o.orderStatus, o.cancelled
+      )
+      FROM Order o
+      WHERE o.orderId = :orderId
+      """)
+  Optional<OrderPaymentView> findPaymentViewByOrderId(@Param("orderId") UUID orderId);
+
+  /**
+   * 주문에 배정된 배달기사 전화번호만 조회
+   */
+  @Query("SELECT o.riderTel FROM Order o WHERE o.orderId = :orderId AND o.orderStatus = :orderStatus")
+  Optional<String> findRiderTelByOrderIdAndOrderStatus(@Param("orderId") UUID orderId,
+                                                       @Param("orderStatus") OrderStatus orderStatus);
 }
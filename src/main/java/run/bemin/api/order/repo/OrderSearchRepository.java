@@ -0,0 +1,16 @@
+package run.bemin.api.order.repo;
+
+import java.util.List;
+import run.bemin.api.order.dto.StoreOrderSearchCondition;
+import run.bemin.api.order.dto.StoreOrderSummary;
+
+public interface OrderSearchRepository {
+  /**
+   * 가게 주문 검색 (생성일 내림차순 키셋 페이징)
+   *
+   * @param condition 검색 조건
+   * @param limit     최대 조회 건수
+   * @return
+   */
+  List<StoreOrderSummary> searchStoreOrders(StoreOrderSearchCondition condition, int limit);
+}
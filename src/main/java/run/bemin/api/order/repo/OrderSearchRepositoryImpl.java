@@ -0,0 +1,71 @@
+package run.bemin.api.order.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import run.bemin.api.order.dto.StoreOrderSearchCondition;
+import run.bemin.api.order.dto.StoreOrderSummary;
+import run.bemin.api.order.entity.Order;
+
+/*
+ * store_id, order_status, created_at 복합 인덱스를 타도록 조건을 구성하고
+ * OFFSET 대신 (created_at, order_id) 키셋으로 페이징하여 주문이 쌓여도 조회 비용이 일정하다.
+ */
+@RequiredArgsConstructor
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<StoreOrderSummary> searchStoreOrders(StoreOrderSearchCondition condition, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<StoreOrderSummary> query = cb.createQuery(StoreOrderSummary.class);
+    Root<Order> order = query.from(Order.class);
+    Path<LocalDateTime> createdAt = order.get("createdAt");
+    Path<UUID> orderId = order.get("orderId");
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(cb.equal(order.get("storeId"), condition.storeId()));
+    if (condition.orderStatus() != null) {
+      predicates.add(cb.equal(order.get("orderStatus"), condition.orderStatus()));
+    }
+    if (condition.orderType() != null) {
+      predicates.add(cb.equal(order.get("orderType"), condition.orderType()));
+    }
+    if (condition.from() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(createdAt, condition.from()));
+    }
+    if (condition.to() != null) {
+      predicates.add(cb.lessThan(createdAt, condition.to()));
+    }
+    if (condition.hasCursor()) {
+      predicates.add(cb.or(
+          cb.lessThan(createdAt, condition.cursorCreatedAt()),
+          cb.and(
+              cb.equal(createdAt, condition.cursorCreatedAt()),
+              cb.lessThan(orderId, condition.cursorOrderId()))));
+    }
+
+    query.select(cb.construct(StoreOrderSummary.class,
+            orderId,
+            order.get("orderStatus"),
+            order.get("orderType"),
+            order.get("riderTel"),
+            order.get("orderAddress").get("roadAddress"),
+            createdAt))
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(cb.desc(createdAt), cb.desc(orderId));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+}
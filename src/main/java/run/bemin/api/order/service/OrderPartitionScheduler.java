@@ -0,0 +1,82 @@
+package run.bemin.api.order.service;
+
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.general.partition.MonthlyPartitionManager;
+
+/*
+ * 주문 테이블 월 파티션 관리
+ * - 기동 시, 매일 새벽 미래 파티션 생성
+ * - hot-months 가 지난 파티션은 아카이브 스키마로 이동
+ * 주문 이력/주문 상품 테이블이 추가되면 PARTITIONED_TABLES 에 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionScheduler {
+
+  private static final String[] PARTITIONED_TABLES = {"orders"};
+
+  private final MonthlyPartitionManager partitionManager;
+
+  @Value("${bemin.order.partition.months-ahead:3}")
+  private int monthsAhead;
+
+  @Value("${bemin.order.partition.hot-months:6}")
+  private int hotMonths;
+
+  @Value("${bemin.order.partition.archive-schema:order_archive}")
+  private String archiveSchema;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void prepareOnStartup() {
+    preparePartitions();
+  }
+
+  @Scheduled(cron = "${bemin.order.partition.cron:0 0 4 * * *}")
+  public void maintainPartitions() {
+    preparePartitions();
+    archiveColdPartitions();
+  }
+
+  /**
+   * 이번 달부터 months-ahead 개월 뒤까지 파티션 생성
+   */
+  public void preparePartitions() {
+    YearMonth now = YearMonth.now();
+    for (String table : PARTITIONED_TABLES) {
+      if (!partitionManager.isPartitioned(table)) {
+        log.warn("{} is not a partitioned table. skip partition maintenance", table);
+        continue;
+      }
+      partitionManager.ensurePartitions(table, now, monthsAhead);
+    }
+  }
+
+  /**
+   * hot-months 보다 오래된 파티션을 아카이브 스키마로 이동
+   */
+  public void archiveColdPartitions() {
+    YearMonth cutoff = hotWindowStart(hotMonths);
+    for (String table : PARTITIONED_TABLES) {
+      if (!partitionManager.isPartitioned(table)) {
+        continue;
+      }
+      int archived = partitionManager.archivePartitionsBefore(table, cutoff, archiveSchema);
+      log.info("{} partitions archived before {} : {}", table, cutoff, archived);
+    }
+  }
+
+  /**
+   * 조회/보관 대상이 되는 가장 오래된 월 (이번 달 포함 hotMonths 개월)
+   */
+  public static YearMonth hotWindowStart(int hotMonths) {
+    return YearMonth.now().minusMonths(Math.max(hotMonths, 1) - 1L);
+  }
+}
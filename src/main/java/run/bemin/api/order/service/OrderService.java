@@ -1,30 +1,49 @@
 package run.bemin.api.order.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.bemin.api.order.dto.CancelOrderRequest;
 import run.bemin.api.order.dto.CreateOrderRequest;
 import run.bemin.api.order.dto.PagesResponse;
 import run.bemin.api.order.dto.ReadOrderResponse;
+import run.bemin.api.order.dto.StoreOrderSearchCondition;
+import run.bemin.api.order.dto.StoreOrderSearchResponse;
+import run.bemin.api.order.dto.StoreOrderSummary;
 import run.bemin.api.order.dto.UpdateOrderRequest;
 import run.bemin.api.order.entity.Order;
 import run.bemin.api.order.entity.OrderAddress;
 import run.bemin.api.order.entity.OrderDomainService;
+import run.bemin.api.order.entity.OrderStatus;
 import run.bemin.api.order.entity.OrderType;
 import run.bemin.api.order.repo.OrderRepository;
+import run.bemin.api.rider.service.RiderDispatchService;
+import run.bemin.api.stats.service.StoreStatsAggregator;
+import run.bemin.api.store.service.StoreDeliveryZoneIndex;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+  private static final int MAX_SEARCH_SIZE = 100;
+
   private final OrderRepository orderRepository;
+  private final StoreStatsAggregator storeStatsAggregator;
+  private final RiderDispatchService riderDispatchService;
+  private final StoreDeliveryZoneIndex storeDeliveryZoneIndex;
   private final OrderDomainService orderDomainService = new OrderDomainService();
 
+  @Value("${bemin.order.partition.hot-months:6}")
+  private int hotMonths;
+
   /**
    * 주문 생성
    */
@@ -45,22 +64,40 @@ public class OrderService {
         orderAddress
     );
 
+    // 3-1. 배달 주문은 가게 배달 구역 안의 주소만 받는다. (메모리 인덱스, DB 조회 없음)
+    if (orderType == OrderType.DELIVERY
+        && !storeDeliveryZoneIndex.delivers(req.getStoreId(), orderAddress.getBcode())) {
+      throw new IllegalArgumentException("store does not deliver to bcode : " + orderAddress.getBcode());
+    }
+
     // 4. 저장
-    return orderRepository.save(order);
+    Order savedOrder = orderRepository.save(order);
+
+    // 5. 가게 시간대별 집계 반영
+    storeStatsAggregator.recordOrder(savedOrder);
+    return savedOrder;
   }
 
   /**
    * 사용자의 주문 내역 조회(페이징 처리)
+   * from 이후의 주문을 조회하며, 생략하면 아카이브되지 않은 최근 hot-months 개월이 기간이 된다.
+   * hot-months 이전 주문은 아카이브 스키마로 옮겨지므로 그보다 이른 from 은 거부한다. (빈 결과로 숨기지 않음)
    *
    * @param userId 사용자 ID (JWT에서 추출된 PK)
+   * @param from   조회 시작 시각 (선택)
    * @param page   조회할 페이지 번호(0부터 시작)
    * @param size   한 페이지에 담겨지는 데이터의 갯수
    * @return 페이징 처리되어 반환되는 주문 목록
    */
   @Transactional(readOnly = true)
-  public PagesResponse<ReadOrderResponse> getOrdersByUserId(String userId, int page, int size) {
-    Pageable pageable = PageRequest.of(page, size);
-    Page<Order> orders = orderRepository.findAllByUser_UserEmail(userId, pageable);
+  public PagesResponse<ReadOrderResponse> getOrdersByUserId(String userId, LocalDateTime from, int page, int size) {
+    LocalDateTime hotFrom = OrderPartitionScheduler.hotWindowStart(hotMonths).atDay(1).atStartOfDay();
+    if (from != null && from.isBefore(hotFrom)) {
+      throw new IllegalArgumentException("orders before " + hotFrom + " are archived and cannot be listed");
+    }
+    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    Page<Order> orders = orderRepository.findAllByUser_UserEmailAndCreatedAtGreaterThanEqual(userId,
+        from != null ? from : hotFrom, pageable);
 
     // Order -> OrderResponse 변환
     List<ReadOrderResponse> data = orders.getContent().stream()
@@ -83,6 +120,56 @@ public class OrderService {
         .build();
   }
 
+  /**
+   * 가게 주문 검색 (상태, 타입, 기간 필터 + 키셋 페이징)
+   * 기간 시작이 없으면 아카이브되지 않은 최근 hot-months 개월로 제한한다.
+   *
+   * @param storeId         가게 ID
+   * @param statusCode      주문 상태 코드 (선택)
+   * @param typeCode        주문 타입 코드 (선택)
+   * @param from            조회 시작 시각 (선택)
+   * @param to              조회 종료 시각 (선택)
+   * @param cursorCreatedAt 이전 페이지의 nextCursorCreatedAt (선택)
+   * @param cursorOrderId   이전 페이지의 nextCursorOrderId (선택)
+   * @param size            페이지 크기
+   * @return 주문 요약 목록과 다음 페이지 커서
+   */
+  @Transactional(readOnly = true)
+  public StoreOrderSearchResponse searchStoreOrders(UUID storeId, Integer statusCode, Integer typeCode,
+                                                    LocalDateTime from, LocalDateTime to,
+                                                    LocalDateTime cursorCreatedAt, UUID cursorOrderId, int size) {
+    if (size <= 0 || size > MAX_SEARCH_SIZE) {
+      throw new IllegalArgumentException("search size must be between 1 and " + MAX_SEARCH_SIZE);
+    }
+
+    LocalDateTime searchFrom = from != null
+        ? from
+        : OrderPartitionScheduler.hotWindowStart(hotMonths).atDay(1).atStartOfDay();
+
+    StoreOrderSearchCondition condition = new StoreOrderSearchCondition(
+        storeId,
+        statusCode != null ? OrderStatus.fromCode(statusCode) : null,
+        typeCode != null ? OrderType.fromCode(typeCode) : null,
+        searchFrom,
+        to,
+        cursorCreatedAt,
+        cursorOrderId,
+        size);
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    List<StoreOrderSummary> rows = orderRepository.searchStoreOrders(condition, size + 1);
+    boolean hasNext = rows.size() > size;
+    List<StoreOrderSummary> data = hasNext ? rows.subList(0, size) : rows;
+    StoreOrderSummary last = data.isEmpty() ? null : data.get(data.size() - 1);
+
+    return StoreOrderSearchResponse.builder()
+        .data(data)
+        .hasNext(hasNext)
+        .nextCursorCreatedAt(hasNext ? last.createdAt() : null)
+        .nextCursorOrderId(hasNext ? last.orderId() : null)
+        .build();
+  }
+
   /**
    * 주문 상태 및 배달기사 정보 수정
    *
@@ -96,8 +183,14 @@ public class OrderService {
         .orElseThrow(() -> new IllegalArgumentException("Order Not Fount id : " + req.getOrderId()));
 
     // 2. 도메인 서비스로 비즈니스 로직 실행
+    OrderStatus prevStatus = order.getOrderStatus();
     orderDomainService.updateOrder(order, req);
 
+    if (order.getOrderStatus() != prevStatus) {
+      riderDispatchService.onOrderStatusChanged(order);
+      storeStatsAggregator.recordOrder(order);
+    }
+
     // 3. update 저장 및 반환
     return orderRepository.save(order);
   }
@@ -110,6 +203,8 @@ public class OrderService {
 
     // 2. 도메인 서비스 비즈니스 로직 실행
     orderDomainService.cancelOrder(order);
+    riderDispatchService.onOrderStatusChanged(order);
+    storeStatsAggregator.recordOrder(order);
 
     // 3. 취소 상태 저장
     orderRepository.save(order);
@@ -0,0 +1,50 @@
+package run.bemin.api.payment.controller;
+
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.payment.dto.RefundJobDto;
+import run.bemin.api.payment.dto.RefundJobRequestDto;
+import run.bemin.api.payment.service.RefundJobService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/refunds")
+@RestController
+public class AdminRefundController {
+
+  private final RefundJobService refundJobService;
+
+  /**
+   * 가게 일괄 환불 시작 (비동기로 진행되며 작업 ID 로 진행 상황을 조회)
+   */
+  @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+  @PostMapping
+  public ResponseEntity<ApiResponse<RefundJobDto>> startRefundJob(@Valid @RequestBody RefundJobRequestDto requestDto) {
+    RefundJobDto job = refundJobService.startRefundJob(requestDto);
+
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.from(HttpStatus.ACCEPTED, "성공", job));
+  }
+
+  /**
+   * 일괄 환불 진행 상황 조회
+   */
+  @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+  @GetMapping("/{refundJobId}")
+  public ResponseEntity<ApiResponse<RefundJobDto>> getRefundJob(@PathVariable UUID refundJobId) {
+    RefundJobDto job = refundJobService.getRefundJob(refundJobId);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", job));
+  }
+}
@@ -1,13 +1,17 @@
 package run.bemin.api.payment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import run.bemin.api.payment.dto.CreatePaymentDto;
 import run.bemin.api.payment.dto.PaymentDto;
+import run.bemin.api.payment.dto.PaymentWebhookRequestDto;
 import run.bemin.api.payment.service.PaymentService;
 
 @RestController
@@ -17,9 +21,19 @@ public class PaymentController {
   private final PaymentService paymentService;
 
   // TODO : Order UUID 받을 수 있으면 완성하기
+  // PG 승인은 비동기로 진행되므로 PENDING 상태의 결제를 202 로 응답
   @PostMapping("/payments")
   public ResponseEntity<PaymentDto> createPayment(@RequestBody CreatePaymentDto createPaymentDto) {
     PaymentDto payment = paymentService.createPayment(createPaymentDto);
-    return ResponseEntity.ok(payment);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(payment);
+  }
+
+  // PG 결제 결과 웹훅
+  @PostMapping("/payments/webhook")
+  public ResponseEntity<Void> receiveWebhook(
+      @RequestHeader(value = "X-Payment-Webhook-Secret", required = false) String secret,
+      @Valid @RequestBody PaymentWebhookRequestDto requestDto) {
+    paymentService.handleWebhook(secret, requestDto);
+    return ResponseEntity.ok().build();
   }
 }
@@ -0,0 +1,39 @@
+package run.bemin.api.payment.controller;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.payment.dto.PaymentMonthlySummaryDto;
+import run.bemin.api.payment.service.PaymentReportService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/store")
+@RestController
+public class PaymentReportController {
+
+  private final PaymentReportService paymentReportService;
+
+  /**
+   * 가게 월간 결제 리포트 (payment_event 원장 + 월 요약)
+   */
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @GetMapping("/{storeId}/payments/monthly")
+  public ResponseEntity<ApiResponse<List<PaymentMonthlySummaryDto>>> getMonthlySummary(
+      @PathVariable UUID storeId,
+      @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+    List<PaymentMonthlySummaryDto> summary = paymentReportService.getMonthlySummary(storeId, month);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", summary));
+  }
+}
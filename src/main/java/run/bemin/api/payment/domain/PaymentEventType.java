@@ -0,0 +1,10 @@
+package run.bemin.api.payment.domain;
+
+public enum PaymentEventType {
+  CREATED,        // 결제 요청 (PENDING)
+  COMPLETED,      // PG 승인
+  FAILED,         // PG 승인 실패
+  CANCELED,       // 결제 취소
+  REFUNDED,       // PG 환불 완료
+  REFUND_FAILED   // PG 환불 실패
+}
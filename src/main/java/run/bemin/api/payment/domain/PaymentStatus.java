@@ -1,6 +1,7 @@
 package run.bemin.api.payment.domain;
 
 public enum PaymentStatus {
+  PENDING,      // 결제 대기 : PG 승인 결과 대기 중
   COMPLETED,    // 결제 완료
   FAILED,       // 결제 실패
   CANCELED      // 결제 취소 : 승인 취소(환불)
@@ -0,0 +1,7 @@
+package run.bemin.api.payment.domain;
+
+public enum RefundJobStatus {
+  RUNNING,      // 진행 중 (재시작 시 이어서 처리)
+  COMPLETED,    // 대상 결제 취소 완료
+  FAILED        // 처리 중 오류로 중단
+}
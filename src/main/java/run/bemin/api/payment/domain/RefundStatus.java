@@ -0,0 +1,7 @@
+package run.bemin.api.payment.domain;
+
+public enum RefundStatus {
+  REQUESTED,    // 환불 요청 : PG 환불 결과 대기 중
+  REFUNDED,     // 환불 완료
+  FAILED        // 환불 실패
+}
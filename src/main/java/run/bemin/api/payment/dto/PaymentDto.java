@@ -21,7 +21,7 @@ public class PaymentDto {
   public static PaymentDto from(Payment payment) {
     return PaymentDto.builder()
         .paymentId(payment.getPaymentId())
-        .orderId(payment.getOrder().getOrderId())
+        .orderId(payment.getOrder().getOrderId()) // 프록시의 식별자 조회는 초기화를 일으키지 않음
         .paymentMethod(payment.getPayment())
         .amount(payment.getAmount())
         .status(payment.getStatus())
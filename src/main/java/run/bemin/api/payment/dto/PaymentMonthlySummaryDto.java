@@ -0,0 +1,15 @@
+package run.bemin.api.payment.dto;
+
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+/**
+ * 가게 월간 결제 이벤트 합계 (결제 수단 x 이벤트 종류)
+ */
+public record PaymentMonthlySummaryDto(
+    PaymentMethod paymentMethod,
+    PaymentEventType eventType,
+    long eventCount,
+    long amount
+) {
+}
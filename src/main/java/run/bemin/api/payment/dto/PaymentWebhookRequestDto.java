@@ -0,0 +1,20 @@
+package run.bemin.api.payment.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import run.bemin.api.payment.gateway.PaymentGatewayResult;
+
+/**
+ * PG 결제 결과 웹훅
+ */
+public record PaymentWebhookRequestDto(
+    @NotNull UUID paymentId,
+    boolean approved,
+    String transactionId,
+    String failureReason
+) {
+
+  public PaymentGatewayResult toResult() {
+    return new PaymentGatewayResult(paymentId, approved, transactionId, failureReason);
+  }
+}
@@ -0,0 +1,42 @@
+package run.bemin.api.payment.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+import run.bemin.api.payment.domain.RefundJobStatus;
+import run.bemin.api.payment.entity.RefundJob;
+
+@Getter
+@Builder
+public class RefundJobDto {
+  private UUID refundJobId;
+  private UUID storeId;
+  private LocalDateTime from;
+  private LocalDateTime to;
+  private RefundJobStatus status;
+  private long processedCount;
+  private long cancelledCount;
+  private long skippedCount;
+  private long refundedCount;
+  private long refundFailedCount;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  public static RefundJobDto from(RefundJob job) {
+    return RefundJobDto.builder()
+        .refundJobId(job.getRefundJobId())
+        .storeId(job.getStoreId())
+        .from(job.getWindowFrom())
+        .to(job.getWindowTo())
+        .status(job.getStatus())
+        .processedCount(job.getProcessedCount())
+        .cancelledCount(job.getCancelledCount())
+        .skippedCount(job.getSkippedCount())
+        .refundedCount(job.getRefundedCount())
+        .refundFailedCount(job.getRefundFailedCount())
+        .createdAt(job.getCreatedAt())
+        .updatedAt(job.getUpdatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,16 @@
+package run.bemin.api.payment.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가게 일괄 환불 요청 : storeId 가게의 [from, to) 사이 주문 결제를 취소/환불
+ */
+public record RefundJobRequestDto(
+    @NotNull UUID storeId,
+    @NotNull LocalDateTime from,
+    @NotNull LocalDateTime to,
+    UUID requestedBy
+) {
+}
@@ -0,0 +1,17 @@
+package run.bemin.api.payment.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+/**
+ * 일괄 환불 대상 결제 (청크 선택용 프로젝션)
+ */
+public record RefundTarget(
+    UUID paymentId,
+    UUID orderId,
+    LocalDateTime orderCreatedAt,
+    PaymentMethod paymentMethod,
+    int amount
+) {
+}
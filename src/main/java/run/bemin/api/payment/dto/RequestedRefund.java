@@ -0,0 +1,14 @@
+package run.bemin.api.payment.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 환불 결과를 기다리는 결제 (REQUESTED 환불 대사용 프로젝션)
+ */
+public record RequestedRefund(
+    UUID paymentId,
+    UUID refundJobId,
+    LocalDateTime refundRequestedAt
+) {
+}
@@ -1,15 +1,19 @@
 package run.bemin.api.payment.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -21,17 +25,25 @@ import org.hibernate.annotations.UpdateTimestamp;
 import run.bemin.api.order.entity.Order;
 import run.bemin.api.payment.domain.PaymentMethod;
 import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.payment.domain.RefundStatus;
 
 @Entity
 @Getter
+@Table(name = "payment", indexes = {
+    // 일 정산 : status = 'COMPLETED' AND created_at 범위
+    @Index(name = "idx_payment_status_created_at", columnList = "status, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment {
   @Id
   @GeneratedValue(strategy = GenerationType.AUTO)
   private UUID paymentId;
 
+  // orders 는 (order_id, created_at) 복합 PK 의 파티션 테이블이라 order_id 단독 FK 를 만들 수 없다.
+  // 대신 db/01_orders_partitioning.sql 의 트리거가 주문 존재 확인과 결제가 있는 주문의 삭제 금지를 맡는다.
   @OneToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "order_id", nullable = false)
+  @JoinColumn(name = "order_id", nullable = false, unique = true,
+      foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   private Order order;
 
   @Enumerated(EnumType.STRING)
@@ -45,6 +57,22 @@ public class Payment {
   @Column(nullable = false)
   private PaymentStatus status;
 
+  // PG 환불 진행 상태 (취소된 결제만)
+  @Enumerated(EnumType.STRING)
+  @Column(name = "refund_status")
+  private RefundStatus refundStatus;
+
+  // 환불을 요청한 일괄 환불 작업과 요청 시각 (RequestedRefundReconciler 가 결과 반영/만료 판단에 사용)
+  @Column(name = "refund_job_id", columnDefinition = "UUID")
+  private UUID refundJobId;
+
+  @Column(name = "refund_requested_at")
+  private LocalDateTime refundRequestedAt;
+
+  // PG 거래 번호 (승인 시 기록)
+  @Column(length = 100)
+  private String pgTransactionId;
+
   @CreationTimestamp
   @Column(updatable = false)
   private LocalDateTime createdAt;
@@ -60,10 +88,34 @@ public class Payment {
     this.status = status;
   }
 
-  // 결제 취소(환불) 메서드 : COMPLETED -> CANCELED
-  public void cancelPayment(UUID deletedBy) {
+  // PG 승인 : PENDING -> COMPLETED
+  public void complete(String pgTransactionId) {
+    this.status = PaymentStatus.COMPLETED;
+    this.pgTransactionId = pgTransactionId;
+  }
+
+  // PG 승인 실패 : PENDING -> FAILED
+  public void fail() {
+    this.status = PaymentStatus.FAILED;
+  }
+
+  // 결제 취소(환불) 메서드 : COMPLETED -> CANCELED, PG 환불 요청 상태로 전환
+  public void cancelPayment(UUID deletedBy, UUID refundJobId) {
     this.status = PaymentStatus.CANCELED;
     this.deletedBy = deletedBy;
+    this.refundStatus = RefundStatus.REQUESTED;
+    this.refundJobId = refundJobId;
+    this.refundRequestedAt = LocalDateTime.now();
+  }
+
+  // PG 환불 완료 : REQUESTED -> REFUNDED
+  public void completeRefund() {
+    this.refundStatus = RefundStatus.REFUNDED;
+  }
+
+  // PG 환불 실패 : REQUESTED -> FAILED
+  public void failRefund() {
+    this.refundStatus = RefundStatus.FAILED;
   }
 
   @Builder
@@ -0,0 +1,98 @@
+package run.bemin.api.payment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import run.bemin.api.payment.domain.RefundJobStatus;
+
+/*
+ * 가게 일괄 환불 작업
+ * 청크를 처리할 때마다 같은 트랜잭션에서 커서(주문 생성 시각, 주문 ID)를 저장하여
+ * 서버가 중단되어도 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refund_job")
+public class RefundJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private UUID refundJobId;
+
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Column(name = "window_from", nullable = false)
+  private LocalDateTime windowFrom;
+
+  @Column(name = "window_to", nullable = false)
+  private LocalDateTime windowTo;
+
+  private UUID requestedBy;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private RefundJobStatus status;
+
+  @Column(name = "cursor_created_at", nullable = false)
+  private LocalDateTime cursorCreatedAt;
+
+  @Column(name = "cursor_order_id", nullable = false, columnDefinition = "UUID")
+  private UUID cursorOrderId;
+
+  private long processedCount;    // 처리한 결제 수
+  private long cancelledCount;    // 취소한 결제 수
+  private long skippedCount;      // 취소할 수 없는 주문(완료 등)이라 건너뛴 수
+  private long refundedCount;     // PG 환불 완료 수
+  private long refundFailedCount; // PG 환불 실패 수
+
+  @CreationTimestamp
+  @Column(updatable = false)
+  private LocalDateTime createdAt;
+
+  @UpdateTimestamp
+  private LocalDateTime updatedAt;
+
+  @Builder
+  public RefundJob(UUID storeId, LocalDateTime windowFrom, LocalDateTime windowTo, UUID requestedBy) {
+    this.storeId = storeId;
+    this.windowFrom = windowFrom;
+    this.windowTo = windowTo;
+    this.requestedBy = requestedBy;
+    this.status = RefundJobStatus.RUNNING;
+    // 첫 청크는 windowFrom 과 같은 시각의 주문부터 포함 (가장 작은 UUID)
+    this.cursorCreatedAt = windowFrom;
+    this.cursorOrderId = new UUID(0L, 0L);
+  }
+
+  // 청크 처리 결과 반영 : 커서 이동 + 진행 건수 누적
+  public void advance(LocalDateTime cursorCreatedAt, UUID cursorOrderId, int processed, int cancelled, int skipped) {
+    this.cursorCreatedAt = cursorCreatedAt;
+    this.cursorOrderId = cursorOrderId;
+    this.processedCount += processed;
+    this.cancelledCount += cancelled;
+    this.skippedCount += skipped;
+  }
+
+  public void complete() {
+    this.status = RefundJobStatus.COMPLETED;
+  }
+
+  public void fail() {
+    this.status = RefundJobStatus.FAILED;
+  }
+}
@@ -0,0 +1,134 @@
+package run.bemin.api.payment.gateway;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+ * 로컬/부하 테스트용 가짜 PG
+ * - latency-ms ± latency-jitter-ms 후 스케줄러 스레드에서 결과를 완료한다. (호출 스레드는 대기하지 않음)
+ * - failure-rate 확률로 승인 실패를 돌려준다.
+ * - 최근 retained-results 건의 승인/환불 결과를 기억해 inquire / inquireRefund 에 답한다.
+ * bemin.payment.gateway.type=local 일 때(기본값) 사용된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bemin.payment.gateway.type", havingValue = "local", matchIfMissing = true)
+public class LocalFakePaymentGateway implements PaymentGateway {
+
+  private final ScheduledExecutorService scheduler;
+  private final long latencyMillis;
+  private final long latencyJitterMillis;
+  private final double failureRate;
+  private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+  private final Map<UUID, PaymentGatewayResult> results;
+  private final Map<UUID, PaymentGatewayResult> refundResults;
+
+  public LocalFakePaymentGateway(
+      @Value("${bemin.payment.gateway.local.latency-ms:200}") long latencyMillis,
+      @Value("${bemin.payment.gateway.local.latency-jitter-ms:100}") long latencyJitterMillis,
+      @Value("${bemin.payment.gateway.local.failure-rate:0.05}") double failureRate,
+      @Value("${bemin.payment.gateway.local.threads:2}") int threads,
+      @Value("${bemin.payment.gateway.local.retained-results:100000}") int retainedResults) {
+    if (failureRate < 0 || failureRate > 1) {
+      throw new IllegalArgumentException("failure-rate must be between 0 and 1!!");
+    }
+    this.latencyMillis = Math.max(latencyMillis, 0);
+    this.latencyJitterMillis = Math.max(latencyJitterMillis, 0);
+    this.failureRate = failureRate;
+    int capacity = Math.max(retainedResults, 1);
+    this.results = boundedResults(capacity);
+    this.refundResults = boundedResults(capacity);
+    this.scheduler = Executors.newScheduledThreadPool(Math.max(threads, 1), runnable -> {
+      Thread thread = new Thread(runnable, "fake-pg");
+      thread.setDaemon(true);
+      return thread;
+    });
+    log.info("Local fake payment gateway. latency = {}ms (±{}ms), failureRate = {}",
+        this.latencyMillis, this.latencyJitterMillis, failureRate);
+  }
+
+  @Override
+  public CompletableFuture<PaymentGatewayResult> approve(PaymentGatewayRequest request) {
+    UUID paymentId = request.paymentId();
+    inFlight.add(paymentId);
+    return schedule(() -> {
+      PaymentGatewayResult result = decide(request);
+      results.put(paymentId, result);
+      inFlight.remove(paymentId);
+      return result;
+    });
+  }
+
+  @Override
+  public CompletableFuture<PaymentGatewayResult> refund(PaymentGatewayRequest request) {
+    UUID paymentId = request.paymentId();
+    return schedule(() -> refundResults.computeIfAbsent(paymentId, id -> decide(request)));
+  }
+
+  @Override
+  public CompletableFuture<Optional<PaymentGatewayResult>> inquire(UUID paymentId) {
+    return schedule(() -> {
+      if (inFlight.contains(paymentId)) {
+        return Optional.empty();
+      }
+      PaymentGatewayResult result = results.get(paymentId);
+      return Optional.of(result != null ? result : PaymentGatewayResult.failed(paymentId, "FAKE_NOT_FOUND"));
+    });
+  }
+
+  @Override
+  public CompletableFuture<Optional<PaymentGatewayResult>> inquireRefund(UUID paymentId) {
+    return schedule(() -> Optional.ofNullable(refundResults.get(paymentId)));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  private <T> CompletableFuture<T> schedule(Supplier<T> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    scheduler.schedule(() -> future.complete(call.get()), nextLatency(), TimeUnit.MILLISECONDS);
+    return future;
+  }
+
+  private static Map<UUID, PaymentGatewayResult> boundedResults(int capacity) {
+    return Collections.synchronizedMap(new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, PaymentGatewayResult> eldest) {
+        return size() > capacity;
+      }
+    });
+  }
+
+  private PaymentGatewayResult decide(PaymentGatewayRequest request) {
+    if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+      return PaymentGatewayResult.failed(request.paymentId(), "FAKE_DECLINED");
+    }
+    return PaymentGatewayResult.approved(request.paymentId(), "fake-" + UUID.randomUUID());
+  }
+
+  private long nextLatency() {
+    if (latencyJitterMillis == 0) {
+      return latencyMillis;
+    }
+    long jitter = ThreadLocalRandom.current().nextLong(-latencyJitterMillis, latencyJitterMillis + 1);
+    return Math.max(latencyMillis + jitter, 0);
+  }
+}
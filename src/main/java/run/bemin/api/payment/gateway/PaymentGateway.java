@@ -0,0 +1,31 @@
+package run.bemin.api.payment.gateway;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * 외부 PG 연동 추상화
+ * 구현체는 호출 스레드를 막지 않고 승인 결과를 CompletableFuture 로 돌려준다.
+ */
+public interface PaymentGateway {
+
+  CompletableFuture<PaymentGatewayResult> approve(PaymentGatewayRequest request);
+
+  /**
+   * 승인된 결제 전액 환불 (같은 paymentId 로 여러 번 호출해도 한 번만 환불되어야 한다)
+   */
+  CompletableFuture<PaymentGatewayResult> refund(PaymentGatewayRequest request);
+
+  /**
+   * 승인 결과 조회 (응답을 받지 못한 결제 대사용)
+   * PG 에서 아직 처리 중이면 빈 값, 승인 요청이 PG 에 도달하지 않았으면 실패 결과를 돌려준다.
+   */
+  CompletableFuture<Optional<PaymentGatewayResult>> inquire(UUID paymentId);
+
+  /**
+   * 환불 결과 조회 (환불 결과를 받지 못한 결제 대사용)
+   * PG 에서 아직 처리 중이거나 환불 요청이 PG 에 도달하지 않았으면 빈 값을 돌려준다.
+   */
+  CompletableFuture<Optional<PaymentGatewayResult>> inquireRefund(UUID paymentId);
+}
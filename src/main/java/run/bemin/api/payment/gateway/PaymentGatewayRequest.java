@@ -0,0 +1,15 @@
+package run.bemin.api.payment.gateway;
+
+import java.util.UUID;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+/**
+ * PG 승인 요청 (paymentId 를 멱등 키로 사용)
+ */
+public record PaymentGatewayRequest(
+    UUID paymentId,
+    UUID orderId,
+    PaymentMethod paymentMethod,
+    int amount
+) {
+}
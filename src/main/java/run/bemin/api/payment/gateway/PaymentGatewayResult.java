@@ -0,0 +1,22 @@
+package run.bemin.api.payment.gateway;
+
+import java.util.UUID;
+
+/**
+ * PG 승인 결과 (콜백/웹훅 공통)
+ */
+public record PaymentGatewayResult(
+    UUID paymentId,
+    boolean approved,
+    String transactionId,
+    String failureReason
+) {
+
+  public static PaymentGatewayResult approved(UUID paymentId, String transactionId) {
+    return new PaymentGatewayResult(paymentId, true, transactionId, null);
+  }
+
+  public static PaymentGatewayResult failed(UUID paymentId, String failureReason) {
+    return new PaymentGatewayResult(paymentId, false, null, failureReason);
+  }
+}
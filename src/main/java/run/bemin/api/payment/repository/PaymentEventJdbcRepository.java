@@ -0,0 +1,97 @@
+package run.bemin.api.payment.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentMethod;
+import run.bemin.api.payment.dto.PaymentMonthlySummaryDto;
+import run.bemin.api.payment.service.PaymentLedgerEntry;
+
+/*
+ * payment_event 원장 (월 RANGE 파티션, INSERT 전용)
+ * 테이블은 db/06_payment_event_ledger.sql 로 생성한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentEventJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO payment_event
+        (payment_id, order_id, store_id, event_type, payment_method, amount, created_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  // 원장(아직 요약되지 않은 월) + 월 요약을 합쳐서 집계
+  private static final String MONTHLY_SUMMARY_SQL = """
+      SELECT payment_method, event_type, sum(event_count) AS event_count, sum(amount) AS amount
+      FROM (
+        SELECT payment_method, event_type, count(*) AS event_count, sum(amount) AS amount
+        FROM payment_event
+        WHERE store_id = ? AND created_at >= ? AND created_at < ?
+        GROUP BY payment_method, event_type
+        UNION ALL
+        SELECT payment_method, event_type, event_count, amount
+        FROM payment_event_monthly_summary
+        WHERE store_id = ? AND month = ?
+      ) t
+      GROUP BY payment_method, event_type
+      ORDER BY payment_method, event_type
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void append(PaymentLedgerEntry entry) {
+    appendAll(List.of(entry));
+  }
+
+  public void appendAll(List<PaymentLedgerEntry> entries) {
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+      ps.setObject(1, entry.paymentId());
+      ps.setObject(2, entry.orderId());
+      ps.setObject(3, entry.storeId());
+      ps.setString(4, entry.eventType().name());
+      ps.setString(5, entry.paymentMethod().name());
+      ps.setLong(6, entry.amount());
+      ps.setTimestamp(7, createdAt);
+    });
+  }
+
+  public List<PaymentMonthlySummaryDto> findMonthlySummary(UUID storeId, YearMonth month) {
+    return jdbcTemplate.query(MONTHLY_SUMMARY_SQL,
+        (rs, rowNum) -> new PaymentMonthlySummaryDto(
+            PaymentMethod.valueOf(rs.getString("payment_method")),
+            PaymentEventType.valueOf(rs.getString("event_type")),
+            rs.getLong("event_count"),
+            rs.getLong("amount")),
+        storeId,
+        Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+        Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()),
+        storeId,
+        Date.valueOf(month.atDay(1)));
+  }
+
+  /**
+   * 월 파티션 하나를 (가게, 결제 수단, 이벤트 종류) 요약 행으로 저장 (다시 실행해도 같은 결과)
+   * partition 은 MonthlyPartitionManager 가 검증한 파티션 이름
+   */
+  public void summarizePartition(YearMonth month, String partition) {
+    jdbcTemplate.update("""
+        INSERT INTO payment_event_monthly_summary
+          (month, store_id, payment_method, event_type, event_count, amount)
+        SELECT ?, store_id, payment_method, event_type, count(*), sum(amount)
+        FROM %s
+        GROUP BY store_id, payment_method, event_type
+        ON CONFLICT (month, store_id, payment_method, event_type) DO UPDATE SET
+          event_count = EXCLUDED.event_count,
+          amount = EXCLUDED.amount
+        """.formatted(partition), Date.valueOf(month.atDay(1)));
+  }
+}
@@ -1,8 +1,91 @@
 package run.bemin.api.payment.repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.payment.domain.RefundStatus;
+import run.bemin.api.payment.dto.RefundTarget;
+import run.bemin.api.payment.dto.RequestedRefund;
 import run.bemin.api.payment.entity.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+
+  /**
+   * 상태 전환용 조회 (콜백과 웹훅이 동시에 같은 결제를 처리하지 않도록 행 잠금)
+   * PaymentResultHandler.handle / handleRefund 가 PENDING, REQUESTED 확인과 전환을 이 잠금 안에서 한다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId")
+  Optional<Payment> findByIdForUpdate(@Param("paymentId") UUID paymentId);
+
+  /**
+   * before 이전에 생성되어 status 로 남은 결제 (오래된 순, idx_payment_status_created_at)
+   */
+  @Query("SELECT p.paymentId FROM Payment p WHERE p.status = :status AND p.createdAt < :before ORDER BY p.createdAt")
+  List<UUID> findPaymentIdsByStatusCreatedBefore(@Param("status") PaymentStatus status,
+                                                 @Param("before") LocalDateTime before,
+                                                 Pageable pageable);
+
+  /**
+   * before 이전에 환불을 요청했고 refundStatus 로 남은 결제 (오래된 순, idx_payment_refund_requested_at)
+   */
+  @Query("""
+      SELECT new run.bemin.api.payment.dto.RequestedRefund(p.paymentId, p.refundJobId, p.refundRequestedAt)
+      FROM Payment p
+      WHERE p.refundStatus = :refundStatus AND p.refundRequestedAt < :before
+      ORDER BY p.refundRequestedAt
+      """)
+  List<RequestedRefund> findRequestedRefundsBefore(@Param("refundStatus") RefundStatus refundStatus,
+                                                   @Param("before") LocalDateTime before,
+                                                   Pageable pageable);
+
+  /**
+   * 일괄 환불 대상 : 가게의 [from, to) 주문 중 status 인 결제를 (주문 생성 시각, 주문 ID) 커서 이후부터 조회
+   */
+  @Query("""
+      SELECT new run.bemin.api.payment.dto.RefundTarget(p.paymentId, o.orderId, o.createdAt, p.payment, p.amount)
+      FROM Payment p
+      JOIN p.order o
+      WHERE o.storeId = :storeId
+        AND o.createdAt >= :from AND o.createdAt < :to
+        AND p.status = :status
+        AND (o.createdAt > :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.orderId > :cursorOrderId))
+      ORDER BY o.createdAt, o.orderId
+      """)
+  List<RefundTarget> findRefundTargets(@Param("storeId") UUID storeId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("status") PaymentStatus status,
+                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                       @Param("cursorOrderId") UUID cursorOrderId,
+                                       Pageable pageable);
+
+  /**
+   * 취소 후 PG 환불 결과를 받지 못한 결제 (재시작 시 환불 재요청 대상)
+   */
+  @Query("""
+      SELECT new run.bemin.api.payment.dto.RefundTarget(p.paymentId, o.orderId, o.createdAt, p.payment, p.amount)
+      FROM Payment p
+      JOIN p.order o
+      WHERE o.storeId = :storeId
+        AND o.createdAt >= :from AND o.createdAt < :to
+        AND p.refundStatus = :refundStatus
+        AND (o.createdAt > :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.orderId > :cursorOrderId))
+      ORDER BY o.createdAt, o.orderId
+      """)
+  List<RefundTarget> findRefundTargetsByRefundStatus(@Param("storeId") UUID storeId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to,
+                                                     @Param("refundStatus") RefundStatus refundStatus,
+                                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                     @Param("cursorOrderId") UUID cursorOrderId,
+                                                     Pageable pageable);
 }
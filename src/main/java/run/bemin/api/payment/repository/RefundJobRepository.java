@@ -0,0 +1,33 @@
+package run.bemin.api.payment.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.payment.domain.RefundJobStatus;
+import run.bemin.api.payment.entity.RefundJob;
+
+public interface RefundJobRepository extends JpaRepository<RefundJob, UUID> {
+
+  /**
+   * 재시작 시 이어서 처리할 작업 : 진행 중이거나, 취소는 끝났지만 PG 환불 결과를 다 받지 못한 작업
+   */
+  @Query("""
+      SELECT j FROM RefundJob j
+      WHERE j.status = :running
+         OR (j.status = :completed AND j.refundedCount + j.refundFailedCount < j.cancelledCount)
+      """)
+  List<RefundJob> findResumableJobs(@Param("running") RefundJobStatus running,
+                                    @Param("completed") RefundJobStatus completed);
+
+  // PG 환불 콜백은 동시에 들어오므로 엔티티를 읽지 않고 원자적으로 증가
+  @Modifying
+  @Query("UPDATE RefundJob j SET j.refundedCount = j.refundedCount + 1 WHERE j.refundJobId = :refundJobId")
+  int incrementRefundedCount(@Param("refundJobId") UUID refundJobId);
+
+  @Modifying
+  @Query("UPDATE RefundJob j SET j.refundFailedCount = j.refundFailedCount + 1 WHERE j.refundJobId = :refundJobId")
+  int incrementRefundFailedCount(@Param("refundJobId") UUID refundJobId);
+}
@@ -0,0 +1,18 @@
+package run.bemin.api.payment.service;
+
+import java.util.UUID;
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+/**
+ * payment_event 원장 한 건 (금액은 항상 양수, 부호는 eventType 으로 해석)
+ */
+public record PaymentLedgerEntry(
+    UUID paymentId,
+    UUID orderId,
+    UUID storeId,
+    PaymentEventType eventType,
+    PaymentMethod paymentMethod,
+    long amount
+) {
+}
@@ -0,0 +1,71 @@
+package run.bemin.api.payment.service;
+
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.general.partition.MonthlyPartitionManager;
+import run.bemin.api.payment.repository.PaymentEventJdbcRepository;
+
+/*
+ * payment_event 원장 월 파티션 관리
+ * - 기동 시, 매일 새벽 미래 파티션 생성
+ * - hot-months 가 지난 파티션은 payment_event_monthly_summary 로 요약한 뒤 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentLedgerMaintenance {
+
+  private static final String LEDGER_TABLE = "payment_event";
+
+  private final MonthlyPartitionManager partitionManager;
+  private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+
+  @Value("${bemin.payment.ledger.months-ahead:3}")
+  private int monthsAhead;
+
+  @Value("${bemin.payment.ledger.hot-months:3}")
+  private int hotMonths;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void prepareOnStartup() {
+    preparePartitions();
+  }
+
+  @Scheduled(cron = "${bemin.payment.ledger.cron:0 10 4 * * *}")
+  public void maintainPartitions() {
+    preparePartitions();
+    compactColdPartitions();
+  }
+
+  public void preparePartitions() {
+    if (!partitionManager.isPartitioned(LEDGER_TABLE)) {
+      log.warn("{} is not a partitioned table. run db/06_payment_event_ledger.sql", LEDGER_TABLE);
+      return;
+    }
+    partitionManager.ensurePartitions(LEDGER_TABLE, YearMonth.now(), monthsAhead);
+    long defaultRows = partitionManager.countDefaultPartitionRows(LEDGER_TABLE);
+    if (defaultRows > 0) {
+      // 월 파티션이 없는 범위(이미 요약 후 삭제된 월 등)의 행은 요약 대상이 아니므로 확인이 필요하다.
+      log.warn("{} rows remain in {}", defaultRows, partitionManager.defaultPartitionName(LEDGER_TABLE));
+    }
+  }
+
+  /**
+   * 이번 달 포함 hot-months 개월 이전의 파티션을 요약 후 삭제
+   */
+  public void compactColdPartitions() {
+    if (!partitionManager.isPartitioned(LEDGER_TABLE)) {
+      return;
+    }
+    YearMonth cutoff = YearMonth.now().minusMonths(Math.max(hotMonths, 1) - 1L);
+    int compacted = partitionManager.compactPartitionsBefore(LEDGER_TABLE, cutoff,
+        paymentEventJdbcRepository::summarizePartition);
+    log.info("{} partitions compacted before {} : {}", LEDGER_TABLE, cutoff, compacted);
+  }
+}
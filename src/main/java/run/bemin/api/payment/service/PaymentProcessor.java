@@ -0,0 +1,150 @@
+package run.bemin.api.payment.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import run.bemin.api.payment.gateway.PaymentGateway;
+import run.bemin.api.payment.gateway.PaymentGatewayRequest;
+import run.bemin.api.payment.gateway.PaymentGatewayResult;
+
+/*
+ * 비동기 결제 파이프라인
+ * 요청 스레드는 PG 호출만 등록하고 바로 반환한다.
+ * PG 결과는 별도 콜백 스레드에서 PaymentResultHandler 로 반영한다.
+ * timeout-ms 안에 결과가 없거나 PG 호출이 실패해도 승인 여부를 알 수 없으므로 FAILED 로 바꾸지 않는다.
+ * 결제는 PENDING 으로 남아 이후 도착한 웹훅이나 PendingPaymentReconciler 의 PG 조회로 확정된다.
+ */
+@Slf4j
+@Component
+public class PaymentProcessor {
+
+  private final PaymentGateway paymentGateway;
+  private final PaymentResultHandler paymentResultHandler;
+  private final ThreadPoolExecutor callbackExecutor;
+  private final long timeoutMillis;
+
+  public PaymentProcessor(PaymentGateway paymentGateway,
+                          PaymentResultHandler paymentResultHandler,
+                          @Value("${bemin.payment.callback.threads:4}") int callbackThreads,
+                          @Value("${bemin.payment.callback.queue-capacity:10000}") int queueCapacity,
+                          @Value("${bemin.payment.gateway.timeout-ms:5000}") long timeoutMillis) {
+    this.paymentGateway = paymentGateway;
+    this.paymentResultHandler = paymentResultHandler;
+    this.timeoutMillis = timeoutMillis;
+    int threads = Math.max(callbackThreads, 1);
+    // 콜백 큐가 가득 차면 PG 완료 스레드에서 직접 반영한다. (요청 스레드와는 무관)
+    this.callbackExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+      Thread thread = new Thread(runnable, "payment-callback");
+      thread.setDaemon(true);
+      return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  public void dispatch(PaymentGatewayRequest request) {
+    paymentGateway.approve(request)
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .whenCompleteAsync((result, e) -> {
+          if (e != null) {
+            log.warn("No payment gateway result, left PENDING. paymentId = {}", request.paymentId(), e);
+            return;
+          }
+          apply(result);
+        }, callbackExecutor);
+  }
+
+  /**
+   * PG 환불 요청 : 반환된 future 는 환불 결과가 반영된 뒤 완료된다.
+   * 결과를 받지 못하면 환불 요청(REQUESTED) 상태로 남아 RequestedRefundReconciler 의 PG 조회로 확정되고,
+   * 작업 재시작 시 다시 요청된다. (PG 는 paymentId 기준으로 멱등)
+   */
+  public CompletableFuture<Void> refund(UUID refundJobId, PaymentGatewayRequest request) {
+    return paymentGateway.refund(request)
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .handleAsync((result, e) -> {
+          if (e != null) {
+            log.warn("No payment gateway refund result, left REQUESTED. paymentId = {}", request.paymentId(), e);
+          } else {
+            applyRefund(refundJobId, result);
+          }
+          return null;
+        }, callbackExecutor);
+  }
+
+  /**
+   * PG 조회로 확정된 결과 반영 (PENDING 대사)
+   */
+  public CompletableFuture<Void> reconcile(UUID paymentId) {
+    return paymentGateway.inquire(paymentId)
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .handleAsync((result, e) -> {
+          if (e != null) {
+            log.warn("Payment gateway inquiry failed. paymentId = {}", paymentId, e);
+          } else {
+            result.ifPresent(this::apply);
+          }
+          return null;
+        }, callbackExecutor);
+  }
+
+  /**
+   * PG 환불 조회로 확정된 결과 반영 (REQUESTED 환불 대사)
+   */
+  public CompletableFuture<Void> reconcileRefund(UUID refundJobId, UUID paymentId) {
+    return paymentGateway.inquireRefund(paymentId)
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .handleAsync((result, e) -> {
+          if (e != null) {
+            log.warn("Payment gateway refund inquiry failed. paymentId = {}", paymentId, e);
+          } else {
+            result.ifPresent(refund -> applyRefund(refundJobId, refund));
+          }
+          return null;
+        }, callbackExecutor);
+  }
+
+  /**
+   * 대사 기간 안에 결과를 확정하지 못한 환불을 실패로 처리 (작업의 환불 결과 집계가 끝나도록)
+   */
+  public void expireRefund(UUID refundJobId, UUID paymentId) {
+    log.warn("Refund result not confirmed in time, marked FAILED. paymentId = {}", paymentId);
+    applyRefund(refundJobId, PaymentGatewayResult.failed(paymentId, "REFUND_RESULT_TIMEOUT"));
+  }
+
+  /**
+   * 웹훅 수신
+   */
+  public boolean receive(PaymentGatewayResult result) {
+    return paymentResultHandler.handle(result);
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    callbackExecutor.shutdown();
+    callbackExecutor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private void applyRefund(UUID refundJobId, PaymentGatewayResult result) {
+    try {
+      paymentResultHandler.handleRefund(refundJobId, result);
+    } catch (RuntimeException e) {
+      // 환불 요청 상태로 남으며 다음 대사 주기나 작업 재시작 시 다시 처리된다.
+      log.error("Failed to apply refund result. paymentId = {}", result.paymentId(), e);
+    }
+  }
+
+  private void apply(PaymentGatewayResult result) {
+    try {
+      paymentResultHandler.handle(result);
+    } catch (RuntimeException e) {
+      // 반영 실패 시 결제는 PENDING 으로 남고 PG 웹훅 재전송으로 복구된다.
+      log.error("Failed to apply payment result. paymentId = {}", result.paymentId(), e);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package run.bemin.api.payment.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import run.bemin.api.payment.dto.PaymentMonthlySummaryDto;
+import run.bemin.api.payment.repository.PaymentEventJdbcRepository;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentReportService {
+
+  private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+
+  /**
+   * 가게 월간 결제 이벤트 합계 (요약된 월은 payment_event_monthly_summary 에서 읽는다)
+   */
+  public List<PaymentMonthlySummaryDto> getMonthlySummary(UUID storeId, YearMonth month) {
+    return paymentEventJdbcRepository.findMonthlySummary(storeId, month);
+  }
+}
@@ -0,0 +1,102 @@
+package run.bemin.api.payment.service;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.order.dto.OrderPaymentView;
+import run.bemin.api.order.repo.OrderRepository;
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.payment.domain.RefundStatus;
+import run.bemin.api.payment.entity.Payment;
+import run.bemin.api.payment.exception.PaymentException;
+import run.bemin.api.payment.gateway.PaymentGatewayResult;
+import run.bemin.api.payment.repository.PaymentEventJdbcRepository;
+import run.bemin.api.payment.repository.PaymentRepository;
+import run.bemin.api.payment.repository.RefundJobRepository;
+import run.bemin.api.stats.service.StoreStatsAggregator;
+
+/*
+ * PG 결과 반영 (PENDING -> COMPLETED / FAILED, 환불 REQUESTED -> REFUNDED / FAILED)
+ * 콜백과 웹훅이 같은 결제에 대해 중복으로 들어올 수 있으므로 행 잠금 후 PENDING 상태일 때만 반영한다.
+ * 상태 전환은 같은 트랜잭션에서 payment_event 원장에 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentResultHandler {
+
+  private final PaymentRepository paymentRepository;
+  private final RefundJobRepository refundJobRepository;
+  private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+  private final OrderRepository orderRepository;
+  private final StoreStatsAggregator storeStatsAggregator;
+
+  /**
+   * @return 상태가 변경되었으면 true, 이미 처리된 결제면 false
+   */
+  @Transactional
+  public boolean handle(PaymentGatewayResult result) {
+    Payment payment = paymentRepository.findByIdForUpdate(result.paymentId()).orElse(null);
+    if (payment == null) {
+      log.warn("Payment result for unknown payment. paymentId = {}", result.paymentId());
+      return false;
+    }
+    if (payment.getStatus() != PaymentStatus.PENDING) {
+      return false;
+    }
+    OrderPaymentView view = orderRepository.findPaymentViewByOrderId(payment.getOrder().getOrderId())
+        .orElseThrow(() -> new PaymentException(ErrorCode.ORDER_NOT_FOUND));
+
+    if (!result.approved()) {
+      payment.fail();
+      appendLedger(payment, view, PaymentEventType.FAILED);
+      log.info("Payment failed. paymentId = {}, reason = {}", payment.getPaymentId(), result.failureReason());
+      return true;
+    }
+
+    payment.complete(result.transactionId());
+    appendLedger(payment, view, PaymentEventType.COMPLETED);
+    // 매출 집계는 승인된 결제만 반영
+    storeStatsAggregator.recordPayment(view.storeId(), view.orderType(), view.orderStatus(), payment.getAmount());
+    return true;
+  }
+
+  /**
+   * PG 환불 결과 반영 (REQUESTED -> REFUNDED / FAILED)
+   */
+  @Transactional
+  public boolean handleRefund(UUID refundJobId, PaymentGatewayResult result) {
+    // 재시작 시 다시 요청한 환불의 결과가 먼저 보낸 요청의 결과와 겹칠 수 있어 행 잠금 후 REQUESTED 를 확인한다.
+    Payment payment = paymentRepository.findByIdForUpdate(result.paymentId()).orElse(null);
+    if (payment == null || payment.getRefundStatus() != RefundStatus.REQUESTED) {
+      return false;
+    }
+    OrderPaymentView view = orderRepository.findPaymentViewByOrderId(payment.getOrder().getOrderId())
+        .orElseThrow(() -> new PaymentException(ErrorCode.ORDER_NOT_FOUND));
+
+    if (result.approved()) {
+      payment.completeRefund();
+      appendLedger(payment, view, PaymentEventType.REFUNDED);
+      if (refundJobId != null) {
+        refundJobRepository.incrementRefundedCount(refundJobId);
+      }
+    } else {
+      payment.failRefund();
+      appendLedger(payment, view, PaymentEventType.REFUND_FAILED);
+      log.warn("Refund failed. paymentId = {}, reason = {}", payment.getPaymentId(), result.failureReason());
+      if (refundJobId != null) {
+        refundJobRepository.incrementRefundFailedCount(refundJobId);
+      }
+    }
+    return true;
+  }
+
+  private void appendLedger(Payment payment, OrderPaymentView view, PaymentEventType eventType) {
+    paymentEventJdbcRepository.append(new PaymentLedgerEntry(payment.getPaymentId(), view.orderId(),
+        view.storeId(), eventType, payment.getPayment(), payment.getAmount()));
+  }
+}
@@ -1,17 +1,30 @@
 package run.bemin.api.payment.service;
 
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.general.transaction.TransactionCallbacks;
+import run.bemin.api.order.dto.OrderPaymentView;
 import run.bemin.api.order.entity.Order;
 import run.bemin.api.order.repo.OrderRepository;
+import run.bemin.api.payment.domain.PaymentEventType;
 import run.bemin.api.payment.domain.PaymentStatus;
 import run.bemin.api.payment.dto.CreatePaymentDto;
 import run.bemin.api.payment.dto.PaymentDto;
+import run.bemin.api.payment.dto.PaymentWebhookRequestDto;
 import run.bemin.api.payment.entity.Payment;
 import run.bemin.api.payment.exception.PaymentException;
+import run.bemin.api.payment.gateway.PaymentGatewayRequest;
+import run.bemin.api.payment.repository.PaymentEventJdbcRepository;
 import run.bemin.api.payment.repository.PaymentRepository;
 
 @Service
@@ -20,30 +33,71 @@ public class PaymentService {
 
   private final OrderRepository orderRepository;
   private final PaymentRepository paymentRepository;
+  private final PaymentProcessor paymentProcessor;
+  private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+  private final Environment environment;
 
-  // 결제 생성하기
+  // PG 웹훅 공유 비밀값 (local 프로필에서만 비워 둘 수 있으며, 비어 있으면 검증하지 않음)
+  @Value("${bemin.payment.webhook-secret:}")
+  private String webhookSecret;
+
+  @PostConstruct
+  public void requireWebhookSecret() {
+    if (webhookSecret.isEmpty() && !environment.acceptsProfiles(Profiles.of("local"))) {
+      throw new IllegalStateException("bemin.payment.webhook-secret is required outside the local profile!!");
+    }
+  }
+
+  // 결제 생성하기 : PENDING 으로 저장하고 PG 승인은 커밋 이후 비동기로 요청
   @Transactional
   public PaymentDto createPayment(@RequestBody CreatePaymentDto createPaymentDto) {
-    // TODO : 주문이 존재하는지 확인하기
-    Order order = orderRepository.findById(createPaymentDto.getOrderId())
-        .orElseThrow(() -> new PaymentException(ErrorCode.ORDER_NOT_FOUND));
-
     // 결제 금액이 0보다 작거나 같은 경우 예외 발생
     if (createPaymentDto.getAmount() < 0) {
       throw new PaymentException(ErrorCode.INVALID_INPUT_VALUE);
     }
 
+    // 주문 엔티티 대신 필요한 컬럼만 조회하여 존재 여부와 상태를 확인
+    OrderPaymentView orderView = orderRepository.findPaymentViewByOrderId(createPaymentDto.getOrderId())
+        .orElseThrow(() -> new PaymentException(ErrorCode.ORDER_NOT_FOUND));
+    if (!orderView.isPayable()) {
+      throw new PaymentException(ErrorCode.ORDER_NOT_PAYABLE);
+    }
+
+    // FK 연결에는 식별자만 필요하므로 프록시 참조를 사용
+    Order orderRef = orderRepository.getReferenceById(orderView.orderId());
+
     // 빌더 패턴으로 payment 생성
     Payment payment = Payment.builder()
-        .order(order)
+        .order(orderRef)
         .payment(createPaymentDto.getPaymentMethod())
-        .status(PaymentStatus.COMPLETED)
+        .amount(createPaymentDto.getAmount())
+        .status(PaymentStatus.PENDING)
         .createdBy(createPaymentDto.getCreatedBy())
         .build();
 
-    paymentRepository.save(payment);
+    // 주문당 결제는 하나 (order_id unique) - 중복 결제는 flush 시점에 충돌로 감지
+    try {
+      paymentRepository.saveAndFlush(payment);
+    } catch (DataIntegrityViolationException e) {
+      throw new PaymentException(ErrorCode.PAYMENT_ALREADY_EXISTS);
+    }
+    paymentEventJdbcRepository.append(new PaymentLedgerEntry(payment.getPaymentId(), orderView.orderId(),
+        orderView.storeId(), PaymentEventType.CREATED, payment.getPayment(), payment.getAmount()));
+
+    PaymentGatewayRequest gatewayRequest = new PaymentGatewayRequest(
+        payment.getPaymentId(), orderView.orderId(), payment.getPayment(), payment.getAmount());
+    TransactionCallbacks.afterCommit(() -> paymentProcessor.dispatch(gatewayRequest));
 
     return PaymentDto.from(payment);
   }
 
+  // PG 결과 웹훅 반영
+  public void handleWebhook(String secret, PaymentWebhookRequestDto requestDto) {
+    if (!webhookSecret.isEmpty() && (secret == null || !MessageDigest.isEqual(
+        webhookSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8)))) {
+      throw new PaymentException(ErrorCode.INVALID_PAYMENT_WEBHOOK);
+    }
+    paymentProcessor.receive(requestDto.toResult());
+  }
+
 }
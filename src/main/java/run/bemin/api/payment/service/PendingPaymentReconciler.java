@@ -0,0 +1,54 @@
+package run.bemin.api.payment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.payment.repository.PaymentRepository;
+
+/*
+ * PENDING 결제 대사
+ * PG 응답이 timeout 되었거나 웹훅이 유실되어 pending-after-ms 넘게 PENDING 으로 남은 결제를 PG 에 조회해 확정한다.
+ * PG 가 아직 처리 중이라고 답하면 다음 주기에 다시 조회한다.
+ * 반영은 PaymentResultHandler 가 행 잠금 후 PENDING 일 때만 하므로 웹훅과 겹쳐도 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+public class PendingPaymentReconciler {
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentProcessor paymentProcessor;
+  private final long pendingAfterMillis;
+  private final int batchSize;
+
+  public PendingPaymentReconciler(PaymentRepository paymentRepository,
+                                  PaymentProcessor paymentProcessor,
+                                  @Value("${bemin.payment.reconcile.pending-after-ms:60000}") long pendingAfterMillis,
+                                  @Value("${bemin.payment.reconcile.batch-size:200}") int batchSize) {
+    this.paymentRepository = paymentRepository;
+    this.paymentProcessor = paymentProcessor;
+    this.pendingAfterMillis = Math.max(pendingAfterMillis, 0);
+    this.batchSize = Math.max(batchSize, 1);
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.payment.reconcile.interval-ms:30000}")
+  public void reconcilePendingPayments() {
+    LocalDateTime before = LocalDateTime.now().minusNanos(pendingAfterMillis * 1_000_000);
+    List<UUID> paymentIds = paymentRepository.findPaymentIdsByStatusCreatedBefore(PaymentStatus.PENDING, before,
+        PageRequest.of(0, batchSize));
+    if (paymentIds.isEmpty()) {
+      return;
+    }
+    log.info("Reconcile pending payments. count = {}", paymentIds.size());
+    // 다음 주기와 겹치지 않도록 이번 배치의 조회가 끝날 때까지 기다린다. (조회마다 timeout-ms 적용)
+    CompletableFuture.allOf(paymentIds.stream()
+        .map(paymentProcessor::reconcile)
+        .toArray(CompletableFuture[]::new)).join();
+  }
+}
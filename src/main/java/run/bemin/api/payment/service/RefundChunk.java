@@ -0,0 +1,12 @@
+package run.bemin.api.payment.service;
+
+import java.util.List;
+import run.bemin.api.payment.gateway.PaymentGatewayRequest;
+
+/**
+ * 커밋된 청크의 PG 환불 요청 목록
+ *
+ * @param last 더 처리할 대상이 없으면 true
+ */
+public record RefundChunk(List<PaymentGatewayRequest> refunds, boolean last) {
+}
@@ -0,0 +1,108 @@
+package run.bemin.api.payment.service;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.order.entity.Order;
+import run.bemin.api.order.entity.OrderDomainService;
+import run.bemin.api.order.repo.OrderRepository;
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.payment.dto.RefundTarget;
+import run.bemin.api.payment.entity.Payment;
+import run.bemin.api.payment.entity.RefundJob;
+import run.bemin.api.payment.exception.PaymentException;
+import run.bemin.api.payment.gateway.PaymentGatewayRequest;
+import run.bemin.api.payment.repository.PaymentEventJdbcRepository;
+import run.bemin.api.payment.repository.PaymentRepository;
+import run.bemin.api.payment.repository.RefundJobRepository;
+import run.bemin.api.rider.service.RiderDispatchService;
+import run.bemin.api.stats.service.StoreStatsAggregator;
+
+/*
+ * 일괄 환불 청크 처리 (청크 하나 = 트랜잭션 하나)
+ * - 결제를 먼저, 주문을 나중에 영속성 컨텍스트에 올려 flush 시 같은 UPDATE 문끼리 JDBC 배치로 묶인다.
+ * - Payment.cancelPayment / OrderDomainService.cancelOrder 를 그대로 사용한다.
+ * - 작업 커서와 payment_event 원장(CANCELED)은 같은 트랜잭션에서 기록되므로 커밋된 청크는 다시 처리되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefundChunkProcessor {
+
+  private final EntityManager entityManager;
+  private final RefundJobRepository refundJobRepository;
+  private final PaymentRepository paymentRepository;
+  private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+  private final OrderRepository orderRepository;
+  private final RiderDispatchService riderDispatchService;
+  private final StoreStatsAggregator storeStatsAggregator;
+  private final OrderDomainService orderDomainService = new OrderDomainService();
+
+  @Transactional
+  public RefundChunk processChunk(UUID refundJobId, int chunkSize) {
+    RefundJob job = refundJobRepository.findById(refundJobId)
+        .orElseThrow(() -> new PaymentException(ErrorCode.REFUND_JOB_NOT_FOUND));
+
+    List<RefundTarget> targets = paymentRepository.findRefundTargets(job.getStoreId(), job.getWindowFrom(),
+        job.getWindowTo(), PaymentStatus.COMPLETED, job.getCursorCreatedAt(), job.getCursorOrderId(),
+        PageRequest.of(0, chunkSize));
+    if (targets.isEmpty()) {
+      job.complete();
+      return new RefundChunk(List.of(), true);
+    }
+
+    entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+    Map<UUID, Payment> payments = paymentRepository.findAllById(targets.stream().map(RefundTarget::paymentId).toList())
+        .stream().collect(Collectors.toMap(Payment::getPaymentId, Function.identity()));
+    Map<UUID, Order> orders = orderRepository.findAllById(targets.stream().map(RefundTarget::orderId).toList())
+        .stream().collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+
+    List<PaymentGatewayRequest> refunds = new ArrayList<>(targets.size());
+    List<PaymentLedgerEntry> ledgerEntries = new ArrayList<>(targets.size());
+    int skipped = 0;
+    for (RefundTarget target : targets) {
+      Order order = orders.get(target.orderId());
+      Payment payment = payments.get(target.paymentId());
+      try {
+        orderDomainService.cancelOrder(order);
+      } catch (IllegalStateException e) {
+        // 이미 완료된 주문은 환불하지 않는다.
+        skipped++;
+        continue;
+      }
+      payment.cancelPayment(job.getRequestedBy(), refundJobId);
+      riderDispatchService.onOrderStatusChanged(order);
+      storeStatsAggregator.recordOrder(order);
+      refunds.add(new PaymentGatewayRequest(target.paymentId(), target.orderId(), target.paymentMethod(),
+          target.amount()));
+      ledgerEntries.add(new PaymentLedgerEntry(target.paymentId(), target.orderId(), order.getStoreId(),
+          PaymentEventType.CANCELED, target.paymentMethod(), target.amount()));
+    }
+    if (!ledgerEntries.isEmpty()) {
+      paymentEventJdbcRepository.appendAll(ledgerEntries);
+    }
+
+    RefundTarget last = targets.get(targets.size() - 1);
+    job.advance(last.orderCreatedAt(), last.orderId(), targets.size(), refunds.size(), skipped);
+    boolean lastChunk = targets.size() < chunkSize;
+    if (lastChunk) {
+      job.complete();
+    }
+    return new RefundChunk(refunds, lastChunk);
+  }
+
+  @Transactional
+  public void fail(UUID refundJobId) {
+    refundJobRepository.findById(refundJobId).ifPresent(RefundJob::fail);
+  }
+}
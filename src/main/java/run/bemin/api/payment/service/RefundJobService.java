@@ -0,0 +1,161 @@
+package run.bemin.api.payment.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.payment.domain.RefundJobStatus;
+import run.bemin.api.payment.domain.RefundStatus;
+import run.bemin.api.payment.dto.RefundJobDto;
+import run.bemin.api.payment.dto.RefundJobRequestDto;
+import run.bemin.api.payment.dto.RefundTarget;
+import run.bemin.api.payment.entity.RefundJob;
+import run.bemin.api.payment.exception.PaymentException;
+import run.bemin.api.payment.gateway.PaymentGatewayRequest;
+import run.bemin.api.payment.repository.PaymentRepository;
+import run.bemin.api.payment.repository.RefundJobRepository;
+
+/*
+ * 가게 일괄 환불
+ * - 작업은 별도 스레드에서 청크 단위로 처리하고, 요청은 작업 ID 만 받아 바로 반환한다.
+ * - 청크가 커밋된 뒤 PG 환불을 요청하며, 동시에 진행 중인 PG 환불 수는 max-concurrency 로 제한한다.
+ * - 서버 재시작 시 RUNNING 작업은 저장된 커서부터 이어서 처리하고,
+ *   환불 결과를 받지 못한(REQUESTED) 결제는 다시 요청한다. (PG 는 paymentId 기준으로 멱등)
+ *   취소가 끝난(COMPLETED) 작업도 환불 결과가 남아 있으면 다시 요청한다.
+ * - 재시작 없이도 REQUESTED 환불은 RequestedRefundReconciler 가 PG 에 조회해 확정하고,
+ *   기한이 지나면 FAILED 로 바꾸므로 같은 환불을 재시작마다 끝없이 다시 요청하지 않는다.
+ */
+@Slf4j
+@Service
+public class RefundJobService {
+
+  private final RefundJobRepository refundJobRepository;
+  private final PaymentRepository paymentRepository;
+  private final RefundChunkProcessor refundChunkProcessor;
+  private final PaymentProcessor paymentProcessor;
+  private final Semaphore refundPermits;
+  private final ExecutorService jobExecutor;
+
+  @Value("${bemin.payment.refund.chunk-size:200}")
+  private int chunkSize;
+
+  public RefundJobService(RefundJobRepository refundJobRepository,
+                          PaymentRepository paymentRepository,
+                          RefundChunkProcessor refundChunkProcessor,
+                          PaymentProcessor paymentProcessor,
+                          @Value("${bemin.payment.refund.max-concurrency:16}") int maxConcurrency,
+                          @Value("${bemin.payment.refund.job-threads:1}") int jobThreads) {
+    this.refundJobRepository = refundJobRepository;
+    this.paymentRepository = paymentRepository;
+    this.refundChunkProcessor = refundChunkProcessor;
+    this.paymentProcessor = paymentProcessor;
+    this.refundPermits = new Semaphore(Math.max(maxConcurrency, 1));
+    this.jobExecutor = Executors.newFixedThreadPool(Math.max(jobThreads, 1), runnable -> {
+      Thread thread = new Thread(runnable, "refund-job");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public RefundJobDto startRefundJob(RefundJobRequestDto requestDto) {
+    if (!requestDto.from().isBefore(requestDto.to())) {
+      throw new PaymentException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    RefundJob job = refundJobRepository.save(RefundJob.builder()
+        .storeId(requestDto.storeId())
+        .windowFrom(requestDto.from())
+        .windowTo(requestDto.to())
+        .requestedBy(requestDto.requestedBy())
+        .build());
+
+    UUID refundJobId = job.getRefundJobId();
+    jobExecutor.submit(() -> run(refundJobId, false));
+    return RefundJobDto.from(job);
+  }
+
+  public RefundJobDto getRefundJob(UUID refundJobId) {
+    return refundJobRepository.findById(refundJobId)
+        .map(RefundJobDto::from)
+        .orElseThrow(() -> new PaymentException(ErrorCode.REFUND_JOB_NOT_FOUND));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeRefundJobs() {
+    for (RefundJob job : refundJobRepository.findResumableJobs(RefundJobStatus.RUNNING, RefundJobStatus.COMPLETED)) {
+      log.info("Resume refund job. refundJobId = {}", job.getRefundJobId());
+      UUID refundJobId = job.getRefundJobId();
+      jobExecutor.submit(() -> run(refundJobId, true));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // 진행 중인 청크는 롤백되고 재시작 시 이어서 처리된다.
+    jobExecutor.shutdownNow();
+  }
+
+  private void run(UUID refundJobId, boolean resumed) {
+    try {
+      if (resumed) {
+        redispatchRequestedRefunds(refundJobId);
+      }
+      RefundChunk chunk;
+      do {
+        chunk = refundChunkProcessor.processChunk(refundJobId, chunkSize);
+        for (PaymentGatewayRequest refund : chunk.refunds()) {
+          dispatch(refundJobId, refund);
+        }
+      } while (!chunk.last());
+      log.info("Refund job finished. refundJobId = {}", refundJobId);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Refund job interrupted. refundJobId = {}", refundJobId);
+    } catch (RuntimeException e) {
+      log.error("Refund job failed. refundJobId = {}", refundJobId, e);
+      refundChunkProcessor.fail(refundJobId);
+    }
+  }
+
+  // 진행 중인 PG 환불이 max-concurrency 개이면 자리가 날 때까지 작업 스레드가 기다린다.
+  private void dispatch(UUID refundJobId, PaymentGatewayRequest refund) throws InterruptedException {
+    refundPermits.acquire();
+    try {
+      paymentProcessor.refund(refundJobId, refund).whenComplete((result, e) -> refundPermits.release());
+    } catch (RuntimeException e) {
+      refundPermits.release();
+      throw e;
+    }
+  }
+
+  private void redispatchRequestedRefunds(UUID refundJobId) throws InterruptedException {
+    RefundJob job = refundJobRepository.findById(refundJobId)
+        .orElseThrow(() -> new PaymentException(ErrorCode.REFUND_JOB_NOT_FOUND));
+    LocalDateTime cursorCreatedAt = job.getWindowFrom();
+    UUID cursorOrderId = new UUID(0L, 0L);
+
+    List<RefundTarget> targets;
+    do {
+      targets = paymentRepository.findRefundTargetsByRefundStatus(job.getStoreId(), job.getWindowFrom(),
+          job.getWindowTo(), RefundStatus.REQUESTED, cursorCreatedAt, cursorOrderId, PageRequest.of(0, chunkSize));
+      for (RefundTarget target : targets) {
+        dispatch(refundJobId, new PaymentGatewayRequest(target.paymentId(), target.orderId(),
+            target.paymentMethod(), target.amount()));
+      }
+      if (!targets.isEmpty()) {
+        RefundTarget last = targets.get(targets.size() - 1);
+        cursorCreatedAt = last.orderCreatedAt();
+        cursorOrderId = last.orderId();
+      }
+    } while (targets.size() == chunkSize);
+  }
+}
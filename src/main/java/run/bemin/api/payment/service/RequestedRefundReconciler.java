@@ -0,0 +1,68 @@
+package run.bemin.api.payment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.payment.domain.RefundStatus;
+import run.bemin.api.payment.dto.RequestedRefund;
+import run.bemin.api.payment.repository.PaymentRepository;
+
+/*
+ * REQUESTED 환불 대사
+ * PG 환불 응답이 timeout 되어 requested-after-ms 넘게 REQUESTED 로 남은 환불을 PG 에 조회해 확정한다.
+ * PG 가 아직 처리 중이거나 요청을 받지 못했다고 답하면 다음 주기에 다시 조회하고,
+ * 요청 후 give-up-after-ms 가 지나도 확정되지 않으면 FAILED 로 바꾼다.
+ * FAILED 도 작업의 환불 결과 집계에 들어가므로 작업은 더 이상 재시작 시 이어서 처리되지 않는다.
+ * 반영은 PaymentResultHandler 가 행 잠금 후 REQUESTED 일 때만 하므로 재요청 결과와 겹쳐도 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+public class RequestedRefundReconciler {
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentProcessor paymentProcessor;
+  private final long requestedAfterMillis;
+  private final long giveUpAfterMillis;
+  private final int batchSize;
+
+  public RequestedRefundReconciler(PaymentRepository paymentRepository,
+                                   PaymentProcessor paymentProcessor,
+                                   @Value("${bemin.payment.refund.reconcile.requested-after-ms:60000}") long requestedAfterMillis,
+                                   @Value("${bemin.payment.refund.reconcile.give-up-after-ms:3600000}") long giveUpAfterMillis,
+                                   @Value("${bemin.payment.refund.reconcile.batch-size:200}") int batchSize) {
+    this.paymentRepository = paymentRepository;
+    this.paymentProcessor = paymentProcessor;
+    this.requestedAfterMillis = Math.max(requestedAfterMillis, 0);
+    this.giveUpAfterMillis = Math.max(giveUpAfterMillis, this.requestedAfterMillis);
+    this.batchSize = Math.max(batchSize, 1);
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.payment.refund.reconcile.interval-ms:30000}")
+  public void reconcileRequestedRefunds() {
+    LocalDateTime now = LocalDateTime.now();
+    List<RequestedRefund> refunds = paymentRepository.findRequestedRefundsBefore(RefundStatus.REQUESTED,
+        now.minusNanos(requestedAfterMillis * 1_000_000), PageRequest.of(0, batchSize));
+    if (refunds.isEmpty()) {
+      return;
+    }
+    log.info("Reconcile requested refunds. count = {}", refunds.size());
+
+    LocalDateTime giveUpBefore = now.minusNanos(giveUpAfterMillis * 1_000_000);
+    List<CompletableFuture<Void>> inquiries = new ArrayList<>(refunds.size());
+    for (RequestedRefund refund : refunds) {
+      if (refund.refundRequestedAt().isBefore(giveUpBefore)) {
+        paymentProcessor.expireRefund(refund.refundJobId(), refund.paymentId());
+      } else {
+        inquiries.add(paymentProcessor.reconcileRefund(refund.refundJobId(), refund.paymentId()));
+      }
+    }
+    // 다음 주기와 겹치지 않도록 이번 배치의 조회가 끝날 때까지 기다린다. (조회마다 timeout-ms 적용)
+    CompletableFuture.allOf(inquiries.toArray(CompletableFuture[]::new)).join();
+  }
+}
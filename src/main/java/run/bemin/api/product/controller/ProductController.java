@@ -1,25 +1,50 @@
 package run.bemin.api.product.controller;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.general.util.EntityTags;
 import run.bemin.api.product.dto.MessageResponseDto;
+import run.bemin.api.product.dto.ProductBulkUpdateRequestDto;
+import run.bemin.api.product.dto.ProductImportFormat;
+import run.bemin.api.product.dto.ProductImportResultDto;
+import run.bemin.api.product.dto.ProductSearchDto;
 import run.bemin.api.product.dto.UpdateProductDetailDto;
+import run.bemin.api.product.service.ProductImportService;
 import run.bemin.api.product.service.ProductService;
 import run.bemin.api.product.validator.ProductValidator;
+import run.bemin.api.security.UserDetailsImpl;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class ProductController {
   private final ProductService productService;
+  private final ProductImportService productImportService;
   private final ProductValidator validator;
 
 //  @PostMapping("/{storeId}/products")
@@ -37,16 +62,70 @@ public class ProductController {
 //    return ApiResponse.from(HttpStatus.CREATED, "성공", new MessageResponseDto("상품 추가가 완료되었습니다."))
 //  }
 
-//  @GetMapping("/{store_id}/products")
-//  public ApiResponse<Page<ProductSearchDto>> getProductsByStoreId(@PathVariable String storeId,
-//                                                                @RequestParam("page") int page,
-//                                                                @RequestParam("size") int size)
-//  {
-//    UUID storeUUID = UUID.fromString(storeId);
-//    Store store = validator.isStoreOwner(storeUUID);
-//    Page<ProductSearchDto> products = productService.getProducts(store, page, size);
-//    return ApiResponse.from(HttpStatus.OK,"성공",products);
-//  }
+  /**
+   * 가게 메뉴 조회 (MenuCache 를 거친다)
+   * 메뉴 버전을 ETag 로 내려주고, If-None-Match 가 같으면 메뉴를 읽지 않고 304 로 응답한다.
+   */
+  @GetMapping("/{store_id}/products")
+  public ResponseEntity<ApiResponse<Page<ProductSearchDto>>> getProducts(
+      @PathVariable("store_id") UUID storeId,
+      @RequestParam(value = "page", defaultValue = "0") int page,
+      @RequestParam(value = "size", defaultValue = "20") int size,
+      WebRequest webRequest)
+  {
+    long menuVersion = productService.getMenuVersion(storeId);
+    String etag = EntityTags.of("menu", storeId, menuVersion);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+
+    Page<ProductSearchDto> products = productService.getProducts(storeId, menuVersion, page, size);
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResponse.from(HttpStatus.OK, "성공", products));
+  }
+
+  /**
+   * 상품 일괄 등록 (CSV 또는 NDJSON 본문을 스트리밍으로 읽는다)
+   * 잘못된 행은 건너뛰고 결과에 줄 번호와 사유를 담는다.
+   */
+  @PreAuthorize("hasAnyRole(" +
+      "T(run.bemin.api.user.entity.UserRoleEnum).OWNER.getAuthority(), " +
+      "T(run.bemin.api.user.entity.UserRoleEnum).MANAGER.getAuthority(), " +
+      "T(run.bemin.api.user.entity.UserRoleEnum).MASTER.getAuthority())")
+  @PostMapping(value = "/{store_id}/products/import",
+      consumes = {ProductImportFormat.CSV_VALUE, ProductImportFormat.NDJSON_VALUE})
+  public ApiResponse<ProductImportResultDto> importProducts(
+      @PathVariable("store_id") UUID storeId,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body,
+      @AuthenticationPrincipal UserDetailsImpl userDetails)
+  {
+    Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+    ProductImportResultDto result = productImportService.importProducts(storeId,
+        ProductImportFormat.from(contentType),
+        new InputStreamReader(body, charset),
+        userDetails != null ? userDetails.getUsername() : null);
+    return ApiResponse.from(HttpStatus.OK, "성공", result);
+  }
+
+  /**
+   * 가게 상품 일괄 변경 (가격, 숨김 등 / null 인 항목은 바꾸지 않는다)
+   */
+  @PreAuthorize("hasAnyRole(" +
+      "T(run.bemin.api.user.entity.UserRoleEnum).OWNER.getAuthority(), " +
+      "T(run.bemin.api.user.entity.UserRoleEnum).MANAGER.getAuthority(), " +
+      "T(run.bemin.api.user.entity.UserRoleEnum).MASTER.getAuthority())")
+  @PatchMapping("/{store_id}/products")
+  public ApiResponse<MessageResponseDto> updateProducts(@PathVariable("store_id") UUID storeId,
+                                                        @RequestBody ProductBulkUpdateRequestDto requestDto,
+                                                        @AuthenticationPrincipal UserDetailsImpl userDetails)
+  {
+    int updated = productService.updateProducts(storeId, requestDto.products(),
+        userDetails != null ? userDetails.getUsername() : null);
+    return ApiResponse.from(HttpStatus.OK, "성공", new MessageResponseDto("상품 " + updated + "개 변경이 완료되었습니다."));
+  }
 
   @PostMapping("/{store_id}/{product_id}")
   public ApiResponse<MessageResponseDto> updateProductDetails(@PathVariable String store_id,
@@ -0,0 +1,15 @@
+package run.bemin.api.product.dto;
+
+import java.util.UUID;
+
+/**
+ * 일괄 변경할 상품 한 건 (null 인 항목은 바꾸지 않는다)
+ */
+public record ProductBulkUpdateDto(
+    UUID productId,
+    Integer price,
+    String title,
+    String imageUrl,
+    Boolean isHidden
+) {
+}
@@ -0,0 +1,8 @@
+package run.bemin.api.product.dto;
+
+import java.util.List;
+
+public record ProductBulkUpdateRequestDto(
+    List<ProductBulkUpdateDto> products
+) {
+}
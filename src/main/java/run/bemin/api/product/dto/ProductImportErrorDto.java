@@ -0,0 +1,7 @@
+package run.bemin.api.product.dto;
+
+public record ProductImportErrorDto(
+    long line,
+    String message
+) {
+}
@@ -0,0 +1,24 @@
+package run.bemin.api.product.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 상품 일괄 등록 파일 형식 (Content-Type 으로 구분)
+ */
+public enum ProductImportFormat {
+  CSV,
+  NDJSON;
+
+  public static final String CSV_VALUE = "text/csv";
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+
+  public static ProductImportFormat from(MediaType contentType) {
+    if (contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+      return CSV;
+    }
+    if (contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+      return NDJSON;
+    }
+    throw new IllegalArgumentException("지원하지 않는 형식입니다. (" + CSV_VALUE + ", " + NDJSON_VALUE + ")");
+  }
+}
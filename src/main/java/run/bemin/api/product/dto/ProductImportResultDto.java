@@ -0,0 +1,15 @@
+package run.bemin.api.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과
+ * errors 는 앞에서부터 일부만 담는다. (실패 건수는 failedRows)
+ */
+public record ProductImportResultDto(
+    long totalRows,
+    long importedRows,
+    long failedRows,
+    List<ProductImportErrorDto> errors
+) {
+}
@@ -0,0 +1,15 @@
+package run.bemin.api.product.dto;
+
+/**
+ * 검증을 통과한 일괄 등록 행
+ *
+ * @param line 원본 파일의 줄 번호 (1부터, CSV 헤더 포함)
+ */
+public record ProductImportRow(
+    long line,
+    int price,
+    String title,
+    String comment,
+    String imageUrl
+) {
+}
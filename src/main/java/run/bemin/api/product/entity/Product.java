@@ -49,15 +49,6 @@ public class Product extends AuditableEntity {
   @JoinColumn(name = "store_id", nullable = false)
   private Store store;
 
-  @Column(name = "activated", nullable = false, columnDefinition = "BOOLEAN DEFAULT TRUE")
-  private boolean activated;
-
-  @Column(name = "deleted_at")
-  private LocalDateTime deletedAt;
-
-  @Column(name = "deleted_by")
-  private String deletedBy;
-
   @Builder
   private Product(
       Store store,
@@ -89,8 +80,6 @@ public class Product extends AuditableEntity {
   }
 
   public void deleteProduct(String deletedBy, LocalDateTime time) {
-    this.activated = false;
-    this.deletedBy = deletedBy;
-    this.deletedAt = time;
+    markDeleted(deletedBy, time);
   }
 }
@@ -0,0 +1,9 @@
+package run.bemin.api.product.event;
+
+import java.util.UUID;
+
+/**
+ * 상품 생성/수정/삭제 이벤트
+ */
+public record ProductChangedEvent(UUID productId) {
+}
@@ -0,0 +1,10 @@
+package run.bemin.api.product.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 가게 상품의 일괄 생성/수정 이벤트 (건마다 ProductChangedEvent 를 내지 않는다)
+ */
+public record ProductsChangedEvent(UUID storeId, List<UUID> productIds) {
+}
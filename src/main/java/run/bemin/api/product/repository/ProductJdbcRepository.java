@@ -0,0 +1,144 @@
+package run.bemin.api.product.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import run.bemin.api.product.dto.ProductBulkUpdateDto;
+import run.bemin.api.product.dto.ProductImportRow;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO product
+        (product_id, store_id, price, title, comment, image_url, is_hidden, is_deleted,
+         created_at, created_by, update_at, update_by)
+      VALUES (?, ?, ?, ?, ?, ?, false, false, ?, ?, ?, ?)
+      """;
+
+  // 바뀌는 열 조합(shape)마다 문장 하나 : 배열 파라미터를 unnest 로 펼쳐 상품 ID 로 조인한다.
+  private static final String UPDATE_SQL = """
+      UPDATE product p
+      SET %s, update_at = ?, update_by = ?
+      FROM unnest(?%s) AS v(product_id%s)
+      WHERE p.product_id = v.product_id AND p.store_id = ? AND p.is_deleted = false
+      RETURNING p.product_id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 상품을 한 번의 배치로 등록 (JPA 영속성 컨텍스트를 거치지 않는다)
+   *
+   * @param productIds rows 와 같은 순서의 상품 ID
+   */
+  public void insertAll(UUID storeId, List<ProductImportRow> rows, List<UUID> productIds,
+                        String createdBy, LocalDateTime createdAt) {
+    Timestamp timestamp = Timestamp.valueOf(createdAt);
+    jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        ProductImportRow row = rows.get(i);
+        ps.setObject(1, productIds.get(i));
+        ps.setObject(2, storeId);
+        ps.setInt(3, row.price());
+        ps.setString(4, row.title());
+        ps.setString(5, row.comment());
+        ps.setString(6, row.imageUrl());
+        ps.setTimestamp(7, timestamp);
+        ps.setString(8, createdBy);
+        ps.setTimestamp(9, timestamp);
+        ps.setString(10, createdBy);
+      }
+
+      @Override
+      public int getBatchSize() {
+        return rows.size();
+      }
+    });
+  }
+
+  /**
+   * 가게의 활성 상품을 일괄 변경 (바뀌는 열 조합마다 UPDATE 한 번)
+   * productId 는 서로 달라야 한다.
+   *
+   * @return 실제로 변경된 상품 ID (가게에 없거나 삭제된 상품은 빠진다)
+   */
+  public List<UUID> updateAll(UUID storeId, List<ProductBulkUpdateDto> changes,
+                              String updatedBy, LocalDateTime updatedAt) {
+    Map<Shape, List<ProductBulkUpdateDto>> groups = new LinkedHashMap<>();
+    for (ProductBulkUpdateDto change : changes) {
+      groups.computeIfAbsent(Shape.of(change), shape -> new ArrayList<>()).add(change);
+    }
+
+    Timestamp timestamp = Timestamp.valueOf(updatedAt);
+    List<UUID> updated = new ArrayList<>(changes.size());
+    groups.forEach((shape, group) -> updated.addAll(jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(shape.sql());
+      int index = 1;
+      ps.setTimestamp(index++, timestamp);
+      ps.setString(index++, updatedBy);
+      ps.setArray(index++, con.createArrayOf("uuid", group.stream().map(ProductBulkUpdateDto::productId).toArray()));
+      for (Column column : shape.columns()) {
+        ps.setArray(index++, con.createArrayOf(column.sqlType, group.stream().map(column.value).toArray()));
+      }
+      ps.setObject(index, storeId);
+      return ps;
+    }, (rs, rowNum) -> rs.getObject(1, UUID.class))));
+    return updated;
+  }
+
+  private enum Column {
+    PRICE("price", "int4", ProductBulkUpdateDto::price),
+    TITLE("title", "varchar", ProductBulkUpdateDto::title),
+    IMAGE_URL("image_url", "varchar", ProductBulkUpdateDto::imageUrl),
+    IS_HIDDEN("is_hidden", "bool", ProductBulkUpdateDto::isHidden);
+
+    private final String name;
+    private final String sqlType;
+    private final Function<ProductBulkUpdateDto, Object> value;
+
+    Column(String name, String sqlType, Function<ProductBulkUpdateDto, Object> value) {
+      this.name = name;
+      this.sqlType = sqlType;
+      this.value = value;
+    }
+  }
+
+  private record Shape(List<Column> columns) {
+
+    static Shape of(ProductBulkUpdateDto change) {
+      List<Column> columns = new ArrayList<>(Column.values().length);
+      for (Column column : Column.values()) {
+        if (column.value.apply(change) != null) {
+          columns.add(column);
+        }
+      }
+      return new Shape(List.copyOf(columns));
+    }
+
+    String sql() {
+      StringBuilder set = new StringBuilder();
+      StringBuilder arrays = new StringBuilder();
+      StringBuilder aliases = new StringBuilder();
+      for (Column column : columns) {
+        set.append(set.isEmpty() ? "" : ", ").append(column.name).append(" = v.").append(column.name);
+        arrays.append(", ?");
+        aliases.append(", ").append(column.name);
+      }
+      return UPDATE_SQL.formatted(set, arrays, aliases);
+    }
+  }
+}
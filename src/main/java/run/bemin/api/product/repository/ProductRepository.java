@@ -1,22 +1,26 @@
 package run.bemin.api.product.repository;
 
+import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import run.bemin.api.product.dto.ProductSearchDto;
 import run.bemin.api.product.entity.Product;
-import run.bemin.api.store.entity.Store;
 
 public interface ProductRepository extends JpaRepository<Product, UUID> {
 
+  /**
+   * 가게의 메뉴 전체 (등록 순, MenuCache 에 통째로 올린다)
+   * 삭제된 상품은 softDeleteFilter 가 뺀다.
+   */
   @Query("""
     SELECT new run.bemin.api.product.dto.ProductSearchDto(
        p.price, p.title, p.comment, p.imageUrl, p.isHidden
     )
     FROM Product p
-    WHERE p.store.id = :storeId AND p.activated = true
+    WHERE p.store.id = :storeId
+    ORDER BY p.createdAt, p.productId
     """)
-  Page<ProductSearchDto> findByStoreId(UUID store_id, Pageable pageable);
+  List<ProductSearchDto> findMenuByStoreId(@Param("storeId") UUID storeId);
 }
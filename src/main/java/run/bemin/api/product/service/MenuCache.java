@@ -0,0 +1,101 @@
+package run.bemin.api.product.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import run.bemin.api.product.dto.ProductSearchDto;
+
+/*
+ * 가게별 메뉴 캐시
+ * - 항목은 (메뉴 버전, 메뉴 전체). 상품이 바뀌면 같은 트랜잭션에서 p_store.menu_version 이 오르므로
+ *   조회 시점의 버전과 다른 항목은 쓰지 않는다. (다른 서버에서 바뀐 메뉴도 버전으로 걸러진다)
+ * - 가게 max-stores 개까지 LRU 로 보관한다.
+ * - 같은 (가게, 버전) 을 여러 요청이 동시에 놓치면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다린다.
+ */
+@Component
+public class MenuCache {
+
+  private final Map<UUID, Entry> entries;
+  private final Map<LoadKey, CompletableFuture<List<ProductSearchDto>>> loading = new ConcurrentHashMap<>();
+
+  public MenuCache(@Value("${bemin.product.menu-cache.max-stores:10000}") int maxStores) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+        return size() > maxStores;
+      }
+    };
+  }
+
+  /**
+   * @param version 조회 시점의 메뉴 버전
+   * @param loader  캐시에 없을 때 메뉴 전체를 읽는 함수 (같은 키로는 동시에 한 번만 호출된다)
+   */
+  public List<ProductSearchDto> get(UUID storeId, long version, Supplier<List<ProductSearchDto>> loader) {
+    synchronized (entries) {
+      Entry entry = entries.get(storeId);
+      if (entry != null && entry.version() == version) {
+        return entry.menu();
+      }
+    }
+
+    LoadKey key = new LoadKey(storeId, version);
+    CompletableFuture<List<ProductSearchDto>> future = new CompletableFuture<>();
+    CompletableFuture<List<ProductSearchDto>> running = loading.putIfAbsent(key, future);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      List<ProductSearchDto> menu = List.copyOf(loader.get());
+      put(storeId, version, menu);
+      future.complete(menu);
+      return menu;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(key, future);
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private void put(UUID storeId, long version, List<ProductSearchDto> menu) {
+    synchronized (entries) {
+      // 늦게 끝난 이전 버전 적재가 새 버전을 덮지 않도록
+      Entry current = entries.get(storeId);
+      if (current == null || current.version() <= version) {
+        entries.put(storeId, new Entry(version, menu));
+      }
+    }
+  }
+
+  private static List<ProductSearchDto> await(CompletableFuture<List<ProductSearchDto>> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record Entry(long version, List<ProductSearchDto> menu) {
+  }
+
+  private record LoadKey(UUID storeId, long version) {
+  }
+}
@@ -0,0 +1,289 @@
+package run.bemin.api.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import run.bemin.api.product.dto.ProductImportErrorDto;
+import run.bemin.api.product.dto.ProductImportFormat;
+import run.bemin.api.product.dto.ProductImportRow;
+
+/*
+ * 상품 일괄 등록 파일을 한 행씩 읽어 검증한다. (파일 전체를 메모리에 올리지 않음)
+ * - CSV : 첫 줄은 헤더 (price, title, comment, image_url / 순서 무관), 따옴표 안의 쉼표/줄바꿈 허용
+ * - NDJSON : 한 줄에 객체 하나 {"price": 12000, "title": "...", "comment": "...", "imageUrl": "..."}
+ * 잘못된 행은 오류로 넘기고 다음 행을 계속 읽는다.
+ * 한 행이 maxRecordLength 를 넘거나 따옴표가 닫히지 않으면 CSV 는 다음 행의 시작을 알 수 없으므로 거기서 멈춘다.
+ */
+class ProductImportReader {
+
+  static final int MAX_TEXT_LENGTH = 255;
+
+  private final ProductImportFormat format;
+  private final Reader in;
+  private final ObjectMapper objectMapper;
+  private final int maxRecordLength;
+
+  private long line = 1;
+  private int pushedBack = -2;
+
+  ProductImportReader(ProductImportFormat format, Reader in, ObjectMapper objectMapper, int maxRecordLength) {
+    this.format = format;
+    this.in = new BufferedReader(in, 1 << 16);
+    this.objectMapper = objectMapper;
+    this.maxRecordLength = maxRecordLength;
+  }
+
+  /**
+   * @throws IllegalArgumentException CSV 헤더가 없거나 price/title 열이 없을 때 (행을 읽기 전)
+   */
+  void read(Consumer<ProductImportRow> rows, Consumer<ProductImportErrorDto> errors) throws IOException {
+    skipByteOrderMark();
+    if (format == ProductImportFormat.CSV) {
+      readCsv(rows, errors);
+    } else {
+      readNdjson(rows, errors);
+    }
+  }
+
+  private void readCsv(Consumer<ProductImportRow> rows, Consumer<ProductImportErrorDto> errors) throws IOException {
+    List<String> header;
+    try {
+      header = readCsvRecord();
+    } catch (MalformedRecordException e) {
+      throw new IllegalArgumentException(e.getMessage());
+    }
+    if (header == null) {
+      throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+    }
+    int price = -1;
+    int title = -1;
+    int comment = -1;
+    int imageUrl = -1;
+    for (int i = 0; i < header.size(); i++) {
+      switch (header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT)) {
+        case "price" -> price = i;
+        case "title" -> title = i;
+        case "comment" -> comment = i;
+        case "imageurl" -> imageUrl = i;
+        default -> {
+        }
+      }
+    }
+    if (price < 0 || title < 0) {
+      throw new IllegalArgumentException("CSV 헤더에 price, title 열이 필요합니다.");
+    }
+
+    while (true) {
+      long recordLine = line;
+      List<String> record;
+      try {
+        record = readCsvRecord();
+      } catch (MalformedRecordException e) {
+        errors.accept(new ProductImportErrorDto(recordLine, e.getMessage() + " 이후 행은 읽지 않았습니다."));
+        return;
+      }
+      if (record == null) {
+        return;
+      }
+      if (record.size() == 1 && record.get(0).isBlank()) {
+        continue;
+      }
+      emit(recordLine, field(record, price), field(record, title), field(record, comment), field(record, imageUrl),
+          rows, errors);
+    }
+  }
+
+  private void readNdjson(Consumer<ProductImportRow> rows, Consumer<ProductImportErrorDto> errors) throws IOException {
+    while (true) {
+      long recordLine = line;
+      String text;
+      try {
+        text = readLine();
+      } catch (MalformedRecordException e) {
+        errors.accept(new ProductImportErrorDto(recordLine, e.getMessage()));
+        continue;
+      }
+      if (text == null) {
+        return;
+      }
+      if (text.isBlank()) {
+        continue;
+      }
+
+      JsonNode node;
+      try {
+        node = objectMapper.readTree(text);
+      } catch (JsonProcessingException e) {
+        errors.accept(new ProductImportErrorDto(recordLine, "JSON 형식이 아닙니다."));
+        continue;
+      }
+      if (!node.isObject()) {
+        errors.accept(new ProductImportErrorDto(recordLine, "JSON 객체가 아닙니다."));
+        continue;
+      }
+      JsonNode imageUrl = node.has("imageUrl") ? node.get("imageUrl") : node.get("image_url");
+      emit(recordLine, text(node.get("price")), text(node.get("title")), text(node.get("comment")), text(imageUrl),
+          rows, errors);
+    }
+  }
+
+  private static void emit(long line, String price, String title, String comment, String imageUrl,
+                           Consumer<ProductImportRow> rows, Consumer<ProductImportErrorDto> errors) {
+    String error = validate(price, title, imageUrl);
+    if (error != null) {
+      errors.accept(new ProductImportErrorDto(line, error));
+      return;
+    }
+    rows.accept(new ProductImportRow(line, Integer.parseInt(price.trim()), title.trim(), blankToNull(comment),
+        blankToNull(imageUrl)));
+  }
+
+  /**
+   * @return 오류 메시지 (통과하면 null)
+   */
+  private static String validate(String price, String title, String imageUrl) {
+    if (title == null || title.isBlank()) {
+      return "title 은 필수입니다.";
+    }
+    if (title.trim().length() > MAX_TEXT_LENGTH) {
+      return "title 은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다.";
+    }
+    if (imageUrl != null && imageUrl.trim().length() > MAX_TEXT_LENGTH) {
+      return "image_url 은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다.";
+    }
+    if (price == null || price.isBlank()) {
+      return "price 는 필수입니다.";
+    }
+    try {
+      if (Integer.parseInt(price.trim()) < 0) {
+        return "price 는 0 이상이어야 합니다.";
+      }
+    } catch (NumberFormatException e) {
+      return "price 는 정수여야 합니다. (" + price + ")";
+    }
+    return null;
+  }
+
+  private static String field(List<String> record, int index) {
+    return index >= 0 && index < record.size() ? record.get(index) : null;
+  }
+
+  private static String text(JsonNode node) {
+    if (node == null || node.isNull()) {
+      return null;
+    }
+    // 숫자가 아닌 price (예: 1.5, true) 는 문자열로 넘겨 검증에서 걸러낸다.
+    return node.isValueNode() ? node.asText() : node.toString();
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value.trim();
+  }
+
+  /**
+   * RFC 4180 레코드 하나 (파일 끝이면 null)
+   */
+  private List<String> readCsvRecord() throws IOException {
+    int c = next();
+    if (c == -1) {
+      return null;
+    }
+    long recordLine = line;
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    int length = 0;
+    while (true) {
+      if (c == -1) {
+        if (quoted) {
+          throw new MalformedRecordException(recordLine + "번째 줄의 따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+      }
+      if (++length > maxRecordLength) {
+        throw new MalformedRecordException(recordLine + "번째 줄이 " + maxRecordLength + "자를 넘습니다.");
+      }
+      if (quoted) {
+        if (c == '"') {
+          int following = next();
+          if (following != '"') {
+            quoted = false;
+            c = following;
+            continue;
+          }
+        } else if (c == '\n') {
+          line++;
+        }
+        field.append((char) c);
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n') {
+        line++;
+        fields.add(field.toString());
+        return fields;
+      } else if (c != '\r') {
+        field.append((char) c);
+      }
+      c = next();
+    }
+  }
+
+  /**
+   * 한 줄 (파일 끝이면 null). 너무 긴 줄은 끝까지 버리고 예외를 던진다.
+   */
+  private String readLine() throws IOException {
+    int c = next();
+    if (c == -1) {
+      return null;
+    }
+    StringBuilder text = new StringBuilder();
+    boolean tooLong = false;
+    while (c != -1 && c != '\n') {
+      if (text.length() < maxRecordLength) {
+        text.append((char) c);
+      } else {
+        tooLong = true;
+      }
+      c = next();
+    }
+    long recordLine = line++;
+    if (tooLong) {
+      throw new MalformedRecordException(recordLine + "번째 줄이 " + maxRecordLength + "자를 넘습니다.");
+    }
+    return text.toString();
+  }
+
+  private void skipByteOrderMark() throws IOException {
+    int c = in.read();
+    if (c != '\uFEFF') {
+      pushedBack = c;
+    }
+  }
+
+  private int next() throws IOException {
+    if (pushedBack != -2) {
+      int c = pushedBack;
+      pushedBack = -2;
+      return c;
+    }
+    return in.read();
+  }
+
+  private static class MalformedRecordException extends RuntimeException {
+
+    MalformedRecordException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package run.bemin.api.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.bemin.api.product.dto.ProductImportErrorDto;
+import run.bemin.api.product.dto.ProductImportFormat;
+import run.bemin.api.product.dto.ProductImportResultDto;
+import run.bemin.api.product.dto.ProductImportRow;
+import run.bemin.api.product.event.ProductsChangedEvent;
+import run.bemin.api.product.repository.ProductJdbcRepository;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreRepository;
+
+/*
+ * 상품 일괄 등록
+ * - 업로드 본문을 한 행씩 읽어 검증하고, chunk-size 행마다 한 트랜잭션에서 JDBC 배치로 넣는다.
+ * - 청크마다 메뉴 버전을 한 번 올리고 ProductsChangedEvent 를 한 번 낸다. (건마다 올리지 않음)
+ * - 잘못된 행은 건너뛰고 줄 번호와 함께 보고한다. 앞서 커밋된 청크는 이후 청크가 실패해도 남는다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+  private static final int MAX_REPORTED_ERRORS = 100;
+
+  private final ProductJdbcRepository productJdbcRepository;
+  private final StoreRepository storeRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate writeTransaction;
+
+  @Value("${bemin.product.import.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${bemin.product.import.max-record-length:65536}")
+  private int maxRecordLength;
+
+  public ProductImportService(ProductJdbcRepository productJdbcRepository,
+                              StoreRepository storeRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+    this.productJdbcRepository = productJdbcRepository;
+    this.storeRepository = storeRepository;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  public ProductImportResultDto importProducts(UUID storeId, ProductImportFormat format, Reader body,
+                                               String username) {
+    if (storeRepository.findMenuVersionById(storeId).isEmpty()) {
+      throw new StoreNotFoundException(storeId.toString());
+    }
+
+    long startedAt = System.nanoTime();
+    Progress progress = new Progress();
+    List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+    ProductImportReader reader = new ProductImportReader(format, body, objectMapper, maxRecordLength);
+    try {
+      reader.read(row -> {
+        chunk.add(row);
+        if (chunk.size() >= chunkSize) {
+          progress.imported += insertChunk(storeId, chunk, username);
+          chunk.clear();
+        }
+      }, progress::fail);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (!chunk.isEmpty()) {
+      progress.imported += insertChunk(storeId, chunk, username);
+    }
+
+    log.info("Products imported. storeId = {}, imported = {}, failed = {}, {}ms",
+        storeId, progress.imported, progress.failed, (System.nanoTime() - startedAt) / 1_000_000);
+    return new ProductImportResultDto(progress.imported + progress.failed, progress.imported, progress.failed,
+        List.copyOf(progress.errors));
+  }
+
+  private int insertChunk(UUID storeId, List<ProductImportRow> chunk, String username) {
+    List<UUID> productIds = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      productIds.add(UUID.randomUUID());
+    }
+    writeTransaction.executeWithoutResult(status -> {
+      productJdbcRepository.insertAll(storeId, chunk, productIds, username, LocalDateTime.now());
+      storeRepository.incrementMenuVersion(storeId);
+      eventPublisher.publishEvent(new ProductsChangedEvent(storeId, List.copyOf(productIds)));
+    });
+    return chunk.size();
+  }
+
+  private static class Progress {
+
+    private long imported;
+    private long failed;
+    private final List<ProductImportErrorDto> errors = new ArrayList<>();
+
+    private void fail(ProductImportErrorDto error) {
+      failed++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(error);
+      }
+    }
+  }
+}
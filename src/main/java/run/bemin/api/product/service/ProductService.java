@@ -1,22 +1,31 @@
 package run.bemin.api.product.service;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.product.dto.ProductBulkUpdateDto;
 import run.bemin.api.product.dto.ProductRequestDto;
 import run.bemin.api.product.dto.ProductSearchDto;
 import run.bemin.api.product.dto.UpdateProductDetailDto;
 import run.bemin.api.product.entity.Product;
+import run.bemin.api.product.event.ProductChangedEvent;
+import run.bemin.api.product.event.ProductsChangedEvent;
 import run.bemin.api.product.exception.ProductNotFoundException;
+import run.bemin.api.product.repository.ProductJdbcRepository;
 import run.bemin.api.product.repository.ProductRepository;
 import run.bemin.api.product.validator.ProductValidator;
 import run.bemin.api.store.entity.Store;
+import run.bemin.api.store.exception.StoreNotFoundException;
 import run.bemin.api.store.repository.StoreRepository;
 
 @RequiredArgsConstructor
@@ -24,9 +33,15 @@ import run.bemin.api.store.repository.StoreRepository;
 @Transactional(readOnly = true)
 public class ProductService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_BULK_UPDATE_SIZE = 1000;
+
   private final ProductValidator validator;
   private final ProductRepository productRepository;
+  private final ProductJdbcRepository productJdbcRepository;
   private final StoreRepository storeRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MenuCache menuCache;
 
   @Transactional
   public void createProduct(Store store, int price, String title, String comment, String imageUrl) {
@@ -38,11 +53,29 @@ public class ProductService {
         .imageUrl(imageUrl)
         .build();
     productRepository.save(product);
+    storeRepository.incrementMenuVersion(store.getId());
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId()));
   }
 
-  public Page<ProductSearchDto> getProducts(Store store, int page, int size) {
-    Pageable pageable = PageRequest.of(page, size);
-    return productRepository.findByStoreId(store.getId(), pageable);
+  /**
+   * 활성 가게의 메뉴 버전 (메뉴 ETag 로도 쓴다)
+   */
+  public long getMenuVersion(UUID storeId) {
+    return storeRepository.findMenuVersionById(storeId)
+        .orElseThrow(() -> new StoreNotFoundException(storeId.toString()));
+  }
+
+  /**
+   * 가게 메뉴 (캐시에 같은 버전이 있으면 상품은 읽지 않는다)
+   */
+  public Page<ProductSearchDto> getProducts(UUID storeId, long menuVersion, int page, int size) {
+    List<ProductSearchDto> menu = menuCache.get(storeId, menuVersion,
+        () -> productRepository.findMenuByStoreId(storeId));
+
+    Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    int from = (int) Math.min(pageable.getOffset(), menu.size());
+    int to = Math.min(from + pageable.getPageSize(), menu.size());
+    return new PageImpl<>(menu.subList(from, to), pageable, menu.size());
   }
 
   @Transactional
@@ -54,6 +87,29 @@ public class ProductService {
     requestDto.getTitle().ifPresent(product::updateTitle);
     requestDto.getImageUrl().ifPresent(product::updateImageUrl);
     requestDto.getIsHidden().ifPresent(product::updateIsHidden);
+    storeRepository.incrementMenuVersion(product.getStore().getId());
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId()));
+  }
+
+  /**
+   * 가게 상품 일괄 변경 (가격, 숨김 등)
+   * 상품을 읽지 않고 바뀌는 항목 조합마다 UPDATE 한 번으로 반영하며, 메뉴 버전은 한 번만 올린다.
+   * 하나라도 가게에 없거나 삭제된 상품이면 전체를 되돌린다.
+   */
+  @Transactional
+  public int updateProducts(UUID storeId, List<ProductBulkUpdateDto> changes, String updatedBy) {
+    validateBulkUpdate(changes);
+
+    List<UUID> updated = productJdbcRepository.updateAll(storeId, changes, updatedBy, LocalDateTime.now());
+    if (updated.size() != changes.size()) {
+      Set<UUID> missing = new HashSet<>();
+      changes.forEach(change -> missing.add(change.productId()));
+      updated.forEach(missing::remove);
+      throw new ProductNotFoundException("가게에 없는 상품입니다. " + missing);
+    }
+    storeRepository.incrementMenuVersion(storeId);
+    eventPublisher.publishEvent(new ProductsChangedEvent(storeId, List.copyOf(updated)));
+    return updated.size();
   }
 
   @Transactional
@@ -62,6 +118,31 @@ public class ProductService {
         .orElseThrow(ProductNotFoundException::new);
     String deletedBy = validator.isDeletedProduct(product);
     product.deleteProduct(deletedBy, time);
+    storeRepository.incrementMenuVersion(product.getStore().getId());
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId()));
   }
 
+  private static void validateBulkUpdate(List<ProductBulkUpdateDto> changes) {
+    if (changes == null || changes.isEmpty()) {
+      throw new IllegalArgumentException("변경할 상품이 없습니다.");
+    }
+    if (changes.size() > MAX_BULK_UPDATE_SIZE) {
+      throw new IllegalArgumentException("한 번에 " + MAX_BULK_UPDATE_SIZE + "개까지 변경할 수 있습니다.");
+    }
+    Set<UUID> productIds = new HashSet<>();
+    for (ProductBulkUpdateDto change : changes) {
+      if (change.productId() == null || !productIds.add(change.productId())) {
+        throw new IllegalArgumentException("상품 ID 가 없거나 중복되었습니다. (" + change.productId() + ")");
+      }
+      if (change.price() == null && change.title() == null && change.imageUrl() == null && change.isHidden() == null) {
+        throw new IllegalArgumentException("변경할 항목이 없습니다. (" + change.productId() + ")");
+      }
+      if (change.price() != null && change.price() < 0) {
+        throw new IllegalArgumentException("price 는 0 이상이어야 합니다. (" + change.productId() + ")");
+      }
+      if (change.title() != null && change.title().isBlank()) {
+        throw new IllegalArgumentException("title 은 비어 있을 수 없습니다. (" + change.productId() + ")");
+      }
+    }
+  }
 }
@@ -30,7 +30,7 @@ public class ProductValidator {
 //  }
 
   public String isDeletedProduct(Product product) {
-    if (!product.isActivated()) throw new UnauthorizedStoreAccessException();
+    if (Boolean.TRUE.equals(product.getIsDeleted())) throw new UnauthorizedStoreAccessException();
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     return ((UserDetailsImpl) auth.getPrincipal()).getUsername();
   }
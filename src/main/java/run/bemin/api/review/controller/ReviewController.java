@@ -0,0 +1,62 @@
+package run.bemin.api.review.controller;
+
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.review.dto.CreateReviewRequestDto;
+import run.bemin.api.review.dto.ReviewDto;
+import run.bemin.api.review.service.ReviewService;
+import run.bemin.api.security.UserDetailsImpl;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reviews")
+@RestController
+public class ReviewController {
+
+  private final ReviewService reviewService;
+
+  @PreAuthorize("hasRole('CUSTOMER')")
+  @PostMapping
+  public ResponseEntity<ApiResponse<ReviewDto>> createReview(
+      @Valid @RequestBody CreateReviewRequestDto requestDto,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    ReviewDto reviewDto = reviewService.createReview(requestDto, userDetails.getUsername());
+
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(ApiResponse.from(HttpStatus.CREATED, "성공", reviewDto));
+  }
+
+  @PreAuthorize("hasRole('CUSTOMER')")
+  @DeleteMapping("/{reviewId}")
+  public ResponseEntity<ApiResponse<ReviewDto>> deleteReview(
+      @PathVariable UUID reviewId,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    ReviewDto reviewDto = reviewService.deleteReview(reviewId, userDetails.getUsername());
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", reviewDto));
+  }
+
+  @GetMapping("/store/{storeId}")
+  public ResponseEntity<ApiResponse<Page<ReviewDto>>> getStoreReviews(
+      @PathVariable UUID storeId,
+      @RequestParam(value = "page", defaultValue = "0") Integer page,
+      @RequestParam(value = "size", defaultValue = "10") Integer size) {
+    Page<ReviewDto> reviews = reviewService.getStoreReviews(storeId, page, size);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", reviews));
+  }
+}
@@ -0,0 +1,21 @@
+package run.bemin.api.review.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+public record CreateReviewRequestDto(
+    @NotNull
+    UUID storeId,
+
+    @NotNull
+    @Min(1)
+    @Max(5)
+    Integer rating,
+
+    @Size(max = 1000)
+    String content
+) {
+}
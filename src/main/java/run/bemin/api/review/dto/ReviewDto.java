@@ -0,0 +1,26 @@
+package run.bemin.api.review.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import run.bemin.api.review.entity.Review;
+
+public record ReviewDto(
+    UUID reviewId,
+    UUID storeId,
+    String userEmail,
+    int rating,
+    String content,
+    LocalDateTime createdAt
+) {
+
+  public static ReviewDto fromEntity(Review review) {
+    return new ReviewDto(
+        review.getReviewId(),
+        review.getStoreId(),
+        review.getUserEmail(),
+        review.getRating(),
+        review.getContent(),
+        review.getCreatedAt()
+    );
+  }
+}
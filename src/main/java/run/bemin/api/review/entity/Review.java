@@ -0,0 +1,66 @@
+package run.bemin.api.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "review", indexes = {
+    @Index(name = "idx_review_store_id_created_at", columnList = "store_id, created_at")
+})
+public class Review {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private UUID reviewId;
+
+  // 가게 엔티티를 로딩하지 않도록 ID 만 보관
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Column(name = "user_email", nullable = false)
+  private String userEmail;
+
+  @Column(nullable = false)
+  private int rating; // 1 ~ 5
+
+  @Column(columnDefinition = "TEXT")
+  private String content;
+
+  @Column(name = "is_deleted", nullable = false)
+  private Boolean isDeleted;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
+  @Builder
+  public Review(UUID storeId, String userEmail, int rating, String content) {
+    this.storeId = storeId;
+    this.userEmail = userEmail;
+    this.rating = rating;
+    this.content = content;
+    this.isDeleted = false;
+  }
+
+  public void softDelete() {
+    this.isDeleted = true;
+    this.deletedAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,19 @@
+package run.bemin.api.review.exception.handler;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.general.exception.ErrorResponse;
+import run.bemin.api.review.exception.ReviewException;
+
+@RestControllerAdvice
+public class ReviewExceptionHandler {
+
+  @ExceptionHandler(ReviewException.class)
+  public ResponseEntity<ErrorResponse> ReviewException(ReviewException e) {
+    ErrorCode errorCode = e.getErrorCode();
+    return ResponseEntity.status(errorCode.getStatus())
+        .body(ErrorResponse.of(errorCode));
+  }
+}
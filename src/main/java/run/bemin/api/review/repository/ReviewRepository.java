@@ -0,0 +1,12 @@
+package run.bemin.api.review.repository;
+
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import run.bemin.api.review.entity.Review;
+
+public interface ReviewRepository extends JpaRepository<Review, UUID> {
+
+  Page<Review> findByStoreIdAndIsDeletedFalse(UUID storeId, Pageable pageable);
+}
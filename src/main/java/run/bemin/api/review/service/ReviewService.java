@@ -0,0 +1,71 @@
+package run.bemin.api.review.service;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.general.exception.ErrorCode;
+import run.bemin.api.review.dto.CreateReviewRequestDto;
+import run.bemin.api.review.dto.ReviewDto;
+import run.bemin.api.review.entity.Review;
+import run.bemin.api.review.exception.ReviewException;
+import run.bemin.api.review.repository.ReviewRepository;
+import run.bemin.api.store.repository.StoreRepository;
+import run.bemin.api.store.service.StoreRatingAccumulator;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final ReviewRepository reviewRepository;
+  private final StoreRepository storeRepository;
+  private final StoreRatingAccumulator storeRatingAccumulator;
+
+  /**
+   * 리뷰 작성 (가게 평점은 커밋 후 누적기에만 더하고 p_store 는 주기적으로 반영)
+   */
+  @Transactional
+  public ReviewDto createReview(CreateReviewRequestDto requestDto, String userEmail) {
+    if (storeRepository.findByIdAndIsDeletedFalse(requestDto.storeId()).isEmpty()) {
+      throw new ReviewException(ErrorCode.REVIEW_STORE_NOT_FOUND);
+    }
+
+    Review review = reviewRepository.save(Review.builder()
+        .storeId(requestDto.storeId())
+        .userEmail(userEmail)
+        .rating(requestDto.rating())
+        .content(requestDto.content())
+        .build());
+
+    storeRatingAccumulator.addOnCommit(review.getStoreId(), review.getRating(), 1);
+    return ReviewDto.fromEntity(review);
+  }
+
+  @Transactional
+  public ReviewDto deleteReview(UUID reviewId, String userEmail) {
+    Review review = reviewRepository.findById(reviewId)
+        .filter(found -> !Boolean.TRUE.equals(found.getIsDeleted()))
+        .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_NOT_FOUND));
+    if (!review.getUserEmail().equals(userEmail)) {
+      throw new ReviewException(ErrorCode.REVIEW_ACCESS_DENIED);
+    }
+
+    review.softDelete();
+
+    storeRatingAccumulator.addOnCommit(review.getStoreId(), -review.getRating(), -1);
+    return ReviewDto.fromEntity(review);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<ReviewDto> getStoreReviews(UUID storeId, Integer page, Integer size) {
+    PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+        Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    return reviewRepository.findByStoreIdAndIsDeletedFalse(storeId, pageable).map(ReviewDto::fromEntity);
+  }
+}
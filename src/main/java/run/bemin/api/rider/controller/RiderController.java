@@ -0,0 +1,52 @@
+package run.bemin.api.rider.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.rider.dto.RiderAvailabilityRequestDto;
+import run.bemin.api.rider.dto.RiderLocationRequestDto;
+import run.bemin.api.rider.service.RiderDispatchService;
+import run.bemin.api.rider.service.RiderLocationService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/riders")
+public class RiderController {
+
+  private final RiderDispatchService riderDispatchService;
+  private final RiderLocationService riderLocationService;
+
+  /**
+   * 배차 대기 등록
+   */
+  @PostMapping("/available")
+  public ResponseEntity<Void> registerAvailable(@RequestBody @Valid RiderAvailabilityRequestDto requestDto) {
+    riderDispatchService.registerAvailable(requestDto);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 배차 대기 해제
+   */
+  @DeleteMapping("/{riderTel}/available")
+  public ResponseEntity<Void> unregisterAvailable(@PathVariable String riderTel) {
+    riderDispatchService.unregisterAvailable(riderTel);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 배달기사 위치 수신
+   */
+  @PostMapping("/{riderTel}/location")
+  public ResponseEntity<Void> ingestLocation(@PathVariable String riderTel,
+                                             @RequestBody @Valid RiderLocationRequestDto requestDto) {
+    riderLocationService.ingest(riderTel, requestDto);
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,14 @@
+package run.bemin.api.rider.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record RiderAvailabilityRequestDto(
+    @NotBlank
+    String riderTel, // 배달기사 전화번호
+
+    @NotBlank
+    @Pattern(regexp = "^\\d{10}$")
+    String bcode // 대기 지역 법정동 코드
+) {
+}
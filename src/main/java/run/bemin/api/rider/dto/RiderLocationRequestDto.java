@@ -0,0 +1,20 @@
+package run.bemin.api.rider.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public record RiderLocationRequestDto(
+    @NotNull
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    Double latitude,
+
+    @NotNull
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    Double longitude,
+
+    Long recordedAt // 단말 측정 시각 (epoch millis), 없으면 수신 시각
+) {
+}
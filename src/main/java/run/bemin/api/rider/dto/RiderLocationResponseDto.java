@@ -0,0 +1,10 @@
+package run.bemin.api.rider.dto;
+
+import java.util.List;
+
+public record RiderLocationResponseDto(
+    String riderTel,
+    RiderPosition latest,
+    List<RiderPosition> recent
+) {
+}
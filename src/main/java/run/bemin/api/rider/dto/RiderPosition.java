@@ -0,0 +1,8 @@
+package run.bemin.api.rider.dto;
+
+public record RiderPosition(
+    double latitude,
+    double longitude,
+    long recordedAt // epoch millis
+) {
+}
@@ -0,0 +1,42 @@
+package run.bemin.api.rider.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 다운샘플링된 배달기사 이동 경로
+ * RiderLocationBatchWriter 가 JDBC 배치로만 적재한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rider_location_track", indexes = {
+    @Index(name = "idx_rider_location_track_tel_recorded_at", columnList = "rider_tel, recorded_at")
+})
+public class RiderLocationTrack {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "rider_tel", nullable = false)
+  private String riderTel;
+
+  @Column(name = "latitude", nullable = false)
+  private double latitude;
+
+  @Column(name = "longitude", nullable = false)
+  private double longitude;
+
+  @Column(name = "recorded_at", nullable = false)
+  private LocalDateTime recordedAt;
+}
@@ -0,0 +1,226 @@
+package run.bemin.api.rider.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/*
+ * 배차 가능한 배달기사 인메모리 풀
+ * - 대기열은 법정동 코드(bcode, 10자리)별로 하나이며, 시군구 코드(bcode 앞 5자리) 아래에 묶어 둔다.
+ *   같은 법정동에 기사가 없으면 같은 시군구의 다른 법정동 대기열에서 찾는다.
+ * - 배정은 기사별 AtomicReference CAS 로 처리하여 한 기사가 두 주문에 배정되지 않는다.
+ * - 대기열 항목은 기사의 세대(generation)를 함께 들고 있어, 오래된 항목은 꺼낼 때 버린다.
+ *   재등록/해제 시에는 이전 항목을 대기열에서 지워 기사당 대기 항목은 최대 하나다.
+ */
+@Component
+public class RiderDispatchEngine {
+
+  private static final int SIGUNGU_CODE_LENGTH = 5;
+
+  private final Map<String, RiderSlot> riders = new ConcurrentHashMap<>();
+  // 시군구 코드 -> 법정동 코드 -> 대기열
+  private final Map<String, Map<String, Queue<PoolEntry>>> pool = new ConcurrentHashMap<>();
+  private final Map<UUID, RiderSlot> assignments = new ConcurrentHashMap<>();
+  // 배정된 주문 중 배달이 시작된(OUT_FOR_DELIVERY) 주문
+  private final Set<UUID> delivering = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 배달기사를 해당 지역의 배차 대기 상태로 등록
+   */
+  public void register(String riderTel, String bcode) {
+    if (riderTel == null || bcode == null || bcode.isBlank()) {
+      throw new IllegalArgumentException("riderTel and bcode must not be null!!");
+    }
+    RiderSlot slot = riders.computeIfAbsent(riderTel, RiderSlot::new);
+    synchronized (slot) {
+      slot.bcode = bcode;
+      slot.online = true;
+      if (slot.assignedOrder.get() == null) {
+        enqueue(slot);
+      }
+    }
+  }
+
+  /**
+   * 배차 대기 해제 (진행 중인 배달은 유지)
+   */
+  public void unregister(String riderTel) {
+    RiderSlot slot = riders.get(riderTel);
+    if (slot == null) {
+      return;
+    }
+    synchronized (slot) {
+      slot.online = false;
+      slot.generation++;
+      dequeue(slot);
+    }
+  }
+
+  /**
+   * 주문 지역의 대기 기사 중 한 명을 원자적으로 배정
+   * 같은 법정동에 기사가 없으면 같은 시군구에서 찾는다.
+   */
+  public Optional<String> assign(UUID orderId, String bcode) {
+    if (orderId == null || bcode == null) {
+      return Optional.empty();
+    }
+    RiderSlot assigned = assignedSlot(orderId);
+    if (assigned != null) {
+      return Optional.of(assigned.riderTel);
+    }
+
+    Map<String, Queue<PoolEntry>> sigungu = pool.get(sigunguCode(bcode));
+    if (sigungu == null) {
+      return Optional.empty();
+    }
+    RiderSlot slot = pollAndAssign(sigungu.get(bcode), orderId);
+    if (slot == null) {
+      for (Map.Entry<String, Queue<PoolEntry>> nearby : sigungu.entrySet()) {
+        if (!nearby.getKey().equals(bcode) && (slot = pollAndAssign(nearby.getValue(), orderId)) != null) {
+          break;
+        }
+      }
+    }
+    if (slot == null) {
+      return Optional.empty();
+    }
+    assignments.put(orderId, slot);
+    return Optional.of(slot.riderTel);
+  }
+
+  /**
+   * 주문에 배정된 기사를 반납하여 다시 배차 대기 상태로 전환
+   */
+  public void release(UUID orderId) {
+    delivering.remove(orderId);
+    RiderSlot slot = assignments.remove(orderId);
+    if (slot == null) {
+      return;
+    }
+    synchronized (slot) {
+      if (!slot.assignedOrder.compareAndSet(orderId, null)) {
+        return;
+      }
+      if (slot.online) {
+        enqueue(slot);
+      }
+    }
+  }
+
+  public Optional<String> findAssignedRider(UUID orderId) {
+    RiderSlot slot = assignedSlot(orderId);
+    return slot == null ? Optional.empty() : Optional.of(slot.riderTel);
+  }
+
+  /**
+   * 배정된 주문의 배달 시작 (배정 정보가 없으면 무시)
+   */
+  public void startDelivery(UUID orderId) {
+    if (assignedSlot(orderId) != null) {
+      delivering.add(orderId);
+    }
+  }
+
+  /**
+   * 배달이 시작된 주문의 기사 (배정 전이거나 조리 중이면 빈 값)
+   */
+  public Optional<String> findDeliveringRider(UUID orderId) {
+    return delivering.contains(orderId) ? findAssignedRider(orderId) : Optional.empty();
+  }
+
+  public boolean isAssigned(String riderTel) {
+    RiderSlot slot = riders.get(riderTel);
+    return slot != null && slot.assignedOrder.get() != null;
+  }
+
+  public int availableRiderCount() {
+    return (int) riders.values().stream()
+        .filter(slot -> slot.online && slot.assignedOrder.get() == null)
+        .count();
+  }
+
+  // 대기열에 남아 있는 항목 수 (오래된 항목 포함)
+  int queuedEntryCount() {
+    return pool.values().stream()
+        .flatMap(sigungu -> sigungu.values().stream())
+        .mapToInt(Queue::size)
+        .sum();
+  }
+
+  private RiderSlot assignedSlot(UUID orderId) {
+    RiderSlot slot = assignments.get(orderId);
+    return slot != null && orderId.equals(slot.assignedOrder.get()) ? slot : null;
+  }
+
+  private RiderSlot pollAndAssign(Queue<PoolEntry> queue, UUID orderId) {
+    if (queue == null) {
+      return null;
+    }
+    PoolEntry entry;
+    while ((entry = queue.poll()) != null) {
+      RiderSlot slot = entry.slot;
+      // 세대가 바뀐 항목(재등록/해제/지역 변경)은 버린다.
+      if (!slot.online || slot.generation != entry.generation) {
+        continue;
+      }
+      if (slot.assignedOrder.compareAndSet(null, orderId)) {
+        // CAS 직전에 배차 대기가 해제된 경우 배정을 되돌린다.
+        if (!slot.online) {
+          slot.assignedOrder.compareAndSet(orderId, null);
+          continue;
+        }
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  // slot 잠금을 잡은 상태에서 호출
+  private void enqueue(RiderSlot slot) {
+    dequeue(slot);
+    long generation = ++slot.generation;
+    PoolEntry entry = new PoolEntry(slot, generation);
+    Queue<PoolEntry> queue = pool.computeIfAbsent(sigunguCode(slot.bcode), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(slot.bcode, k -> new ConcurrentLinkedQueue<>());
+    queue.offer(entry);
+    slot.queue = queue;
+    slot.entry = entry;
+  }
+
+  // slot 잠금을 잡은 상태에서 호출 : 직전 항목이 아직 대기열에 있으면 지운다. (이미 꺼내졌으면 아무 일도 없음)
+  private void dequeue(RiderSlot slot) {
+    if (slot.entry != null) {
+      slot.queue.remove(slot.entry);
+      slot.queue = null;
+      slot.entry = null;
+    }
+  }
+
+  private static String sigunguCode(String bcode) {
+    return bcode.length() > SIGUNGU_CODE_LENGTH ? bcode.substring(0, SIGUNGU_CODE_LENGTH) : bcode;
+  }
+
+  private static final class RiderSlot {
+    private final String riderTel;
+    private final AtomicReference<UUID> assignedOrder = new AtomicReference<>();
+    private volatile String bcode;
+    private volatile boolean online;
+    private volatile long generation;
+    // 마지막으로 넣은 대기 항목 (slot 잠금 안에서만 접근)
+    private Queue<PoolEntry> queue;
+    private PoolEntry entry;
+
+    private RiderSlot(String riderTel) {
+      this.riderTel = riderTel;
+    }
+  }
+
+  private record PoolEntry(RiderSlot slot, long generation) {
+  }
+}
@@ -0,0 +1,78 @@
+package run.bemin.api.rider.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import run.bemin.api.general.transaction.TransactionCallbacks;
+import run.bemin.api.order.entity.Order;
+import run.bemin.api.order.entity.OrderAddress;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+import run.bemin.api.rider.dto.RiderAvailabilityRequestDto;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RiderDispatchService {
+
+  private final RiderDispatchEngine riderDispatchEngine;
+  private final RiderLocationTracker riderLocationTracker;
+
+  public void registerAvailable(RiderAvailabilityRequestDto requestDto) {
+    riderDispatchEngine.register(requestDto.riderTel(), requestDto.bcode());
+  }
+
+  /**
+   * 퇴근 : 진행 중인 배달이 없으면 위치 기록도 비운다. (배달 중이면 완료 시 비움)
+   */
+  public void unregisterAvailable(String riderTel) {
+    riderDispatchEngine.unregister(riderTel);
+    if (!riderDispatchEngine.isAssigned(riderTel)) {
+      riderLocationTracker.evict(riderTel);
+    }
+  }
+
+  /**
+   * 주문 상태 전환에 따른 배차/반납 처리
+   * - COOKING : 배달 주문이면 주문 지역의 기사를 배정하고 riderTel 기록 (롤백 시 반납)
+   * - OUT_FOR_DELIVERY : 커밋 이후 배달 시작 표시 (이때부터 고객에게 기사 위치를 보여준다)
+   * - 배달완료/취소 : 커밋 이후 기사 반납, 기사 위치 기록 비움
+   */
+  public void onOrderStatusChanged(Order order) {
+    OrderStatus status = order.getOrderStatus();
+
+    if (status == OrderStatus.COOKING) {
+      dispatch(order);
+      return;
+    }
+
+    if (status == OrderStatus.OUT_FOR_DELIVERY) {
+      TransactionCallbacks.afterCommit(() -> riderDispatchEngine.startDelivery(order.getOrderId()));
+      return;
+    }
+
+    if (status == OrderStatus.DELIVERY_COMPLETED || status == OrderStatus.CANCELLED) {
+      String riderTel = order.getRiderTel();
+      TransactionCallbacks.afterCommit(() -> {
+        riderDispatchEngine.release(order.getOrderId());
+        if (riderTel != null) {
+          riderLocationTracker.evict(riderTel);
+        }
+      });
+    }
+  }
+
+  private void dispatch(Order order) {
+    OrderAddress address = order.getOrderAddress();
+    if (order.getOrderType() != OrderType.DELIVERY || address == null || order.getRiderTel() != null) {
+      return;
+    }
+
+    riderDispatchEngine.assign(order.getOrderId(), address.getBcode())
+        .ifPresentOrElse(riderTel -> {
+              order.changeRiderTel(riderTel);
+              TransactionCallbacks.afterRollback(() -> riderDispatchEngine.release(order.getOrderId()));
+            },
+            () -> log.warn("No available rider. orderId = {}, bcode = {}", order.getOrderId(), address.getBcode()));
+  }
+}
@@ -0,0 +1,73 @@
+package run.bemin.api.rider.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.rider.dto.RiderPosition;
+
+/*
+ * 다운샘플링된 위치를 모아서 JDBC 배치로 저장
+ * 큐가 가득 차면 수신 스레드를 막지 않고 해당 샘플을 버린다.
+ */
+@Slf4j
+@Component
+public class RiderLocationBatchWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO rider_location_track (rider_tel, latitude, longitude, recorded_at) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final BlockingQueue<Sample> queue;
+  private final LongAdder dropped = new LongAdder();
+
+  @Value("${bemin.rider.location.batch-size:500}")
+  private int batchSize;
+
+  public RiderLocationBatchWriter(JdbcTemplate jdbcTemplate,
+                                  @Value("${bemin.rider.location.queue-capacity:100000}") int queueCapacity) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  public void enqueue(String riderTel, RiderPosition position) {
+    if (!queue.offer(new Sample(riderTel, position))) {
+      dropped.increment();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.rider.location.flush-interval-ms:1000}")
+  public void flush() {
+    List<Sample> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      try {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, sample) -> {
+          ps.setString(1, sample.riderTel());
+          ps.setDouble(2, sample.position().latitude());
+          ps.setDouble(3, sample.position().longitude());
+          ps.setTimestamp(4, new Timestamp(sample.position().recordedAt()));
+        });
+      } catch (DataAccessException e) {
+        // 경로 데이터는 유실을 허용한다.
+        log.error("Failed to persist rider locations. size = {}", batch.size(), e);
+      }
+      batch.clear();
+    }
+
+    long droppedCount = dropped.sumThenReset();
+    if (droppedCount > 0) {
+      log.warn("Rider location queue full. dropped samples = {}", droppedCount);
+    }
+  }
+
+  private record Sample(String riderTel, RiderPosition position) {
+  }
+}
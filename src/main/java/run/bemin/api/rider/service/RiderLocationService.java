@@ -0,0 +1,45 @@
+package run.bemin.api.rider.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.repo.OrderRepository;
+import run.bemin.api.rider.dto.RiderLocationRequestDto;
+import run.bemin.api.rider.dto.RiderLocationResponseDto;
+import run.bemin.api.rider.dto.RiderPosition;
+
+@Service
+@RequiredArgsConstructor
+public class RiderLocationService {
+
+  private static final int RECENT_POSITION_LIMIT = 20;
+
+  private final RiderLocationTracker riderLocationTracker;
+  private final RiderDispatchEngine riderDispatchEngine;
+  private final OrderRepository orderRepository;
+
+  public void ingest(String riderTel, RiderLocationRequestDto requestDto) {
+    long recordedAt = requestDto.recordedAt() != null ? requestDto.recordedAt() : System.currentTimeMillis();
+    riderLocationTracker.ingest(riderTel,
+        new RiderPosition(requestDto.latitude(), requestDto.longitude(), recordedAt));
+  }
+
+  /**
+   * 배달 중(OUT_FOR_DELIVERY)인 주문의 기사 위치 조회 (조리 중 배정된 기사의 위치는 보여주지 않음)
+   * 배차 엔진에 배달 시작 정보가 있으면 DB 조회 없이 메모리에서만 응답한다.
+   */
+  @Transactional(readOnly = true)
+  public Optional<RiderLocationResponseDto> getOrderRiderLocation(UUID orderId) {
+    Optional<String> riderTel = riderDispatchEngine.findDeliveringRider(orderId)
+        .or(() -> orderRepository.findRiderTelByOrderIdAndOrderStatus(orderId, OrderStatus.OUT_FOR_DELIVERY));
+
+    return riderTel.flatMap(tel -> riderLocationTracker.findLatest(tel)
+        .map(latest -> new RiderLocationResponseDto(
+            tel,
+            latest,
+            riderLocationTracker.findRecent(tel, RECENT_POSITION_LIMIT))));
+  }
+}
@@ -0,0 +1,155 @@
+package run.bemin.api.rider.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.rider.dto.RiderPosition;
+
+/*
+ * 배달기사 실시간 위치
+ * - 기사별 최신 위치 + 고정 크기 링버퍼(최근 위치)를 메모리에 유지
+ * - sample-interval 마다 한 건만 RiderLocationBatchWriter 로 넘겨 DB 에 저장 (서버 수신 시각 기준)
+ * - 단말 측정 시각은 max-age 보다 오래되면 버리고, max-clock-skew 보다 미래면 수신 시각으로 바꾼다.
+ * - 배달 완료/퇴근 시 비우고, idle-ttl 동안 위치가 오지 않은 기사도 주기적으로 비운다.
+ */
+@Component
+public class RiderLocationTracker {
+
+  private final RiderLocationBatchWriter batchWriter;
+  private final Map<String, RiderTrack> tracks = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+  private final int bufferSize;
+  private final long sampleIntervalMillis;
+  private final long idleTtlMillis;
+  private final long maxAgeMillis;
+  private final long maxClockSkewMillis;
+
+  @Autowired
+  public RiderLocationTracker(RiderLocationBatchWriter batchWriter,
+                              @Value("${bemin.rider.location.buffer-size:64}") int bufferSize,
+                              @Value("${bemin.rider.location.sample-interval-ms:10000}") long sampleIntervalMillis,
+                              @Value("${bemin.rider.location.idle-ttl-ms:600000}") long idleTtlMillis,
+                              @Value("${bemin.rider.location.max-age-ms:300000}") long maxAgeMillis,
+                              @Value("${bemin.rider.location.max-clock-skew-ms:5000}") long maxClockSkewMillis) {
+    this(batchWriter, bufferSize, sampleIntervalMillis, idleTtlMillis, maxAgeMillis, maxClockSkewMillis,
+        System::currentTimeMillis);
+  }
+
+  RiderLocationTracker(RiderLocationBatchWriter batchWriter, int bufferSize, long sampleIntervalMillis,
+                       long idleTtlMillis, long maxAgeMillis, long maxClockSkewMillis, LongSupplier clock) {
+    this.batchWriter = batchWriter;
+    this.bufferSize = bufferSize;
+    this.sampleIntervalMillis = sampleIntervalMillis;
+    this.idleTtlMillis = idleTtlMillis;
+    this.maxAgeMillis = Math.max(maxAgeMillis, 0);
+    this.maxClockSkewMillis = Math.max(maxClockSkewMillis, 0);
+    this.clock = clock;
+  }
+
+  /**
+   * 위치 수신 (DB 접근 없음)
+   * 최신 위치 비교는 보정한 측정 시각으로, 다운샘플링은 수신 시각으로 한다.
+   * 잘못된 단말 시각 하나로 최신 위치가 고정되거나 저장이 멈추지 않도록 하기 위함이다.
+   *
+   * @return 너무 오래된 위치라 버렸으면 false
+   */
+  public boolean ingest(String riderTel, RiderPosition position) {
+    long receivedAt = clock.getAsLong();
+    if (position.recordedAt() < receivedAt - maxAgeMillis) {
+      return false;
+    }
+    if (position.recordedAt() > receivedAt + maxClockSkewMillis) {
+      position = new RiderPosition(position.latitude(), position.longitude(), receivedAt);
+    }
+
+    RiderTrack track = tracks.computeIfAbsent(riderTel, tel -> new RiderTrack(bufferSize));
+    track.append(position);
+    track.lastSeenAt = receivedAt;
+
+    if (track.tryMarkPersisted(receivedAt, sampleIntervalMillis)) {
+      batchWriter.enqueue(riderTel, position);
+    }
+    return true;
+  }
+
+  public Optional<RiderPosition> findLatest(String riderTel) {
+    RiderTrack track = tracks.get(riderTel);
+    return track == null ? Optional.empty() : Optional.ofNullable(track.latest);
+  }
+
+  /**
+   * 최근 위치 (오래된 순)
+   */
+  public List<RiderPosition> findRecent(String riderTel, int limit) {
+    RiderTrack track = tracks.get(riderTel);
+    return track == null ? List.of() : track.recent(limit);
+  }
+
+  public void evict(String riderTel) {
+    tracks.remove(riderTel);
+  }
+
+  /**
+   * idle-ttl 동안 위치를 보내지 않은 기사의 기록 제거 (서버 수신 시각 기준)
+   * 제거와 동시에 들어온 위치는 버려질 수 있으나 다음 위치부터 다시 쌓인다.
+   */
+  @Scheduled(fixedDelayString = "${bemin.rider.location.evict-interval-ms:60000}")
+  public void evictIdle() {
+    long cutoff = clock.getAsLong() - idleTtlMillis;
+    tracks.values().removeIf(track -> track.lastSeenAt < cutoff);
+  }
+
+  private static final class RiderTrack {
+    private final AtomicReferenceArray<RiderPosition> ring;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLong lastPersistedAt = new AtomicLong(Long.MIN_VALUE);
+    private volatile RiderPosition latest;
+    private volatile long lastSeenAt;
+
+    private RiderTrack(int bufferSize) {
+      // 인덱스 계산을 비트 연산으로 하기 위해 2의 거듭제곱으로 맞춘다.
+      int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+      this.ring = new AtomicReferenceArray<>(capacity);
+      this.mask = capacity - 1;
+    }
+
+    private void append(RiderPosition position) {
+      ring.set((int) (cursor.getAndIncrement() & mask), position);
+      RiderPosition current = latest;
+      if (current == null || current.recordedAt() <= position.recordedAt()) {
+        latest = position;
+      }
+    }
+
+    private boolean tryMarkPersisted(long receivedAt, long intervalMillis) {
+      long last = lastPersistedAt.get();
+      if (last != Long.MIN_VALUE && receivedAt - last < intervalMillis) {
+        return false;
+      }
+      return lastPersistedAt.compareAndSet(last, receivedAt);
+    }
+
+    private List<RiderPosition> recent(int limit) {
+      long end = cursor.get();
+      int size = (int) Math.min(Math.min(limit, mask + 1L), end);
+      List<RiderPosition> positions = new ArrayList<>(size);
+      for (long i = end - size; i < end; i++) {
+        RiderPosition position = ring.get((int) (i & mask));
+        if (position != null) {
+          positions.add(position);
+        }
+      }
+      return positions;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package run.bemin.api.search.controller;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.search.dto.SearchDocumentType;
+import run.bemin.api.search.dto.SearchResultDto;
+import run.bemin.api.search.dto.SuggestionDto;
+import run.bemin.api.search.dto.SuggestionType;
+import run.bemin.api.search.service.SearchService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search")
+@RestController
+public class SearchController {
+
+  private final SearchService searchService;
+
+  /**
+   * 가게 이름, 상품명, 상품 설명 검색 (type 을 주지 않으면 가게/상품 모두)
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<Page<SearchResultDto>>> search(
+      @RequestParam(value = "query") String query,
+      @RequestParam(value = "type", required = false) SearchDocumentType type,
+      @RequestParam(value = "page", defaultValue = "0") Integer page,
+      @RequestParam(value = "size", defaultValue = "20") Integer size
+  ) {
+    Page<SearchResultDto> results = searchService.search(query, type, page, size);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", results));
+  }
+
+  /**
+   * 검색어 자동완성 (입력 중인 글자로 시작하는 가게/상품/카테고리 이름, 인기순)
+   */
+  @GetMapping("/autocomplete")
+  public ResponseEntity<ApiResponse<List<SuggestionDto>>> autocomplete(
+      @RequestParam(value = "prefix") String prefix,
+      @RequestParam(value = "type", required = false) SuggestionType type,
+      @RequestParam(value = "size", defaultValue = "10") Integer size
+  ) {
+    List<SuggestionDto> suggestions = searchService.suggest(prefix, type, size);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", suggestions));
+  }
+}
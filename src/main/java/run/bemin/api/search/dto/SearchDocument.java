@@ -0,0 +1,19 @@
+package run.bemin.api.search.dto;
+
+import java.util.UUID;
+
+/**
+ * 검색 색인 대상 문서
+ *
+ * @param storeId 가게 문서면 자기 자신, 상품 문서면 소속 가게
+ * @param title   가게 이름 / 상품명
+ * @param body    상품 설명 (가게는 null)
+ */
+public record SearchDocument(
+    SearchDocumentType type,
+    UUID id,
+    UUID storeId,
+    String title,
+    String body
+) {
+}
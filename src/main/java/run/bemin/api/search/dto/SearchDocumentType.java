@@ -0,0 +1,6 @@
+package run.bemin.api.search.dto;
+
+public enum SearchDocumentType {
+  STORE,
+  PRODUCT
+}
@@ -0,0 +1,11 @@
+package run.bemin.api.search.dto;
+
+import java.util.List;
+
+/**
+ * 검색 결과 상위 문서와 전체 일치 문서 수
+ */
+public record SearchHits(List<SearchResultDto> results, int total) {
+
+  public static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+}
@@ -0,0 +1,12 @@
+package run.bemin.api.search.dto;
+
+import java.util.UUID;
+
+public record SearchResultDto(
+    SearchDocumentType type,
+    UUID id,
+    UUID storeId,
+    String title,
+    double score
+) {
+}
@@ -0,0 +1,7 @@
+package run.bemin.api.search.dto;
+
+/**
+ * 자동완성 결과
+ */
+public record SuggestionDto(SuggestionType type, String text, long weight) {
+}
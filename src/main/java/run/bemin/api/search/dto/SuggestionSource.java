@@ -0,0 +1,11 @@
+package run.bemin.api.search.dto;
+
+import java.util.UUID;
+
+/**
+ * 자동완성 원본 한 건 (가게/상품/카테고리 하나)
+ *
+ * @param weight 인기도 (같은 이름의 원본끼리는 합산된다)
+ */
+public record SuggestionSource(SuggestionType type, UUID id, String text, long weight) {
+}
@@ -0,0 +1,10 @@
+package run.bemin.api.search.dto;
+
+/**
+ * 자동완성 후보 종류
+ */
+public enum SuggestionType {
+  STORE,
+  PRODUCT,
+  CATEGORY
+}
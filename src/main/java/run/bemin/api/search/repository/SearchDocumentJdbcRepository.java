@@ -0,0 +1,86 @@
+package run.bemin.api.search.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.search.dto.SearchDocument;
+import run.bemin.api.search.dto.SearchDocumentType;
+
+/*
+ * 검색 색인 원본 조회
+ * 활성 가게, 활성 가게의 노출 중인 활성 상품만 색인한다.
+ */
+@Repository
+public class SearchDocumentJdbcRepository {
+
+  private static final String STORE_SQL = """
+      SELECT s.store_id, s.name
+      FROM p_store s
+      WHERE s.is_deleted = false
+      """;
+
+  private static final String PRODUCT_SQL = """
+      SELECT p.product_id, p.store_id, p.title, p.comment
+      FROM product p
+      JOIN p_store s ON s.store_id = p.store_id AND s.is_deleted = false
+      WHERE p.is_deleted = false AND p.is_hidden = false
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public SearchDocumentJdbcRepository(DataSource dataSource,
+                                      @Value("${bemin.search.load-fetch-size:5000}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    // PostgreSQL 은 트랜잭션 안에서 fetch size 를 주어야 결과를 나눠 읽는다.
+    this.jdbcTemplate.setFetchSize(fetchSize);
+  }
+
+  /**
+   * 전체 문서를 한 건씩 흘려보낸다. (결과 전체를 메모리에 올리지 않음)
+   */
+  @Transactional(readOnly = true)
+  public void streamAll(Consumer<SearchDocument> consumer) {
+    jdbcTemplate.query(STORE_SQL, rs -> {
+      UUID storeId = rs.getObject("store_id", UUID.class);
+      consumer.accept(new SearchDocument(SearchDocumentType.STORE, storeId, storeId, rs.getString("name"), null));
+    });
+    jdbcTemplate.query(PRODUCT_SQL, rs -> {
+      consumer.accept(new SearchDocument(SearchDocumentType.PRODUCT,
+          rs.getObject("product_id", UUID.class),
+          rs.getObject("store_id", UUID.class),
+          rs.getString("title"),
+          rs.getString("comment")));
+    });
+  }
+
+  public Optional<SearchDocument> findStore(UUID storeId) {
+    List<SearchDocument> documents = jdbcTemplate.query(STORE_SQL + " AND s.store_id = ?",
+        (rs, rowNum) -> new SearchDocument(SearchDocumentType.STORE, storeId, storeId, rs.getString("name"), null),
+        storeId);
+    return documents.stream().findFirst();
+  }
+
+  public Optional<SearchDocument> findProduct(UUID productId) {
+    List<SearchDocument> documents = jdbcTemplate.query(PRODUCT_SQL + " AND p.product_id = ?",
+        (rs, rowNum) -> new SearchDocument(SearchDocumentType.PRODUCT, productId,
+            rs.getObject("store_id", UUID.class), rs.getString("title"), rs.getString("comment")),
+        productId);
+    return documents.stream().findFirst();
+  }
+
+  /**
+   * 상품 여러 건을 한 번에 조회 (색인 대상이 아닌 상품은 빠진다)
+   */
+  public List<SearchDocument> findProducts(List<UUID> productIds) {
+    return jdbcTemplate.query(PRODUCT_SQL + " AND p.product_id = ANY(?)",
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", productIds.toArray())),
+        (rs, rowNum) -> new SearchDocument(SearchDocumentType.PRODUCT, rs.getObject("product_id", UUID.class),
+            rs.getObject("store_id", UUID.class), rs.getString("title"), rs.getString("comment")));
+  }
+}
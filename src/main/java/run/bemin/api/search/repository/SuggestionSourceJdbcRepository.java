@@ -0,0 +1,111 @@
+package run.bemin.api.search.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.search.dto.SuggestionSource;
+import run.bemin.api.search.dto.SuggestionType;
+
+/*
+ * 자동완성 원본 조회
+ * 활성 가게, 활성 가게의 노출 중인 활성 상품, 활성 카테고리만 대상이다.
+ * 인기도 : 가게는 리뷰 수, 카테고리는 속한 활성 가게 수, 상품은 같은 이름을 파는 상품 수 (한 건당 1)
+ */
+@Repository
+public class SuggestionSourceJdbcRepository {
+
+  private static final String STORE_SQL = """
+      SELECT s.store_id, s.name, s.rating_count
+      FROM p_store s
+      WHERE s.is_deleted = false
+      """;
+
+  private static final String PRODUCT_SQL = """
+      SELECT p.product_id, p.title
+      FROM product p
+      JOIN p_store s ON s.store_id = p.store_id AND s.is_deleted = false
+      WHERE p.is_deleted = false AND p.is_hidden = false
+      """;
+
+  private static final String CATEGORY_SQL = """
+      SELECT c.category_id, c.name, count(s.store_id) AS store_count
+      FROM p_category c
+      LEFT JOIN p_store_category sc ON sc.category_id = c.category_id AND sc.is_deleted = false
+      LEFT JOIN p_store s ON s.store_id = sc.store_id AND s.is_deleted = false
+      WHERE c.is_deleted = false
+      """;
+
+  private static final String CATEGORY_GROUP_BY = " GROUP BY c.category_id, c.name";
+
+  private static final RowMapper<SuggestionSource> STORE_MAPPER = (rs, rowNum) -> new SuggestionSource(
+      SuggestionType.STORE, rs.getObject("store_id", UUID.class), rs.getString("name"),
+      1 + rs.getLong("rating_count"));
+
+  private static final RowMapper<SuggestionSource> PRODUCT_MAPPER = (rs, rowNum) -> new SuggestionSource(
+      SuggestionType.PRODUCT, rs.getObject("product_id", UUID.class), rs.getString("title"), 1);
+
+  private static final RowMapper<SuggestionSource> CATEGORY_MAPPER = (rs, rowNum) -> new SuggestionSource(
+      SuggestionType.CATEGORY, rs.getObject("category_id", UUID.class), rs.getString("name"),
+      1 + rs.getLong("store_count"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public SuggestionSourceJdbcRepository(DataSource dataSource,
+                                        @Value("${bemin.search.load-fetch-size:5000}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    // PostgreSQL 은 트랜잭션 안에서 fetch size 를 주어야 결과를 나눠 읽는다.
+    this.jdbcTemplate.setFetchSize(fetchSize);
+  }
+
+  /**
+   * 전체 원본을 한 건씩 흘려보낸다. (결과 전체를 메모리에 올리지 않음)
+   */
+  @Transactional(readOnly = true)
+  public void streamAll(Consumer<SuggestionSource> consumer) {
+    jdbcTemplate.query(STORE_SQL, rs -> consumer.accept(STORE_MAPPER.mapRow(rs, 0)));
+    jdbcTemplate.query(PRODUCT_SQL, rs -> consumer.accept(PRODUCT_MAPPER.mapRow(rs, 0)));
+    jdbcTemplate.query(CATEGORY_SQL + CATEGORY_GROUP_BY, rs -> consumer.accept(CATEGORY_MAPPER.mapRow(rs, 0)));
+  }
+
+  public Optional<SuggestionSource> findStore(UUID storeId) {
+    return jdbcTemplate.query(STORE_SQL + " AND s.store_id = ?", STORE_MAPPER, storeId).stream().findFirst();
+  }
+
+  public Optional<SuggestionSource> findProduct(UUID productId) {
+    return jdbcTemplate.query(PRODUCT_SQL + " AND p.product_id = ?", PRODUCT_MAPPER, productId).stream().findFirst();
+  }
+
+  public Optional<SuggestionSource> findCategory(UUID categoryId) {
+    return jdbcTemplate.query(CATEGORY_SQL + " AND c.category_id = ?" + CATEGORY_GROUP_BY, CATEGORY_MAPPER, categoryId)
+        .stream().findFirst();
+  }
+
+  /**
+   * 상품 여러 건을 한 번에 조회 (자동완성 대상이 아닌 상품은 빠진다)
+   */
+  public List<SuggestionSource> findProducts(List<UUID> productIds) {
+    return jdbcTemplate.query(PRODUCT_SQL + " AND p.product_id = ANY(?)",
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", productIds.toArray())), PRODUCT_MAPPER);
+  }
+
+  /**
+   * 가게의 노출 중인 활성 상품 (가게가 삭제되었으면 없음)
+   */
+  public List<SuggestionSource> findProductsByStoreId(UUID storeId) {
+    return jdbcTemplate.query(PRODUCT_SQL + " AND p.store_id = ?", PRODUCT_MAPPER, storeId);
+  }
+
+  /**
+   * 가게의 모든 상품 ID (상태 무관)
+   */
+  public List<UUID> findProductIdsByStoreId(UUID storeId) {
+    return jdbcTemplate.queryForList("SELECT product_id FROM product WHERE store_id = ?", UUID.class, storeId);
+  }
+}
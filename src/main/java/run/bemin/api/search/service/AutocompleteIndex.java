@@ -0,0 +1,308 @@
+package run.bemin.api.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+import run.bemin.api.search.dto.SuggestionDto;
+import run.bemin.api.search.dto.SuggestionSource;
+import run.bemin.api.search.dto.SuggestionType;
+import run.bemin.api.search.service.PrefixIndex.Completion;
+
+/*
+ * 가게/상품/카테고리 이름 자동완성 색인
+ * - 종류별로 (본 색인, 변경분 색인) 두 벌의 불변 PrefixIndex 를 두고 volatile 참조 하나로 교체한다.
+ *   조회는 락 없이 본 색인에서 변경분에 있는 키를 건너뛴 결과와 변경분 결과를 합친다.
+ * - 같은 이름(키)의 원본은 한 항목으로 합치고 인기도를 더한다. (여러 가게가 파는 "후라이드치킨" 은 하나)
+ * - 증분은 변경분만 다시 만들고(변경분 크기에 비례), 변경분이 커지면 본 색인에 병합(compact)한다.
+ * - 전체 재구축은 새 상태를 따로 만든 뒤 교체하며, 그동안 들어온 증분은 교체 직후 다시 반영한다.
+ */
+@Component
+public class AutocompleteIndex {
+
+  private static final SuggestionType[] TYPES = SuggestionType.values();
+
+  private final Object writeLock = new Object();
+  private volatile View view = View.empty();
+  private State state = new State();
+  private List<Consumer<State>> pending;
+
+  public void upsert(SuggestionSource source) {
+    apply(target -> target.upsert(source));
+  }
+
+  public void remove(UUID id) {
+    apply(target -> target.remove(id));
+  }
+
+  /**
+   * @param type null 이면 전체 종류
+   */
+  public List<SuggestionDto> suggest(String input, SuggestionType type, int limit) {
+    List<String> prefixes = SuggestionKeys.prefixes(input);
+    if (prefixes.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    View current = view;
+    List<SuggestionDto> suggestions = new ArrayList<>();
+    for (SuggestionType candidate : TYPES) {
+      if (type != null && candidate != type) {
+        continue;
+      }
+      PrefixIndex main = current.main[candidate.ordinal()];
+      PrefixIndex delta = current.delta[candidate.ordinal()];
+      List<Completion> found = new ArrayList<>();
+      for (String prefix : prefixes) {
+        main.top(prefix, limit, delta::contains, found);
+        delta.top(prefix, limit, null, found);
+      }
+      Set<String> seen = new HashSet<>();
+      for (Completion completion : found) {
+        if (seen.add(completion.key())) {
+          suggestions.add(new SuggestionDto(candidate, completion.text(), completion.weight()));
+        }
+      }
+    }
+
+    suggestions.sort(Comparator.comparingLong(SuggestionDto::weight).reversed()
+        .thenComparing(SuggestionDto::text));
+    return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+  }
+
+  /**
+   * 색인된 원본 수
+   */
+  public int size() {
+    synchronized (writeLock) {
+      return state.sources.size();
+    }
+  }
+
+  /**
+   * 종류별 변경분 중 가장 큰 것의 항목 수
+   */
+  public int deltaSize() {
+    View current = view;
+    int max = 0;
+    for (PrefixIndex delta : current.delta) {
+      max = Math.max(max, delta.size());
+    }
+    return max;
+  }
+
+  /**
+   * 새 상태를 만들어 교체 (호출한 스레드에서 적재, 그동안 조회/증분은 기존 상태에서 계속된다.)
+   *
+   * @param loader 전체 원본을 consumer 로 흘려보내는 적재 함수
+   */
+  public void rebuild(Consumer<Consumer<SuggestionSource>> loader) {
+    synchronized (writeLock) {
+      if (pending != null) {
+        throw new IllegalStateException("Autocomplete index rebuild already running!!");
+      }
+      pending = new ArrayList<>();
+    }
+
+    State rebuilt = new State();
+    try {
+      Map<String, Completion>[] entries = newEntryMaps();
+      loader.accept(source -> rebuilt.load(source, entries));
+      rebuilt.freeze(entries);
+    } catch (RuntimeException e) {
+      synchronized (writeLock) {
+        pending = null;
+      }
+      throw e;
+    }
+
+    synchronized (writeLock) {
+      // 적재 도중의 변경은 적재 결과보다 나중 상태이므로 다시 반영한다.
+      pending.forEach(change -> change.accept(rebuilt));
+      pending = null;
+      state = rebuilt;
+      view = rebuilt.view();
+    }
+  }
+
+  /**
+   * 변경분을 본 색인에 병합 (병합은 락 밖에서, 그동안 들어온 변경은 변경분에 남긴다.)
+   */
+  public void compact() {
+    State target;
+    View snapshot;
+    long sequence;
+    synchronized (writeLock) {
+      target = state;
+      snapshot = view;
+      sequence = target.sequence;
+    }
+
+    PrefixIndex[] merged = new PrefixIndex[TYPES.length];
+    for (int i = 0; i < TYPES.length; i++) {
+      merged[i] = snapshot.delta[i].size() == 0
+          ? snapshot.main[i]
+          : PrefixIndex.merge(snapshot.main[i], snapshot.delta[i]);
+    }
+
+    synchronized (writeLock) {
+      if (state != target) {
+        return;
+      }
+      target.compacted(merged, sequence);
+      view = target.view();
+    }
+  }
+
+  private void apply(Consumer<State> change) {
+    synchronized (writeLock) {
+      change.accept(state);
+      view = state.view();
+      if (pending != null) {
+        pending.add(change);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Completion>[] newEntryMaps() {
+    Map<String, Completion>[] entries = new Map[TYPES.length];
+    for (int i = 0; i < TYPES.length; i++) {
+      entries[i] = new HashMap<>();
+    }
+    return entries;
+  }
+
+  /*
+   * 조회용 불변 묶음
+   */
+  private record View(PrefixIndex[] main, PrefixIndex[] delta) {
+
+    private static View empty() {
+      PrefixIndex[] empty = new PrefixIndex[TYPES.length];
+      Arrays.fill(empty, PrefixIndex.EMPTY);
+      return new View(empty, empty);
+    }
+  }
+
+  /*
+   * 원본 하나가 기여한 값
+   */
+  private record Contribution(SuggestionType type, String key, String text, long weight) {
+  }
+
+  /*
+   * 변경분 항목 (sequence 는 compact 시 병합된 것과 이후 변경을 가르는 데 쓴다)
+   */
+  private record Change(Completion completion, long sequence) {
+  }
+
+  /*
+   * 쓰기 상태 (writeLock 안에서만 접근, 재구축 중에는 적재 스레드 전용)
+   */
+  private static final class State {
+    private final Map<UUID, Contribution> sources = new HashMap<>();
+    private final PrefixIndex[] main = new PrefixIndex[TYPES.length];
+    private final PrefixIndex[] deltaIndexes = new PrefixIndex[TYPES.length];
+    @SuppressWarnings("unchecked")
+    private final TreeMap<String, Change>[] deltas = new TreeMap[TYPES.length];
+    private long sequence;
+
+    private State() {
+      for (int i = 0; i < TYPES.length; i++) {
+        main[i] = PrefixIndex.EMPTY;
+        deltaIndexes[i] = PrefixIndex.EMPTY;
+        deltas[i] = new TreeMap<>();
+      }
+    }
+
+    private void load(SuggestionSource source, Map<String, Completion>[] entries) {
+      Contribution contribution = contribution(source);
+      if (contribution == null) {
+        return;
+      }
+      sources.put(source.id(), contribution);
+      entries[contribution.type().ordinal()].merge(contribution.key(),
+          new Completion(contribution.key(), contribution.text(), contribution.weight()),
+          (old, added) -> new Completion(old.key(), old.text(), old.weight() + added.weight()));
+    }
+
+    private void freeze(Map<String, Completion>[] entries) {
+      for (int i = 0; i < TYPES.length; i++) {
+        Completion[] sorted = entries[i].values().toArray(new Completion[0]);
+        Arrays.sort(sorted, Comparator.comparing(Completion::key));
+        main[i] = new PrefixIndex(sorted);
+      }
+    }
+
+    private void upsert(SuggestionSource source) {
+      Contribution contribution = contribution(source);
+      if (contribution == null) {
+        remove(source.id());
+        return;
+      }
+      Contribution old = sources.put(source.id(), contribution);
+      if (contribution.equals(old)) {
+        return;
+      }
+      if (old != null) {
+        add(old.type(), old.key(), old.text(), -old.weight());
+      }
+      add(contribution.type(), contribution.key(), contribution.text(), contribution.weight());
+    }
+
+    private void remove(UUID id) {
+      Contribution old = sources.remove(id);
+      if (old != null) {
+        add(old.type(), old.key(), old.text(), -old.weight());
+      }
+    }
+
+    /*
+     * 키 하나의 인기도를 weight 만큼 바꿔 변경분에 기록 (현재 값은 변경분 → 본 색인 순으로 찾는다)
+     */
+    private void add(SuggestionType type, String key, String text, long weight) {
+      int index = type.ordinal();
+      Change change = deltas[index].get(key);
+      Completion current = change != null ? change.completion() : main[index].get(key);
+      long total = (current != null ? current.weight() : 0) + weight;
+      String shown = weight < 0 && current != null ? current.text() : text;
+      deltas[index].put(key, new Change(new Completion(key, shown, total), ++sequence));
+      deltaIndexes[index] = null;
+    }
+
+    private void compacted(PrefixIndex[] merged, long mergedSequence) {
+      for (int i = 0; i < TYPES.length; i++) {
+        main[i] = merged[i];
+        deltas[i].values().removeIf(change -> change.sequence() <= mergedSequence);
+        deltaIndexes[i] = null;
+      }
+    }
+
+    private View view() {
+      for (int i = 0; i < TYPES.length; i++) {
+        if (deltaIndexes[i] == null) {
+          deltaIndexes[i] = new PrefixIndex(deltas[i].values().stream().map(Change::completion)
+              .toArray(Completion[]::new));
+        }
+      }
+      return new View(main.clone(), deltaIndexes.clone());
+    }
+
+    private static Contribution contribution(SuggestionSource source) {
+      String key = SuggestionKeys.key(source.text());
+      if (key == null) {
+        return null;
+      }
+      return new Contribution(source.type(), key, source.text().strip(), Math.max(source.weight(), 1));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package run.bemin.api.search.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.category.event.CategoryChangedEvent;
+import run.bemin.api.product.event.ProductChangedEvent;
+import run.bemin.api.product.event.ProductsChangedEvent;
+import run.bemin.api.search.dto.SuggestionSource;
+import run.bemin.api.search.repository.SuggestionSourceJdbcRepository;
+import run.bemin.api.store.event.StoreChangedEvent;
+
+/*
+ * AutocompleteIndex 적재/갱신
+ * - 기동 시, 매일 새벽 별도 스레드에서 전체 재구축 (리뷰 수/가게 수 같은 인기도도 이때 다시 맞춘다)
+ * - 가게/상품/카테고리 변경이 커밋되면 해당 원본만 다시 읽어 반영
+ *   (가게가 삭제되면 그 가게의 상품도 빼고, 되살아나면 다시 넣는다)
+ * - 변경분이 max-delta 를 넘으면 별도 스레드에서 본 색인에 병합
+ */
+@Slf4j
+@Component
+public class AutocompleteIndexSynchronizer {
+
+  private final SuggestionSourceJdbcRepository suggestionSourceJdbcRepository;
+  private final AutocompleteIndex autocompleteIndex;
+  private final ExecutorService maintenanceExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "autocomplete-index-maintenance");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @Value("${bemin.autocomplete.max-delta:4096}")
+  private int maxDelta;
+
+  public AutocompleteIndexSynchronizer(SuggestionSourceJdbcRepository suggestionSourceJdbcRepository,
+                                       AutocompleteIndex autocompleteIndex) {
+    this.suggestionSourceJdbcRepository = suggestionSourceJdbcRepository;
+    this.autocompleteIndex = autocompleteIndex;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    rebuildAsync();
+  }
+
+  @Scheduled(cron = "${bemin.autocomplete.rebuild-cron:0 40 4 * * *}")
+  public void rebuildDaily() {
+    rebuildAsync();
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.autocomplete.compact-check-interval-ms:5000}")
+  public void compactIfNeeded() {
+    if (autocompleteIndex.deltaSize() > maxDelta) {
+      runAsync("compact", autocompleteIndex::compact);
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    suggestionSourceJdbcRepository.findStore(event.storeId()).ifPresentOrElse(
+        store -> {
+          autocompleteIndex.upsert(store);
+          suggestionSourceJdbcRepository.findProductsByStoreId(event.storeId()).forEach(autocompleteIndex::upsert);
+        },
+        () -> {
+          autocompleteIndex.remove(event.storeId());
+          suggestionSourceJdbcRepository.findProductIdsByStoreId(event.storeId()).forEach(autocompleteIndex::remove);
+        });
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    suggestionSourceJdbcRepository.findProduct(event.productId()).ifPresentOrElse(
+        autocompleteIndex::upsert,
+        () -> autocompleteIndex.remove(event.productId()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    Set<UUID> missing = new HashSet<>(event.productIds());
+    for (SuggestionSource source : suggestionSourceJdbcRepository.findProducts(event.productIds())) {
+      autocompleteIndex.upsert(source);
+      missing.remove(source.id());
+    }
+    missing.forEach(autocompleteIndex::remove);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(CategoryChangedEvent event) {
+    suggestionSourceJdbcRepository.findCategory(event.categoryId()).ifPresentOrElse(
+        autocompleteIndex::upsert,
+        () -> autocompleteIndex.remove(event.categoryId()));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    maintenanceExecutor.shutdownNow();
+  }
+
+  private void rebuildAsync() {
+    runAsync("rebuild", () -> autocompleteIndex.rebuild(suggestionSourceJdbcRepository::streamAll));
+  }
+
+  private void runAsync(String task, Runnable work) {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    maintenanceExecutor.execute(() -> {
+      long startedAt = System.nanoTime();
+      try {
+        work.run();
+        log.info("Autocomplete index {} done. sources = {}, {}ms",
+            task, autocompleteIndex.size(), (System.nanoTime() - startedAt) / 1_000_000);
+      } catch (RuntimeException e) {
+        log.error("Autocomplete index {} failed.", task, e);
+      } finally {
+        running.set(false);
+      }
+    });
+  }
+}
@@ -0,0 +1,358 @@
+package run.bemin.api.search.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import run.bemin.api.search.dto.SearchDocument;
+import run.bemin.api.search.dto.SearchDocumentType;
+import run.bemin.api.search.dto.SearchHits;
+import run.bemin.api.search.dto.SearchResultDto;
+
+/*
+ * n-gram 역색인 한 벌 (NGramTokenizer)
+ * - 문서마다 증가하는 순번을 붙이고, 토큰별 posting 은 순번 오름차순 int 배열로 이어 붙인다.
+ *   posting 마다 토큰이 나온 필드(제목/본문)를 비트로 함께 둔다.
+ * - 수정은 이전 순번을 지우고(tombstone) 새 순번으로 다시 넣는다. 지운 posting 은 재구축 때 정리된다.
+ * - 검색은 가장 짧은 posting 부터 교집합을 구하고(큰 쪽은 galloping 탐색),
+ *   모든 토큰이 같은 필드에 있는 문서만 남긴다.
+ */
+final class InvertedIndex {
+
+  static final byte TITLE = 1;
+  static final byte BODY = 2;
+
+  private static final SearchDocumentType[] TYPES = SearchDocumentType.values();
+  private static final int GALLOP_RATIO = 8;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Integer, Postings> postings = new HashMap<>();
+  private final Map<UUID, Integer> ordinals = new HashMap<>();
+  private final BitSet deleted = new BitSet();
+
+  private UUID[] ids = new UUID[1024];
+  private UUID[] storeIds = new UUID[1024];
+  private String[] titles = new String[1024];
+  private byte[] types = new byte[1024];
+  private short[] titleTokenCounts = new short[1024];
+  private int size;
+  private int deletedCount;
+
+  void upsert(SearchDocument document) {
+    int[] titleTokens = NGramTokenizer.tokens(document.title());
+    int[] bodyTokens = NGramTokenizer.tokens(document.body());
+
+    lock.writeLock().lock();
+    try {
+      removeLocked(document.id());
+      if (titleTokens.length == 0 && bodyTokens.length == 0) {
+        return;
+      }
+
+      int ordinal = append(document, titleTokens.length);
+      // 두 배열 모두 정렬되어 있으므로 병합하면서 토큰마다 필드 비트를 합친다.
+      int t = 0;
+      int b = 0;
+      while (t < titleTokens.length || b < bodyTokens.length) {
+        int token;
+        byte fields;
+        if (b >= bodyTokens.length || (t < titleTokens.length && titleTokens[t] < bodyTokens[b])) {
+          token = titleTokens[t++];
+          fields = TITLE;
+        } else if (t >= titleTokens.length || bodyTokens[b] < titleTokens[t]) {
+          token = bodyTokens[b++];
+          fields = BODY;
+        } else {
+          token = titleTokens[t++];
+          b++;
+          fields = TITLE | BODY;
+        }
+        postings.computeIfAbsent(token, key -> new Postings()).add(ordinal, fields);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(UUID id) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 가게 문서와 그 가게의 상품 문서를 모두 제거 (가게 삭제 시, 문서 수만큼 선형 탐색)
+   */
+  void removeStore(UUID storeId) {
+    lock.writeLock().lock();
+    try {
+      for (int ordinal = 0; ordinal < size; ordinal++) {
+        if (!deleted.get(ordinal) && storeId.equals(storeIds[ordinal])) {
+          ordinals.remove(ids[ordinal]);
+          deleted.set(ordinal);
+          deletedCount++;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  int liveCount() {
+    lock.readLock().lock();
+    try {
+      return size - deletedCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  double tombstoneRatio() {
+    lock.readLock().lock();
+    try {
+      return size == 0 ? 0 : (double) deletedCount / size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @param type  null 이면 전체
+   * @param limit 점수 순 상위 몇 개까지 돌려줄지
+   */
+  SearchHits search(String query, SearchDocumentType type, int limit) {
+    int[] queryTokens = NGramTokenizer.queryTokens(query);
+    if (queryTokens.length == 0 || limit <= 0) {
+      return SearchHits.EMPTY;
+    }
+
+    lock.readLock().lock();
+    try {
+      Postings[] lists = new Postings[queryTokens.length];
+      for (int i = 0; i < queryTokens.length; i++) {
+        lists[i] = postings.get(queryTokens[i]);
+        if (lists[i] == null) {
+          return SearchHits.EMPTY;
+        }
+      }
+      Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+      // 1) 가장 짧은 posting 에서 시작해 교집합 (필드 비트는 AND)
+      Postings first = lists[0];
+      int[] candidates = Arrays.copyOf(first.ordinals, first.size);
+      byte[] fields = Arrays.copyOf(first.fields, first.size);
+      int count = first.size;
+      for (int l = 1; l < lists.length && count > 0; l++) {
+        count = intersect(candidates, fields, count, lists[l]);
+      }
+
+      // 2) 점수 계산 후 상위 limit 개
+      TopHits top = new TopHits(limit);
+      boolean hasDeleted = deletedCount > 0;
+      int typeOrdinal = type != null ? type.ordinal() : -1;
+      int total = 0;
+      for (int i = 0; i < count; i++) {
+        int ordinal = candidates[i];
+        if (fields[i] == 0 || (hasDeleted && deleted.get(ordinal))
+            || (typeOrdinal >= 0 && types[ordinal] != typeOrdinal)) {
+          continue;
+        }
+        total++;
+        top.offer(ordinal, score(fields[i], queryTokens.length, titleTokenCounts[ordinal]));
+      }
+      return new SearchHits(top.toResults(this), total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /*
+   * 제목 일치가 본문 일치보다 항상 앞서고, 제목 안에서는 질의가 제목을 많이 덮을수록(짧은 이름일수록) 앞선다.
+   */
+  private static double score(byte fields, int queryTokenCount, int titleTokenCount) {
+    double score = 0;
+    if ((fields & TITLE) != 0) {
+      score += 10 + 5.0 * queryTokenCount / Math.max(titleTokenCount, queryTokenCount);
+    }
+    if ((fields & BODY) != 0) {
+      score += 2;
+    }
+    return score;
+  }
+
+  /*
+   * candidates[0, count) 중 list 에도 있는 것만 남긴다. 두 쪽 모두 오름차순.
+   * 길이가 비슷하면 선형 병합, list 가 훨씬 길면 galloping 으로 건너뛴다.
+   */
+  private static int intersect(int[] candidates, byte[] fields, int count, Postings list) {
+    int[] ordinals = list.ordinals;
+    int size = list.size;
+    boolean gallop = size / GALLOP_RATIO > count;
+    int kept = 0;
+    int position = 0;
+    for (int i = 0; i < count && position < size; i++) {
+      int target = candidates[i];
+      if (gallop) {
+        position = gallop(ordinals, position, size, target);
+      } else {
+        while (position < size && ordinals[position] < target) {
+          position++;
+        }
+      }
+      if (position < size && ordinals[position] == target) {
+        candidates[kept] = target;
+        fields[kept] = (byte) (fields[i] & list.fields[position]);
+        kept++;
+      }
+    }
+    return kept;
+  }
+
+  /*
+   * from 부터 target 이상인 첫 위치 (간격을 두 배씩 늘려 범위를 잡은 뒤 이진 탐색)
+   */
+  private static int gallop(int[] ordinals, int from, int to, int target) {
+    int step = 1;
+    int low = from;
+    int high = from;
+    while (high < to && ordinals[high] < target) {
+      low = high + 1;
+      high = from + step;
+      step <<= 1;
+    }
+    high = Math.min(high + 1, to);
+    int found = Arrays.binarySearch(ordinals, low, high, target);
+    return found >= 0 ? found : -found - 1;
+  }
+
+  private int append(SearchDocument document, int titleTokenCount) {
+    if (size == ids.length) {
+      int capacity = size * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      storeIds = Arrays.copyOf(storeIds, capacity);
+      titles = Arrays.copyOf(titles, capacity);
+      types = Arrays.copyOf(types, capacity);
+      titleTokenCounts = Arrays.copyOf(titleTokenCounts, capacity);
+    }
+    int ordinal = size++;
+    ids[ordinal] = document.id();
+    storeIds[ordinal] = document.storeId();
+    titles[ordinal] = document.title();
+    types[ordinal] = (byte) document.type().ordinal();
+    titleTokenCounts[ordinal] = (short) Math.min(titleTokenCount, Short.MAX_VALUE);
+    ordinals.put(document.id(), ordinal);
+    return ordinal;
+  }
+
+  private void removeLocked(UUID id) {
+    Integer ordinal = ordinals.remove(id);
+    if (ordinal != null) {
+      deleted.set(ordinal);
+      deletedCount++;
+    }
+  }
+
+  /*
+   * 토큰 하나의 posting (순번 오름차순, 필드 비트)
+   */
+  private static final class Postings {
+    private int[] ordinals = new int[4];
+    private byte[] fields = new byte[4];
+    private int size;
+
+    private void add(int ordinal, byte field) {
+      if (size == ordinals.length) {
+        ordinals = Arrays.copyOf(ordinals, size * 2);
+        fields = Arrays.copyOf(fields, size * 2);
+      }
+      ordinals[size] = ordinal;
+      fields[size] = field;
+      size++;
+    }
+  }
+
+  /*
+   * 점수 내림차순 상위 K 개 (동점이면 최근에 색인된 문서 먼저), 최소 힙
+   */
+  private static final class TopHits {
+    private final int[] ordinals;
+    private final double[] scores;
+    private int size;
+
+    private TopHits(int limit) {
+      this.ordinals = new int[limit];
+      this.scores = new double[limit];
+    }
+
+    private void offer(int ordinal, double score) {
+      if (size < ordinals.length) {
+        ordinals[size] = ordinal;
+        scores[size] = score;
+        siftUp(size++);
+      } else if (score > scores[0] || (score == scores[0] && ordinal > ordinals[0])) {
+        ordinals[0] = ordinal;
+        scores[0] = score;
+        siftDown(0);
+      }
+    }
+
+    private boolean worse(int a, int b) {
+      return scores[a] < scores[b] || (scores[a] == scores[b] && ordinals[a] < ordinals[b]);
+    }
+
+    private void siftUp(int index) {
+      while (index > 0) {
+        int parent = (index - 1) / 2;
+        if (!worse(index, parent)) {
+          return;
+        }
+        swap(index, parent);
+        index = parent;
+      }
+    }
+
+    private void siftDown(int index) {
+      while (true) {
+        int worst = index;
+        for (int child = index * 2 + 1; child <= index * 2 + 2 && child < size; child++) {
+          if (worse(child, worst)) {
+            worst = child;
+          }
+        }
+        if (worst == index) {
+          return;
+        }
+        swap(index, worst);
+        index = worst;
+      }
+    }
+
+    private void swap(int a, int b) {
+      int ordinal = ordinals[a];
+      ordinals[a] = ordinals[b];
+      ordinals[b] = ordinal;
+      double score = scores[a];
+      scores[a] = scores[b];
+      scores[b] = score;
+    }
+
+    private List<SearchResultDto> toResults(InvertedIndex index) {
+      // 힙에서 가장 나쁜 것부터 꺼내 뒤에서부터 채운다.
+      SearchResultDto[] results = new SearchResultDto[size];
+      while (size > 0) {
+        int ordinal = ordinals[0];
+        results[size - 1] = new SearchResultDto(TYPES[index.types[ordinal]], index.ids[ordinal],
+            index.storeIds[ordinal], index.titles[ordinal], scores[0]);
+        swap(0, --size);
+        siftDown(0);
+      }
+      return Arrays.asList(results);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package run.bemin.api.search.service;
+
+import java.util.Arrays;
+import run.bemin.api.general.util.NameNormalizer;
+
+/*
+ * 문자 bigram 토크나이저
+ * - NameNormalizer 로 정규화한 뒤 글자/숫자가 아닌 문자를 기준으로 단어를 나눈다.
+ * - 단어마다 인접한 두 글자를 하나의 토큰으로 만든다. 한글은 음절 단위라 형태소 분석 없이도
+ *   "치킨" 으로 "후라이드치킨", "치킨집" 을 모두 찾을 수 있다.
+ * - 색인할 때는 글자 하나하나도 토큰(unigram)으로 넣어 "국" 한 글자로 "국밥", "된장국" 을 찾을 수 있게 한다.
+ *   질의는 한 글자 단어만 unigram 으로, 나머지는 bigram 으로 찾는다. (posting 은 글자 수만큼 늘어난다)
+ * 토큰은 두 char 를 int 하나에 담는다. (앞 글자 << 16 | 뒷 글자, 한 글자면 뒷 글자 0)
+ */
+public final class NGramTokenizer {
+
+  private static final int[] NONE = new int[0];
+
+  private NGramTokenizer() {
+  }
+
+  /**
+   * 색인용 토큰 : bigram + 모든 글자의 unigram (중복을 제거하고 정렬)
+   */
+  public static int[] tokens(String text) {
+    return tokenize(text, true);
+  }
+
+  /**
+   * 질의용 토큰 : 두 글자 이상 단어는 bigram, 한 글자 단어는 unigram (중복을 제거하고 정렬)
+   */
+  public static int[] queryTokens(String text) {
+    return tokenize(text, false);
+  }
+
+  private static int[] tokenize(String text, boolean unigrams) {
+    String normalized = NameNormalizer.normalize(text);
+    if (normalized == null || normalized.isEmpty()) {
+      return NONE;
+    }
+
+    int[] tokens = new int[unigrams ? normalized.length() * 2 : normalized.length()];
+    int size = 0;
+    int wordStart = -1;
+    for (int i = 0; i <= normalized.length(); i++) {
+      boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+      if (wordChar && wordStart < 0) {
+        wordStart = i;
+      } else if (!wordChar && wordStart >= 0) {
+        if (unigrams || i - wordStart == 1) {
+          for (int j = wordStart; j < i; j++) {
+            tokens[size++] = normalized.charAt(j) << 16;
+          }
+        }
+        for (int j = wordStart; j < i - 1; j++) {
+          tokens[size++] = normalized.charAt(j) << 16 | normalized.charAt(j + 1);
+        }
+        wordStart = -1;
+      }
+    }
+    return distinct(tokens, size);
+  }
+
+  private static int[] distinct(int[] tokens, int size) {
+    if (size == 0) {
+      return NONE;
+    }
+    Arrays.sort(tokens, 0, size);
+    int unique = 1;
+    for (int i = 1; i < size; i++) {
+      if (tokens[i] != tokens[unique - 1]) {
+        tokens[unique++] = tokens[i];
+      }
+    }
+    return Arrays.copyOf(tokens, unique);
+  }
+}
@@ -0,0 +1,182 @@
+package run.bemin.api.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/*
+ * 정렬 배열 접두어 색인 (불변)
+ * - 키 오름차순 배열이라 접두어가 같은 키는 한 구간에 모이고, 구간은 이진 탐색 두 번으로 찾는다.
+ * - 가중치 최댓값 위치를 세그먼트 트리(int 배열 2n)로 두고, 구간을 최댓값 위치에서 둘로 쪼개 가며
+ *   큰 것부터 꺼낸다. 상위 K 개에 구간 최댓값 조회 2K 번 (각 O(log n)).
+ */
+final class PrefixIndex {
+
+  static final PrefixIndex EMPTY = new PrefixIndex(new Completion[0]);
+
+  private final Completion[] completions;
+  private final int[] tree;
+
+  /**
+   * @param completions 키 오름차순, 키 중복 없음
+   */
+  PrefixIndex(Completion[] completions) {
+    int n = completions.length;
+    this.completions = completions;
+    this.tree = new int[n * 2];
+    for (int i = 0; i < n; i++) {
+      tree[n + i] = i;
+    }
+    for (int i = n - 1; i > 0; i--) {
+      tree[i] = better(tree[i * 2], tree[i * 2 + 1]);
+    }
+  }
+
+  int size() {
+    return completions.length;
+  }
+
+  Completion get(String key) {
+    int position = lowerBound(key);
+    return position < completions.length && completions[position].key().equals(key) ? completions[position] : null;
+  }
+
+  boolean contains(String key) {
+    return get(key) != null;
+  }
+
+  /**
+   * prefix 로 시작하는 키 중 가중치 순 상위 limit 개를 out 에 더한다. (가중치 0 이하는 지워진 것으로 보고 제외)
+   *
+   * @param skip null 이 아니면 이 조건에 맞는 키는 건너뛴다. (limit 에 세지 않음)
+   */
+  void top(String prefix, int limit, Predicate<String> skip, List<Completion> out) {
+    int from = lowerBound(prefix);
+    int to = prefixEnd(prefix, from);
+    if (from == to || limit <= 0) {
+      return;
+    }
+
+    // {구간 최댓값 위치, from, to}, 최댓값이 큰 구간부터
+    PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> better(a[0], b[0]) == a[0] ? -1 : 1);
+    ranges.add(new int[]{argMax(from, to), from, to});
+    int taken = 0;
+    while (taken < limit && !ranges.isEmpty()) {
+      int[] range = ranges.poll();
+      int best = range[0];
+      Completion completion = completions[best];
+      if (completion.weight() <= 0) {
+        return;
+      }
+      if (skip == null || !skip.test(completion.key())) {
+        out.add(completion);
+        taken++;
+      }
+      if (range[1] < best) {
+        ranges.add(new int[]{argMax(range[1], best), range[1], best});
+      }
+      if (best + 1 < range[2]) {
+        ranges.add(new int[]{argMax(best + 1, range[2]), best + 1, range[2]});
+      }
+    }
+  }
+
+  /**
+   * base 에 overlay 를 덮어쓴 새 색인 (같은 키는 overlay 가 이기고, 가중치 0 이하는 버린다)
+   */
+  static PrefixIndex merge(PrefixIndex base, PrefixIndex overlay) {
+    Completion[] left = base.completions;
+    Completion[] right = overlay.completions;
+    List<Completion> merged = new ArrayList<>(left.length + right.length);
+    int l = 0;
+    int r = 0;
+    while (l < left.length || r < right.length) {
+      Completion next;
+      if (r >= right.length) {
+        next = left[l++];
+      } else if (l >= left.length) {
+        next = right[r++];
+      } else {
+        int compared = left[l].key().compareTo(right[r].key());
+        if (compared < 0) {
+          next = left[l++];
+        } else {
+          next = right[r++];
+          if (compared == 0) {
+            l++;
+          }
+        }
+      }
+      if (next.weight() > 0) {
+        merged.add(next);
+      }
+    }
+    return new PrefixIndex(merged.toArray(new Completion[0]));
+  }
+
+  private int lowerBound(String key) {
+    int low = 0;
+    int high = completions.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (completions[mid].key().compareTo(key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /*
+   * from(접두어 구간 시작) 이후 prefix 로 시작하지 않는 첫 위치
+   */
+  private int prefixEnd(String prefix, int from) {
+    int low = from;
+    int high = completions.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (completions[mid].key().startsWith(prefix)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /*
+   * [from, to) 에서 가중치가 가장 큰 위치 (같으면 앞쪽, 즉 사전순으로 먼저인 키)
+   */
+  private int argMax(int from, int to) {
+    int n = completions.length;
+    int best = -1;
+    for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+      if ((l & 1) == 1) {
+        best = better(best, tree[l++]);
+      }
+      if ((r & 1) == 1) {
+        best = better(best, tree[--r]);
+      }
+    }
+    return best;
+  }
+
+  private int better(int a, int b) {
+    if (a < 0) {
+      return b;
+    }
+    long weightA = completions[a].weight();
+    long weightB = completions[b].weight();
+    return weightA > weightB || (weightA == weightB && a < b) ? a : b;
+  }
+
+  /**
+   * @param key    자동완성 키 (SuggestionKeys)
+   * @param text   보여줄 이름
+   * @param weight 인기도 합계, 0 이하면 지워진 항목
+   */
+  record Completion(String key, String text, long weight) {
+  }
+}
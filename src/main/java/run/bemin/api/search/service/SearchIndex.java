@@ -0,0 +1,87 @@
+package run.bemin.api.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+import run.bemin.api.search.dto.SearchDocument;
+import run.bemin.api.search.dto.SearchDocumentType;
+import run.bemin.api.search.dto.SearchHits;
+
+/*
+ * 가게/상품 검색 색인
+ * - 현재 색인(InvertedIndex)에 증분으로 반영하고, 재구축은 새 색인을 따로 만든 뒤 참조만 바꾼다.
+ * - 재구축 중 들어온 증분은 기록해 두었다가 교체 직후 새 색인에 다시 반영한다.
+ */
+@Component
+public class SearchIndex {
+
+  private final Object writeLock = new Object();
+  private volatile InvertedIndex current = new InvertedIndex();
+  private List<Consumer<InvertedIndex>> pending;
+
+  public void upsert(SearchDocument document) {
+    apply(index -> index.upsert(document));
+  }
+
+  public void remove(UUID id) {
+    apply(index -> index.remove(id));
+  }
+
+  public void removeStore(UUID storeId) {
+    apply(index -> index.removeStore(storeId));
+  }
+
+  public SearchHits search(String query, SearchDocumentType type, int limit) {
+    return current.search(query, type, limit);
+  }
+
+  public int size() {
+    return current.liveCount();
+  }
+
+  public double tombstoneRatio() {
+    return current.tombstoneRatio();
+  }
+
+  /**
+   * 새 색인을 만들어 교체 (호출한 스레드에서 적재, 그동안 검색/증분은 기존 색인에서 계속된다.)
+   *
+   * @param loader 전체 문서를 consumer 로 흘려보내는 적재 함수
+   */
+  public void rebuild(Consumer<Consumer<SearchDocument>> loader) {
+    synchronized (writeLock) {
+      if (pending != null) {
+        throw new IllegalStateException("Search index rebuild already running!!");
+      }
+      pending = new ArrayList<>();
+    }
+
+    InvertedIndex rebuilt = new InvertedIndex();
+    try {
+      loader.accept(rebuilt::upsert);
+    } catch (RuntimeException e) {
+      synchronized (writeLock) {
+        pending = null;
+      }
+      throw e;
+    }
+
+    synchronized (writeLock) {
+      // 적재 도중의 변경은 적재 결과보다 나중 상태이므로 다시 반영한다.
+      pending.forEach(change -> change.accept(rebuilt));
+      pending = null;
+      current = rebuilt;
+    }
+  }
+
+  private void apply(Consumer<InvertedIndex> change) {
+    synchronized (writeLock) {
+      change.accept(current);
+      if (pending != null) {
+        pending.add(change);
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package run.bemin.api.search.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.product.event.ProductChangedEvent;
+import run.bemin.api.product.event.ProductsChangedEvent;
+import run.bemin.api.search.dto.SearchDocument;
+import run.bemin.api.search.repository.SearchDocumentJdbcRepository;
+import run.bemin.api.store.event.StoreChangedEvent;
+
+/*
+ * SearchIndex 적재/갱신
+ * - 기동 시, 매일 새벽, 지운 문서 비율이 max-tombstone-ratio 를 넘으면 별도 스레드에서 전체 재구축
+ * - 가게/상품 변경이 커밋되면 해당 문서만 다시 읽어 반영 (가게가 삭제되면 그 가게의 상품도 제거)
+ */
+@Slf4j
+@Component
+public class SearchIndexSynchronizer {
+
+  private final SearchDocumentJdbcRepository searchDocumentJdbcRepository;
+  private final SearchIndex searchIndex;
+  private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "search-index-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  @Value("${bemin.search.max-tombstone-ratio:0.3}")
+  private double maxTombstoneRatio;
+
+  public SearchIndexSynchronizer(SearchDocumentJdbcRepository searchDocumentJdbcRepository,
+                                 SearchIndex searchIndex) {
+    this.searchDocumentJdbcRepository = searchDocumentJdbcRepository;
+    this.searchIndex = searchIndex;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    rebuildAsync();
+  }
+
+  @Scheduled(cron = "${bemin.search.rebuild-cron:0 20 4 * * *}")
+  public void rebuildDaily() {
+    rebuildAsync();
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.search.tombstone-check-interval-ms:60000}")
+  public void compactIfNeeded() {
+    if (searchIndex.tombstoneRatio() > maxTombstoneRatio) {
+      rebuildAsync();
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    searchDocumentJdbcRepository.findStore(event.storeId()).ifPresentOrElse(
+        searchIndex::upsert,
+        () -> searchIndex.removeStore(event.storeId()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    searchDocumentJdbcRepository.findProduct(event.productId()).ifPresentOrElse(
+        searchIndex::upsert,
+        () -> searchIndex.remove(event.productId()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    Set<UUID> missing = new HashSet<>(event.productIds());
+    for (SearchDocument document : searchDocumentJdbcRepository.findProducts(event.productIds())) {
+      searchIndex.upsert(document);
+      missing.remove(document.id());
+    }
+    missing.forEach(searchIndex::remove);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  private void rebuildAsync() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    rebuildExecutor.execute(() -> {
+      long startedAt = System.nanoTime();
+      try {
+        searchIndex.rebuild(searchDocumentJdbcRepository::streamAll);
+        log.info("Search index rebuilt. documents = {}, {}ms",
+            searchIndex.size(), (System.nanoTime() - startedAt) / 1_000_000);
+      } catch (RuntimeException e) {
+        log.error("Search index rebuild failed.", e);
+      } finally {
+        rebuilding.set(false);
+      }
+    });
+  }
+}
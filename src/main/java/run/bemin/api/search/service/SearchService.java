@@ -0,0 +1,45 @@
+package run.bemin.api.search.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import run.bemin.api.search.dto.SearchDocumentType;
+import run.bemin.api.search.dto.SearchHits;
+import run.bemin.api.search.dto.SearchResultDto;
+import run.bemin.api.search.dto.SuggestionDto;
+import run.bemin.api.search.dto.SuggestionType;
+
+/*
+ * 가게/상품 통합 검색, 가게/상품/카테고리 이름 자동완성 (메모리 색인만 사용, DB 조회 없음)
+ * 검색은 점수 순 상위 MAX_RESULTS 개 안에서만 페이지를 넘길 수 있고, 그 뒤 페이지는 빈 페이지를 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_RESULTS = 1_000;
+  private static final int MAX_SUGGESTIONS = 20;
+
+  private final SearchIndex searchIndex;
+  private final AutocompleteIndex autocompleteIndex;
+
+  public Page<SearchResultDto> search(String query, SearchDocumentType type, Integer page, Integer size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    int pageNumber = Math.max(page, 0);
+    PageRequest pageable = PageRequest.of(pageNumber, pageSize);
+
+    long offset = (long) pageNumber * pageSize;
+    SearchHits hits = searchIndex.search(query, type, (int) Math.min(offset + pageSize, MAX_RESULTS));
+    int from = (int) Math.min(offset, hits.results().size());
+    return new PageImpl<>(hits.results().subList(from, hits.results().size()), pageable,
+        Math.min(hits.total(), MAX_RESULTS));
+  }
+
+  public List<SuggestionDto> suggest(String prefix, SuggestionType type, Integer size) {
+    return autocompleteIndex.suggest(prefix, type, Math.min(Math.max(size, 1), MAX_SUGGESTIONS));
+  }
+}
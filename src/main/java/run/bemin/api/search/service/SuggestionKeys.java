@@ -0,0 +1,58 @@
+package run.bemin.api.search.service;
+
+import java.text.Normalizer;
+import java.util.List;
+import run.bemin.api.general.util.NameNormalizer;
+
+/*
+ * 자동완성 키
+ * 이름을 정규화한 뒤 한글 음절을 자모로 풀어(NFD) 저장하므로, 입력 중인 음절도 접두어로 맞는다. ("치ㅋ" → "치킨")
+ * 마지막 음절의 받침은 다음 음절의 초성일 수도 있어서 ("칰" → "치킨", "닭" → "달기") 받침을 초성으로 옮긴 접두어도 함께 찾는다.
+ */
+final class SuggestionKeys {
+
+  private static final char FIRST_FINAL = 'ᆨ';
+  private static final char LAST_FINAL = 'ᇂ';
+  private static final char FIRST_VOWEL = 'ᅡ';
+  private static final char LAST_VOWEL = 'ᅵ';
+
+  // 받침(U+11A8 ~ U+11C2) → 초성, 겹받침은 (앞 받침 + 뒤 초성)
+  private static final String[] FINAL_TO_INITIAL = {
+      "ᄀ", "ᄁ", "ᆨᄉ", "ᄂ", "ᆫᄌ", "ᆫᄒ", "ᄃ",
+      "ᄅ", "ᆯᄀ", "ᆯᄆ", "ᆯᄇ", "ᆯᄉ", "ᆯᄐ",
+      "ᆯᄑ", "ᆯᄒ", "ᄆ", "ᄇ", "ᆸᄉ", "ᄉ", "ᄊ",
+      "ᄋ", "ᄌ", "ᄎ", "ᄏ", "ᄐ", "ᄑ", "ᄒ"
+  };
+
+  private SuggestionKeys() {
+  }
+
+  /**
+   * @return 비어 있는 이름이면 null
+   */
+  static String key(String text) {
+    String normalized = NameNormalizer.normalize(text);
+    if (normalized == null || normalized.isEmpty()) {
+      return null;
+    }
+    return Normalizer.normalize(normalized, Normalizer.Form.NFD);
+  }
+
+  /**
+   * 입력값으로 찾을 접두어 키 (1개, 마지막 글자가 받침이면 2개)
+   */
+  static List<String> prefixes(String input) {
+    String key = key(input);
+    if (key == null) {
+      return List.of();
+    }
+
+    int last = key.length() - 1;
+    char tail = key.charAt(last);
+    if (last == 0 || tail < FIRST_FINAL || tail > LAST_FINAL
+        || key.charAt(last - 1) < FIRST_VOWEL || key.charAt(last - 1) > LAST_VOWEL) {
+      return List.of(key);
+    }
+    return List.of(key, key.substring(0, last) + FINAL_TO_INITIAL[tail - FIRST_FINAL]);
+  }
+}
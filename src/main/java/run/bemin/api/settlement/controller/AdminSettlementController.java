@@ -0,0 +1,52 @@
+package run.bemin.api.settlement.controller;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.settlement.dto.ReconciliationReport;
+import run.bemin.api.settlement.dto.SettlementReport;
+import run.bemin.api.settlement.service.PaymentReconciliationService;
+import run.bemin.api.settlement.service.StoreSettlementJob;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/settlements")
+@RestController
+public class AdminSettlementController {
+
+  private final StoreSettlementJob storeSettlementJob;
+  private final PaymentReconciliationService paymentReconciliationService;
+
+  /**
+   * 일 정산 실행 (완료된 파티션은 건너뜀)
+   */
+  @PreAuthorize("hasAnyRole('MASTER')")
+  @PostMapping("/{date}")
+  public ResponseEntity<ApiResponse<SettlementReport>> runSettlement(
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    SettlementReport report = storeSettlementJob.run(date);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", report));
+  }
+
+  /**
+   * PG 정산 파일 대사 (bemin.reconciliation.directory 아래의 파일 이름)
+   */
+  @PreAuthorize("hasAnyRole('MASTER')")
+  @PostMapping("/{date}/reconciliation")
+  public ResponseEntity<ApiResponse<ReconciliationReport>> reconcile(
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam("file") String fileName) {
+    ReconciliationReport report = paymentReconciliationService.reconcile(date, fileName);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", report));
+  }
+}
@@ -0,0 +1,9 @@
+package run.bemin.api.settlement.domain;
+
+public enum MismatchType {
+  MISSING_IN_FILE,      // DB 에만 있는 결제
+  MISSING_IN_DB,        // PG 정산 파일에만 있는 결제
+  STATUS_MISMATCH,      // 결제 상태 불일치
+  AMOUNT_MISMATCH,      // 결제 금액 불일치
+  DUPLICATE_IN_FILE     // PG 정산 파일에 같은 결제가 중복
+}
@@ -0,0 +1,7 @@
+package run.bemin.api.settlement.domain;
+
+public enum SettlementRunStatus {
+  RUNNING,      // 정산 중
+  COMPLETED,    // 정산 완료
+  FAILED        // 정산 실패 : 재실행 대상
+}
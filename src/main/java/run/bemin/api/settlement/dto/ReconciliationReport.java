@@ -0,0 +1,23 @@
+package run.bemin.api.settlement.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+import run.bemin.api.settlement.domain.MismatchType;
+
+/**
+ * PG 정산 파일 대사 결과
+ *
+ * @param invalidLines 형식이 맞지 않아 건너뛴 파일 라인 수
+ * @param mismatchFile 불일치 상세가 기록된 CSV 파일 경로
+ */
+public record ReconciliationReport(
+    LocalDate settlementDate,
+    long fileRows,
+    long dbRows,
+    long matchedRows,
+    long invalidLines,
+    Map<MismatchType, Long> mismatches,
+    String mismatchFile,
+    long elapsedMillis
+) {
+}
@@ -0,0 +1,22 @@
+package run.bemin.api.settlement.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 정산 실행 결과
+ *
+ * @param processedPartitions 이번 실행에서 처리한 파티션 수
+ * @param skippedPartitions   이전 실행에서 이미 완료되어 건너뛴 파티션 수
+ * @param failedPartitions    실패한 파티션 수 (다시 실행하면 이 파티션만 재처리)
+ */
+public record SettlementReport(
+    LocalDate settlementDate,
+    int partitionCount,
+    int processedPartitions,
+    int skippedPartitions,
+    int failedPartitions,
+    long rowCount,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+}
@@ -0,0 +1,51 @@
+package run.bemin.api.settlement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import run.bemin.api.settlement.domain.SettlementRunStatus;
+
+/*
+ * 정산 파티션 실행 이력
+ * 재실행 시 COMPLETED 파티션은 건너뛴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(SettlementPartitionRunId.class)
+@Table(name = "settlement_partition_run")
+public class SettlementPartitionRun {
+
+  @Id
+  @Column(name = "settlement_date", nullable = false)
+  private LocalDate settlementDate;
+
+  @Id
+  @Column(name = "partition_no", nullable = false)
+  private Integer partitionNo;
+
+  @Column(name = "partition_count", nullable = false)
+  private int partitionCount; // 실행 당시 전체 파티션 수
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private SettlementRunStatus status;
+
+  @Column(name = "row_count", nullable = false)
+  private long rowCount; // 처리한 결제 건수
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+}
@@ -0,0 +1,16 @@
+package run.bemin.api.settlement.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SettlementPartitionRunId implements Serializable {
+
+  private LocalDate settlementDate;
+  private Integer partitionNo;
+}
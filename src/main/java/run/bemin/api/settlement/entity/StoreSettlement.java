@@ -0,0 +1,56 @@
+package run.bemin.api.settlement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+/*
+ * 가게별 일 정산 합계 (결제 수단별)
+ * StoreSettlementJob 이 파티션 단위로 교체 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(StoreSettlementId.class)
+@Table(name = "store_settlement", indexes = {
+    @Index(name = "idx_store_settlement_partition", columnList = "settlement_date, partition_no")
+})
+public class StoreSettlement {
+
+  @Id
+  @Column(name = "settlement_date", nullable = false)
+  private LocalDate settlementDate;
+
+  @Id
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "payment_method", nullable = false)
+  private PaymentMethod paymentMethod;
+
+  @Column(name = "partition_no", nullable = false)
+  private int partitionNo; // 정산 파티션 번호 (재실행 시 교체 단위)
+
+  @Column(name = "payment_count", nullable = false)
+  private long paymentCount; // 승인 건수 - 취소 건수
+
+  @Column(name = "total_amount", nullable = false)
+  private long totalAmount; // 승인 금액 - 취소 금액
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+}
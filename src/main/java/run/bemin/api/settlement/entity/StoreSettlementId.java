@@ -0,0 +1,19 @@
+package run.bemin.api.settlement.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StoreSettlementId implements Serializable {
+
+  private LocalDate settlementDate;
+  private UUID storeId;
+  private PaymentMethod paymentMethod;
+}
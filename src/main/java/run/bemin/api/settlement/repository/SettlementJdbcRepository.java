@@ -0,0 +1,149 @@
+package run.bemin.api.settlement.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import run.bemin.api.settlement.domain.SettlementRunStatus;
+import run.bemin.api.settlement.service.StoreSettlementRow;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementJdbcRepository {
+
+  // payment_event 원장의 하루치 승인/취소 이벤트 (created_at 범위로 해당 월 파티션만 읽는다)
+  // 가게를 hashtext(store_id) 로 파티션에 나눈다. (& 2147483647 : 음수 해시 보정)
+  private static final String STREAM_LEDGER_SQL = """
+      SELECT store_id, payment_method, event_type, amount
+      FROM payment_event
+      WHERE created_at >= ? AND created_at < ?
+        AND event_type IN ('COMPLETED', 'CANCELED')
+        AND mod(hashtext(store_id::text) & 2147483647, ?) = ?
+      """;
+
+  // 대사용 : 키 구간의 결제를 payment_id 순으로 (PG 승인 대기 건 제외)
+  private static final String STREAM_RECONCILIATION_SQL = """
+      SELECT payment_id, status, amount
+      FROM payment
+      WHERE created_at >= ? AND created_at < ?
+        AND status <> 'PENDING'
+        AND payment_id >= ?
+      """;
+
+  private static final String INSERT_SETTLEMENT_SQL = """
+      INSERT INTO store_settlement
+        (settlement_date, store_id, payment_method, partition_no, payment_count, total_amount, created_at)
+      VALUES (?, ?, ?, ?, ?, ?, now())
+      """;
+
+  private static final String UPSERT_RUN_SQL = """
+      INSERT INTO settlement_partition_run
+        (settlement_date, partition_no, partition_count, status, row_count, started_at, finished_at)
+      VALUES (?, ?, ?, ?, 0, now(), NULL)
+      ON CONFLICT (settlement_date, partition_no) DO UPDATE SET
+        partition_count = EXCLUDED.partition_count,
+        status = EXCLUDED.status,
+        row_count = 0,
+        started_at = EXCLUDED.started_at,
+        finished_at = NULL
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 하루치 결제 승인/취소 이벤트를 forward-only 커서로 스트리밍
+   * PostgreSQL 은 autocommit 이 꺼진 상태(트랜잭션 안)에서만 fetchSize 단위로 끊어 읽는다.
+   */
+  public void streamSettlementEvents(LocalDate date, int partitionCount, int partitionNo, int fetchSize,
+                                      RowCallbackHandler handler) {
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(STREAM_LEDGER_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(fetchSize);
+      ps.setTimestamp(1, Timestamp.valueOf(date.atStartOfDay()));
+      ps.setTimestamp(2, Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+      ps.setInt(3, partitionCount);
+      ps.setInt(4, partitionNo);
+      return ps;
+    }, handler);
+  }
+
+  /**
+   * 하루치 결제 중 [from, to) 구간을 payment_id 오름차순으로 스트리밍 (to 가 null 이면 끝까지)
+   */
+  public void streamPaymentsForReconciliation(LocalDate date, UUID from, UUID to, int fetchSize,
+                                              RowCallbackHandler handler) {
+    String sql = STREAM_RECONCILIATION_SQL + (to != null ? "  AND payment_id < ?\n" : "") + "ORDER BY payment_id";
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(fetchSize);
+      ps.setTimestamp(1, Timestamp.valueOf(date.atStartOfDay()));
+      ps.setTimestamp(2, Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+      ps.setObject(3, from);
+      if (to != null) {
+        ps.setObject(4, to);
+      }
+      return ps;
+    }, handler);
+  }
+
+  public List<PartitionRun> findRuns(LocalDate date) {
+    return jdbcTemplate.query("""
+            SELECT partition_no, partition_count, status
+            FROM settlement_partition_run
+            WHERE settlement_date = ?
+            """,
+        (rs, rowNum) -> new PartitionRun(
+            rs.getInt("partition_no"),
+            rs.getInt("partition_count"),
+            SettlementRunStatus.valueOf(rs.getString("status"))),
+        Date.valueOf(date));
+  }
+
+  /**
+   * 해당 일자의 정산 결과와 실행 이력 삭제 (파티션 수가 바뀐 경우 처음부터 다시 정산)
+   */
+  public void deleteDate(LocalDate date) {
+    jdbcTemplate.update("DELETE FROM store_settlement WHERE settlement_date = ?", Date.valueOf(date));
+    jdbcTemplate.update("DELETE FROM settlement_partition_run WHERE settlement_date = ?", Date.valueOf(date));
+  }
+
+  public void markRunning(LocalDate date, int partitionNo, int partitionCount) {
+    jdbcTemplate.update(UPSERT_RUN_SQL, Date.valueOf(date), partitionNo, partitionCount,
+        SettlementRunStatus.RUNNING.name());
+  }
+
+  public void markFinished(LocalDate date, int partitionNo, SettlementRunStatus status, long rowCount) {
+    jdbcTemplate.update("""
+            UPDATE settlement_partition_run
+            SET status = ?, row_count = ?, finished_at = now()
+            WHERE settlement_date = ? AND partition_no = ?
+            """,
+        status.name(), rowCount, Date.valueOf(date), partitionNo);
+  }
+
+  /**
+   * 파티션의 이전 결과를 지우고 새 결과를 배치로 저장
+   */
+  public void replacePartition(LocalDate date, int partitionNo, List<StoreSettlementRow> rows, int batchSize) {
+    jdbcTemplate.update("DELETE FROM store_settlement WHERE settlement_date = ? AND partition_no = ?",
+        Date.valueOf(date), partitionNo);
+    jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, rows, batchSize, (ps, row) -> {
+      ps.setDate(1, Date.valueOf(date));
+      ps.setObject(2, row.storeId());
+      ps.setString(3, row.paymentMethod().name());
+      ps.setInt(4, partitionNo);
+      ps.setLong(5, row.paymentCount());
+      ps.setLong(6, row.totalAmount());
+    });
+  }
+
+  public record PartitionRun(int partitionNo, int partitionCount, SettlementRunStatus status) {
+  }
+}
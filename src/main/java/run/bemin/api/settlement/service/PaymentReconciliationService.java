@@ -0,0 +1,254 @@
+package run.bemin.api.settlement.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.bemin.api.payment.domain.PaymentStatus;
+import run.bemin.api.settlement.domain.MismatchType;
+import run.bemin.api.settlement.dto.ReconciliationReport;
+import run.bemin.api.settlement.repository.SettlementJdbcRepository;
+
+/*
+ * PG 정산 파일 대사
+ * 1. 정산 파일을 메모리 매핑으로 파싱하여 payment_id unsigned 순서로 정렬 (PgSettlementFile)
+ * 2. payment_id 최상위 바이트 기준으로 키 구간을 나누고, 구간마다 DB 결제를 payment_id 순으로 스트리밍
+ * 3. 정렬된 두 입력을 merge join 하여 누락/상태/금액 불일치를 CSV 로 기록
+ * 결제 한 건마다 DB 를 조회하지 않으며, 구간들은 ForkJoinPool 에서 병렬로 처리한다.
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService {
+
+  private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+
+  private final SettlementJdbcRepository settlementJdbcRepository;
+  private final TransactionTemplate readTransaction;
+  private final ForkJoinPool pool;
+
+  // 정산 파일 디렉터리 (요청에는 파일 이름만 받는다)
+  @Value("${bemin.reconciliation.directory:/var/bemin/settlement-files}")
+  private String directory;
+
+  @Value("${bemin.reconciliation.ranges:16}")
+  private int ranges;
+
+  @Value("${bemin.reconciliation.fetch-size:10000}")
+  private int fetchSize;
+
+  public PaymentReconciliationService(SettlementJdbcRepository settlementJdbcRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${bemin.reconciliation.parallelism:4}") int parallelism) {
+    this.settlementJdbcRepository = settlementJdbcRepository;
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.pool = new ForkJoinPool(Math.max(parallelism, 1));
+  }
+
+  public ReconciliationReport reconcile(LocalDate date, String fileName) {
+    Path file = resolve(fileName);
+    long startedAt = System.nanoTime();
+
+    PgSettlementFile settlementFile;
+    try {
+      settlementFile = PgSettlementFile.parse(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read settlement file " + file, e);
+    }
+    settlementFile.sort(pool);
+    log.info("Settlement file loaded. file = {}, rows = {}, invalid lines = {}, {}ms",
+        file, settlementFile.size(), settlementFile.invalidLines(), (System.nanoTime() - startedAt) / 1_000_000);
+
+    Path mismatchFile = file.resolveSibling(file.getFileName() + ".mismatch.csv");
+    try (MismatchWriter writer = new MismatchWriter(mismatchFile)) {
+      int rangeCount = Math.min(Math.max(ranges, 1), PgSettlementFile.BUCKETS);
+      List<ForkJoinTask<RangeJoin>> tasks = new ArrayList<>(rangeCount);
+      for (int r = 0; r < rangeCount; r++) {
+        int fromBucket = r * PgSettlementFile.BUCKETS / rangeCount;
+        int toBucket = (r + 1) * PgSettlementFile.BUCKETS / rangeCount;
+        tasks.add(pool.submit(() -> joinRange(date, settlementFile, fromBucket, toBucket, writer)));
+      }
+
+      long dbRows = 0;
+      long matched = 0;
+      long[] mismatches = new long[MismatchType.values().length];
+      for (ForkJoinTask<RangeJoin> task : tasks) {
+        RangeJoin join = task.get();
+        dbRows += join.dbRows;
+        matched += join.matched;
+        for (int i = 0; i < mismatches.length; i++) {
+          mismatches[i] += join.mismatches[i];
+        }
+      }
+
+      Map<MismatchType, Long> mismatchCounts = new EnumMap<>(MismatchType.class);
+      for (MismatchType type : MismatchType.values()) {
+        mismatchCounts.put(type, mismatches[type.ordinal()]);
+      }
+      ReconciliationReport report = new ReconciliationReport(date, settlementFile.size(), dbRows, matched,
+          settlementFile.invalidLines(), mismatchCounts, mismatchFile.toString(),
+          (System.nanoTime() - startedAt) / 1_000_000);
+      log.info("Reconciliation finished. {}", report);
+      return report;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write mismatch file " + mismatchFile, e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Reconciliation failed!!", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Reconciliation interrupted!!", e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private Path resolve(String fileName) {
+    if (fileName == null || fileName.isBlank() || fileName.contains("/") || fileName.contains("\\")
+        || fileName.startsWith(".")) {
+      throw new IllegalArgumentException("Invalid settlement file name!!");
+    }
+    Path file = Path.of(directory).resolve(fileName);
+    if (!Files.isRegularFile(file)) {
+      throw new IllegalArgumentException("Settlement file not found!!");
+    }
+    return file;
+  }
+
+  private RangeJoin joinRange(LocalDate date, PgSettlementFile file, int fromBucket, int toBucket,
+                              MismatchWriter writer) {
+    RangeJoin join = new RangeJoin(file, file.bucketStart(fromBucket), file.bucketStart(toBucket), writer);
+    UUID from = new UUID((long) fromBucket << 56, 0L);
+    UUID to = toBucket < PgSettlementFile.BUCKETS ? new UUID((long) toBucket << 56, 0L) : null;
+
+    readTransaction.executeWithoutResult(status ->
+        settlementJdbcRepository.streamPaymentsForReconciliation(date, from, to, fetchSize, rs -> {
+          UUID paymentId = rs.getObject(1, UUID.class);
+          join.onDbRow(paymentId.getMostSignificantBits(), paymentId.getLeastSignificantBits(),
+              PaymentStatus.valueOf(rs.getString(2)).ordinal(), rs.getLong(3));
+        }));
+    join.finish();
+    return join;
+  }
+
+  /*
+   * 한 키 구간의 merge join 상태
+   * 파일 구간 [cursor, end) 와 DB 결제는 모두 payment_id unsigned 오름차순이다.
+   */
+  private static final class RangeJoin {
+    private final PgSettlementFile file;
+    private final int end;
+    private final MismatchWriter writer;
+    private final long[] mismatches = new long[MismatchType.values().length];
+    private int cursor;
+    private long dbRows;
+    private long matched;
+
+    private RangeJoin(PgSettlementFile file, int start, int end, MismatchWriter writer) {
+      this.file = file;
+      this.cursor = start;
+      this.end = end;
+      this.writer = writer;
+    }
+
+    private void onDbRow(long msb, long lsb, int status, long amount) {
+      dbRows++;
+      // DB 키보다 작은 파일 행은 DB 에 없는 결제
+      while (cursor < end && PgSettlementFile.compare(file.msb(cursor), file.lsb(cursor), msb, lsb) < 0) {
+        fileOnly(cursor++);
+      }
+
+      if (cursor < end && file.msb(cursor) == msb && file.lsb(cursor) == lsb) {
+        compareRow(cursor++, status, amount);
+        while (cursor < end && file.msb(cursor) == msb && file.lsb(cursor) == lsb) {
+          report(MismatchType.DUPLICATE_IN_FILE, msb, lsb, status, file.status(cursor), amount, file.amount(cursor));
+          cursor++;
+        }
+        return;
+      }
+      report(MismatchType.MISSING_IN_FILE, msb, lsb, status, -1, amount, 0);
+    }
+
+    private void finish() {
+      while (cursor < end) {
+        fileOnly(cursor++);
+      }
+    }
+
+    private void compareRow(int index, int status, long amount) {
+      if (file.status(index) != status) {
+        report(MismatchType.STATUS_MISMATCH, file.msb(index), file.lsb(index), status, file.status(index),
+            amount, file.amount(index));
+      } else if (file.amount(index) != amount) {
+        report(MismatchType.AMOUNT_MISMATCH, file.msb(index), file.lsb(index), status, file.status(index),
+            amount, file.amount(index));
+      } else {
+        matched++;
+      }
+    }
+
+    private void fileOnly(int index) {
+      boolean duplicated = index > 0 && file.msb(index) == file.msb(index - 1) && file.lsb(index) == file.lsb(index - 1);
+      report(duplicated ? MismatchType.DUPLICATE_IN_FILE : MismatchType.MISSING_IN_DB,
+          file.msb(index), file.lsb(index), -1, file.status(index), 0, file.amount(index));
+    }
+
+    private void report(MismatchType type, long msb, long lsb, int dbStatus, int fileStatus,
+                        long dbAmount, long fileAmount) {
+      mismatches[type.ordinal()]++;
+      writer.write(type, new UUID(msb, lsb), statusName(dbStatus), statusName(fileStatus), dbAmount, fileAmount);
+    }
+
+    private static String statusName(int ordinal) {
+      return ordinal < 0 ? "" : STATUSES[ordinal].name();
+    }
+  }
+
+  /*
+   * 불일치 상세 CSV (구간 작업들이 함께 쓰므로 동기화)
+   */
+  private static final class MismatchWriter implements AutoCloseable {
+    private final BufferedWriter writer;
+
+    private MismatchWriter(Path path) throws IOException {
+      this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+      writer.write("type,payment_id,db_status,file_status,db_amount,file_amount");
+      writer.newLine();
+    }
+
+    private synchronized void write(MismatchType type, UUID paymentId, String dbStatus, String fileStatus,
+                                    long dbAmount, long fileAmount) {
+      try {
+        writer.write(type.name() + ',' + paymentId + ',' + dbStatus + ',' + fileStatus + ','
+            + dbAmount + ',' + fileAmount);
+        writer.newLine();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.close();
+    }
+  }
+}
@@ -0,0 +1,373 @@
+package run.bemin.api.settlement.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import run.bemin.api.payment.domain.PaymentStatus;
+
+/*
+ * PG 정산 파일 (CSV : payment_id,status,amount)
+ * - 파일을 구간 단위로 메모리 매핑하고 바이트를 직접 파싱하여 라인마다 String 을 만들지 않는다.
+ * - 결과는 열 단위 primitive 배열(msb, lsb, status ordinal, amount)에 담는다.
+ * - sort() 후에는 payment_id 의 unsigned 순서(= PostgreSQL uuid 정렬 순서)로 정렬된다.
+ */
+final class PgSettlementFile {
+
+  static final int BUCKETS = 256; // payment_id 최상위 바이트 기준 키 구간
+
+  private static final long SEGMENT_SIZE = 1L << 30;
+  private static final int INSERTION_SORT_THRESHOLD = 32;
+  private static final byte[][] STATUS_NAMES = statusNames();
+
+  private long[] msbs;
+  private long[] lsbs;
+  private byte[] statuses;
+  private long[] amounts;
+  private int size;
+  private long invalidLines;
+  private int[] bucketStarts;
+
+  private PgSettlementFile(int capacity) {
+    msbs = new long[capacity];
+    lsbs = new long[capacity];
+    statuses = new byte[capacity];
+    amounts = new long[capacity];
+  }
+
+  static PgSettlementFile parse(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      // 한 줄 약 50바이트 기준으로 초기 용량을 잡는다.
+      PgSettlementFile file = new PgSettlementFile((int) Math.min(Math.max(fileSize / 48, 16), Integer.MAX_VALUE - 8));
+
+      long position = 0;
+      while (position < fileSize) {
+        long length = Math.min(SEGMENT_SIZE, fileSize - position);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        int end = (int) length;
+        if (position + length < fileSize) {
+          // 구간 경계에 걸친 라인은 다음 구간에서 처리
+          end = lastNewline(buffer, end) + 1;
+          if (end == 0) {
+            throw new IOException("Settlement file line too long at offset " + position);
+          }
+        }
+        file.parseSegment(buffer, end, position == 0);
+        position += end;
+      }
+      return file;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  long invalidLines() {
+    return invalidLines;
+  }
+
+  long msb(int index) {
+    return msbs[index];
+  }
+
+  long lsb(int index) {
+    return lsbs[index];
+  }
+
+  /**
+   * PaymentStatus ordinal, 알 수 없는 상태면 -1
+   */
+  int status(int index) {
+    return statuses[index];
+  }
+
+  long amount(int index) {
+    return amounts[index];
+  }
+
+  /**
+   * 최상위 바이트 구간의 시작 인덱스 (bucket 번호 BUCKETS 는 size)
+   */
+  int bucketStart(int bucket) {
+    return bucketStarts[bucket];
+  }
+
+  /**
+   * 최상위 바이트로 구간을 나눈 뒤(counting sort) 구간별로 병렬 정렬
+   */
+  void sort(ForkJoinPool pool) {
+    int[] starts = new int[BUCKETS + 1];
+    for (int i = 0; i < size; i++) {
+      starts[bucketOf(msbs[i]) + 1]++;
+    }
+    for (int b = 0; b < BUCKETS; b++) {
+      starts[b + 1] += starts[b];
+    }
+
+    long[] sortedMsbs = new long[size];
+    long[] sortedLsbs = new long[size];
+    byte[] sortedStatuses = new byte[size];
+    long[] sortedAmounts = new long[size];
+    int[] cursor = starts.clone();
+    for (int i = 0; i < size; i++) {
+      int target = cursor[bucketOf(msbs[i])]++;
+      sortedMsbs[target] = msbs[i];
+      sortedLsbs[target] = lsbs[i];
+      sortedStatuses[target] = statuses[i];
+      sortedAmounts[target] = amounts[i];
+    }
+    msbs = sortedMsbs;
+    lsbs = sortedLsbs;
+    statuses = sortedStatuses;
+    amounts = sortedAmounts;
+    bucketStarts = starts;
+
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(BUCKETS);
+    for (int b = 0; b < BUCKETS; b++) {
+      int from = starts[b];
+      int to = starts[b + 1];
+      if (to - from > 1) {
+        tasks.add(pool.submit(() -> quickSort(from, to - 1)));
+      }
+    }
+    tasks.forEach(ForkJoinTask::join);
+  }
+
+  static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+    int result = Long.compareUnsigned(msbA, msbB);
+    return result != 0 ? result : Long.compareUnsigned(lsbA, lsbB);
+  }
+
+  static int bucketOf(long msb) {
+    return (int) (msb >>> 56);
+  }
+
+  private void parseSegment(MappedByteBuffer buffer, int end, boolean first) {
+    int position = 0;
+    if (first && end > 0 && hexValue(buffer.get(0)) < 0) {
+      // 헤더 라인 건너뜀
+      position = nextLine(buffer, 0, end);
+    }
+    while (position < end) {
+      int lineEnd = position;
+      while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      int contentEnd = lineEnd > position && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+      if (contentEnd > position && !parseLine(buffer, position, contentEnd)) {
+        invalidLines++;
+      }
+      position = lineEnd + 1;
+    }
+  }
+
+  private boolean parseLine(MappedByteBuffer buffer, int from, int to) {
+    // payment_id : 하이픈을 제외한 16진수 32자리
+    long msb = 0;
+    long lsb = 0;
+    int digits = 0;
+    int position = from;
+    for (; position < to && buffer.get(position) != ','; position++) {
+      byte b = buffer.get(position);
+      if (b == '-') {
+        continue;
+      }
+      int value = hexValue(b);
+      if (value < 0 || digits == 32) {
+        return false;
+      }
+      if (digits < 16) {
+        msb = (msb << 4) | value;
+      } else {
+        lsb = (lsb << 4) | value;
+      }
+      digits++;
+    }
+    if (digits != 32 || position >= to) {
+      return false;
+    }
+
+    // status : PaymentStatus 이름과 바이트 비교
+    int statusFrom = ++position;
+    while (position < to && buffer.get(position) != ',') {
+      position++;
+    }
+    if (position >= to) {
+      return false;
+    }
+    int status = matchStatus(buffer, statusFrom, position);
+
+    // amount
+    position++;
+    boolean negative = position < to && buffer.get(position) == '-';
+    if (negative) {
+      position++;
+    }
+    if (position >= to) {
+      return false;
+    }
+    long amount = 0;
+    for (; position < to; position++) {
+      int digit = buffer.get(position) - '0';
+      if (digit < 0 || digit > 9) {
+        return false;
+      }
+      amount = amount * 10 + digit;
+    }
+
+    add(msb, lsb, (byte) status, negative ? -amount : amount);
+    return true;
+  }
+
+  private void add(long msb, long lsb, byte status, long amount) {
+    if (size == msbs.length) {
+      int capacity = (int) Math.min(msbs.length * 3L / 2 + 1, Integer.MAX_VALUE - 8);
+      if (capacity == size) {
+        throw new IllegalStateException("Settlement file has too many rows!!");
+      }
+      msbs = Arrays.copyOf(msbs, capacity);
+      lsbs = Arrays.copyOf(lsbs, capacity);
+      statuses = Arrays.copyOf(statuses, capacity);
+      amounts = Arrays.copyOf(amounts, capacity);
+    }
+    msbs[size] = msb;
+    lsbs[size] = lsb;
+    statuses[size] = status;
+    amounts[size] = amount;
+    size++;
+  }
+
+  private void quickSort(int low, int high) {
+    while (high - low >= INSERTION_SORT_THRESHOLD) {
+      int middle = (low + high) >>> 1;
+      // median-of-three 를 pivot 으로 사용
+      if (less(middle, low)) {
+        swap(middle, low);
+      }
+      if (less(high, low)) {
+        swap(high, low);
+      }
+      if (less(high, middle)) {
+        swap(high, middle);
+      }
+      long pivotMsb = msbs[middle];
+      long pivotLsb = lsbs[middle];
+
+      int i = low;
+      int j = high;
+      while (i <= j) {
+        while (compare(msbs[i], lsbs[i], pivotMsb, pivotLsb) < 0) {
+          i++;
+        }
+        while (compare(msbs[j], lsbs[j], pivotMsb, pivotLsb) > 0) {
+          j--;
+        }
+        if (i <= j) {
+          swap(i++, j--);
+        }
+      }
+      // 작은 쪽만 재귀하여 스택 깊이를 log n 으로 제한
+      if (j - low < high - i) {
+        quickSort(low, j);
+        low = i;
+      } else {
+        quickSort(i, high);
+        high = j;
+      }
+    }
+    insertionSort(low, high);
+  }
+
+  private void insertionSort(int low, int high) {
+    for (int i = low + 1; i <= high; i++) {
+      for (int j = i; j > low && less(j, j - 1); j--) {
+        swap(j, j - 1);
+      }
+    }
+  }
+
+  private boolean less(int a, int b) {
+    return compare(msbs[a], lsbs[a], msbs[b], lsbs[b]) < 0;
+  }
+
+  private void swap(int a, int b) {
+    long msb = msbs[a];
+    msbs[a] = msbs[b];
+    msbs[b] = msb;
+    long lsb = lsbs[a];
+    lsbs[a] = lsbs[b];
+    lsbs[b] = lsb;
+    byte status = statuses[a];
+    statuses[a] = statuses[b];
+    statuses[b] = status;
+    long amount = amounts[a];
+    amounts[a] = amounts[b];
+    amounts[b] = amount;
+  }
+
+  private static int matchStatus(MappedByteBuffer buffer, int from, int to) {
+    int length = to - from;
+    for (int ordinal = 0; ordinal < STATUS_NAMES.length; ordinal++) {
+      byte[] name = STATUS_NAMES[ordinal];
+      if (name.length != length) {
+        continue;
+      }
+      int i = 0;
+      while (i < length && buffer.get(from + i) == name[i]) {
+        i++;
+      }
+      if (i == length) {
+        return ordinal;
+      }
+    }
+    return -1;
+  }
+
+  private static int hexValue(byte b) {
+    if (b >= '0' && b <= '9') {
+      return b - '0';
+    }
+    if (b >= 'a' && b <= 'f') {
+      return b - 'a' + 10;
+    }
+    if (b >= 'A' && b <= 'F') {
+      return b - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static int nextLine(MappedByteBuffer buffer, int from, int end) {
+    int position = from;
+    while (position < end && buffer.get(position) != '\n') {
+      position++;
+    }
+    return position + 1;
+  }
+
+  private static int lastNewline(MappedByteBuffer buffer, int end) {
+    for (int i = end - 1; i >= 0; i--) {
+      if (buffer.get(i) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static byte[][] statusNames() {
+    PaymentStatus[] values = PaymentStatus.values();
+    byte[][] names = new byte[values.length][];
+    for (PaymentStatus status : values) {
+      names[status.ordinal()] = status.name().getBytes(StandardCharsets.US_ASCII);
+    }
+    return names;
+  }
+}
@@ -0,0 +1,114 @@
+package run.bemin.api.settlement.service;
+
+import java.util.UUID;
+
+/*
+ * 가게 x 결제 수단 정산 누적기 (단일 스레드 전용)
+ * - 가게 UUID 를 (msb, lsb) long 두 개로 저장하는 open addressing 해시 테이블
+ * - 건수/금액은 [슬롯 * 결제수단 수 + 결제수단 ordinal] 위치의 long 배열에 누적하여
+ *   결제 한 건당 객체 할당 없이 합산한다.
+ */
+final class SettlementAccumulator {
+
+  private static final int DEFAULT_CAPACITY = 1 << 10;
+
+  private final int methodCount;
+  private long[] msbs;
+  private long[] lsbs;
+  private boolean[] occupied;
+  private long[] counts;
+  private long[] amounts;
+  private int size;
+
+  SettlementAccumulator(int methodCount) {
+    this.methodCount = methodCount;
+    allocate(DEFAULT_CAPACITY);
+  }
+
+  void add(long msb, long lsb, int methodOrdinal, long countDelta, long amountDelta) {
+    int base = slotOf(msb, lsb) * methodCount + methodOrdinal;
+    counts[base] += countDelta;
+    amounts[base] += amountDelta;
+  }
+
+  int storeCount() {
+    return size;
+  }
+
+  void forEach(EntryConsumer consumer) {
+    for (int slot = 0; slot < occupied.length; slot++) {
+      if (!occupied[slot]) {
+        continue;
+      }
+      UUID storeId = new UUID(msbs[slot], lsbs[slot]);
+      for (int method = 0; method < methodCount; method++) {
+        int index = slot * methodCount + method;
+        if (counts[index] != 0 || amounts[index] != 0) {
+          consumer.accept(storeId, method, counts[index], amounts[index]);
+        }
+      }
+    }
+  }
+
+  private int slotOf(long msb, long lsb) {
+    int mask = occupied.length - 1;
+    int slot = mix(msb, lsb) & mask;
+    while (occupied[slot]) {
+      if (msbs[slot] == msb && lsbs[slot] == lsb) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    // 적재율 1/2 를 넘으면 확장 후 다시 찾는다.
+    if ((size + 1) * 2 > occupied.length) {
+      resize();
+      return slotOf(msb, lsb);
+    }
+    occupied[slot] = true;
+    msbs[slot] = msb;
+    lsbs[slot] = lsb;
+    size++;
+    return slot;
+  }
+
+  private void resize() {
+    long[] oldMsbs = msbs;
+    long[] oldLsbs = lsbs;
+    boolean[] oldOccupied = occupied;
+    long[] oldCounts = counts;
+    long[] oldAmounts = amounts;
+
+    allocate(oldOccupied.length << 1);
+    for (int slot = 0; slot < oldOccupied.length; slot++) {
+      if (!oldOccupied[slot]) {
+        continue;
+      }
+      int target = slotOf(oldMsbs[slot], oldLsbs[slot]);
+      System.arraycopy(oldCounts, slot * methodCount, counts, target * methodCount, methodCount);
+      System.arraycopy(oldAmounts, slot * methodCount, amounts, target * methodCount, methodCount);
+    }
+  }
+
+  private void allocate(int capacity) {
+    msbs = new long[capacity];
+    lsbs = new long[capacity];
+    occupied = new boolean[capacity];
+    counts = new long[capacity * methodCount];
+    amounts = new long[capacity * methodCount];
+    size = 0;
+  }
+
+  private static int mix(long msb, long lsb) {
+    long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(UUID storeId, int methodOrdinal, long paymentCount, long totalAmount);
+  }
+}
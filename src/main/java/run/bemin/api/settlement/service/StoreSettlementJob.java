@@ -0,0 +1,185 @@
+package run.bemin.api.settlement.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.bemin.api.payment.domain.PaymentEventType;
+import run.bemin.api.payment.domain.PaymentMethod;
+import run.bemin.api.settlement.domain.SettlementRunStatus;
+import run.bemin.api.settlement.dto.SettlementReport;
+import run.bemin.api.settlement.repository.SettlementJdbcRepository;
+import run.bemin.api.settlement.repository.SettlementJdbcRepository.PartitionRun;
+
+/*
+ * 가게 일 정산
+ * - 가게를 partitions 개의 해시 파티션으로 나누고 ForkJoinPool 에서 파티션별로 병렬 처리
+ * - 파티션마다 payment_event 원장을 forward-only 커서로 스트리밍하며 SettlementAccumulator 에 합산
+ *   (승인은 +, 취소는 - 로 반영한 순 정산액. 힙에 결제 목록을 올리지 않음)
+ * - 파티션 결과는 배치 insert 로 교체 저장하고 settlement_partition_run 에 완료를 기록
+ * - 같은 날짜로 다시 실행하면 완료되지 않은 파티션만 처리한다.
+ */
+@Slf4j
+@Service
+public class StoreSettlementJob {
+
+  private static final PaymentMethod[] METHODS = PaymentMethod.values();
+  private static final String CANCELED = PaymentEventType.CANCELED.name();
+
+  private final SettlementJdbcRepository settlementJdbcRepository;
+  private final TransactionTemplate readTransaction;
+  private final TransactionTemplate writeTransaction;
+  private final ForkJoinPool pool;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @Value("${bemin.settlement.partitions:16}")
+  private int partitionCount;
+
+  @Value("${bemin.settlement.fetch-size:10000}")
+  private int fetchSize;
+
+  @Value("${bemin.settlement.batch-size:1000}")
+  private int batchSize;
+
+  public StoreSettlementJob(SettlementJdbcRepository settlementJdbcRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${bemin.settlement.parallelism:4}") int parallelism) {
+    this.settlementJdbcRepository = settlementJdbcRepository;
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+    // 파티션마다 커넥션을 하나씩 잡으므로 커넥션 풀 크기보다 작게 둔다.
+    this.pool = new ForkJoinPool(Math.max(parallelism, 1));
+  }
+
+  @Scheduled(cron = "${bemin.settlement.cron:0 30 3 * * *}")
+  public void settleYesterday() {
+    try {
+      run(LocalDate.now().minusDays(1));
+    } catch (IllegalStateException e) {
+      log.warn("Skip scheduled settlement. {}", e.getMessage());
+    }
+  }
+
+  public SettlementReport run(LocalDate date) {
+    if (date == null || !date.isBefore(LocalDate.now())) {
+      throw new IllegalArgumentException("Settlement date must be before today!!");
+    }
+    if (!running.compareAndSet(false, true)) {
+      throw new IllegalStateException("Settlement is already running!!");
+    }
+    try {
+      return settle(date);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private SettlementReport settle(LocalDate date) {
+    long startedAt = System.nanoTime();
+    Set<Integer> completed = completedPartitions(date);
+
+    List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+    for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+      if (!completed.contains(partitionNo)) {
+        int target = partitionNo;
+        tasks.add(pool.submit(() -> settlePartition(date, target)));
+      }
+    }
+
+    long rowCount = 0;
+    int failed = 0;
+    for (ForkJoinTask<Long> task : tasks) {
+      try {
+        rowCount += task.get();
+      } catch (ExecutionException e) {
+        failed++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Settlement interrupted!!", e);
+      }
+    }
+
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+    SettlementReport report = new SettlementReport(date, partitionCount, tasks.size() - failed,
+        completed.size(), failed, rowCount, elapsedMillis, rowsPerSecond(rowCount, elapsedMillis));
+    log.info("Settlement finished. {}", report);
+    return report;
+  }
+
+  // 파티션 수가 바뀌었으면 이전 결과를 버리고 처음부터 정산한다.
+  private Set<Integer> completedPartitions(LocalDate date) {
+    List<PartitionRun> runs = settlementJdbcRepository.findRuns(date);
+    if (runs.stream().anyMatch(run -> run.partitionCount() != partitionCount)) {
+      log.info("Settlement partition count changed. reset date = {}", date);
+      writeTransaction.executeWithoutResult(status -> settlementJdbcRepository.deleteDate(date));
+      return Set.of();
+    }
+    return runs.stream()
+        .filter(run -> run.status() == SettlementRunStatus.COMPLETED)
+        .map(PartitionRun::partitionNo)
+        .collect(Collectors.toSet());
+  }
+
+  private long settlePartition(LocalDate date, int partitionNo) {
+    long startedAt = System.nanoTime();
+    writeTransaction.executeWithoutResult(
+        status -> settlementJdbcRepository.markRunning(date, partitionNo, partitionCount));
+
+    try {
+      SettlementAccumulator accumulator = new SettlementAccumulator(METHODS.length);
+      long[] rowCount = new long[1];
+      readTransaction.executeWithoutResult(status ->
+          settlementJdbcRepository.streamSettlementEvents(date, partitionCount, partitionNo, fetchSize, rs -> {
+            UUID storeId = rs.getObject(1, UUID.class);
+            int method = PaymentMethod.valueOf(rs.getString(2)).ordinal();
+            int sign = CANCELED.equals(rs.getString(3)) ? -1 : 1;
+            accumulator.add(storeId.getMostSignificantBits(), storeId.getLeastSignificantBits(), method,
+                sign, sign * rs.getLong(4));
+            rowCount[0]++;
+          }));
+
+      List<StoreSettlementRow> rows = new ArrayList<>(accumulator.storeCount());
+      accumulator.forEach((storeId, method, paymentCount, totalAmount) ->
+          rows.add(new StoreSettlementRow(storeId, METHODS[method], paymentCount, totalAmount)));
+
+      writeTransaction.executeWithoutResult(status -> {
+        settlementJdbcRepository.replacePartition(date, partitionNo, rows, batchSize);
+        settlementJdbcRepository.markFinished(date, partitionNo, SettlementRunStatus.COMPLETED, rowCount[0]);
+      });
+
+      long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+      log.info("Settlement partition done. date = {}, partition = {}/{}, rows = {}, stores = {}, {} rows/s",
+          date, partitionNo, partitionCount, rowCount[0], accumulator.storeCount(),
+          rowsPerSecond(rowCount[0], elapsedMillis));
+      return rowCount[0];
+    } catch (RuntimeException e) {
+      log.error("Settlement partition failed. date = {}, partition = {}", date, partitionNo, e);
+      writeTransaction.executeWithoutResult(
+          status -> settlementJdbcRepository.markFinished(date, partitionNo, SettlementRunStatus.FAILED, 0));
+      throw e;
+    }
+  }
+
+  private static long rowsPerSecond(long rows, long elapsedMillis) {
+    return elapsedMillis == 0 ? rows * 1000 : rows * 1000 / elapsedMillis;
+  }
+}
@@ -0,0 +1,7 @@
+package run.bemin.api.settlement.service;
+
+import java.util.UUID;
+import run.bemin.api.payment.domain.PaymentMethod;
+
+public record StoreSettlementRow(UUID storeId, PaymentMethod paymentMethod, long paymentCount, long totalAmount) {
+}
@@ -0,0 +1,40 @@
+package run.bemin.api.stats.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.stats.dto.StoreHourlyStatsDto;
+import run.bemin.api.stats.service.StoreStatsService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/store")
+@RestController
+public class StoreStatsController {
+
+  private final StoreStatsService storeStatsService;
+
+  /**
+   * 가게 시간대별 주문/매출 집계 조회
+   */
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @GetMapping("/{storeId}/stats/hourly")
+  public ResponseEntity<ApiResponse<List<StoreHourlyStatsDto>>> getHourlyStats(
+      @PathVariable UUID storeId,
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+    List<StoreHourlyStatsDto> stats = storeStatsService.getHourlyStats(storeId, from, to);
+
+    return ResponseEntity.ok(ApiResponse.from(HttpStatus.OK, "성공", stats));
+  }
+}
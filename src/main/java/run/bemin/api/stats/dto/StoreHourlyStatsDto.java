@@ -0,0 +1,30 @@
+package run.bemin.api.stats.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+import run.bemin.api.stats.entity.StoreHourlyStats;
+
+public record StoreHourlyStatsDto(
+    UUID storeId,
+    LocalDateTime bucketHour,
+    OrderType orderType,
+    OrderStatus orderStatus,
+    long orderCount,
+    long paymentCount,
+    long revenue
+) {
+
+  public static StoreHourlyStatsDto fromEntity(StoreHourlyStats stats) {
+    return new StoreHourlyStatsDto(
+        stats.getStoreId(),
+        stats.getBucketHour(),
+        OrderType.fromCode(stats.getOrderType()),
+        OrderStatus.fromCode(stats.getOrderStatus()),
+        stats.getOrderCount(),
+        stats.getPaymentCount(),
+        stats.getRevenue()
+    );
+  }
+}
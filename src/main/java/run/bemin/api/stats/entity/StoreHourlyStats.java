@@ -0,0 +1,52 @@
+package run.bemin.api.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 가게별 시간 단위 주문/매출 집계 (대시보드 조회 전용)
+ * StoreStatsAggregator 가 주기적으로 증분 값을 upsert 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(StoreHourlyStatsId.class)
+@Table(name = "store_hourly_stats")
+public class StoreHourlyStats {
+
+  @Id
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Id
+  @Column(name = "bucket_hour", nullable = false)
+  private LocalDateTime bucketHour; // 집계 시간 (정시 단위)
+
+  @Id
+  @Column(name = "order_type", nullable = false)
+  private Integer orderType; // OrderType 코드
+
+  @Id
+  @Column(name = "order_status", nullable = false)
+  private Integer orderStatus; // OrderStatus 코드
+
+  @Column(name = "order_count", nullable = false)
+  private long orderCount; // 해당 상태로 전환된 주문 수
+
+  @Column(name = "payment_count", nullable = false)
+  private long paymentCount; // 결제 완료 건수
+
+  @Column(name = "revenue", nullable = false)
+  private long revenue; // 결제 완료 금액
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package run.bemin.api.stats.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StoreHourlyStatsId implements Serializable {
+
+  private UUID storeId;
+  private LocalDateTime bucketHour;
+  private Integer orderType;
+  private Integer orderStatus;
+}
@@ -0,0 +1,43 @@
+package run.bemin.api.stats.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.stats.service.StoreStatsDelta;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreHourlyStatsJdbcRepository {
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO store_hourly_stats
+        (store_id, bucket_hour, order_type, order_status, order_count, payment_count, revenue, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?, now())
+      ON CONFLICT (store_id, bucket_hour, order_type, order_status) DO UPDATE SET
+        order_count = store_hourly_stats.order_count + EXCLUDED.order_count,
+        payment_count = store_hourly_stats.payment_count + EXCLUDED.payment_count,
+        revenue = store_hourly_stats.revenue + EXCLUDED.revenue,
+        updated_at = EXCLUDED.updated_at
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 증분 값을 한 번의 배치로 누적 반영 (전부 반영되거나 전부 롤백)
+   */
+  @Transactional
+  public void upsertAll(List<StoreStatsDelta> deltas) {
+    jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+      ps.setObject(1, delta.key().storeId());
+      ps.setTimestamp(2, Timestamp.valueOf(delta.key().bucketHour()));
+      ps.setInt(3, delta.key().orderType());
+      ps.setInt(4, delta.key().orderStatus());
+      ps.setLong(5, delta.orderCount());
+      ps.setLong(6, delta.paymentCount());
+      ps.setLong(7, delta.revenue());
+    });
+  }
+}
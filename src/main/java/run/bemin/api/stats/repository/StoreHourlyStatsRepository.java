@@ -0,0 +1,14 @@
+package run.bemin.api.stats.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import run.bemin.api.stats.entity.StoreHourlyStats;
+import run.bemin.api.stats.entity.StoreHourlyStatsId;
+
+public interface StoreHourlyStatsRepository extends JpaRepository<StoreHourlyStats, StoreHourlyStatsId> {
+
+  List<StoreHourlyStats> findAllByStoreIdAndBucketHourBetweenOrderByBucketHour(
+      UUID storeId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,125 @@
+package run.bemin.api.stats.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.general.transaction.TransactionCallbacks;
+import run.bemin.api.order.entity.Order;
+import run.bemin.api.order.entity.OrderStatus;
+import run.bemin.api.order.entity.OrderType;
+import run.bemin.api.stats.repository.StoreHourlyStatsJdbcRepository;
+
+/*
+ * 가게별 시간 단위 주문/매출 증분 집계
+ * - 주문 상태 전환, 결제 완료 시 (가게, 시간, 주문타입, 주문상태) 키의 LongAdder 를 증가
+ * - 주기적으로 누적분을 비우고(sumThenReset) store_hourly_stats 에 upsert
+ * 트랜잭션 안에서 호출되면 커밋 이후에만 반영한다.
+ * 증가와 카운터 제거는 모두 ConcurrentHashMap.compute 계열로 같은 키 잠금 안에서 하므로,
+ * 제거된 카운터에 뒤늦게 더해져 사라지는 증분이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreStatsAggregator {
+
+  private final StoreHourlyStatsJdbcRepository statsJdbcRepository;
+  private final Map<StoreStatsKey, StatsCounter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * 주문이 현재 상태로 전환된 것을 집계
+   */
+  public void recordOrder(Order order) {
+    StoreStatsKey key = keyOf(order.getStoreId(), order.getOrderType(), order.getOrderStatus());
+    if (key == null) {
+      return;
+    }
+    TransactionCallbacks.afterCommit(() -> add(key, 1, 0, 0));
+  }
+
+  /**
+   * 결제 완료 금액을 주문의 현재 상태 기준으로 집계
+   */
+  public void recordPayment(UUID storeId, OrderType orderType, OrderStatus orderStatus, int amount) {
+    StoreStatsKey key = keyOf(storeId, orderType, orderStatus);
+    if (key == null) {
+      return;
+    }
+    TransactionCallbacks.afterCommit(() -> add(key, 0, 1, amount));
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.stats.flush-interval-ms:10000}")
+  public void flush() {
+    // 현재/직전 시간 버킷만 메모리에 유지하고, 그 이전 버킷은 비운 뒤 그사이 증가가 없었을 때만 제거
+    LocalDateTime oldestLiveBucket = currentBucket().minusHours(1);
+    List<StoreStatsDelta> deltas = new ArrayList<>();
+
+    for (Map.Entry<StoreStatsKey, StatsCounter> entry : counters.entrySet()) {
+      StoreStatsKey key = entry.getKey();
+      StoreStatsDelta delta = entry.getValue().drain(key);
+      if (!delta.isEmpty()) {
+        deltas.add(delta);
+      }
+      if (key.bucketHour().isBefore(oldestLiveBucket)) {
+        counters.computeIfPresent(key, (k, counter) -> counter.isZero() ? null : counter);
+      }
+    }
+
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    try {
+      statsJdbcRepository.upsertAll(deltas);
+    } catch (DataAccessException e) {
+      // upsertAll 은 한 트랜잭션이므로 실패하면 아무것도 반영되지 않는다. 증분을 카운터에 되돌려 다음 flush 에 함께 보낸다.
+      log.error("Failed to flush store hourly stats. size = {}", deltas.size(), e);
+      deltas.forEach(delta -> add(delta.key(), delta.orderCount(), delta.paymentCount(), delta.revenue()));
+    }
+  }
+
+  private void add(StoreStatsKey key, long orderCount, long paymentCount, long revenue) {
+    counters.compute(key, (k, counter) -> {
+      StatsCounter target = counter != null ? counter : new StatsCounter();
+      target.orderCount.add(orderCount);
+      target.paymentCount.add(paymentCount);
+      target.revenue.add(revenue);
+      return target;
+    });
+  }
+
+  private StoreStatsKey keyOf(UUID storeId, OrderType orderType, OrderStatus orderStatus) {
+    if (storeId == null || orderType == null || orderStatus == null) {
+      return null;
+    }
+    return new StoreStatsKey(storeId, currentBucket(), orderType.getCode(), orderStatus.getCode());
+  }
+
+  private LocalDateTime currentBucket() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+  }
+
+  private static class StatsCounter {
+    private final LongAdder orderCount = new LongAdder();
+    private final LongAdder paymentCount = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+
+    private boolean isZero() {
+      return orderCount.sum() == 0 && paymentCount.sum() == 0 && revenue.sum() == 0;
+    }
+
+    private StoreStatsDelta drain(StoreStatsKey key) {
+      return new StoreStatsDelta(key, orderCount.sumThenReset(), paymentCount.sumThenReset(),
+          revenue.sumThenReset());
+    }
+  }
+}
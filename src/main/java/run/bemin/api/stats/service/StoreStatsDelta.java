@@ -0,0 +1,13 @@
+package run.bemin.api.stats.service;
+
+public record StoreStatsDelta(
+    StoreStatsKey key,
+    long orderCount,
+    long paymentCount,
+    long revenue
+) {
+
+  public boolean isEmpty() {
+    return orderCount == 0 && paymentCount == 0 && revenue == 0;
+  }
+}
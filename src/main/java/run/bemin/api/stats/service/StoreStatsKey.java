@@ -0,0 +1,12 @@
+package run.bemin.api.stats.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StoreStatsKey(
+    UUID storeId,
+    LocalDateTime bucketHour,
+    int orderType,
+    int orderStatus
+) {
+}
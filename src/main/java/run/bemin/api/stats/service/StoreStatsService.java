@@ -0,0 +1,31 @@
+package run.bemin.api.stats.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.stats.dto.StoreHourlyStatsDto;
+import run.bemin.api.stats.repository.StoreHourlyStatsRepository;
+
+@Service
+@RequiredArgsConstructor
+public class StoreStatsService {
+
+  private final StoreHourlyStatsRepository storeHourlyStatsRepository;
+
+  /**
+   * 가게 대시보드 시간대별 집계 조회 (집계 테이블만 조회)
+   */
+  @Transactional(readOnly = true)
+  public List<StoreHourlyStatsDto> getHourlyStats(UUID storeId, LocalDateTime from, LocalDateTime to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("from must not be after to");
+    }
+    return storeHourlyStatsRepository.findAllByStoreIdAndBucketHourBetweenOrderByBucketHour(storeId, from, to)
+        .stream()
+        .map(StoreHourlyStatsDto::fromEntity)
+        .toList();
+  }
+}
@@ -1,22 +1,35 @@
 package run.bemin.api.store.controller;
 
 import static run.bemin.api.store.dto.StoreResponseCode.STORE_CREATED;
+import static run.bemin.api.store.dto.StoreResponseCode.STORE_DELETED;
 import static run.bemin.api.store.dto.StoreResponseCode.STORE_FETCHED;
+import static run.bemin.api.store.dto.StoreResponseCode.STORE_UPDATED;
 
+import jakarta.validation.Valid;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import run.bemin.api.general.response.ApiResponse;
 import run.bemin.api.security.UserDetailsImpl;
+import run.bemin.api.store.dto.StoreDeliveryZonesDto;
 import run.bemin.api.store.dto.StoreDto;
+import run.bemin.api.store.dto.StoreHoursDto;
 import run.bemin.api.store.dto.request.CreateStoreRequestDto;
+import run.bemin.api.store.dto.request.SoftDeleteStoreRequestDto;
+import run.bemin.api.store.dto.request.UpdateStoreRequestDto;
+import run.bemin.api.store.service.StoreDeliveryZoneService;
+import run.bemin.api.store.service.StoreHoursService;
 import run.bemin.api.store.service.StoreService;
 
 @RequiredArgsConstructor
@@ -25,6 +38,8 @@ import run.bemin.api.store.service.StoreService;
 public class AdminStoreController {
 
   private final StoreService storeService;
+  private final StoreHoursService storeHoursService;
+  private final StoreDeliveryZoneService storeDeliveryZoneService;
 
 
   @GetMapping("/{storeName}")
@@ -39,7 +54,7 @@ public class AdminStoreController {
   @PreAuthorize("not hasRole('CUSTOMER')")
   @PostMapping
   public ResponseEntity<ApiResponse<StoreDto>> createStore(
-      @RequestBody CreateStoreRequestDto requestDto,
+      @Valid @RequestBody CreateStoreRequestDto requestDto,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
     StoreDto storeDto = storeService.createStore(requestDto, userDetails);
 
@@ -48,5 +63,58 @@ public class AdminStoreController {
         .body(ApiResponse.from(STORE_CREATED.getStatus(), STORE_CREATED.getMessage(), storeDto));
   }
 
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @PatchMapping
+  public ResponseEntity<ApiResponse<StoreDto>> updateStore(
+      @Valid @RequestBody UpdateStoreRequestDto requestDto,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    StoreDto storeDto = storeService.updateStore(requestDto, userDetails);
+
+    return ResponseEntity
+        .status(STORE_UPDATED.getStatus())
+        .body(ApiResponse.from(STORE_UPDATED.getStatus(), STORE_UPDATED.getMessage(), storeDto));
+  }
+
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @DeleteMapping
+  public ResponseEntity<ApiResponse<StoreDto>> softDeleteStore(
+      @RequestBody SoftDeleteStoreRequestDto requestDto,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    StoreDto storeDto = storeService.softDeleteStore(requestDto, userDetails);
+
+    return ResponseEntity
+        .status(STORE_DELETED.getStatus())
+        .body(ApiResponse.from(STORE_DELETED.getStatus(), STORE_DELETED.getMessage(), storeDto));
+  }
+
+  /**
+   * 영업 시간/휴무일 전체 교체
+   */
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @PutMapping("/{storeId}/hours")
+  public ResponseEntity<ApiResponse<StoreHoursDto>> replaceStoreHours(
+      @PathVariable UUID storeId,
+      @Valid @RequestBody StoreHoursDto requestDto) {
+    StoreHoursDto hours = storeHoursService.replaceHours(storeId, requestDto);
+
+    return ResponseEntity
+        .status(STORE_UPDATED.getStatus())
+        .body(ApiResponse.from(STORE_UPDATED.getStatus(), STORE_UPDATED.getMessage(), hours));
+  }
+
+  /**
+   * 배달 구역 전체 교체
+   */
+  @PreAuthorize("not hasRole('CUSTOMER')")
+  @PutMapping("/{storeId}/delivery-zones")
+  public ResponseEntity<ApiResponse<StoreDeliveryZonesDto>> replaceStoreDeliveryZones(
+      @PathVariable UUID storeId,
+      @Valid @RequestBody StoreDeliveryZonesDto requestDto) {
+    StoreDeliveryZonesDto zones = storeDeliveryZoneService.replaceZones(storeId, requestDto);
+
+    return ResponseEntity
+        .status(STORE_UPDATED.getStatus())
+        .body(ApiResponse.from(STORE_UPDATED.getStatus(), STORE_UPDATED.getMessage(), zones));
+  }
 
 }
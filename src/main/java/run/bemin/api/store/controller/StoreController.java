@@ -1,8 +1,33 @@
 package run.bemin.api.store.controller;
 
+import static run.bemin.api.store.dto.StoreResponseCode.STORES_FETCHED;
+import static run.bemin.api.store.dto.StoreResponseCode.STORE_FETCHED;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import run.bemin.api.general.response.ApiResponse;
+import run.bemin.api.store.dto.NearbyStoreDto;
+import run.bemin.api.store.dto.StoreBrowseDto;
+import run.bemin.api.store.dto.StoreDeliveryZonesDto;
+import run.bemin.api.store.dto.StoreDetailDto;
+import run.bemin.api.store.dto.StoreHoursDto;
+import run.bemin.api.store.dto.StoreSummaryDto;
+import run.bemin.api.store.service.StoreDeliveryZoneService;
+import run.bemin.api.store.service.StoreHoursService;
+import run.bemin.api.store.service.StoreQueryService;
 import run.bemin.api.store.service.StoreService;
 
 @RequiredArgsConstructor
@@ -11,6 +36,90 @@ import run.bemin.api.store.service.StoreService;
 public class StoreController {
 
   private final StoreService storeService;
+  private final StoreQueryService storeQueryService;
+  private final StoreHoursService storeHoursService;
+  private final StoreDeliveryZoneService storeDeliveryZoneService;
+
+  @GetMapping
+  public ResponseEntity<ApiResponse<Page<StoreSummaryDto>>> getStores(
+      @RequestParam(value = "page", defaultValue = "0") Integer page,
+      @RequestParam(value = "size", defaultValue = "10") Integer size,
+      @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
+      @RequestParam(value = "isAsc", defaultValue = "false") Boolean isAsc
+  ) {
+    Page<StoreSummaryDto> stores = storeQueryService.getStores(page, size, sortBy, isAsc);
+
+    return ResponseEntity.ok(
+        ApiResponse.from(STORES_FETCHED.getStatus(), STORES_FETCHED.getMessage(), stores));
+  }
+
+  /**
+   * 가게 상세 (ETag 가 같으면 상세를 읽지 않고 304, 영업 중 여부가 바뀌어도 ETag 가 바뀐다)
+   */
+  @GetMapping("/{storeId}")
+  public ResponseEntity<ApiResponse<StoreDetailDto>> getStore(@PathVariable UUID storeId, WebRequest webRequest) {
+    Instant now = Instant.now();
+    String etag = storeQueryService.getStoreEtag(storeId, now);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+
+    StoreDetailDto store = storeQueryService.getStore(storeId, now);
+
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResponse.from(STORE_FETCHED.getStatus(), STORE_FETCHED.getMessage(), store));
+  }
+
+  @GetMapping("/{storeId}/hours")
+  public ResponseEntity<ApiResponse<StoreHoursDto>> getStoreHours(@PathVariable UUID storeId) {
+    StoreHoursDto hours = storeHoursService.getHours(storeId);
+
+    return ResponseEntity.ok(
+        ApiResponse.from(STORE_FETCHED.getStatus(), STORE_FETCHED.getMessage(), hours));
+  }
+
+  @GetMapping("/{storeId}/delivery-zones")
+  public ResponseEntity<ApiResponse<StoreDeliveryZonesDto>> getStoreDeliveryZones(@PathVariable UUID storeId) {
+    StoreDeliveryZonesDto zones = storeDeliveryZoneService.getZones(storeId);
+
+    return ResponseEntity.ok(
+        ApiResponse.from(STORE_FETCHED.getStatus(), STORE_FETCHED.getMessage(), zones));
+  }
+
+  /**
+   * 카테고리별 가게 목록 (최신 등록 순, 마지막 항목의 createdAt/storeId 를 커서로 사용)
+   */
+  @GetMapping("/categories/{categoryId}")
+  public ResponseEntity<ApiResponse<List<StoreBrowseDto>>> getStoresByCategory(
+      @PathVariable UUID categoryId,
+      @RequestParam(value = "cursorCreatedAt", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+      @RequestParam(value = "cursorStoreId", required = false) UUID cursorStoreId,
+      @RequestParam(value = "size", defaultValue = "20") Integer size
+  ) {
+    List<StoreBrowseDto> stores = storeQueryService.getStoresByCategory(categoryId, cursorCreatedAt, cursorStoreId,
+        size);
+
+    return ResponseEntity.ok(
+        ApiResponse.from(STORES_FETCHED.getStatus(), STORES_FETCHED.getMessage(), stores));
+  }
 
+  @GetMapping("/nearby")
+  public ResponseEntity<ApiResponse<List<NearbyStoreDto>>> getNearbyStores(
+      @RequestParam(value = "latitude") Double latitude,
+      @RequestParam(value = "longitude") Double longitude,
+      @RequestParam(value = "radius", defaultValue = "3000") Integer radius,
+      @RequestParam(value = "size", defaultValue = "20") Integer size,
+      @RequestParam(value = "categoryId", required = false) UUID categoryId,
+      @RequestParam(value = "openOnly", defaultValue = "true") Boolean openOnly,
+      @RequestParam(value = "bcode", required = false) String bcode
+  ) {
+    List<NearbyStoreDto> stores = storeService.findNearbyStores(latitude, longitude, radius, size, categoryId,
+        openOnly, bcode);
 
+    return ResponseEntity.ok(
+        ApiResponse.from(STORES_FETCHED.getStatus(), STORES_FETCHED.getMessage(), stores));
+  }
 }
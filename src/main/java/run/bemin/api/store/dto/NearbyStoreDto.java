@@ -0,0 +1,17 @@
+package run.bemin.api.store.dto;
+
+import java.util.UUID;
+
+/**
+ * deliveryFee : 요청 법정동 기준 배달비 (법정동을 주지 않았거나 가게에 배달 구역이 없으면 null)
+ */
+public record NearbyStoreDto(
+    UUID storeId,
+    String name,
+    Integer minimumPrice,
+    double latitude,
+    double longitude,
+    int distanceMeters,
+    Integer deliveryFee
+) {
+}
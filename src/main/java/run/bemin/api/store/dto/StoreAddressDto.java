@@ -0,0 +1,29 @@
+package run.bemin.api.store.dto;
+
+import run.bemin.api.store.entity.StoreAddress;
+
+public record StoreAddressDto(
+    String zoneCode,
+    String bcode,
+    String jibunAddress,
+    String roadAddress,
+    String detail,
+    Double latitude,
+    Double longitude
+) {
+
+  public static StoreAddressDto fromEntity(StoreAddress storeAddress) {
+    if (storeAddress == null) {
+      return null;
+    }
+    return new StoreAddressDto(
+        storeAddress.getZoneCode(),
+        storeAddress.getBcode(),
+        storeAddress.getJibunAddress(),
+        storeAddress.getRoadAddress(),
+        storeAddress.getDetail(),
+        storeAddress.getLatitude(),
+        storeAddress.getLongitude()
+    );
+  }
+}
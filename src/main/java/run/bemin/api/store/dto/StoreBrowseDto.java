@@ -0,0 +1,20 @@
+package run.bemin.api.store.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 카테고리별 가게 목록 카드 (store_category_browse 한 행)
+ */
+public record StoreBrowseDto(
+    UUID storeId,
+    String name,
+    Boolean isPrimary,
+    Integer minimumPrice,
+    Float rating,
+    String roadAddress,
+    Double latitude,
+    Double longitude,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package run.bemin.api.store.dto;
+
+import java.util.UUID;
+
+/**
+ * 가게-카테고리 연결 프로젝션
+ */
+public record StoreCategoryRow(
+    UUID storeId,
+    UUID categoryId
+) {
+}
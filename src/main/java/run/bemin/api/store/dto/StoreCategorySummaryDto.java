@@ -0,0 +1,28 @@
+package run.bemin.api.store.dto;
+
+import java.util.List;
+import java.util.UUID;
+import run.bemin.api.store.entity.StoreCategory;
+
+public record StoreCategorySummaryDto(
+    UUID categoryId,
+    String name,
+    Boolean isPrimary
+) {
+
+  /**
+   * 삭제되지 않은 카테고리 (대표 카테고리 먼저)
+   * storeCategories 와 category 가 함께 조회된 경우에만 사용한다.
+   */
+  public static List<StoreCategorySummaryDto> fromEntities(List<StoreCategory> storeCategories) {
+    return storeCategories.stream()
+        .filter(storeCategory -> !Boolean.TRUE.equals(storeCategory.getIsDeleted()))
+        .filter(storeCategory -> !Boolean.TRUE.equals(storeCategory.getCategory().getIsDeleted()))
+        .sorted((a, b) -> Boolean.compare(Boolean.TRUE.equals(b.getIsPrimary()), Boolean.TRUE.equals(a.getIsPrimary())))
+        .map(storeCategory -> new StoreCategorySummaryDto(
+            storeCategory.getCategory().getId(),
+            storeCategory.getCategory().getName(),
+            storeCategory.getIsPrimary()))
+        .toList();
+  }
+}
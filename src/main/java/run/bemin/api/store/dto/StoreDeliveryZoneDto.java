@@ -0,0 +1,25 @@
+package run.bemin.api.store.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Set;
+import run.bemin.api.store.entity.StoreDeliveryZone;
+
+public record StoreDeliveryZoneDto(
+    @NotBlank
+    String name,
+
+    @NotNull
+    @PositiveOrZero
+    Integer deliveryFee,
+
+    @NotEmpty
+    Set<@NotBlank String> bcodes
+) {
+
+  public static StoreDeliveryZoneDto fromEntity(StoreDeliveryZone zone) {
+    return new StoreDeliveryZoneDto(zone.getName(), zone.getDeliveryFee(), Set.copyOf(zone.getBcodes()));
+  }
+}
@@ -0,0 +1,13 @@
+package run.bemin.api.store.dto;
+
+import java.util.UUID;
+
+/**
+ * 배달 구역 인덱스 적재용 프로젝션 (활성 가게의 법정동별 배달비)
+ */
+public record StoreDeliveryZoneRow(
+    UUID storeId,
+    String bcode,
+    Integer deliveryFee
+) {
+}
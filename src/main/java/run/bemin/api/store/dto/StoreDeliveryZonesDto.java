@@ -0,0 +1,15 @@
+package run.bemin.api.store.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * 가게 배달 구역 전체 (요청 시 기존 구역을 모두 교체)
+ * 구역이 하나도 없으면 배달 지역 제한이 없는 것으로 본다.
+ */
+public record StoreDeliveryZonesDto(
+    @NotNull
+    List<@Valid StoreDeliveryZoneDto> zones
+) {
+}
@@ -0,0 +1,39 @@
+package run.bemin.api.store.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import run.bemin.api.store.entity.Store;
+
+public record StoreDetailDto(
+    UUID id,
+    String name,
+    String phone,
+    Integer minimumPrice,
+    Float rating,
+    Long ratingCount,
+    Boolean isOpen,
+    String userEmail,
+    StoreAddressDto address,
+    List<StoreCategorySummaryDto> categories,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+  public static StoreDetailDto fromEntity(Store store, Boolean isOpen) {
+    return new StoreDetailDto(
+        store.getId(),
+        store.getName(),
+        store.getPhone(),
+        store.getMinimumPrice(),
+        store.getRating(),
+        store.getRatingCount(),
+        isOpen,
+        store.getUserEmail(),
+        StoreAddressDto.fromEntity(store.getStoreAddress()),
+        StoreCategorySummaryDto.fromEntities(store.getStoreCategories()),
+        store.getCreatedAt(),
+        store.getUpdatedAt()
+    );
+  }
+}
@@ -0,0 +1,15 @@
+package run.bemin.api.store.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게 상세 버전 (가게 수정 시각, 평점 누적값, 연결된 카테고리의 마지막 수정 시각), 상세 ETag 계산용
+ */
+public record StoreDetailVersion(
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long ratingSum,
+    Long ratingCount,
+    LocalDateTime categoriesUpdatedAt
+) {
+}
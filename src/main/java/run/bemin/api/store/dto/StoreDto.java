@@ -28,10 +28,10 @@ public record StoreDto(
         store.getMinimumPrice(),
         store.getRating(),
         store.getIsDeleted(),
+        store.getUserEmail(),
         store.getCreatedBy(),
         store.getUpdatedBy(),
         store.getDeletedBy(),
-        store.getUserEmail(),
         store.getCreatedAt(),
         store.getUpdatedAt(),
         store.getDeletedAt()
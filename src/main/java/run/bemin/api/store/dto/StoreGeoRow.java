@@ -0,0 +1,15 @@
+package run.bemin.api.store.dto;
+
+import java.util.UUID;
+
+/**
+ * 위치 인덱스 적재용 프로젝션 (좌표가 있는 활성 가게)
+ */
+public record StoreGeoRow(
+    UUID storeId,
+    String name,
+    Integer minimumPrice,
+    Double latitude,
+    Double longitude
+) {
+}
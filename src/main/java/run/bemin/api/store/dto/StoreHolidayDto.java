@@ -0,0 +1,23 @@
+package run.bemin.api.store.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import run.bemin.api.store.entity.StoreHoliday;
+
+/**
+ * openTime/closeTime 을 비우면 하루 종일 휴무
+ */
+public record StoreHolidayDto(
+    @NotNull
+    LocalDate date,
+
+    LocalTime openTime,
+
+    LocalTime closeTime
+) {
+
+  public static StoreHolidayDto fromEntity(StoreHoliday holiday) {
+    return new StoreHolidayDto(holiday.getHolidayDate(), holiday.getOpenTime(), holiday.getCloseTime());
+  }
+}
@@ -0,0 +1,17 @@
+package run.bemin.api.store.dto;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * 가게 영업 시간 전체 (요청 시 기존 값을 모두 교체)
+ * operatingHours 가 비어 있으면 24시간 영업으로 본다.
+ */
+public record StoreHoursDto(
+    @Valid
+    List<StoreOperatingHourDto> operatingHours,
+
+    @Valid
+    List<StoreHolidayDto> holidays
+) {
+}
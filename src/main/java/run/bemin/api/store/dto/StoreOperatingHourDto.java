@@ -0,0 +1,22 @@
+package run.bemin.api.store.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import run.bemin.api.store.entity.StoreOperatingHour;
+
+public record StoreOperatingHourDto(
+    @NotNull
+    DayOfWeek dayOfWeek,
+
+    @NotNull
+    LocalTime openTime,
+
+    @NotNull
+    LocalTime closeTime
+) {
+
+  public static StoreOperatingHourDto fromEntity(StoreOperatingHour hour) {
+    return new StoreOperatingHourDto(hour.getDayOfWeek(), hour.getOpenTime(), hour.getCloseTime());
+  }
+}
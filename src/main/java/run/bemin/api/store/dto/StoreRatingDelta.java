@@ -0,0 +1,9 @@
+package run.bemin.api.store.dto;
+
+import java.util.UUID;
+
+/**
+ * 아직 p_store 에 반영되지 않은 가게 평점 증감분
+ */
+public record StoreRatingDelta(UUID storeId, long sumDelta, long countDelta) {
+}
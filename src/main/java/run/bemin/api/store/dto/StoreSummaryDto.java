@@ -0,0 +1,35 @@
+package run.bemin.api.store.dto;
+
+import java.util.List;
+import java.util.UUID;
+import run.bemin.api.store.entity.Store;
+
+/**
+ * 가게 목록 카드
+ */
+public record StoreSummaryDto(
+    UUID id,
+    String name,
+    String phone,
+    Integer minimumPrice,
+    Float rating,
+    Long ratingCount,
+    Boolean isOpen,
+    String roadAddress,
+    List<StoreCategorySummaryDto> categories
+) {
+
+  public static StoreSummaryDto fromEntity(Store store, Boolean isOpen) {
+    return new StoreSummaryDto(
+        store.getId(),
+        store.getName(),
+        store.getPhone(),
+        store.getMinimumPrice(),
+        store.getRating(),
+        store.getRatingCount(),
+        isOpen,
+        store.getStoreAddress() != null ? store.getStoreAddress().getRoadAddress() : null,
+        StoreCategorySummaryDto.fromEntities(store.getStoreCategories())
+    );
+  }
+}
@@ -11,6 +11,10 @@ public class StoreValidationMessages {
   public static final String STORE_MINIMUM_PRICE_BLANK = "최소 주문 금액: 필수 정보입니다.";
   public static final String STORE_MINIMUM_PRICE_INVALID = "최소 주문 금액은 0원 이상이어야 합니다.";
 
+  public static final String STORE_ADDRESS_BLANK = "가게 주소: 필수 정보입니다.";
+  public static final String STORE_LATITUDE_INVALID = "위도는 -90 ~ 90 사이여야 합니다.";
+  public static final String STORE_LONGITUDE_INVALID = "경도는 -180 ~ 180 사이여야 합니다.";
+
   public static final String STORE_IS_ACTIVE_BLANK = "가게 활성화 여부: 필수 정보입니다.";
 
 }
@@ -2,9 +2,12 @@ package run.bemin.api.store.dto.request;
 
 import static run.bemin.api.store.dto.StoreValidationMessages.*;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
 
 public record CreateStoreRequestDto(
     @NotBlank(message = STORE_NAME_BLANK)
@@ -24,6 +27,11 @@ public record CreateStoreRequestDto(
     @Min(value = 0, message = STORE_MINIMUM_PRICE_INVALID)
     Integer minimumPrice,
 
-    String userEmail
+    String userEmail,
+
+    @Valid
+    StoreAddressRequestDto address,
+
+    List<UUID> categoryIds // 첫 번째 카테고리가 대표 카테고리
 ) {
 }
@@ -0,0 +1,8 @@
+package run.bemin.api.store.dto.request;
+
+import java.util.UUID;
+
+public record SoftDeleteStoreRequestDto(
+    UUID storeId
+) {
+}
@@ -0,0 +1,35 @@
+package run.bemin.api.store.dto.request;
+
+import static run.bemin.api.store.dto.StoreValidationMessages.*;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record StoreAddressRequestDto(
+    String zoneCode,
+
+    @NotBlank(message = STORE_ADDRESS_BLANK)
+    String bcode,
+
+    @NotBlank(message = STORE_ADDRESS_BLANK)
+    String jibunAddress,
+
+    @NotBlank(message = STORE_ADDRESS_BLANK)
+    String roadAddress,
+
+    @NotBlank(message = STORE_ADDRESS_BLANK)
+    String detail,
+
+    @NotNull(message = STORE_LATITUDE_INVALID)
+    @DecimalMin(value = "-90.0", message = STORE_LATITUDE_INVALID)
+    @DecimalMax(value = "90.0", message = STORE_LATITUDE_INVALID)
+    Double latitude,
+
+    @NotNull(message = STORE_LONGITUDE_INVALID)
+    @DecimalMin(value = "-180.0", message = STORE_LONGITUDE_INVALID)
+    @DecimalMax(value = "180.0", message = STORE_LONGITUDE_INVALID)
+    Double longitude
+) {
+}
@@ -0,0 +1,34 @@
+package run.bemin.api.store.dto.request;
+
+import static run.bemin.api.store.dto.StoreValidationMessages.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+
+public record UpdateStoreRequestDto(
+    UUID storeId,
+
+    @Pattern(
+        regexp = "^[a-zA-Z가-힣0-9\\s]{1,36}$",
+        message = STORE_NAME_INVALID
+    )
+    String name,
+
+    @Pattern(
+        regexp = "^\\d{10,11}$",
+        message = STORE_PHONE_INVALID
+    )
+    String phone,
+
+    @Min(value = 0, message = STORE_MINIMUM_PRICE_INVALID)
+    Integer minimumPrice,
+
+    @Valid
+    StoreAddressRequestDto address, // null 이면 주소 유지
+
+    List<UUID> categoryIds // null 이면 카테고리 유지
+) {
+}
@@ -17,11 +17,14 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
+import run.bemin.api.general.softdelete.SoftDeleteEntity;
+import run.bemin.api.general.util.NameNormalizer;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "p_store")
-public class Store {
+public class Store extends SoftDeleteEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -31,28 +34,40 @@ public class Store {
   @Column(name = "name", nullable = false)
   private String name;
 
+  // 이름 중복 판별용 (활성 가게 기준 unique 인덱스 uk_store_normalized_name)
+  @Column(name = "normalized_name", nullable = false)
+  private String normalizedName;
+
   @Column(name = "phone", nullable = true)
   private String phone;
 
   @Column(name = "minimum_price")
   private Integer minimumPrice;
 
-  @Column(name = "rating")
+  // 평점은 StoreRatingAccumulator / StoreRatingRecomputeJob 이 SQL 로만 갱신한다.
+  // (엔티티 수정 시 함께 UPDATE 되어 누적값을 덮어쓰지 않도록 updatable = false)
+  @Column(name = "rating", updatable = false)
   private Float rating;
 
+  @Column(name = "rating_sum", nullable = false, updatable = false)
+  private Long ratingSum;
+
+  @Column(name = "rating_count", nullable = false, updatable = false)
+  private Long ratingCount;
+
+  // 메뉴(상품) 버전, 상품이 바뀔 때 같은 트랜잭션에서 SQL 로만 올린다. (StoreRepository.incrementMenuVersion)
+  @Column(name = "menu_version", nullable = false, updatable = false)
+  private Long menuVersion;
+
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "store_address_id")
   private StoreAddress storeAddress;
 
+  // 엔티티의 softDeleteFilter 는 컬렉션 적재에는 걸리지 않으므로 따로 건다.
+  @Filter(name = SoftDeleteEntity.FILTER_NAME)
   @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = false)
   private final List<StoreCategory> storeCategories = new ArrayList<>();
 
-  @Column(name = "is_deleted")
-  private Boolean isDeleted;
-
-  @Column(name = "deleted_at", nullable = true)
-  private LocalDateTime deletedAt;
-
   @Column(name = "user_email", nullable = false)
   private String userEmail;
 
@@ -62,9 +77,6 @@ public class Store {
   @Column(name = "updated_by", nullable = true)
   private String updatedBy;
 
-  @Column(name = "deleted_by", nullable = true)
-  private String deletedBy;
-
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
@@ -73,9 +85,12 @@ public class Store {
 
   private Store(String name, String phone, Integer minimumPrice, String createdBy, String userEmail) {
     this.name = name;
+    this.normalizedName = NameNormalizer.normalize(name);
     this.phone = phone;
     this.minimumPrice = minimumPrice;
-    this.isDeleted = false;
+    this.ratingSum = 0L;
+    this.ratingCount = 0L;
+    this.menuVersion = 0L;
     this.createdBy = createdBy;
     this.userEmail = userEmail;
     this.createdAt = LocalDateTime.now();
@@ -84,4 +99,25 @@ public class Store {
   public static Store create(String name, String phone, Integer minimumPrice, String createdBy, String userEmail) {
     return new Store(name, phone, minimumPrice, createdBy, userEmail);
   }
+
+  public void update(String name, String phone, Integer minimumPrice, String updatedBy) {
+    this.name = name != null ? name : this.name;
+    this.normalizedName = NameNormalizer.normalize(this.name);
+    this.phone = phone != null ? phone : this.phone;
+    this.minimumPrice = minimumPrice != null ? minimumPrice : this.minimumPrice;
+    this.updatedBy = updatedBy;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public void changeAddress(StoreAddress storeAddress) {
+    this.storeAddress = storeAddress;
+  }
+
+  public void addCategory(StoreCategory storeCategory) {
+    this.storeCategories.add(storeCategory);
+  }
+
+  public void softDelete(String deletedBy) {
+    markDeleted(deletedBy, LocalDateTime.now());
+  }
 }
@@ -39,7 +39,41 @@ public class StoreAddress {
   @Column(name = "detail", nullable = false)
   private String detail;
 
+  @Column(name = "latitude")
+  private Double latitude; // 위도 (WGS84)
+
+  @Column(name = "longitude")
+  private Double longitude; // 경도 (WGS84)
+
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "store_id")
   private Store store;
+
+  private StoreAddress(Store store, String zoneCode, String bcode, String jibunAddress, String roadAddress,
+                       String detail, Double latitude, Double longitude) {
+    this.store = store;
+    this.zoneCode = zoneCode;
+    this.bcode = bcode;
+    this.jibunAddress = jibunAddress;
+    this.roadAddress = roadAddress;
+    this.detail = detail;
+    this.latitude = latitude;
+    this.longitude = longitude;
+  }
+
+  public static StoreAddress create(Store store, String zoneCode, String bcode, String jibunAddress,
+                                    String roadAddress, String detail, Double latitude, Double longitude) {
+    return new StoreAddress(store, zoneCode, bcode, jibunAddress, roadAddress, detail, latitude, longitude);
+  }
+
+  public void update(String zoneCode, String bcode, String jibunAddress, String roadAddress, String detail,
+                     Double latitude, Double longitude) {
+    this.zoneCode = zoneCode;
+    this.bcode = bcode;
+    this.jibunAddress = jibunAddress;
+    this.roadAddress = roadAddress;
+    this.detail = detail;
+    this.latitude = latitude;
+    this.longitude = longitude;
+  }
 }
@@ -14,11 +14,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import run.bemin.api.category.entity.Category;
+import run.bemin.api.general.softdelete.SoftDeleteEntity;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "p_store_category")
-public class StoreCategory {
+public class StoreCategory extends SoftDeleteEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -35,32 +36,22 @@ public class StoreCategory {
   @Column(name = "is_primary", nullable = false)
   private Boolean isPrimary;
 
-  @Column(name = "is_deleted", nullable = false)
-  private Boolean isDeleted;
-
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
 
-  @Column(name = "deleted_at")
-  private LocalDateTime deletedAt;
-
   @Column(name = "created_by", nullable = false, updatable = false)
   private String createdBy;
 
   @Column(name = "updated_by")
   private String updatedBy;
 
-  @Column(name = "deleted_by")
-  private String deletedBy;
-
   private StoreCategory(Store store, Category category, Boolean isPrimary, String createdBy) {
     this.store = store;
     this.category = category;
     this.isPrimary = isPrimary != null ? isPrimary : false;
-    this.isDeleted = false;
     this.createdBy = createdBy;
     this.createdAt = LocalDateTime.now();
   }
@@ -70,9 +61,7 @@ public class StoreCategory {
   }
 
   public void softDelete(String deletedBy) {
-    this.isDeleted = true;
-    this.deletedBy = deletedBy;
-    this.deletedAt = LocalDateTime.now();
+    markDeleted(deletedBy, LocalDateTime.now());
   }
 
   public void update(String updatedBy, Boolean isPrimary) {
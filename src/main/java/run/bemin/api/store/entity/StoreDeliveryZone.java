@@ -0,0 +1,62 @@
+package run.bemin.api.store.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 가게 배달 구역 (법정동 코드 묶음 + 구역별 배달비)
+ * 한 법정동이 여러 구역에 들어 있으면 배달비가 가장 낮은 구역을 적용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_store_delivery_zone", indexes = {
+    @Index(name = "idx_store_delivery_zone_store_id", columnList = "store_id")
+})
+public class StoreDeliveryZone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "store_delivery_zone_id", nullable = false, updatable = false)
+  private UUID id;
+
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Column(name = "delivery_fee", nullable = false)
+  private Integer deliveryFee;
+
+  @ElementCollection
+  @CollectionTable(name = "p_store_delivery_zone_bcode",
+      joinColumns = @JoinColumn(name = "store_delivery_zone_id"))
+  @Column(name = "bcode", nullable = false)
+  private Set<String> bcodes = new HashSet<>();
+
+  private StoreDeliveryZone(UUID storeId, String name, Integer deliveryFee, Set<String> bcodes) {
+    this.storeId = storeId;
+    this.name = name;
+    this.deliveryFee = deliveryFee;
+    this.bcodes.addAll(bcodes);
+  }
+
+  public static StoreDeliveryZone create(UUID storeId, String name, Integer deliveryFee, Set<String> bcodes) {
+    return new StoreDeliveryZone(storeId, name, deliveryFee, bcodes);
+  }
+}
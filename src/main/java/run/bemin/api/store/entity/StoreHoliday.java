@@ -0,0 +1,60 @@
+package run.bemin.api.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 특정 날짜의 영업 시간 예외 (해당 날짜에는 요일별 영업 시간 대신 적용)
+ * openTime/closeTime 이 없으면 하루 종일 휴무
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_store_holiday", indexes = {
+    @Index(name = "idx_store_holiday_store_id_date", columnList = "store_id, holiday_date", unique = true)
+})
+public class StoreHoliday {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "store_holiday_id", nullable = false, updatable = false)
+  private UUID id;
+
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Column(name = "holiday_date", nullable = false)
+  private LocalDate holidayDate;
+
+  @Column(name = "open_time")
+  private LocalTime openTime;
+
+  @Column(name = "close_time")
+  private LocalTime closeTime;
+
+  private StoreHoliday(UUID storeId, LocalDate holidayDate, LocalTime openTime, LocalTime closeTime) {
+    this.storeId = storeId;
+    this.holidayDate = holidayDate;
+    this.openTime = openTime;
+    this.closeTime = closeTime;
+  }
+
+  public static StoreHoliday create(UUID storeId, LocalDate holidayDate, LocalTime openTime, LocalTime closeTime) {
+    return new StoreHoliday(storeId, holidayDate, openTime, closeTime);
+  }
+
+  public boolean isClosedAllDay() {
+    return openTime == null || closeTime == null;
+  }
+}
@@ -0,0 +1,60 @@
+package run.bemin.api.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 요일별 영업 시간 (하루에 여러 구간 가능, 브레이크 타임은 구간을 나눠서 표현)
+ * closeTime 이 openTime 보다 이르면 다음 날 새벽까지, 같으면 24시간 영업
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_store_operating_hour", indexes = {
+    @Index(name = "idx_store_operating_hour_store_id", columnList = "store_id")
+})
+public class StoreOperatingHour {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "store_operating_hour_id", nullable = false, updatable = false)
+  private UUID id;
+
+  @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+  private UUID storeId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "day_of_week", nullable = false)
+  private DayOfWeek dayOfWeek;
+
+  @Column(name = "open_time", nullable = false)
+  private LocalTime openTime;
+
+  @Column(name = "close_time", nullable = false)
+  private LocalTime closeTime;
+
+  private StoreOperatingHour(UUID storeId, DayOfWeek dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+    this.storeId = storeId;
+    this.dayOfWeek = dayOfWeek;
+    this.openTime = openTime;
+    this.closeTime = closeTime;
+  }
+
+  public static StoreOperatingHour create(UUID storeId, DayOfWeek dayOfWeek, LocalTime openTime,
+                                          LocalTime closeTime) {
+    return new StoreOperatingHour(storeId, dayOfWeek, openTime, closeTime);
+  }
+}
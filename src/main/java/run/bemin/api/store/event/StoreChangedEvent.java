@@ -0,0 +1,9 @@
+package run.bemin.api.store.event;
+
+import java.util.UUID;
+
+/**
+ * 가게 생성/수정/삭제 이벤트 (커밋 후 조회용 인덱스 갱신에 사용)
+ */
+public record StoreChangedEvent(UUID storeId) {
+}
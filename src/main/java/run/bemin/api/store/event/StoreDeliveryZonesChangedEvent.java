@@ -0,0 +1,9 @@
+package run.bemin.api.store.event;
+
+import java.util.UUID;
+
+/**
+ * 가게 배달 구역 변경 이벤트
+ */
+public record StoreDeliveryZonesChangedEvent(UUID storeId) {
+}
@@ -0,0 +1,9 @@
+package run.bemin.api.store.event;
+
+import java.util.UUID;
+
+/**
+ * 가게 영업 시간/휴무일 변경 이벤트
+ */
+public record StoreHoursChangedEvent(UUID storeId) {
+}
@@ -0,0 +1,8 @@
+package run.bemin.api.store.exception;
+
+public class StoreHoursInvalidException extends RuntimeException {
+
+  public StoreHoursInvalidException(String message) {
+    super(message);
+  }
+}
@@ -1,8 +1,9 @@
 package run.bemin.api.store.exception.handler;
 
-import static run.bemin.api.general.exception.ErrorCode.CATEGORY_ALREADY_EXISTS;
 import static run.bemin.api.general.exception.ErrorCode.CATEGORY_NAME_INVALID;
-import static run.bemin.api.general.exception.ErrorCode.CATEGORY_NOT_FOUND;
+import static run.bemin.api.general.exception.ErrorCode.STORE_ALREADY_EXISTS;
+import static run.bemin.api.general.exception.ErrorCode.STORE_HOURS_INVALID;
+import static run.bemin.api.general.exception.ErrorCode.STORE_NOT_FOUND;
 
 import java.util.List;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import run.bemin.api.general.exception.ErrorResponse;
 import run.bemin.api.general.exception.ErrorResponse.FieldError;
 import run.bemin.api.store.exception.StoreAlreadyExistsByNameException;
+import run.bemin.api.store.exception.StoreHoursInvalidException;
 import run.bemin.api.store.exception.StoreNameInvalidException;
 import run.bemin.api.store.exception.StoreNotFoundException;
 
@@ -19,10 +21,10 @@ public class StoreExceptionHandler {
 
   @ExceptionHandler(StoreNotFoundException.class)
   public ResponseEntity<ErrorResponse> CategoryNotFoundException(StoreNotFoundException e) {
-    List<FieldError> errors = FieldError.of("id", e.getMessage(), CATEGORY_NOT_FOUND.getMessage());
+    List<FieldError> errors = FieldError.of("id", e.getMessage(), STORE_NOT_FOUND.getMessage());
 
-    return ResponseEntity.status(CATEGORY_NOT_FOUND.getStatus())
-        .body(ErrorResponse.of(CATEGORY_NOT_FOUND, errors));
+    return ResponseEntity.status(STORE_NOT_FOUND.getStatus())
+        .body(ErrorResponse.of(STORE_NOT_FOUND, errors));
   }
 
   @ExceptionHandler(StoreNameInvalidException.class)
@@ -33,9 +35,17 @@ public class StoreExceptionHandler {
 
   @ExceptionHandler(StoreAlreadyExistsByNameException.class)
   public ResponseEntity<ErrorResponse> CategoryAlreadyExistsByNameException(StoreAlreadyExistsByNameException e) {
-    List<FieldError> errors = FieldError.of("name", e.getMessage(), CATEGORY_ALREADY_EXISTS.getMessage());
+    List<FieldError> errors = FieldError.of("name", e.getMessage(), STORE_ALREADY_EXISTS.getMessage());
 
-    return ResponseEntity.status(CATEGORY_ALREADY_EXISTS.getStatus())
-        .body(ErrorResponse.of(CATEGORY_ALREADY_EXISTS, errors));
+    return ResponseEntity.status(STORE_ALREADY_EXISTS.getStatus())
+        .body(ErrorResponse.of(STORE_ALREADY_EXISTS, errors));
+  }
+
+  @ExceptionHandler(StoreHoursInvalidException.class)
+  public ResponseEntity<ErrorResponse> StoreHoursInvalidException(StoreHoursInvalidException e) {
+    List<FieldError> errors = FieldError.of("hours", e.getMessage(), STORE_HOURS_INVALID.getMessage());
+
+    return ResponseEntity.status(STORE_HOURS_INVALID.getStatus())
+        .body(ErrorResponse.of(STORE_HOURS_INVALID, errors));
   }
 }
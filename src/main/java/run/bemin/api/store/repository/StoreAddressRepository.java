@@ -0,0 +1,8 @@
+package run.bemin.api.store.repository;
+
+import java.util.UUID;
+import org.springframework.data.repository.CrudRepository;
+import run.bemin.api.store.entity.StoreAddress;
+
+public interface StoreAddressRepository extends CrudRepository<StoreAddress, UUID> {
+}
@@ -0,0 +1,96 @@
+package run.bemin.api.store.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import run.bemin.api.store.dto.StoreBrowseDto;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreBrowseJdbcRepository {
+
+  // 활성 가게 / 활성 연결 / 활성 카테고리만 펼친다. 조건은 {filter} 로 가게 또는 카테고리 하나로 좁힌다.
+  private static final String INSERT_SELECT_SQL = """
+      INSERT INTO store_category_browse
+        (category_id, store_id, is_primary, store_name, minimum_price, rating, road_address, latitude, longitude,
+         store_created_at)
+      SELECT sc.category_id, s.store_id, sc.is_primary, s.name, s.minimum_price, s.rating,
+             a.road_address, a.latitude, a.longitude, s.created_at
+      FROM p_store s
+      JOIN p_store_category sc ON sc.store_id = s.store_id AND sc.is_deleted = false
+      JOIN p_category c ON c.category_id = sc.category_id AND c.is_deleted = false
+      LEFT JOIN p_store_address a ON a.store_address_id = s.store_address_id
+      WHERE s.is_deleted = false AND {filter} = ?
+      ON CONFLICT (category_id, store_id) DO NOTHING
+      """;
+
+  private static final String REFRESH_STORE_SQL = INSERT_SELECT_SQL.replace("{filter}", "s.store_id");
+  private static final String REFRESH_CATEGORY_SQL = INSERT_SELECT_SQL.replace("{filter}", "sc.category_id");
+
+  private static final String SELECT_SQL = """
+      SELECT store_id, store_name, is_primary, minimum_price, rating, road_address, latitude, longitude,
+             store_created_at
+      FROM store_category_browse
+      WHERE category_id = ?
+      """;
+
+  private static final String FIRST_PAGE_SQL = SELECT_SQL + """
+      ORDER BY store_created_at DESC, store_id DESC
+      LIMIT ?
+      """;
+
+  private static final String NEXT_PAGE_SQL = SELECT_SQL + """
+        AND (store_created_at, store_id) < (?, ?)
+      ORDER BY store_created_at DESC, store_id DESC
+      LIMIT ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 가게 한 곳의 행을 다시 만든다. (삭제된 가게는 행이 남지 않는다.)
+   */
+  public void refreshStore(UUID storeId) {
+    jdbcTemplate.update("DELETE FROM store_category_browse WHERE store_id = ?", storeId);
+    jdbcTemplate.update(REFRESH_STORE_SQL, storeId);
+  }
+
+  /**
+   * 카테고리 하나의 행을 다시 만든다. (삭제된 카테고리는 행이 남지 않는다.)
+   */
+  public void refreshCategory(UUID categoryId) {
+    jdbcTemplate.update("DELETE FROM store_category_browse WHERE category_id = ?", categoryId);
+    jdbcTemplate.update(REFRESH_CATEGORY_SQL, categoryId);
+  }
+
+  /**
+   * 카테고리의 가게 목록 (최신 등록 순, keyset 페이징)
+   */
+  public List<StoreBrowseDto> findByCategory(UUID categoryId, LocalDateTime cursorCreatedAt, UUID cursorStoreId,
+                                             int size) {
+    if (cursorCreatedAt == null || cursorStoreId == null) {
+      return jdbcTemplate.query(FIRST_PAGE_SQL, (rs, rowNum) -> toDto(rs), categoryId, size);
+    }
+    return jdbcTemplate.query(NEXT_PAGE_SQL, (rs, rowNum) -> toDto(rs),
+        categoryId, Timestamp.valueOf(cursorCreatedAt), cursorStoreId, size);
+  }
+
+  private static StoreBrowseDto toDto(ResultSet rs) throws SQLException {
+    return new StoreBrowseDto(
+        rs.getObject("store_id", UUID.class),
+        rs.getString("store_name"),
+        rs.getBoolean("is_primary"),
+        rs.getObject("minimum_price", Integer.class),
+        rs.getObject("rating", Float.class),
+        rs.getString("road_address"),
+        rs.getObject("latitude", Double.class),
+        rs.getObject("longitude", Double.class),
+        rs.getTimestamp("store_created_at").toLocalDateTime());
+  }
+}
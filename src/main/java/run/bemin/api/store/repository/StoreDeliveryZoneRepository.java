@@ -0,0 +1,24 @@
+package run.bemin.api.store.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.store.dto.StoreDeliveryZoneRow;
+import run.bemin.api.store.entity.StoreDeliveryZone;
+
+public interface StoreDeliveryZoneRepository extends JpaRepository<StoreDeliveryZone, UUID> {
+
+  List<StoreDeliveryZone> findAllByStoreId(UUID storeId);
+
+  @Query("SELECT new run.bemin.api.store.dto.StoreDeliveryZoneRow(z.storeId, b, z.deliveryFee) "
+      + "FROM StoreDeliveryZone z JOIN z.bcodes b, p_store s "
+      + "WHERE s.id = z.storeId AND s.isDeleted = false")
+  List<StoreDeliveryZoneRow> findAllActiveRows();
+
+  @Query("SELECT new run.bemin.api.store.dto.StoreDeliveryZoneRow(z.storeId, b, z.deliveryFee) "
+      + "FROM StoreDeliveryZone z JOIN z.bcodes b, p_store s "
+      + "WHERE z.storeId = :storeId AND s.id = z.storeId AND s.isDeleted = false")
+  List<StoreDeliveryZoneRow> findActiveRowsByStoreId(@Param("storeId") UUID storeId);
+}
@@ -0,0 +1,21 @@
+package run.bemin.api.store.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.store.entity.StoreHoliday;
+
+public interface StoreHolidayRepository extends JpaRepository<StoreHoliday, UUID> {
+
+  List<StoreHoliday> findAllByHolidayDateGreaterThanEqual(LocalDate from);
+
+  List<StoreHoliday> findAllByStoreIdAndHolidayDateGreaterThanEqual(UUID storeId, LocalDate from);
+
+  @Modifying
+  @Query("DELETE FROM StoreHoliday h WHERE h.storeId = :storeId")
+  int deleteAllByStoreId(@Param("storeId") UUID storeId);
+}
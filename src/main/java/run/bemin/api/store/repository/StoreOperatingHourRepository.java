@@ -0,0 +1,18 @@
+package run.bemin.api.store.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.store.entity.StoreOperatingHour;
+
+public interface StoreOperatingHourRepository extends JpaRepository<StoreOperatingHour, UUID> {
+
+  List<StoreOperatingHour> findAllByStoreId(UUID storeId);
+
+  @Modifying
+  @Query("DELETE FROM StoreOperatingHour h WHERE h.storeId = :storeId")
+  int deleteAllByStoreId(@Param("storeId") UUID storeId);
+}
@@ -0,0 +1,87 @@
+package run.bemin.api.store.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import run.bemin.api.store.dto.StoreRatingDelta;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreRatingJdbcRepository {
+
+  // SET 절의 rating_sum / rating_count 는 갱신 전 값이므로 평균은 증감분을 더해서 계산한다.
+  private static final String APPLY_DELTA_SQL = """
+      UPDATE p_store
+      SET rating_sum = rating_sum + ?,
+          rating_count = rating_count + ?,
+          rating = CASE WHEN rating_count + ? > 0
+                        THEN (rating_sum + ?)::real / (rating_count + ?)
+                   END
+      WHERE store_id = ?
+      """;
+
+  private static final String SYNC_BROWSE_SQL = """
+      UPDATE store_category_browse
+      SET rating = (SELECT rating FROM p_store WHERE store_id = ?)
+      WHERE store_id = ?
+      """;
+
+  // 가게를 store_id 마지막 바이트로 파티션에 나누어 리뷰 원본으로 다시 집계하고, 다른 값만 고친다.
+  // (StoreRatingAccumulator.partitionOf 와 같은 규칙)
+  private static final String RECOMPUTE_SQL = """
+      UPDATE p_store s
+      SET rating_sum = agg.rating_sum,
+          rating_count = agg.rating_count,
+          rating = CASE WHEN agg.rating_count > 0 THEN agg.rating_sum::real / agg.rating_count END
+      FROM (
+        SELECT st.store_id, COALESCE(SUM(r.rating), 0) AS rating_sum, COUNT(r.review_id) AS rating_count
+        FROM p_store st
+        LEFT JOIN review r ON r.store_id = st.store_id AND r.is_deleted = false
+        WHERE mod(get_byte(uuid_send(st.store_id), 15), ?) = ?
+        GROUP BY st.store_id
+      ) agg
+      WHERE s.store_id = agg.store_id
+        AND (s.rating_sum <> agg.rating_sum OR s.rating_count <> agg.rating_count)
+      """;
+
+  private static final String RECOMPUTE_BROWSE_SQL = """
+      UPDATE store_category_browse b
+      SET rating = s.rating
+      FROM p_store s
+      WHERE b.store_id = s.store_id
+        AND b.rating IS DISTINCT FROM s.rating
+        AND mod(get_byte(uuid_send(s.store_id), 15), ?) = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 증감분 일괄 반영 (호출자가 트랜잭션을 연다)
+   */
+  public void applyDeltas(List<StoreRatingDelta> deltas, int batchSize) {
+    jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, batchSize, (ps, delta) -> {
+      ps.setLong(1, delta.sumDelta());
+      ps.setLong(2, delta.countDelta());
+      ps.setLong(3, delta.countDelta());
+      ps.setLong(4, delta.sumDelta());
+      ps.setLong(5, delta.countDelta());
+      ps.setObject(6, delta.storeId());
+    });
+    jdbcTemplate.batchUpdate(SYNC_BROWSE_SQL, deltas, batchSize, (ps, delta) -> {
+      ps.setObject(1, delta.storeId());
+      ps.setObject(2, delta.storeId());
+    });
+  }
+
+  /**
+   * 파티션 하나의 평점을 리뷰 원본으로 재계산
+   *
+   * @return 값이 달라서 고친 가게 수
+   */
+  public int recomputePartition(int partitionCount, int partitionNo) {
+    int repaired = jdbcTemplate.update(RECOMPUTE_SQL, partitionCount, partitionNo);
+    jdbcTemplate.update(RECOMPUTE_BROWSE_SQL, partitionCount, partitionNo);
+    return repaired;
+  }
+}
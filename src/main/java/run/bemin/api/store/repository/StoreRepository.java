@@ -1,9 +1,90 @@
 package run.bemin.api.store.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.bemin.api.store.dto.StoreCategoryRow;
+import run.bemin.api.store.dto.StoreDetailVersion;
+import run.bemin.api.store.dto.StoreGeoRow;
 import run.bemin.api.store.entity.Store;
 
-public interface StoreRepository  extends CrudRepository<Store, UUID> {
-  Boolean existsByName(String name);
+/*
+ * 아래 JPQL 은 삭제 조건을 따로 쓰지 않는다. 삭제된 가게/가게-카테고리 연결은 softDeleteFilter 가 뺀다.
+ * (findById 처럼 ID 로 직접 읽는 경우는 걸러지지 않으므로 findByIdAndIsDeletedFalse 를 쓴다)
+ */
+public interface StoreRepository extends JpaRepository<Store, UUID> {
+
+  Boolean existsByNormalizedNameAndIsDeletedFalse(String normalizedName);
+
+  Optional<Store> findByIdAndIsDeletedFalse(UUID storeId);
+
+  /**
+   * 활성 가게의 메뉴 버전 (메뉴 캐시 확인용, 가게 전체를 읽지 않는다)
+   */
+  @Query("SELECT s.menuVersion FROM p_store s WHERE s.id = :storeId")
+  Optional<Long> findMenuVersionById(@Param("storeId") UUID storeId);
+
+  /**
+   * 메뉴 버전 증가 (상품 생성/수정/삭제와 같은 트랜잭션에서 호출)
+   */
+  @Modifying
+  @Query(value = "UPDATE p_store SET menu_version = menu_version + 1 WHERE store_id = :storeId", nativeQuery = true)
+  int incrementMenuVersion(@Param("storeId") UUID storeId);
+
+  /**
+   * 목록 1단계 : 활성 가게 ID 페이지
+   */
+  @Query(value = "SELECT s.id FROM p_store s",
+      countQuery = "SELECT COUNT(s) FROM p_store s")
+  Page<UUID> findActiveStoreIds(Pageable pageable);
+
+  /**
+   * 목록 2단계 : 페이지의 가게를 주소, 카테고리와 함께 한 번에 조회
+   */
+  @EntityGraph(attributePaths = {"storeAddress", "storeCategories", "storeCategories.category"})
+  @Query("SELECT DISTINCT s FROM p_store s WHERE s.id IN :storeIds")
+  List<Store> findAllWithAssociationsByIdIn(@Param("storeIds") Collection<UUID> storeIds);
+
+  @EntityGraph(attributePaths = {"storeAddress", "storeCategories", "storeCategories.category"})
+  @Query("SELECT s FROM p_store s WHERE s.id = :storeId")
+  Optional<Store> findDetailById(@Param("storeId") UUID storeId);
+
+  /**
+   * 상세 버전 (주소/카테고리 변경도 가게 수정으로 updatedAt 이 바뀐다. 카테고리 이름 변경은 카테고리 updatedAt 으로)
+   */
+  @Query("SELECT new run.bemin.api.store.dto.StoreDetailVersion("
+      + "s.createdAt, s.updatedAt, s.ratingSum, s.ratingCount, MAX(c.updatedAt)) "
+      + "FROM p_store s LEFT JOIN s.storeCategories sc LEFT JOIN sc.category c "
+      + "WHERE s.id = :storeId "
+      + "GROUP BY s.id, s.createdAt, s.updatedAt, s.ratingSum, s.ratingCount")
+  Optional<StoreDetailVersion> findDetailVersionById(@Param("storeId") UUID storeId);
+
+  /**
+   * 좌표가 등록된 활성 가게 전체 (위치 인덱스 적재용)
+   */
+  @Query("SELECT new run.bemin.api.store.dto.StoreGeoRow(s.id, s.name, s.minimumPrice, a.latitude, a.longitude) "
+      + "FROM p_store s JOIN s.storeAddress a "
+      + "WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+  List<StoreGeoRow> findAllGeoRows();
+
+  @Query("SELECT new run.bemin.api.store.dto.StoreGeoRow(s.id, s.name, s.minimumPrice, a.latitude, a.longitude) "
+      + "FROM p_store s JOIN s.storeAddress a "
+      + "WHERE s.id = :storeId AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+  Optional<StoreGeoRow> findGeoRowById(@Param("storeId") UUID storeId);
+
+  @Query("SELECT new run.bemin.api.store.dto.StoreCategoryRow(sc.store.id, sc.category.id) "
+      + "FROM p_store_category sc")
+  List<StoreCategoryRow> findAllCategoryRows();
+
+  @Query("SELECT new run.bemin.api.store.dto.StoreCategoryRow(sc.store.id, sc.category.id) "
+      + "FROM p_store_category sc WHERE sc.store.id = :storeId")
+  List<StoreCategoryRow> findCategoryRowsByStoreId(@Param("storeId") UUID storeId);
 }
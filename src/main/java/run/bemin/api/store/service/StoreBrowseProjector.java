@@ -0,0 +1,35 @@
+package run.bemin.api.store.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.category.event.CategoryChangedEvent;
+import run.bemin.api.store.event.StoreChangedEvent;
+import run.bemin.api.store.repository.StoreBrowseJdbcRepository;
+
+/*
+ * store_category_browse 갱신
+ * 변경 트랜잭션의 커밋 직전에 같은 트랜잭션 안에서 반영하므로, 원본과 읽기 테이블이 함께 커밋/롤백된다.
+ * 읽기 테이블은 SQL 로 원본을 다시 읽어 만들기 때문에 먼저 영속성 컨텍스트를 flush 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreBrowseProjector {
+
+  private final EntityManager entityManager;
+  private final StoreBrowseJdbcRepository storeBrowseJdbcRepository;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onStoreChanged(StoreChangedEvent event) {
+    entityManager.flush();
+    storeBrowseJdbcRepository.refreshStore(event.storeId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onCategoryChanged(CategoryChangedEvent event) {
+    entityManager.flush();
+    storeBrowseJdbcRepository.refreshCategory(event.categoryId());
+  }
+}
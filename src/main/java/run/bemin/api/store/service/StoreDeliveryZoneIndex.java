@@ -0,0 +1,206 @@
+package run.bemin.api.store.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/*
+ * 법정동 코드 → 배달 가능 가게 역색인
+ * - 가게별 (법정동 → 배달비) 원본으로 불변 스냅샷을 만들어 volatile 참조 하나로 교체한다.
+ *   조회는 락 없이 현재 스냅샷만 읽는다.
+ * - 스냅샷은 CSR 형태 : 법정동 행마다 [offsets[row], offsets[row + 1]) 구간에
+ *   가게 순번(오름차순)과 배달비를 int 배열로 나란히 둔다.
+ * - 배달 구역을 하나도 등록하지 않은 가게는 지역 제한이 없는 것으로 본다. (배달비 미정)
+ */
+@Component
+public class StoreDeliveryZoneIndex {
+
+  public static final int NOT_DELIVERABLE = -1;
+  public static final int NO_ZONE = -2;
+
+  private static final Snapshot EMPTY = Snapshot.build(Map.of());
+
+  private volatile Snapshot snapshot = EMPTY;
+
+  /**
+   * 전체 적재
+   *
+   * @param zones 가게별 (법정동 → 배달비)
+   */
+  public synchronized void loadAll(Map<UUID, Map<String, Integer>> zones) {
+    Map<UUID, Map<String, Integer>> copied = new HashMap<>();
+    zones.forEach((storeId, fees) -> {
+      if (!fees.isEmpty()) {
+        copied.put(storeId, Map.copyOf(fees));
+      }
+    });
+    snapshot = Snapshot.build(copied);
+  }
+
+  /**
+   * 가게 하나의 배달 구역 교체 (비어 있으면 제거), 바뀐 것이 있으면 새 스냅샷을 만든다.
+   */
+  public synchronized void replaceStore(UUID storeId, Map<String, Integer> fees) {
+    Snapshot current = snapshot;
+    if (Objects.equals(current.zones.get(storeId), fees.isEmpty() ? null : fees)) {
+      return;
+    }
+
+    Map<UUID, Map<String, Integer>> zones = new HashMap<>(current.zones);
+    if (fees.isEmpty()) {
+      zones.remove(storeId);
+    } else {
+      zones.put(storeId, Map.copyOf(fees));
+    }
+    snapshot = Snapshot.build(zones);
+  }
+
+  /**
+   * 가게의 해당 법정동 배달비
+   *
+   * @return 배달비, 배달 불가면 NOT_DELIVERABLE, 배달 구역이 없는 가게면 NO_ZONE
+   */
+  public int deliveryFee(UUID storeId, String bcode) {
+    return snapshot.coverage(bcode).deliveryFee(storeId);
+  }
+
+  public boolean delivers(UUID storeId, String bcode) {
+    return deliveryFee(storeId, bcode) != NOT_DELIVERABLE;
+  }
+
+  /**
+   * 법정동 하나에 대한 조회기 (같은 스냅샷으로 여러 가게를 판별)
+   */
+  public Coverage coverage(String bcode) {
+    return snapshot.coverage(bcode);
+  }
+
+  /**
+   * 해당 법정동에 배달 구역을 등록한 가게 목록 (구역이 없는 가게는 포함하지 않음)
+   */
+  public List<UUID> storesDeliveringTo(String bcode) {
+    Snapshot current = snapshot;
+    Integer row = current.rows.get(bcode);
+    if (row == null) {
+      return List.of();
+    }
+
+    List<UUID> storeIds = new ArrayList<>(current.offsets[row + 1] - current.offsets[row]);
+    for (int i = current.offsets[row]; i < current.offsets[row + 1]; i++) {
+      storeIds.add(current.storeIds[current.storeOrdinals[i]]);
+    }
+    return storeIds;
+  }
+
+  /*
+   * 불변 스냅샷
+   */
+  private static final class Snapshot {
+    private final Map<UUID, Map<String, Integer>> zones;
+    private final Map<UUID, Integer> ordinals;
+    private final UUID[] storeIds;
+    private final Map<String, Integer> rows;
+    private final int[] offsets;
+    private final int[] storeOrdinals;
+    private final int[] fees;
+
+    private Snapshot(Map<UUID, Map<String, Integer>> zones, Map<UUID, Integer> ordinals, UUID[] storeIds,
+                     Map<String, Integer> rows, int[] offsets, int[] storeOrdinals, int[] fees) {
+      this.zones = zones;
+      this.ordinals = ordinals;
+      this.storeIds = storeIds;
+      this.rows = rows;
+      this.offsets = offsets;
+      this.storeOrdinals = storeOrdinals;
+      this.fees = fees;
+    }
+
+    private static Snapshot build(Map<UUID, Map<String, Integer>> zones) {
+      // 가게 순번은 UUID 순으로 매겨 행 안에서 이진 탐색할 수 있게 한다.
+      UUID[] storeIds = zones.keySet().toArray(new UUID[0]);
+      Arrays.sort(storeIds);
+      Map<UUID, Integer> ordinals = new HashMap<>(storeIds.length * 2);
+      for (int i = 0; i < storeIds.length; i++) {
+        ordinals.put(storeIds[i], i);
+      }
+
+      // 1) 법정동별 가게 수 집계
+      Map<String, Integer> rows = new HashMap<>();
+      List<int[]> counts = new ArrayList<>();
+      int total = 0;
+      for (UUID storeId : storeIds) {
+        for (String bcode : zones.get(storeId).keySet()) {
+          Integer row = rows.get(bcode);
+          if (row == null) {
+            row = rows.size();
+            rows.put(bcode, row);
+            counts.add(new int[1]);
+          }
+          counts.get(row)[0]++;
+          total++;
+        }
+      }
+
+      int[] offsets = new int[rows.size() + 1];
+      for (int row = 0; row < rows.size(); row++) {
+        offsets[row + 1] = offsets[row] + counts.get(row)[0];
+      }
+
+      // 2) 가게 순번 순서대로 채우므로 각 행은 자연히 오름차순이 된다.
+      int[] cursor = Arrays.copyOf(offsets, rows.size());
+      int[] storeOrdinals = new int[total];
+      int[] fees = new int[total];
+      for (int ordinal = 0; ordinal < storeIds.length; ordinal++) {
+        for (Map.Entry<String, Integer> fee : zones.get(storeIds[ordinal]).entrySet()) {
+          int position = cursor[rows.get(fee.getKey())]++;
+          storeOrdinals[position] = ordinal;
+          fees[position] = fee.getValue();
+        }
+      }
+      return new Snapshot(zones, ordinals, storeIds, rows, offsets, storeOrdinals, fees);
+    }
+
+    private Coverage coverage(String bcode) {
+      Integer row = bcode == null ? null : rows.get(bcode);
+      return row == null
+          ? new Coverage(this, 0, 0)
+          : new Coverage(this, offsets[row], offsets[row + 1]);
+    }
+  }
+
+  /**
+   * 법정동 하나의 배달 가능 가게 구간
+   */
+  public static final class Coverage {
+    private final Snapshot snapshot;
+    private final int from;
+    private final int to;
+
+    private Coverage(Snapshot snapshot, int from, int to) {
+      this.snapshot = snapshot;
+      this.from = from;
+      this.to = to;
+    }
+
+    /**
+     * @return 배달비, 배달 불가면 NOT_DELIVERABLE, 배달 구역이 없는 가게면 NO_ZONE
+     */
+    public int deliveryFee(UUID storeId) {
+      Integer ordinal = snapshot.ordinals.get(storeId);
+      if (ordinal == null) {
+        return NO_ZONE;
+      }
+      int position = Arrays.binarySearch(snapshot.storeOrdinals, from, to, ordinal);
+      return position >= 0 ? snapshot.fees[position] : NOT_DELIVERABLE;
+    }
+
+    public boolean delivers(UUID storeId) {
+      return deliveryFee(storeId) != NOT_DELIVERABLE;
+    }
+  }
+}
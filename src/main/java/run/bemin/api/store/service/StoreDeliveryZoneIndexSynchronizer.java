@@ -0,0 +1,65 @@
+package run.bemin.api.store.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.store.dto.StoreDeliveryZoneRow;
+import run.bemin.api.store.event.StoreChangedEvent;
+import run.bemin.api.store.event.StoreDeliveryZonesChangedEvent;
+import run.bemin.api.store.repository.StoreDeliveryZoneRepository;
+
+/*
+ * StoreDeliveryZoneIndex 적재/갱신
+ * - 기동 시 활성 가게의 배달 구역 전체를 적재
+ * - 배달 구역 변경, 가게 삭제가 커밋되면 해당 가게만 다시 읽어 새 스냅샷을 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDeliveryZoneIndexSynchronizer {
+
+  private final StoreDeliveryZoneRepository storeDeliveryZoneRepository;
+  private final StoreDeliveryZoneIndex storeDeliveryZoneIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    long startedAt = System.nanoTime();
+
+    List<StoreDeliveryZoneRow> rows = storeDeliveryZoneRepository.findAllActiveRows();
+    Map<UUID, Map<String, Integer>> zones = new HashMap<>();
+    for (StoreDeliveryZoneRow row : rows) {
+      zones.computeIfAbsent(row.storeId(), id -> new HashMap<>()).merge(row.bcode(), row.deliveryFee(), Math::min);
+    }
+    storeDeliveryZoneIndex.loadAll(zones);
+
+    log.info("Store delivery zone index loaded. stores = {}, entries = {}, {}ms",
+        zones.size(), rows.size(), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onDeliveryZonesChanged(StoreDeliveryZonesChangedEvent event) {
+    refresh(event.storeId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    refresh(event.storeId());
+  }
+
+  public void refresh(UUID storeId) {
+    // 같은 법정동이 여러 구역에 있으면 낮은 배달비를 적용한다.
+    Map<String, Integer> fees = new HashMap<>();
+    for (StoreDeliveryZoneRow row : storeDeliveryZoneRepository.findActiveRowsByStoreId(storeId)) {
+      fees.merge(row.bcode(), row.deliveryFee(), Math::min);
+    }
+    storeDeliveryZoneIndex.replaceStore(storeId, fees);
+  }
+}
@@ -0,0 +1,56 @@
+package run.bemin.api.store.service;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.store.dto.StoreDeliveryZoneDto;
+import run.bemin.api.store.dto.StoreDeliveryZonesDto;
+import run.bemin.api.store.entity.StoreDeliveryZone;
+import run.bemin.api.store.event.StoreDeliveryZonesChangedEvent;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreDeliveryZoneRepository;
+import run.bemin.api.store.repository.StoreRepository;
+
+@RequiredArgsConstructor
+@Service
+public class StoreDeliveryZoneService {
+
+  private final StoreRepository storeRepository;
+  private final StoreDeliveryZoneRepository storeDeliveryZoneRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 배달 구역 전체 교체 (커밋 후 StoreDeliveryZoneIndex 스냅샷 재생성)
+   */
+  @Transactional
+  public StoreDeliveryZonesDto replaceZones(UUID storeId, StoreDeliveryZonesDto requestDto) {
+    if (storeRepository.findByIdAndIsDeletedFalse(storeId).isEmpty()) {
+      throw new StoreNotFoundException(storeId.toString());
+    }
+
+    storeDeliveryZoneRepository.deleteAll(storeDeliveryZoneRepository.findAllByStoreId(storeId));
+    // 구역 행을 먼저 지워야 새 구역과 법정동이 겹쳐도 순서 문제가 없다.
+    storeDeliveryZoneRepository.flush();
+
+    List<StoreDeliveryZone> saved = storeDeliveryZoneRepository.saveAll(requestDto.zones().stream()
+        .map(zone -> StoreDeliveryZone.create(storeId, zone.name(), zone.deliveryFee(), zone.bcodes()))
+        .toList());
+
+    eventPublisher.publishEvent(new StoreDeliveryZonesChangedEvent(storeId));
+    return new StoreDeliveryZonesDto(saved.stream().map(StoreDeliveryZoneDto::fromEntity).toList());
+  }
+
+  @Transactional(readOnly = true)
+  public StoreDeliveryZonesDto getZones(UUID storeId) {
+    if (storeRepository.findByIdAndIsDeletedFalse(storeId).isEmpty()) {
+      throw new StoreNotFoundException(storeId.toString());
+    }
+
+    return new StoreDeliveryZonesDto(storeDeliveryZoneRepository.findAllByStoreId(storeId).stream()
+        .map(StoreDeliveryZoneDto::fromEntity)
+        .toList());
+  }
+}
@@ -0,0 +1,293 @@
+package run.bemin.api.store.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 활성 가게 위치 인덱스 (균일 격자)
+ * - 위/경도를 cell-degrees 간격의 격자로 나누고, 격자 칸마다 가게 배열을 둔다.
+ * - 칸은 좌표를 primitive 배열로 들고 있으며, 변경 시 복사 후 교체(copy-on-write)하므로
+ *   조회는 락 없이 동작한다.
+ * - 조회는 중심 칸부터 고리 단위로 넓혀 가며, 남은 고리까지의 최소 거리가 반경이나
+ *   현재 K 번째 거리보다 멀어지면 멈춘다.
+ * - 거리는 짧은 거리용 등장방형 근사(20km 이내 오차 0.1% 미만)로 계산한다.
+ */
+@Component
+public class StoreGeoIndex {
+
+  private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+  private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+  private static final Cell EMPTY = new Cell(NO_ENTRIES);
+
+  private final double cellDegrees;
+  private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+  public StoreGeoIndex(@Value("${bemin.store.geo.cell-degrees:0.01}") double cellDegrees) {
+    if (!(cellDegrees > 0)) {
+      throw new IllegalArgumentException("cell-degrees must be positive!!");
+    }
+    this.cellDegrees = cellDegrees;
+  }
+
+  /**
+   * 전체 교체 (기동 시 적재)
+   */
+  public synchronized void loadAll(Collection<Entry> loaded) {
+    Map<Long, List<Entry>> grouped = new HashMap<>();
+    Map<UUID, Entry> byId = new HashMap<>();
+    for (Entry entry : loaded) {
+      byId.put(entry.storeId(), entry);
+    }
+    for (Entry entry : byId.values()) {
+      grouped.computeIfAbsent(cellKey(entry.latitude(), entry.longitude()), key -> new ArrayList<>()).add(entry);
+    }
+
+    cells.keySet().retainAll(grouped.keySet());
+    grouped.forEach((key, list) -> cells.put(key, new Cell(list.toArray(NO_ENTRIES))));
+    entries.keySet().retainAll(byId.keySet());
+    entries.putAll(byId);
+  }
+
+  /**
+   * 가게 추가 또는 위치/정보 갱신
+   * 새 칸에 먼저 넣고 이전 칸에서 빼므로, 갱신 중에도 조회에서 사라지지 않는다.
+   */
+  public synchronized void upsert(Entry entry) {
+    Entry previous = entries.put(entry.storeId(), entry);
+    long key = cellKey(entry.latitude(), entry.longitude());
+    cells.put(key, cells.getOrDefault(key, EMPTY).replace(entry, entry.storeId()));
+
+    if (previous != null) {
+      long previousKey = cellKey(previous.latitude(), previous.longitude());
+      if (previousKey != key) {
+        removeFromCell(previousKey, previous.storeId());
+      }
+    }
+  }
+
+  public synchronized void remove(UUID storeId) {
+    Entry previous = entries.remove(storeId);
+    if (previous != null) {
+      removeFromCell(cellKey(previous.latitude(), previous.longitude()), storeId);
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * 반경 내 가까운 가게 K 개 (가까운 순)
+   *
+   * @param categoryId null 이면 카테고리 무관
+   */
+  public List<Nearby> findNearest(double latitude, double longitude, double radiusMeters, int limit,
+                                  UUID categoryId) {
+    return findNearest(latitude, longitude, radiusMeters, limit, categoryId, null);
+  }
+
+  /**
+   * 반경 내 가까운 가게 K 개 (가까운 순)
+   *
+   * @param categoryId null 이면 카테고리 무관
+   * @param filter     가게 ID 추가 조건 (예: 영업 중 여부), null 이면 조건 없음
+   */
+  public List<Nearby> findNearest(double latitude, double longitude, double radiusMeters, int limit,
+                                  UUID categoryId, Predicate<UUID> filter) {
+    if (limit <= 0 || radiusMeters <= 0) {
+      return List.of();
+    }
+
+    double latitudeMeters = METERS_PER_DEGREE;
+    double longitudeMeters = METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    // 경도 방향 칸 폭이 더 좁으므로 그 폭으로 고리 수 상한을 정한다.
+    int maxRing = (int) Math.min(Math.ceil(radiusMeters / (cellDegrees * longitudeMeters)) + 1, 1_000);
+
+    int centerRow = cellIndex(latitude);
+    int centerColumn = cellIndex(longitude);
+    double maxSquared = radiusMeters * radiusMeters;
+    TopK topK = new TopK(limit);
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      if (ring > 0) {
+        // 안쪽 고리들이 덮는 영역의 경계까지 거리 = 이번 고리에 있는 가게까지의 최소 거리
+        double toSouth = (latitude - (centerRow - ring + 1) * cellDegrees) * latitudeMeters;
+        double toNorth = ((centerRow + ring) * cellDegrees - latitude) * latitudeMeters;
+        double toWest = (longitude - (centerColumn - ring + 1) * cellDegrees) * longitudeMeters;
+        double toEast = ((centerColumn + ring) * cellDegrees - longitude) * longitudeMeters;
+        double ringMinDistance = Math.min(Math.min(toSouth, toNorth), Math.min(toWest, toEast));
+        if (ringMinDistance > radiusMeters || (topK.isFull() && ringMinDistance * ringMinDistance > topK.worst())) {
+          break;
+        }
+      }
+      for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+        boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+        int step = edgeRow ? 1 : ring * 2;
+        for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+          Cell cell = cells.get(cellKey(row, column));
+          if (cell != null) {
+            cell.scan(latitude, longitude, latitudeMeters, longitudeMeters, maxSquared, categoryId, filter, topK);
+          }
+        }
+      }
+    }
+    return topK.toList();
+  }
+
+  private void removeFromCell(long key, UUID storeId) {
+    Cell cell = cells.get(key);
+    if (cell == null) {
+      return;
+    }
+    Cell removed = cell.replace(null, storeId);
+    if (removed.entries.length == 0) {
+      cells.remove(key);
+    } else {
+      cells.put(key, removed);
+    }
+  }
+
+  private int cellIndex(double degrees) {
+    return (int) Math.floor(degrees / cellDegrees);
+  }
+
+  private long cellKey(double latitude, double longitude) {
+    return cellKey(cellIndex(latitude), cellIndex(longitude));
+  }
+
+  private static long cellKey(int row, int column) {
+    return ((long) row << 32) | (column & 0xffffffffL);
+  }
+
+  /**
+   * 기준점(lat1, lng1)에서의 거리 (등장방형 근사, 미터)
+   */
+  static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+    double dy = (lat2 - lat1) * METERS_PER_DEGREE;
+    double dx = (lng2 - lng1) * METERS_PER_DEGREE * Math.cos(Math.toRadians(lat1));
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * 인덱스 항목 (조회 응답에 필요한 값만 보관)
+   */
+  public record Entry(UUID storeId, String name, Integer minimumPrice, double latitude, double longitude,
+                      UUID[] categoryIds) {
+
+    boolean hasCategory(UUID categoryId) {
+      for (UUID id : categoryIds) {
+        if (id.equals(categoryId)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  public record Nearby(Entry entry, double distanceMeters) {
+  }
+
+  /*
+   * 격자 한 칸 (불변, 좌표는 열 단위 배열)
+   */
+  private static final class Cell {
+    private final Entry[] entries;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private Cell(Entry[] entries) {
+      this.entries = entries;
+      this.latitudes = new double[entries.length];
+      this.longitudes = new double[entries.length];
+      for (int i = 0; i < entries.length; i++) {
+        latitudes[i] = entries[i].latitude();
+        longitudes[i] = entries[i].longitude();
+      }
+    }
+
+    /*
+     * storeId 를 뺀 새 칸 (entry 가 있으면 끝에 추가)
+     */
+    private Cell replace(Entry entry, UUID storeId) {
+      Entry[] copy = new Entry[entries.length + 1];
+      int size = 0;
+      for (Entry current : entries) {
+        if (!current.storeId().equals(storeId)) {
+          copy[size++] = current;
+        }
+      }
+      if (entry != null) {
+        copy[size++] = entry;
+      }
+      return new Cell(Arrays.copyOf(copy, size));
+    }
+
+    private void scan(double latitude, double longitude, double latitudeMeters, double longitudeMeters,
+                      double maxSquared, UUID categoryId, Predicate<UUID> filter, TopK topK) {
+      for (int i = 0; i < entries.length; i++) {
+        double dy = (latitudes[i] - latitude) * latitudeMeters;
+        double dx = (longitudes[i] - longitude) * longitudeMeters;
+        double squared = dx * dx + dy * dy;
+        if (squared > maxSquared || (topK.isFull() && squared >= topK.worst())) {
+          continue;
+        }
+        if ((categoryId == null || entries[i].hasCategory(categoryId))
+            && (filter == null || filter.test(entries[i].storeId()))) {
+          topK.offer(entries[i], squared);
+        }
+      }
+    }
+  }
+
+  /*
+   * 거리 오름차순 상위 K 개 (거리 제곱으로 비교, K 가 작으므로 삽입 정렬)
+   */
+  private static final class TopK {
+    private final Entry[] entries;
+    private final double[] squaredDistances;
+    private int size;
+
+    private TopK(int limit) {
+      this.entries = new Entry[limit];
+      this.squaredDistances = new double[limit];
+    }
+
+    private boolean isFull() {
+      return size == entries.length;
+    }
+
+    private double worst() {
+      return squaredDistances[size - 1];
+    }
+
+    private void offer(Entry entry, double squared) {
+      int position = isFull() ? size - 1 : size++;
+      while (position > 0 && squaredDistances[position - 1] > squared) {
+        entries[position] = entries[position - 1];
+        squaredDistances[position] = squaredDistances[position - 1];
+        position--;
+      }
+      entries[position] = entry;
+      squaredDistances[position] = squared;
+    }
+
+    private List<Nearby> toList() {
+      List<Nearby> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(new Nearby(entries[i], Math.sqrt(squaredDistances[i])));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package run.bemin.api.store.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.store.dto.StoreCategoryRow;
+import run.bemin.api.store.dto.StoreGeoRow;
+import run.bemin.api.store.event.StoreChangedEvent;
+import run.bemin.api.store.repository.StoreRepository;
+
+/*
+ * StoreGeoIndex 적재/갱신
+ * - 기동 시 좌표가 있는 활성 가게 전체를 적재
+ * - 가게 생성/수정/삭제가 커밋되면 해당 가게만 다시 읽어 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndexSynchronizer {
+
+  private static final UUID[] NO_CATEGORIES = new UUID[0];
+
+  private final StoreRepository storeRepository;
+  private final StoreGeoIndex storeGeoIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    long startedAt = System.nanoTime();
+
+    Map<UUID, List<UUID>> categories = new HashMap<>();
+    for (StoreCategoryRow row : storeRepository.findAllCategoryRows()) {
+      categories.computeIfAbsent(row.storeId(), id -> new ArrayList<>()).add(row.categoryId());
+    }
+
+    List<StoreGeoIndex.Entry> entries = new ArrayList<>();
+    for (StoreGeoRow row : storeRepository.findAllGeoRows()) {
+      entries.add(toEntry(row, categories.get(row.storeId())));
+    }
+    storeGeoIndex.loadAll(entries);
+
+    log.info("Store geo index loaded. stores = {}, {}ms", entries.size(), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    refresh(event.storeId());
+  }
+
+  public void refresh(UUID storeId) {
+    Optional<StoreGeoRow> row = storeRepository.findGeoRowById(storeId);
+    if (row.isEmpty()) {
+      // 삭제되었거나 좌표가 없는 가게
+      storeGeoIndex.remove(storeId);
+      return;
+    }
+
+    List<UUID> categoryIds = storeRepository.findCategoryRowsByStoreId(storeId).stream()
+        .map(StoreCategoryRow::categoryId)
+        .toList();
+    storeGeoIndex.upsert(toEntry(row.get(), categoryIds));
+  }
+
+  private static StoreGeoIndex.Entry toEntry(StoreGeoRow row, List<UUID> categoryIds) {
+    return new StoreGeoIndex.Entry(row.storeId(), row.name(), row.minimumPrice(), row.latitude(), row.longitude(),
+        categoryIds == null ? NO_CATEGORIES : categoryIds.toArray(NO_CATEGORIES));
+  }
+}
@@ -0,0 +1,95 @@
+package run.bemin.api.store.service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.store.dto.StoreHolidayDto;
+import run.bemin.api.store.dto.StoreHoursDto;
+import run.bemin.api.store.dto.StoreOperatingHourDto;
+import run.bemin.api.store.entity.StoreHoliday;
+import run.bemin.api.store.entity.StoreOperatingHour;
+import run.bemin.api.store.event.StoreHoursChangedEvent;
+import run.bemin.api.store.exception.StoreHoursInvalidException;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreHolidayRepository;
+import run.bemin.api.store.repository.StoreOperatingHourRepository;
+import run.bemin.api.store.repository.StoreRepository;
+
+@RequiredArgsConstructor
+@Service
+public class StoreHoursService {
+
+  private final StoreRepository storeRepository;
+  private final StoreOperatingHourRepository storeOperatingHourRepository;
+  private final StoreHolidayRepository storeHolidayRepository;
+  private final StoreOpenIndex storeOpenIndex;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 영업 시간/휴무일 전체 교체 (커밋 후 StoreOpenIndex 에서 해당 가게만 다시 계산)
+   */
+  @Transactional
+  public StoreHoursDto replaceHours(UUID storeId, StoreHoursDto requestDto) {
+    if (storeRepository.findByIdAndIsDeletedFalse(storeId).isEmpty()) {
+      throw new StoreNotFoundException(storeId.toString());
+    }
+    List<StoreOperatingHourDto> operatingHours = Objects.requireNonNullElse(requestDto.operatingHours(), List.of());
+    List<StoreHolidayDto> holidays = Objects.requireNonNullElse(requestDto.holidays(), List.of());
+    validateHolidays(holidays);
+
+    storeOperatingHourRepository.deleteAllByStoreId(storeId);
+    storeHolidayRepository.deleteAllByStoreId(storeId);
+
+    List<StoreOperatingHour> savedHours = storeOperatingHourRepository.saveAll(operatingHours.stream()
+        .map(hour -> StoreOperatingHour.create(storeId, hour.dayOfWeek(), hour.openTime(), hour.closeTime()))
+        .toList());
+    List<StoreHoliday> savedHolidays = storeHolidayRepository.saveAll(holidays.stream()
+        .map(holiday -> StoreHoliday.create(storeId, holiday.date(), holiday.openTime(), holiday.closeTime()))
+        .toList());
+
+    eventPublisher.publishEvent(new StoreHoursChangedEvent(storeId));
+    return new StoreHoursDto(
+        savedHours.stream().map(StoreOperatingHourDto::fromEntity).toList(),
+        savedHolidays.stream().map(StoreHolidayDto::fromEntity).toList());
+  }
+
+  /**
+   * 영업 시간과 오늘 이후의 휴무일 조회
+   */
+  @Transactional(readOnly = true)
+  public StoreHoursDto getHours(UUID storeId) {
+    if (storeRepository.findByIdAndIsDeletedFalse(storeId).isEmpty()) {
+      throw new StoreNotFoundException(storeId.toString());
+    }
+
+    return new StoreHoursDto(
+        storeOperatingHourRepository.findAllByStoreId(storeId).stream()
+            .map(StoreOperatingHourDto::fromEntity)
+            .toList(),
+        storeHolidayRepository.findAllByStoreIdAndHolidayDateGreaterThanEqual(storeId, storeOpenIndex.today()).stream()
+            .map(StoreHolidayDto::fromEntity)
+            .toList());
+  }
+
+  /*
+   * 휴무일은 날짜당 하나, 시간은 둘 다 비우거나 둘 다 채운다.
+   */
+  private static void validateHolidays(List<StoreHolidayDto> holidays) {
+    Set<LocalDate> dates = new HashSet<>();
+    for (StoreHolidayDto holiday : holidays) {
+      if (!dates.add(holiday.date())) {
+        throw new StoreHoursInvalidException("중복된 휴무일 : " + holiday.date());
+      }
+      if ((holiday.openTime() == null) != (holiday.closeTime() == null)) {
+        throw new StoreHoursInvalidException("휴무일 영업 시간은 시작/종료를 모두 입력해야 합니다 : " + holiday.date());
+      }
+    }
+  }
+}
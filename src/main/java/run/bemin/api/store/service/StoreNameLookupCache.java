@@ -0,0 +1,52 @@
+package run.bemin.api.store.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 가게 이름 사용 여부 조회 캐시 (관리자 이름 중복 확인용)
+ * - 정규화된 이름별 결과를 ttl 동안 보관한다.
+ * - 가게 생성/수정/삭제가 커밋되면 바뀐 이름만 지운다.
+ * 캐시는 안내용일 뿐이고, 실제 중복은 DB unique 인덱스가 막는다.
+ */
+@Component
+public class StoreNameLookupCache {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final long ttlNanos;
+  private final int maxSize;
+
+  public StoreNameLookupCache(@Value("${bemin.store.name-cache.ttl-ms:30000}") long ttlMillis,
+                              @Value("${bemin.store.name-cache.max-size:10000}") int maxSize) {
+    this.ttlNanos = ttlMillis * 1_000_000;
+    this.maxSize = maxSize;
+  }
+
+  public boolean exists(String normalizedName, Predicate<String> loader) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(normalizedName);
+    if (entry != null && now - entry.loadedAt() < ttlNanos) {
+      return entry.exists();
+    }
+
+    boolean exists = loader.test(normalizedName);
+    if (entries.size() >= maxSize) {
+      // 관리자 화면에서만 쓰므로 가득 차면 비우고 다시 채운다.
+      entries.clear();
+    }
+    entries.put(normalizedName, new Entry(exists, now));
+    return exists;
+  }
+
+  public void evict(String normalizedName) {
+    if (normalizedName != null) {
+      entries.remove(normalizedName);
+    }
+  }
+
+  private record Entry(boolean exists, long loadedAt) {
+  }
+}
@@ -0,0 +1,238 @@
+package run.bemin.api.store.service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import run.bemin.api.store.entity.StoreHoliday;
+import run.bemin.api.store.entity.StoreOperatingHour;
+
+/*
+ * "지금 영업 중" 인덱스
+ * - 일주일을 15분 슬롯 672개로 나누고, 슬롯마다 영업 중인 가게의 BitSet 을 둔다. (비트 = 가게 순번)
+ * - 휴무일/특별 영업일은 날짜별로 (예외 가게 BitSet, 그날 96개 슬롯 BitSet) 을 따로 둔다.
+ * - 시각 t 의 영업 가게 = 주간 슬롯 비트 - 그날 예외 가게 + 그날 예외 슬롯 비트
+ * - 후보 가게 목록도 BitSet 으로 만들어 워드 단위 AND 로 거른다.
+ * 슬롯 경계에 걸친 시간은 영업하지 않는 쪽으로 맞춘다. (10:10 오픈 → 10:15 슬롯부터 영업)
+ * 영업 시간을 등록하지 않은 가게는 24시간 영업으로 본다.
+ */
+@Component
+public class StoreOpenIndex {
+
+  static final int SLOT_MINUTES = 15;
+  static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;
+
+  private final ZoneId zone;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 가게 순번은 한 번 부여하면 바뀌지 않는다. (조회 중에도 락 없이 읽는다)
+  private final Map<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+  private final BitSet[] weekSlots = new BitSet[SLOTS_PER_WEEK];
+  private final Map<LocalDate, DayOverride> overrides = new HashMap<>();
+  private int nextOrdinal;
+
+  public StoreOpenIndex(@Value("${bemin.store.hours.zone:Asia/Seoul}") String zone) {
+    this.zone = ZoneId.of(zone);
+    for (int i = 0; i < SLOTS_PER_WEEK; i++) {
+      weekSlots[i] = new BitSet();
+    }
+  }
+
+  /**
+   * 가게 하나의 영업 시간 교체 (지난 날짜의 휴무일은 무시)
+   */
+  public void replaceStore(UUID storeId, List<StoreOperatingHour> hours, List<StoreHoliday> holidays) {
+    BitSet week = compileWeek(hours);
+    Map<LocalDate, BitSet> days = new HashMap<>();
+    for (StoreHoliday holiday : holidays) {
+      BitSet day = days.computeIfAbsent(holiday.getHolidayDate(), date -> new BitSet(SLOTS_PER_DAY));
+      if (!holiday.isClosedAllDay()) {
+        setDaySlots(day, holiday.getOpenTime(), holiday.getCloseTime());
+      }
+    }
+
+    lock.writeLock().lock();
+    try {
+      int ordinal = ordinals.computeIfAbsent(storeId, id -> nextOrdinal++);
+      for (int slot = 0; slot < SLOTS_PER_WEEK; slot++) {
+        weekSlots[slot].set(ordinal, week.get(slot));
+      }
+
+      overrides.values().forEach(override -> override.clear(ordinal));
+      days.forEach((date, day) -> overrides.computeIfAbsent(date, d -> new DayOverride()).set(ordinal, day));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * date 이전 날짜의 예외 정보 삭제
+   */
+  public void pruneBefore(LocalDate date) {
+    lock.writeLock().lock();
+    try {
+      overrides.keySet().removeIf(day -> day.isBefore(date));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 인덱스 기준 시간대의 오늘 날짜
+   */
+  public LocalDate today() {
+    return LocalDate.now(zone);
+  }
+
+  public boolean isOpen(UUID storeId, Instant at) {
+    return openAt(at).test(storeId);
+  }
+
+  /**
+   * storeIds 중 at 시각에 영업 중인 가게
+   */
+  public Set<UUID> filterOpen(Collection<UUID> storeIds, Instant at) {
+    Set<UUID> open = new HashSet<>();
+    List<UUID> indexed = new ArrayList<>(storeIds.size());
+    BitSet candidates = new BitSet();
+    for (UUID storeId : storeIds) {
+      Integer ordinal = ordinals.get(storeId);
+      if (ordinal == null) {
+        open.add(storeId);
+      } else {
+        candidates.set(ordinal);
+        indexed.add(storeId);
+      }
+    }
+    if (indexed.isEmpty()) {
+      return open;
+    }
+
+    candidates.and(openStores(at));
+    for (UUID storeId : indexed) {
+      if (candidates.get(ordinals.get(storeId))) {
+        open.add(storeId);
+      }
+    }
+    return open;
+  }
+
+  /**
+   * at 시각의 영업 여부 판별기 (한 번 계산한 BitSet 으로 여러 가게를 판별)
+   */
+  public Predicate<UUID> openAt(Instant at) {
+    BitSet open = openStores(at);
+    return storeId -> {
+      Integer ordinal = ordinals.get(storeId);
+      return ordinal == null || open.get(ordinal);
+    };
+  }
+
+  private BitSet openStores(Instant at) {
+    ZonedDateTime local = at.atZone(zone);
+    int daySlot = (local.getHour() * 60 + local.getMinute()) / SLOT_MINUTES;
+    int weekSlot = weekSlot(local.getDayOfWeek(), daySlot);
+
+    lock.readLock().lock();
+    try {
+      BitSet open = (BitSet) weekSlots[weekSlot].clone();
+      DayOverride override = overrides.get(local.toLocalDate());
+      if (override != null) {
+        open.andNot(override.stores);
+        open.or(override.slots[daySlot]);
+      }
+      return open;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /*
+   * 요일별 영업 시간 → 주간 슬롯 비트 (자정을 넘는 구간은 다음 요일로, 일요일 다음은 월요일로 이어진다)
+   */
+  static BitSet compileWeek(List<StoreOperatingHour> hours) {
+    BitSet week = new BitSet(SLOTS_PER_WEEK);
+    if (hours.isEmpty()) {
+      week.set(0, SLOTS_PER_WEEK);
+      return week;
+    }
+    for (StoreOperatingHour hour : hours) {
+      int from = weekSlot(hour.getDayOfWeek(), openSlot(hour.getOpenTime()));
+      int length = closeSlot(hour.getCloseTime()) - openSlot(hour.getOpenTime());
+      if (!hour.getCloseTime().isAfter(hour.getOpenTime())) {
+        length += SLOTS_PER_DAY;
+      }
+      for (int i = 0; i < length; i++) {
+        week.set((from + i) % SLOTS_PER_WEEK);
+      }
+    }
+    return week;
+  }
+
+  /*
+   * 예외일 영업 시간 → 그날 슬롯 비트 (그날 안에서만 적용하므로 자정을 넘는 구간은 자정까지)
+   */
+  private static void setDaySlots(BitSet day, LocalTime openTime, LocalTime closeTime) {
+    int from = openSlot(openTime);
+    int to = closeTime.isAfter(openTime) ? closeSlot(closeTime) : SLOTS_PER_DAY;
+    if (to > from) {
+      day.set(from, to);
+    }
+  }
+
+  private static int weekSlot(DayOfWeek dayOfWeek, int daySlot) {
+    return (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY + daySlot;
+  }
+
+  private static int openSlot(LocalTime time) {
+    return (time.toSecondOfDay() + SLOT_MINUTES * 60 - 1) / (SLOT_MINUTES * 60);
+  }
+
+  private static int closeSlot(LocalTime time) {
+    return time.toSecondOfDay() / (SLOT_MINUTES * 60);
+  }
+
+  /*
+   * 하루치 예외 (stores : 그날 예외가 있는 가게, slots : 그날 슬롯별 영업 가게)
+   */
+  private static final class DayOverride {
+    private final BitSet stores = new BitSet();
+    private final BitSet[] slots = new BitSet[SLOTS_PER_DAY];
+
+    private DayOverride() {
+      for (int i = 0; i < SLOTS_PER_DAY; i++) {
+        slots[i] = new BitSet();
+      }
+    }
+
+    private void set(int ordinal, BitSet day) {
+      stores.set(ordinal);
+      for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+        slots[slot].set(ordinal, day.get(slot));
+      }
+    }
+
+    private void clear(int ordinal) {
+      stores.clear(ordinal);
+      for (BitSet slot : slots) {
+        slot.clear(ordinal);
+      }
+    }
+  }
+}
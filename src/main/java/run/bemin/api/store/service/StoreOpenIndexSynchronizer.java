@@ -0,0 +1,77 @@
+package run.bemin.api.store.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import run.bemin.api.store.entity.StoreHoliday;
+import run.bemin.api.store.entity.StoreOperatingHour;
+import run.bemin.api.store.event.StoreHoursChangedEvent;
+import run.bemin.api.store.repository.StoreHolidayRepository;
+import run.bemin.api.store.repository.StoreOperatingHourRepository;
+
+/*
+ * StoreOpenIndex 적재/갱신
+ * - 기동 시 영업 시간과 오늘 이후의 휴무일 전체를 적재
+ * - 영업 시간 변경이 커밋되면 해당 가게만 다시 읽어 반영
+ * - 매일 지난 날짜의 휴무일을 인덱스에서 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreOpenIndexSynchronizer {
+
+  private final StoreOperatingHourRepository storeOperatingHourRepository;
+  private final StoreHolidayRepository storeHolidayRepository;
+  private final StoreOpenIndex storeOpenIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    long startedAt = System.nanoTime();
+
+    Map<UUID, List<StoreOperatingHour>> hours = new HashMap<>();
+    for (StoreOperatingHour hour : storeOperatingHourRepository.findAll()) {
+      hours.computeIfAbsent(hour.getStoreId(), id -> new ArrayList<>()).add(hour);
+    }
+    Map<UUID, List<StoreHoliday>> holidays = new HashMap<>();
+    for (StoreHoliday holiday : storeHolidayRepository.findAllByHolidayDateGreaterThanEqual(storeOpenIndex.today())) {
+      holidays.computeIfAbsent(holiday.getStoreId(), id -> new ArrayList<>()).add(holiday);
+    }
+
+    Set<UUID> storeIds = new HashSet<>(hours.keySet());
+    storeIds.addAll(holidays.keySet());
+    for (UUID storeId : storeIds) {
+      storeOpenIndex.replaceStore(storeId, hours.getOrDefault(storeId, List.of()),
+          holidays.getOrDefault(storeId, List.of()));
+    }
+
+    log.info("Store open index loaded. stores = {}, {}ms", storeIds.size(), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStoreHoursChanged(StoreHoursChangedEvent event) {
+    refresh(event.storeId());
+  }
+
+  public void refresh(UUID storeId) {
+    storeOpenIndex.replaceStore(storeId,
+        storeOperatingHourRepository.findAllByStoreId(storeId),
+        storeHolidayRepository.findAllByStoreIdAndHolidayDateGreaterThanEqual(storeId, storeOpenIndex.today()));
+  }
+
+  @Scheduled(cron = "${bemin.store.hours.prune-cron:0 5 0 * * *}", zone = "${bemin.store.hours.zone:Asia/Seoul}")
+  public void pruneExpiredHolidays() {
+    storeOpenIndex.pruneBefore(storeOpenIndex.today());
+  }
+}
@@ -0,0 +1,107 @@
+package run.bemin.api.store.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import run.bemin.api.general.util.EntityTags;
+import run.bemin.api.store.dto.StoreBrowseDto;
+import run.bemin.api.store.dto.StoreDetailDto;
+import run.bemin.api.store.dto.StoreDetailVersion;
+import run.bemin.api.store.dto.StoreSummaryDto;
+import run.bemin.api.store.entity.Store;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreBrowseJdbcRepository;
+import run.bemin.api.store.repository.StoreRepository;
+
+/*
+ * 가게 목록/상세 조회
+ * 목록은 ID 페이지를 먼저 구한 뒤 해당 가게들을 주소, 카테고리와 함께 한 번에 읽는다.
+ * (컬렉션 fetch join 과 페이징을 함께 쓰면 메모리 페이징이 되므로 두 단계로 나눈다.)
+ * 페이지 크기와 무관하게 ID 조회 + count + 연관 조회 3번의 쿼리로 끝난다.
+ * 카테고리별 목록은 조인 없이 store_category_browse 읽기 테이블만 읽는다.
+ * 영업 중 여부는 StoreOpenIndex 에서 페이지 단위로 한 번에 판별한다.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class StoreQueryService {
+
+  private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "name", "minimumPrice", "rating");
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final StoreRepository storeRepository;
+  private final StoreBrowseJdbcRepository storeBrowseJdbcRepository;
+  private final StoreOpenIndex storeOpenIndex;
+
+  public Page<StoreSummaryDto> getStores(Integer page, Integer size, String sortBy, Boolean isAsc) {
+    Sort.Direction direction = Boolean.FALSE.equals(isAsc) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    String property = SORTABLE_PROPERTIES.contains(sortBy) ? sortBy : "createdAt";
+    Pageable pageable = PageRequest.of(
+        Math.max(page, 0),
+        Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+        Sort.by(direction, property).and(Sort.by("id")));
+
+    Page<UUID> storeIds = storeRepository.findActiveStoreIds(pageable);
+    if (storeIds.isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, storeIds.getTotalElements());
+    }
+
+    Map<UUID, Store> stores = storeRepository.findAllWithAssociationsByIdIn(storeIds.getContent()).stream()
+        .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+    Set<UUID> openStoreIds = storeOpenIndex.filterOpen(storeIds.getContent(), Instant.now());
+
+    // IN 조회는 순서를 보장하지 않으므로 ID 페이지 순서대로 다시 맞춘다.
+    List<StoreSummaryDto> content = storeIds.getContent().stream()
+        .map(stores::get)
+        .filter(Objects::nonNull)
+        .map(store -> StoreSummaryDto.fromEntity(store, openStoreIds.contains(store.getId())))
+        .toList();
+    return new PageImpl<>(content, pageable, storeIds.getTotalElements());
+  }
+
+  public StoreDetailDto getStore(UUID storeId) {
+    return getStore(storeId, Instant.now());
+  }
+
+  /**
+   * @param at 영업 중 여부 기준 시각 (ETag 와 같은 시각을 써야 본문과 ETag 가 어긋나지 않는다)
+   */
+  public StoreDetailDto getStore(UUID storeId, Instant at) {
+    Store store = storeRepository.findDetailById(storeId)
+        .orElseThrow(() -> new StoreNotFoundException(storeId.toString()));
+
+    return StoreDetailDto.fromEntity(store, storeOpenIndex.isOpen(storeId, at));
+  }
+
+  /**
+   * 가게 상세 ETag (상세를 읽지 않고 버전 조회 한 번 + 영업 중 여부로 계산)
+   */
+  public String getStoreEtag(UUID storeId, Instant at) {
+    StoreDetailVersion version = storeRepository.findDetailVersionById(storeId)
+        .orElseThrow(() -> new StoreNotFoundException(storeId.toString()));
+
+    return EntityTags.of("store", storeId, version.createdAt(), version.updatedAt(), version.ratingSum(),
+        version.ratingCount(), version.categoriesUpdatedAt(), storeOpenIndex.isOpen(storeId, at));
+  }
+
+  public List<StoreBrowseDto> getStoresByCategory(UUID categoryId, LocalDateTime cursorCreatedAt,
+                                                  UUID cursorStoreId, Integer size) {
+    return storeBrowseJdbcRepository.findByCategory(categoryId, cursorCreatedAt, cursorStoreId,
+        Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+  }
+}
@@ -0,0 +1,203 @@
+package run.bemin.api.store.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.bemin.api.store.dto.StoreRatingDelta;
+import run.bemin.api.store.repository.StoreRatingJdbcRepository;
+
+/*
+ * 가게 평점 증감분 누적기
+ * - 리뷰 작성/삭제가 커밋되면 가게별 (합계, 개수) 증감분을 메모리에 더한다.
+ * - 가게 ID 해시로 stripe 를 골라 stripe 단위로만 잠그므로 서로 다른 가게의 쓰기는 경합하지 않는다.
+ * - flush-interval 마다 모인 증감분을 한 트랜잭션의 JDBC 배치로 p_store 에 더한다.
+ * 서버가 내려가 반영 전 증감분을 잃어도 StoreRatingRecomputeJob 이 리뷰 원본으로 다시 맞춘다.
+ *
+ * 재계산과의 정합성 (가게 파티션 단위)
+ * - 리뷰 트랜잭션은 커밋 직전부터 증감분을 더할 때까지 가게 파티션의 읽기 잠금을 잡는다.
+ * - 재계산은 파티션의 쓰기 잠금을 잡고, 쌓여 있던 그 파티션의 증감분을 버린 뒤 리뷰 원본을 다시 집계한다.
+ *   버린 증감분은 모두 이미 커밋된 리뷰의 것이라 재계산 결과에 들어 있고,
+ *   재계산 중인 파티션의 리뷰 커밋은 끝날 때까지 기다리므로 이후 증감분은 한 번만 더해진다.
+ * 파티션 번호는 store_id 의 마지막 바이트로 정해 SQL(get_byte(uuid_send(store_id), 15))과 같게 맞춘다.
+ */
+@Slf4j
+@Component
+public class StoreRatingAccumulator {
+
+  private final StoreRatingJdbcRepository storeRatingJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Stripe[] stripes;
+  private final int mask;
+  private final ReentrantReadWriteLock[] partitionLocks;
+
+  @Value("${bemin.store.rating.batch-size:500}")
+  private int batchSize;
+
+  public StoreRatingAccumulator(StoreRatingJdbcRepository storeRatingJdbcRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${bemin.store.rating.stripes:64}") int stripeCount,
+                                @Value("${bemin.store.rating.recompute-partitions:16}") int partitionCount) {
+    this.storeRatingJdbcRepository = storeRatingJdbcRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // stripe 선택을 비트 연산으로 하기 위해 2의 거듭제곱으로 맞춘다.
+    int capacity = Integer.highestOneBit(Math.max(stripeCount, 2) - 1) << 1;
+    this.stripes = new Stripe[capacity];
+    for (int i = 0; i < capacity; i++) {
+      stripes[i] = new Stripe();
+    }
+    this.mask = capacity - 1;
+    // 파티션 번호는 store_id 의 한 바이트이므로 최대 256 개
+    this.partitionLocks = new ReentrantReadWriteLock[Math.min(Math.max(partitionCount, 1), 256)];
+    for (int i = 0; i < partitionLocks.length; i++) {
+      partitionLocks[i] = new ReentrantReadWriteLock();
+    }
+  }
+
+  /**
+   * 리뷰 트랜잭션 커밋 이후 증감분을 더한다. (트랜잭션 밖에서 호출되면 즉시)
+   */
+  public void addOnCommit(UUID storeId, long sumDelta, long countDelta) {
+    Lock gate = partitionLocks[partitionOf(storeId, partitionLocks.length)].readLock();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      gate.lock();
+      try {
+        add(storeId, sumDelta, countDelta);
+      } finally {
+        gate.unlock();
+      }
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      private boolean locked;
+
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        gate.lock();
+        locked = true;
+      }
+
+      @Override
+      public void afterCommit() {
+        add(storeId, sumDelta, countDelta);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        if (locked) {
+          locked = false;
+          gate.unlock();
+        }
+      }
+    });
+  }
+
+  public int partitionCount() {
+    return partitionLocks.length;
+  }
+
+  /**
+   * 파티션 재계산 : 쓰기 잠금 안에서 쌓인 증감분을 버리고 recompute 를 실행한다.
+   * 그동안 이 파티션 가게의 리뷰 커밋은 기다린다.
+   */
+  public int recomputePartition(int partitionNo, IntSupplier recompute) {
+    Lock gate = partitionLocks[partitionNo].writeLock();
+    gate.lock();
+    try {
+      for (Stripe stripe : stripes) {
+        stripe.drop(storeId -> partitionOf(storeId, partitionLocks.length) == partitionNo);
+      }
+      return recompute.getAsInt();
+    } finally {
+      gate.unlock();
+    }
+  }
+
+  static int partitionOf(UUID storeId, int partitionCount) {
+    return (int) (storeId.getLeastSignificantBits() & 0xFF) % partitionCount;
+  }
+
+  private void add(UUID storeId, long sumDelta, long countDelta) {
+    int hash = storeId.hashCode();
+    stripes[(hash ^ (hash >>> 16)) & mask].add(storeId, sumDelta, countDelta);
+  }
+
+  @Scheduled(fixedDelayString = "${bemin.store.rating.flush-interval-ms:5000}")
+  public synchronized void flush() {
+    Map<UUID, long[]> drained = new HashMap<>();
+    for (Stripe stripe : stripes) {
+      stripe.drainTo(drained);
+    }
+
+    List<StoreRatingDelta> deltas = new ArrayList<>(drained.size());
+    drained.forEach((storeId, delta) -> {
+      if (delta[0] != 0 || delta[1] != 0) {
+        deltas.add(new StoreRatingDelta(storeId, delta[0], delta[1]));
+      }
+    });
+    if (deltas.isEmpty()) {
+      return;
+    }
+    // 재계산 작업과 같은 순서로 행을 잠그도록 정렬
+    deltas.sort(Comparator.comparing(StoreRatingDelta::storeId));
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> storeRatingJdbcRepository.applyDeltas(deltas, batchSize));
+    } catch (DataAccessException e) {
+      // 전체가 롤백되었으므로 다음 주기에 다시 반영한다.
+      log.error("Failed to flush store ratings. stores = {}", deltas.size(), e);
+      deltas.forEach(delta -> add(delta.storeId(), delta.sumDelta(), delta.countDelta()));
+    }
+  }
+
+  /**
+   * 남은 증감분을 반영한 뒤, 그동안 flush 를 멈추고 작업 실행 (재계산용)
+   * 진행 중인 flush 의 UPDATE 가 재계산 결과 위에 한 번 더 더해지지 않도록 재계산 전체를 flush 와 겹치지 않게 한다.
+   */
+  public synchronized void flushAndRun(Runnable action) {
+    flush();
+    action.run();
+  }
+
+  private static final class Stripe {
+    private Map<UUID, long[]> deltas = new HashMap<>();
+
+    private synchronized void add(UUID storeId, long sumDelta, long countDelta) {
+      long[] delta = deltas.computeIfAbsent(storeId, id -> new long[2]);
+      delta[0] += sumDelta;
+      delta[1] += countDelta;
+    }
+
+    private synchronized void drop(Predicate<UUID> filter) {
+      deltas.keySet().removeIf(filter);
+    }
+
+    private void drainTo(Map<UUID, long[]> target) {
+      Map<UUID, long[]> drained;
+      synchronized (this) {
+        if (deltas.isEmpty()) {
+          return;
+        }
+        drained = deltas;
+        deltas = new HashMap<>();
+      }
+      // 서로 다른 stripe 에 같은 가게가 들어가지 않으므로 그대로 옮긴다.
+      target.putAll(drained);
+    }
+  }
+}
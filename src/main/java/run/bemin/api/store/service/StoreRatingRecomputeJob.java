@@ -0,0 +1,75 @@
+package run.bemin.api.store.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.bemin.api.store.repository.StoreRatingJdbcRepository;
+
+/*
+ * 가게 평점 전체 재계산 (누적기 유실/중복 보정)
+ * - 남은 증감분을 먼저 반영하고, 끝날 때까지 누적기 flush 를 멈춘다.
+ * - 가게를 누적기와 같은 파티션으로 나누어 ForkJoinPool 에서 병렬로 리뷰 원본을 다시 집계한다.
+ *   파티션마다 누적기의 쓰기 잠금 안에서 실행하므로, 집계에 이미 들어간 리뷰의 증감분은 버려지고 중복 반영되지 않는다.
+ * - 값이 다른 가게만 UPDATE 한다.
+ */
+@Slf4j
+@Component
+public class StoreRatingRecomputeJob {
+
+  private final StoreRatingJdbcRepository storeRatingJdbcRepository;
+  private final StoreRatingAccumulator storeRatingAccumulator;
+  private final ForkJoinPool pool;
+
+  public StoreRatingRecomputeJob(StoreRatingJdbcRepository storeRatingJdbcRepository,
+                                 StoreRatingAccumulator storeRatingAccumulator,
+                                 @Value("${bemin.store.rating.recompute-parallelism:4}") int parallelism) {
+    this.storeRatingJdbcRepository = storeRatingJdbcRepository;
+    this.storeRatingAccumulator = storeRatingAccumulator;
+    this.pool = new ForkJoinPool(Math.max(parallelism, 1));
+  }
+
+  @Scheduled(cron = "${bemin.store.rating.recompute-cron:0 0 5 * * *}")
+  public void recompute() {
+    storeRatingAccumulator.flushAndRun(this::recomputeAll);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private void recomputeAll() {
+    long startedAt = System.nanoTime();
+    int partitions = storeRatingAccumulator.partitionCount();
+
+    List<ForkJoinTask<Integer>> tasks = new ArrayList<>(partitions);
+    for (int p = 0; p < partitions; p++) {
+      int partitionNo = p;
+      tasks.add(pool.submit(() -> storeRatingAccumulator.recomputePartition(partitionNo,
+          () -> storeRatingJdbcRepository.recomputePartition(partitions, partitionNo))));
+    }
+
+    int repaired = 0;
+    int failed = 0;
+    for (ForkJoinTask<Integer> task : tasks) {
+      try {
+        repaired += task.get();
+      } catch (ExecutionException e) {
+        failed++;
+        log.error("Store rating recompute partition failed.", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Store rating recompute interrupted!!", e);
+      }
+    }
+    log.info("Store rating recompute finished. repaired stores = {}, failed partitions = {}, {}ms",
+        repaired, failed, (System.nanoTime() - startedAt) / 1_000_000);
+  }
+}
@@ -1,24 +1,58 @@
 package run.bemin.api.store.service;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.bemin.api.category.entity.Category;
-import run.bemin.api.category.exception.CategoryAlreadyExistsByNameException;
+import run.bemin.api.category.exception.CategoryNotFoundException;
+import run.bemin.api.category.repository.CategoryRepository;
+import run.bemin.api.general.exception.ConstraintViolations;
+import run.bemin.api.general.transaction.TransactionCallbacks;
+import run.bemin.api.general.util.NameNormalizer;
 import run.bemin.api.security.UserDetailsImpl;
+import run.bemin.api.store.dto.NearbyStoreDto;
 import run.bemin.api.store.dto.StoreDto;
 import run.bemin.api.store.dto.request.CreateStoreRequestDto;
+import run.bemin.api.store.dto.request.SoftDeleteStoreRequestDto;
+import run.bemin.api.store.dto.request.StoreAddressRequestDto;
+import run.bemin.api.store.dto.request.UpdateStoreRequestDto;
 import run.bemin.api.store.entity.Store;
+import run.bemin.api.store.entity.StoreAddress;
+import run.bemin.api.store.entity.StoreCategory;
+import run.bemin.api.store.event.StoreChangedEvent;
+import run.bemin.api.store.exception.StoreAlreadyExistsByNameException;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreAddressRepository;
 import run.bemin.api.store.repository.StoreRepository;
 
 @RequiredArgsConstructor
 @Service
 public class StoreService {
 
+  private static final int MAX_NEARBY_LIMIT = 100;
+  private static final int MAX_NEARBY_RADIUS_METERS = 20_000;
+  private static final String NAME_UNIQUE_INDEX = "uk_store_normalized_name";
+
   private final StoreRepository storeRepository;
+  private final StoreAddressRepository storeAddressRepository;
+  private final CategoryRepository categoryRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final StoreGeoIndex storeGeoIndex;
+  private final StoreOpenIndex storeOpenIndex;
+  private final StoreDeliveryZoneIndex storeDeliveryZoneIndex;
+  private final StoreNameLookupCache storeNameLookupCache;
 
   public Boolean existsStoreByName(String name) {
-    return storeRepository.existsByName(name);
+    return storeNameLookupCache.exists(NameNormalizer.normalize(name),
+        storeRepository::existsByNormalizedNameAndIsDeletedFalse);
   }
 
   @Transactional
@@ -30,7 +64,155 @@ public class StoreService {
         requestDto.userEmail(),
         userDetails.getUsername());
 
-    Store savedStore = storeRepository.save(store);
+    Store savedStore = saveAndFlushName(store);
+    applyAddress(savedStore, requestDto.address());
+    applyCategories(savedStore, requestDto.categoryIds(), userDetails.getUsername());
+
+    eventPublisher.publishEvent(new StoreChangedEvent(savedStore.getId()));
     return StoreDto.fromEntity(savedStore);
   }
+
+  @Transactional
+  public StoreDto updateStore(UpdateStoreRequestDto requestDto, UserDetailsImpl userDetails) {
+    Store store = storeRepository.findByIdAndIsDeletedFalse(requestDto.storeId())
+        .orElseThrow(() -> new StoreNotFoundException(String.valueOf(requestDto.storeId())));
+
+    String previousName = store.getNormalizedName();
+    store.update(requestDto.name(), requestDto.phone(), requestDto.minimumPrice(), userDetails.getUsername());
+    if (!store.getNormalizedName().equals(previousName)) {
+      saveAndFlushName(store);
+      TransactionCallbacks.afterCommit(() -> storeNameLookupCache.evict(previousName));
+    }
+    applyAddress(store, requestDto.address());
+    applyCategories(store, requestDto.categoryIds(), userDetails.getUsername());
+
+    eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
+    return StoreDto.fromEntity(store);
+  }
+
+  @Transactional
+  public StoreDto softDeleteStore(SoftDeleteStoreRequestDto requestDto, UserDetailsImpl userDetails) {
+    Store store = storeRepository.findByIdAndIsDeletedFalse(requestDto.storeId())
+        .orElseThrow(() -> new StoreNotFoundException(String.valueOf(requestDto.storeId())));
+
+    store.softDelete(userDetails.getUsername());
+    TransactionCallbacks.afterCommit(() -> storeNameLookupCache.evict(store.getNormalizedName()));
+
+    eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
+    return StoreDto.fromEntity(store);
+  }
+
+  /**
+   * 주변 가게 조회 (메모리 인덱스만 사용)
+   * openOnly 이면 지금 영업 중인 가게만, bcode 를 주면 해당 법정동에 배달하는 가게만
+   */
+  public List<NearbyStoreDto> findNearbyStores(double latitude, double longitude, int radiusMeters, int limit,
+                                               UUID categoryId, boolean openOnly, String bcode) {
+    int radius = Math.min(Math.max(radiusMeters, 1), MAX_NEARBY_RADIUS_METERS);
+    int size = Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT);
+    StoreDeliveryZoneIndex.Coverage coverage = bcode != null ? storeDeliveryZoneIndex.coverage(bcode) : null;
+
+    Predicate<UUID> filter = null;
+    if (openOnly) {
+      filter = storeOpenIndex.openAt(Instant.now());
+    }
+    if (coverage != null) {
+      filter = filter == null ? coverage::delivers : filter.and(coverage::delivers);
+    }
+
+    return storeGeoIndex.findNearest(latitude, longitude, radius, size, categoryId, filter).stream()
+        .map(nearby -> new NearbyStoreDto(
+            nearby.entry().storeId(),
+            nearby.entry().name(),
+            nearby.entry().minimumPrice(),
+            nearby.entry().latitude(),
+            nearby.entry().longitude(),
+            (int) Math.round(nearby.distanceMeters()),
+            coverage != null ? deliveryFeeOrNull(coverage.deliveryFee(nearby.entry().storeId())) : null))
+        .toList();
+  }
+
+  private static Integer deliveryFeeOrNull(int deliveryFee) {
+    return deliveryFee >= 0 ? deliveryFee : null;
+  }
+
+  /*
+   * 이름 중복은 사전 조회 없이 unique 인덱스 위반으로 판별한다. (조회 후 저장 사이의 경합 없음)
+   */
+  private Store saveAndFlushName(Store store) {
+    try {
+      Store saved = storeRepository.saveAndFlush(store);
+      TransactionCallbacks.afterCommit(() -> storeNameLookupCache.evict(saved.getNormalizedName()));
+      return saved;
+    } catch (DataIntegrityViolationException e) {
+      if (ConstraintViolations.isViolated(e, NAME_UNIQUE_INDEX)) {
+        throw new StoreAlreadyExistsByNameException(store.getName());
+      }
+      throw e;
+    }
+  }
+
+  private void applyAddress(Store store, StoreAddressRequestDto addressDto) {
+    if (addressDto == null) {
+      return;
+    }
+
+    StoreAddress address = store.getStoreAddress();
+    if (address == null) {
+      address = storeAddressRepository.save(StoreAddress.create(store, addressDto.zoneCode(), addressDto.bcode(),
+          addressDto.jibunAddress(), addressDto.roadAddress(), addressDto.detail(),
+          addressDto.latitude(), addressDto.longitude()));
+      store.changeAddress(address);
+      return;
+    }
+    address.update(addressDto.zoneCode(), addressDto.bcode(), addressDto.jibunAddress(), addressDto.roadAddress(),
+        addressDto.detail(), addressDto.latitude(), addressDto.longitude());
+  }
+
+  /*
+   * 요청 카테고리 목록으로 교체 (첫 번째 카테고리가 대표)
+   * 목록에서 빠진 연결은 소프트 삭제, 유지되는 연결은 대표 여부만 갱신한다.
+   */
+  private void applyCategories(Store store, List<UUID> categoryIds, String username) {
+    if (categoryIds == null) {
+      return;
+    }
+
+    List<UUID> requestedIds = categoryIds.stream().distinct().toList();
+    Map<UUID, Category> categories = new HashMap<>();
+    categoryRepository.findAllById(requestedIds).forEach(category -> {
+      if (!Boolean.TRUE.equals(category.getIsDeleted())) {
+        categories.put(category.getId(), category);
+      }
+    });
+    for (UUID categoryId : requestedIds) {
+      if (!categories.containsKey(categoryId)) {
+        throw new CategoryNotFoundException(categoryId.toString());
+      }
+    }
+
+    UUID primaryId = requestedIds.isEmpty() ? null : requestedIds.get(0);
+    Map<UUID, StoreCategory> current = new HashMap<>();
+    for (StoreCategory storeCategory : store.getStoreCategories()) {
+      if (Boolean.TRUE.equals(storeCategory.getIsDeleted())) {
+        continue;
+      }
+      UUID categoryId = storeCategory.getCategory().getId();
+      if (categories.containsKey(categoryId)) {
+        current.put(categoryId, storeCategory);
+      } else {
+        storeCategory.softDelete(username);
+      }
+    }
+
+    for (UUID categoryId : requestedIds) {
+      boolean primary = categoryId.equals(primaryId);
+      StoreCategory existing = current.get(categoryId);
+      if (existing != null) {
+        existing.update(username, primary);
+      } else {
+        store.addCategory(StoreCategory.create(store, categories.get(categoryId), primary, username));
+      }
+    }
+  }
 }
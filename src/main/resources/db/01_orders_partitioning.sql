@@ -0,0 +1,120 @@
+-- orders 월 단위 RANGE 파티션 (created_at 기준)
+-- 파티션 생성/아카이브는 OrderPartitionScheduler 가 담당한다.
+-- 파티션 테이블의 PK 는 파티션 키를 포함해야 하므로 (order_id, created_at) 복합 PK 를 사용한다.
+-- payment.order_id 는 order_id 단독 FK 를 걸 수 없으므로 아래 트리거로 참조 무결성을 지킨다.
+-- 기존 일반 테이블을 변환하는 경우 쓰기를 멈추고 스크립트 전체를 한 트랜잭션으로 실행한다.
+
+CREATE SCHEMA IF NOT EXISTS order_archive;
+
+-- 1. 파티션 도입 전의 일반 테이블 orders 가 있으면 orders_legacy 로 이름을 바꾼다.
+--    보조 인덱스 이름이 새 부모 테이블의 인덱스 이름과 겹치지 않도록 먼저 지우고,
+--    created_at 이 없던 행은 변환 시각으로 채운다. (이번 달 파티션에 들어가 조회 기간 안에 남는다)
+DO $$
+DECLARE
+    idx TEXT;
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM pg_class c
+               WHERE c.relname = 'orders'
+                 AND c.relnamespace = current_schema()::regnamespace
+                 AND c.relkind = 'r') THEN
+        ALTER TABLE orders RENAME TO orders_legacy;
+        FOR idx IN SELECT i.indexrelid::regclass::text
+                   FROM pg_index i
+                   WHERE i.indrelid = 'orders_legacy'::regclass AND NOT i.indisprimary AND NOT i.indisunique
+        LOOP
+            EXECUTE 'DROP INDEX ' || idx;
+        END LOOP;
+        ALTER TABLE orders_legacy ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+        UPDATE orders_legacy SET created_at = now() WHERE created_at IS NULL;
+    END IF;
+END $$;
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE IF NOT EXISTS orders
+(
+    order_id       UUID         NOT NULL,
+    user_id        VARCHAR(255) NOT NULL,
+    store_id       VARCHAR(255),
+    order_type     INTEGER      NOT NULL,
+    order_status   INTEGER,
+    store_name     VARCHAR(255) NOT NULL,
+    rider_tel      VARCHAR(255),
+    bcode          VARCHAR(255),
+    jibun_address  VARCHAR(255),
+    road_address   VARCHAR(255),
+    detail_address VARCHAR(255),
+    cancelled      BOOLEAN DEFAULT FALSE,
+    created_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (order_id, created_at),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES p_user (user_email)
+) PARTITION BY RANGE (created_at);
+
+-- 부모 테이블에 만든 인덱스는 각 월 파티션에 자동으로 생성된다.
+-- 파티션 단위로 인덱스가 나뉘므로 최근 파티션의 인덱스만 메모리에 상주하면 된다.
+CREATE INDEX IF NOT EXISTS idx_orders_user_created_at ON orders (user_id, created_at DESC);
+
+-- 3. 기존 행이 걸친 달의 파티션을 만들고(이름 규칙은 MonthlyPartitionManager 와 같음) 행을 옮긴다.
+--    payment 의 기존 FK 는 orders_legacy 를 가리키므로 함께 지운다. (4 에서 트리거로 대체)
+--    오래된 달은 다음 OrderPartitionScheduler 실행 때 아카이브 스키마로 이동한다.
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    IF to_regclass('orders_legacy') IS NULL THEN
+        RETURN;
+    END IF;
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', min(created_at)), date_trunc('month', greatest(max(created_at), now())), INTERVAL '1 month')::date
+        FROM orders_legacy
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                       'orders_p' || to_char(month_start, 'YYYYMM'), month_start,
+                       (month_start + INTERVAL '1 month')::date);
+    END LOOP;
+
+    INSERT INTO orders (order_id, user_id, store_id, order_type, order_status, store_name, rider_tel, bcode,
+                        jibun_address, road_address, detail_address, cancelled, created_at)
+    SELECT order_id, user_id, store_id, order_type, order_status, store_name, rider_tel, bcode,
+           jibun_address, road_address, detail_address, cancelled, created_at
+    FROM orders_legacy;
+
+    DROP TABLE orders_legacy CASCADE;
+END $$;
+
+-- 4. payment.order_id 참조 무결성
+--    결제 저장/order_id 변경 시 주문 행을 FOR KEY SHARE 로 잠가 확인하고(일반 FK 와 같은 잠금),
+--    결제가 있는 주문은 삭제할 수 없다. 파티션을 아카이브로 분리(DETACH)하는 것은 삭제가 아니므로 막지 않는다.
+CREATE OR REPLACE FUNCTION check_payment_order_exists() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1 FROM orders WHERE order_id = NEW.order_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'order % does not exist', NEW.order_id USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END $$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION check_order_has_no_payment() RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM payment WHERE order_id = OLD.order_id) THEN
+        RAISE EXCEPTION 'order % is referenced by payment', OLD.order_id USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NULL;
+END $$ LANGUAGE plpgsql;
+
+DO $$
+BEGIN
+    IF to_regclass('payment') IS NULL THEN
+        RAISE NOTICE 'payment table does not exist yet. re-run this script after it is created';
+        RETURN;
+    END IF;
+    DROP TRIGGER IF EXISTS trg_payment_order_exists ON payment;
+    CREATE TRIGGER trg_payment_order_exists
+        BEFORE INSERT OR UPDATE OF order_id ON payment
+        FOR EACH ROW EXECUTE FUNCTION check_payment_order_exists();
+
+    DROP TRIGGER IF EXISTS trg_orders_payment_restrict ON orders;
+    CREATE TRIGGER trg_orders_payment_restrict
+        AFTER DELETE ON orders
+        FOR EACH ROW EXECUTE FUNCTION check_order_has_no_payment();
+END $$;
@@ -0,0 +1,20 @@
+-- 가게 주문 검색
+-- orders.store_id 를 UUID 로 변경하고 p_store FK 및 검색용 복합 인덱스를 추가한다.
+-- (파티션 부모 테이블에 만든 인덱스는 모든 월 파티션에 생성된다.)
+
+ALTER TABLE orders
+    ALTER COLUMN store_id TYPE UUID USING store_id::uuid;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_orders_store') THEN
+        ALTER TABLE orders
+            ADD CONSTRAINT fk_orders_store FOREIGN KEY (store_id) REFERENCES p_store (store_id);
+    END IF;
+END $$;
+
+-- 상태 필터가 있는 검색 : store_id = ? AND order_status = ? AND created_at 범위
+CREATE INDEX IF NOT EXISTS idx_orders_store_status_created_at ON orders (store_id, order_status, created_at DESC);
+
+-- 상태 필터가 없는 검색 : store_id = ? AND created_at 범위
+CREATE INDEX IF NOT EXISTS idx_orders_store_created_at ON orders (store_id, created_at DESC);
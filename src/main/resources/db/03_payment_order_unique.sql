@@ -0,0 +1,4 @@
+-- 주문당 결제 1건
+-- 결제 생성 시 주문 엔티티를 로딩하지 않으므로 중복 결제는 유니크 제약으로 막는다.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payment_order_id ON payment (order_id);
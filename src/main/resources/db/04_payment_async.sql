@@ -0,0 +1,12 @@
+-- 비동기 결제
+-- PG 승인 결과를 기다리는 동안 결제는 PENDING 상태로 저장된다.
+
+ALTER TABLE payment
+    ADD COLUMN IF NOT EXISTS pg_transaction_id VARCHAR(100);
+
+-- Hibernate(ddl-auto=update) 가 만든 status 컬럼에는 enum 값 목록으로 된 CHECK 제약이 있고,
+-- update 는 이 제약을 고치지 않으므로 PENDING 저장이 실패한다. 현재 PaymentStatus 값으로 다시 만든다.
+ALTER TABLE payment DROP CONSTRAINT IF EXISTS payment_status_check;
+ALTER TABLE payment
+    ADD CONSTRAINT payment_status_check
+        CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED'));
@@ -0,0 +1,30 @@
+-- 가게 일괄 환불
+-- 취소된 결제의 PG 환불 진행 상태. 재시작 시 REQUESTED 건을 다시 요청한다.
+
+ALTER TABLE payment
+    ADD COLUMN IF NOT EXISTS refund_status VARCHAR(20);
+
+CREATE INDEX IF NOT EXISTS idx_payment_refund_requested ON payment (payment_id)
+    WHERE refund_status = 'REQUESTED';
+
+-- 환불을 요청한 작업과 요청 시각 : RequestedRefundReconciler 가 결과를 PG 에 조회하고,
+-- 기한 안에 확정되지 않은 환불은 FAILED 로 바꿔 작업의 환불 결과 집계가 끝나도록 한다.
+ALTER TABLE payment
+    ADD COLUMN IF NOT EXISTS refund_job_id UUID,
+    ADD COLUMN IF NOT EXISTS refund_requested_at TIMESTAMP(6);
+
+-- 컬럼 추가 전에 요청된 환불은 마지막 변경 시각을 요청 시각으로, 주문이 대상 범위에 드는 가장 최근 작업을 요청 작업으로 본다.
+UPDATE payment p
+SET refund_requested_at = coalesce(p.refund_requested_at, p.updated_at),
+    refund_job_id       = coalesce(p.refund_job_id, (SELECT j.refund_job_id
+                                                     FROM orders o
+                                                     JOIN refund_job j ON j.store_id = o.store_id
+                                                         AND o.created_at >= j.window_from
+                                                         AND o.created_at < j.window_to
+                                                     WHERE o.order_id = p.order_id
+                                                     ORDER BY j.created_at DESC
+                                                     LIMIT 1))
+WHERE p.refund_status = 'REQUESTED' AND (p.refund_requested_at IS NULL OR p.refund_job_id IS NULL);
+
+CREATE INDEX IF NOT EXISTS idx_payment_refund_requested_at ON payment (refund_requested_at)
+    WHERE refund_status = 'REQUESTED';
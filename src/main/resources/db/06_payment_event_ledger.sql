@@ -0,0 +1,34 @@
+-- 결제 이벤트 원장
+-- 결제 상태가 바뀔 때마다 같은 트랜잭션에서 한 행씩 추가한다. (UPDATE/DELETE 없음)
+-- 월 단위 RANGE 파티션 : 파티션은 PaymentLedgerMaintenance 가 미리 생성하고,
+-- 오래된 월은 payment_event_monthly_summary 로 요약한 뒤 삭제한다.
+-- 정산/리포트는 created_at 범위로 조회하므로 해당 월 파티션만 읽는다.
+
+CREATE TABLE IF NOT EXISTS payment_event (
+    event_id       BIGSERIAL,
+    payment_id     UUID        NOT NULL,
+    order_id       UUID        NOT NULL,
+    store_id       UUID        NOT NULL,
+    event_type     VARCHAR(20) NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    amount         BIGINT      NOT NULL,
+    created_at     TIMESTAMP   NOT NULL,
+    PRIMARY KEY (event_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션 범위 밖의 행(파티션 생성 지연, 시계 오차)도 결제 트랜잭션을 실패시키지 않도록 기본 파티션에 받는다.
+-- 해당 월 파티션을 만들 때 MonthlyPartitionManager 가 기본 파티션의 행을 옮겨 온다.
+CREATE TABLE IF NOT EXISTS payment_event_default PARTITION OF payment_event DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_payment_event_store_created_at ON payment_event (store_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_payment_event_payment_id ON payment_event (payment_id);
+
+CREATE TABLE IF NOT EXISTS payment_event_monthly_summary (
+    month          DATE        NOT NULL,
+    store_id       UUID        NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    event_type     VARCHAR(20) NOT NULL,
+    event_count    BIGINT      NOT NULL,
+    amount         BIGINT      NOT NULL,
+    PRIMARY KEY (month, store_id, payment_method, event_type)
+);
@@ -0,0 +1,5 @@
+-- 가게 주소 좌표 (WGS84)
+-- 주변 가게 조회는 메모리 격자 인덱스(StoreGeoIndex)로 처리하고, DB 는 기동 시 적재에만 사용한다.
+
+ALTER TABLE p_store_address ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE p_store_address ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
@@ -0,0 +1,37 @@
+-- 카테고리별 가게 목록 읽기 전용 테이블
+-- 활성 가게-카테고리 쌍 하나당 한 행. p_category / p_store_category / p_store / p_store_address 조인 없이
+-- (category_id, store_created_at DESC, store_id DESC) 인덱스 범위 스캔 하나로 목록을 읽는다.
+-- 가게/카테고리 변경 트랜잭션 안에서 StoreBrowseProjector 가 갱신한다.
+
+CREATE TABLE IF NOT EXISTS store_category_browse (
+    category_id      UUID             NOT NULL,
+    store_id         UUID             NOT NULL,
+    is_primary       BOOLEAN          NOT NULL,
+    store_name       VARCHAR(255)     NOT NULL,
+    minimum_price    INTEGER,
+    rating           REAL,
+    road_address     VARCHAR(255),
+    latitude         DOUBLE PRECISION,
+    longitude        DOUBLE PRECISION,
+    store_created_at TIMESTAMP        NOT NULL,
+    PRIMARY KEY (category_id, store_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_category_browse_list
+    ON store_category_browse (category_id, store_created_at DESC, store_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_store_category_browse_store
+    ON store_category_browse (store_id);
+
+-- 기존 데이터 채우기
+INSERT INTO store_category_browse
+    (category_id, store_id, is_primary, store_name, minimum_price, rating, road_address, latitude, longitude,
+     store_created_at)
+SELECT sc.category_id, s.store_id, sc.is_primary, s.name, s.minimum_price, s.rating,
+       a.road_address, a.latitude, a.longitude, s.created_at
+FROM p_store s
+         JOIN p_store_category sc ON sc.store_id = s.store_id AND sc.is_deleted = false
+         JOIN p_category c ON c.category_id = sc.category_id AND c.is_deleted = false
+         LEFT JOIN p_store_address a ON a.store_address_id = s.store_address_id
+WHERE s.is_deleted = false
+ON CONFLICT (category_id, store_id) DO NOTHING;
@@ -0,0 +1,19 @@
+-- 리뷰와 가게 평점 누적값
+-- 평점 평균은 읽을 때 집계하지 않고 p_store.rating 에 저장된 값을 사용한다.
+-- (StoreRatingAccumulator 가 주기적으로 증감분을 더하고, StoreRatingRecomputeJob 이 리뷰 원본으로 보정)
+
+CREATE TABLE IF NOT EXISTS review (
+    review_id  UUID         NOT NULL PRIMARY KEY,
+    store_id   UUID         NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    rating     INTEGER      NOT NULL CHECK (rating BETWEEN 1 AND 5),
+    content    TEXT,
+    is_deleted BOOLEAN      NOT NULL DEFAULT false,
+    created_at TIMESTAMP,
+    deleted_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_review_store_id_created_at ON review (store_id, created_at);
+
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS rating_count BIGINT NOT NULL DEFAULT 0;
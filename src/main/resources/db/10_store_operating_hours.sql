@@ -0,0 +1,28 @@
+-- 가게 영업 시간과 날짜별 예외(휴무일/특별 영업)
+-- 원본은 이 테이블들이고, "지금 영업 중" 판별은 StoreOpenIndex 가 메모리에서 15분 슬롯 비트맵으로 한다.
+-- close_time < open_time 이면 다음 날 새벽까지, 같으면 24시간 영업
+-- 영업 시간 행이 하나도 없는 가게는 24시간 영업으로 본다.
+
+CREATE TABLE IF NOT EXISTS p_store_operating_hour (
+    store_operating_hour_id UUID        NOT NULL PRIMARY KEY,
+    store_id                UUID        NOT NULL,
+    day_of_week             VARCHAR(16) NOT NULL,
+    open_time               TIME        NOT NULL,
+    close_time              TIME        NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_operating_hour_store_id ON p_store_operating_hour (store_id);
+
+-- open_time/close_time 이 모두 NULL 이면 하루 종일 휴무
+CREATE TABLE IF NOT EXISTS p_store_holiday (
+    store_holiday_id UUID NOT NULL PRIMARY KEY,
+    store_id         UUID NOT NULL,
+    holiday_date     DATE NOT NULL,
+    open_time        TIME,
+    close_time       TIME,
+    CHECK ((open_time IS NULL) = (close_time IS NULL))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_store_holiday_store_id_date ON p_store_holiday (store_id, holiday_date);
+-- 기동 시 오늘 이후 휴무일 적재용
+CREATE INDEX IF NOT EXISTS idx_store_holiday_date ON p_store_holiday (holiday_date);
@@ -0,0 +1,18 @@
+-- 가게 배달 구역 (법정동 코드 묶음 + 구역별 배달비)
+-- 주문 검증과 주변 가게 조회는 이 테이블을 직접 읽지 않고 StoreDeliveryZoneIndex 스냅샷만 사용한다.
+-- 배달 구역이 하나도 없는 가게는 배달 지역 제한이 없는 것으로 본다.
+
+CREATE TABLE IF NOT EXISTS p_store_delivery_zone (
+    store_delivery_zone_id UUID         NOT NULL PRIMARY KEY,
+    store_id               UUID         NOT NULL,
+    name                   VARCHAR(255) NOT NULL,
+    delivery_fee           INTEGER      NOT NULL CHECK (delivery_fee >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_delivery_zone_store_id ON p_store_delivery_zone (store_id);
+
+CREATE TABLE IF NOT EXISTS p_store_delivery_zone_bcode (
+    store_delivery_zone_id UUID        NOT NULL REFERENCES p_store_delivery_zone (store_delivery_zone_id),
+    bcode                  VARCHAR(10) NOT NULL,
+    PRIMARY KEY (store_delivery_zone_id, bcode)
+);
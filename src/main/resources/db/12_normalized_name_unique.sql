@@ -0,0 +1,58 @@
+-- 가게/카테고리 이름 중복을 정규화된 이름의 unique 인덱스로 막는다. (삭제된 행은 제외)
+-- 정규화 : NFKC, 앞뒤 공백 제거, 연속 공백 하나로, 소문자 (NameNormalizer 와 같은 규칙)
+-- 서비스는 사전 조회 없이 저장하고 uk_store_normalized_name / uk_category_normalized_name 위반을 중복으로 처리한다.
+
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS normalized_name VARCHAR(255);
+ALTER TABLE p_category ADD COLUMN IF NOT EXISTS normalized_name VARCHAR(255);
+
+-- NameNormalizer.normalize 와 같은 결과를 내야 한다.
+-- - 앞뒤 제거 : Java strip() 은 Character.isWhitespace 문자를 지운다. NFKC 뒤에 남는 그런 문자는
+--   \t \n \v \f \r, U+001C~U+001F, 공백, U+1680, U+2028, U+2029 뿐이다. (btrim 은 공백만 지움)
+-- - 연속 공백 : Java \s 는 [ \t\n\x0B\f\r] 이다. (PostgreSQL \s 는 로케일에 따라 달라 직접 적는다)
+CREATE OR REPLACE FUNCTION normalize_name(name TEXT) RETURNS TEXT AS $$
+    SELECT lower(regexp_replace(
+        regexp_replace(normalize(name, NFKC),
+                       '^[\t\n\v\f\r\u001C-\u001F \u1680\u2028\u2029]+|[\t\n\v\f\r\u001C-\u001F \u1680\u2028\u2029]+$',
+                       '', 'g'),
+        '[ \t\n\v\f\r]+', ' ', 'g'))
+$$ LANGUAGE sql IMMUTABLE STRICT;
+
+-- 이전 스크립트(btrim)로 채운 값도 다시 계산한다.
+UPDATE p_store
+SET normalized_name = normalize_name(name)
+WHERE normalized_name IS DISTINCT FROM normalize_name(name);
+
+UPDATE p_category
+SET normalized_name = normalize_name(name)
+WHERE normalized_name IS DISTINCT FROM normalize_name(name);
+
+ALTER TABLE p_store ALTER COLUMN normalized_name SET NOT NULL;
+ALTER TABLE p_category ALTER COLUMN normalized_name SET NOT NULL;
+
+-- 인덱스 생성 전 중복 확인 (결과가 있으면 이름을 정리한 뒤 진행)
+-- SELECT normalized_name, COUNT(*) FROM p_store WHERE is_deleted = false GROUP BY normalized_name HAVING COUNT(*) > 1;
+-- SELECT normalized_name, COUNT(*) FROM p_category WHERE is_deleted = false GROUP BY normalized_name HAVING COUNT(*) > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_store_normalized_name
+    ON p_store (normalized_name) WHERE is_deleted = false;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_category_normalized_name
+    ON p_category (normalized_name) WHERE is_deleted = false;
+
+-- 원래 이름 컬럼의 unique 제약은 정규화 인덱스로 대체 (삭제된 카테고리 이름 재사용 허용)
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'p_category'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'name'
+    LOOP
+        EXECUTE format('ALTER TABLE p_category DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,5 @@
+-- 가게 메뉴 버전
+-- 상품이 생성/수정/삭제될 때 같은 트랜잭션에서 1씩 올린다.
+-- 메뉴 캐시(MenuCache)는 (가게, 버전) 이 같을 때만 캐시된 메뉴를 돌려준다.
+
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS menu_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,35 @@
+-- 소프트 삭제 공통화 (SoftDeleteEntity / softDeleteFilter)
+-- product.activated 를 다른 테이블과 같은 is_deleted 로 바꾸고, 활성 행 조회가 쓰는 컬럼에 부분 인덱스를 둔다.
+-- 조회 조건이 is_deleted = false 그대로이므로 부분 인덱스를 타고, 삭제된 행이 쌓여도 인덱스는 활성 행만큼만 커진다.
+
+ALTER TABLE product ADD COLUMN IF NOT EXISTS is_deleted BOOLEAN NOT NULL DEFAULT false;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_name = 'product' AND column_name = 'activated') THEN
+        UPDATE product SET is_deleted = true WHERE activated = false;
+        ALTER TABLE product DROP COLUMN activated;
+    END IF;
+END $$;
+
+-- p_store.is_deleted 는 NULL 을 허용하고 있었다.
+UPDATE p_store SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE p_store ALTER COLUMN is_deleted SET DEFAULT false;
+ALTER TABLE p_store ALTER COLUMN is_deleted SET NOT NULL;
+
+-- 가게 메뉴 : WHERE store_id = ? ORDER BY created_at, product_id (ProductRepository.findMenuByStoreId)
+CREATE INDEX IF NOT EXISTS idx_product_store_live
+    ON product (store_id, created_at, product_id) WHERE is_deleted = false;
+
+-- 가게 목록 1단계 : 활성 가게 ID 페이지, 기본 정렬 created_at DESC, store_id (StoreRepository.findActiveStoreIds)
+CREATE INDEX IF NOT EXISTS idx_store_created_at_live
+    ON p_store (created_at DESC, store_id) WHERE is_deleted = false;
+
+-- 가게의 카테고리 연결 / 카테고리의 가게 연결
+CREATE INDEX IF NOT EXISTS idx_store_category_store_live
+    ON p_store_category (store_id) WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_store_category_category_live
+    ON p_store_category (category_id) WHERE is_deleted = false;
@@ -0,0 +1,15 @@
+-- 가게별 시간 단위 주문/매출 집계
+-- StoreStatsAggregator 가 (가게, 시간, 주문타입, 주문상태) 키로 증분을 upsert 한다. (ON CONFLICT 대상 = PK)
+-- 대시보드는 store_id 와 bucket_hour 범위로 조회하므로 PK 앞 두 컬럼을 그대로 탄다.
+
+CREATE TABLE IF NOT EXISTS store_hourly_stats (
+    store_id      UUID      NOT NULL,
+    bucket_hour   TIMESTAMP NOT NULL,
+    order_type    INTEGER   NOT NULL,
+    order_status  INTEGER   NOT NULL,
+    order_count   BIGINT    NOT NULL DEFAULT 0,
+    payment_count BIGINT    NOT NULL DEFAULT 0,
+    revenue       BIGINT    NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP,
+    PRIMARY KEY (store_id, bucket_hour, order_type, order_status)
+);
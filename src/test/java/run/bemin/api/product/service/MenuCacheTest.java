@@ -0,0 +1,97 @@
+package run.bemin.api.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.product.dto.ProductSearchDto;
+
+class MenuCacheTest {
+
+  private final MenuCache menuCache = new MenuCache(2);
+
+  @Test
+  void reloadsOnlyWhenVersionChanges() {
+    UUID storeId = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    List<ProductSearchDto> first = menuCache.get(storeId, 1, () -> menu(loads, "후라이드"));
+    assertSame(first, menuCache.get(storeId, 1, () -> menu(loads, "양념")));
+    assertEquals(1, loads.get());
+
+    List<ProductSearchDto> second = menuCache.get(storeId, 2, () -> menu(loads, "양념"));
+    assertEquals("양념", second.get(0).title());
+    // 이전 버전 적재가 늦게 끝나도 새 버전을 덮지 않는다.
+    menuCache.get(storeId, 1, () -> menu(loads, "후라이드"));
+    assertSame(second, menuCache.get(storeId, 2, () -> menu(loads, "반반")));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedStore() {
+    UUID a = UUID.randomUUID();
+    UUID b = UUID.randomUUID();
+    UUID c = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    menuCache.get(a, 0, () -> menu(loads, "a"));
+    menuCache.get(b, 0, () -> menu(loads, "b"));
+    menuCache.get(a, 0, () -> menu(loads, "a"));
+    menuCache.get(c, 0, () -> menu(loads, "c"));
+    assertEquals(2, menuCache.size());
+    assertEquals(3, loads.get());
+
+    menuCache.get(a, 0, () -> menu(loads, "a"));
+    assertEquals(3, loads.get());
+    menuCache.get(b, 0, () -> menu(loads, "b"));
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  void concurrentMissesLoadOnce() throws Exception {
+    UUID storeId = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<ProductSearchDto>>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> menuCache.get(storeId, 5, () -> {
+          await(release);
+          return menu(loads, "피자");
+        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      for (Future<List<ProductSearchDto>> result : results) {
+        assertEquals("피자", result.get(5, TimeUnit.SECONDS).get(0).title());
+      }
+      assertEquals(1, loads.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static List<ProductSearchDto> menu(AtomicInteger loads, String title) {
+    loads.incrementAndGet();
+    return List.of(new ProductSearchDto(10_000, title, null, null, false));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
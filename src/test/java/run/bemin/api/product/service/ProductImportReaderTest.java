@@ -0,0 +1,82 @@
+package run.bemin.api.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.product.dto.ProductImportErrorDto;
+import run.bemin.api.product.dto.ProductImportFormat;
+import run.bemin.api.product.dto.ProductImportRow;
+
+class ProductImportReaderTest {
+
+  private final List<ProductImportRow> rows = new ArrayList<>();
+  private final List<ProductImportErrorDto> errors = new ArrayList<>();
+
+  @Test
+  void readsCsvWithQuotedFieldsAndReportsInvalidRows() throws IOException {
+    read(ProductImportFormat.CSV, 1024, """
+        \uFEFFTitle,price,image_url,comment
+        후라이드치킨,18000,,바삭한
+        "양념치킨, 순살",19000,http://img/1.png,"매콤
+        달콤한 ""특제"" 소스"
+
+        반반,abc,,
+        ,15000,,
+        콜라,-1,,
+        사이다,2000
+        """);
+
+    assertEquals(List.of(
+        new ProductImportRow(2, 18000, "후라이드치킨", "바삭한", null),
+        new ProductImportRow(3, 19000, "양념치킨, 순살", "매콤\n달콤한 \"특제\" 소스", "http://img/1.png"),
+        new ProductImportRow(9, 2000, "사이다", null, null)), rows);
+    assertEquals(List.of(6L, 7L, 8L), errors.stream().map(ProductImportErrorDto::line).toList());
+  }
+
+  @Test
+  void stopsCsvAtUnterminatedQuote() throws IOException {
+    read(ProductImportFormat.CSV, 1024, """
+        price,title
+        1000,"김밥
+        2000,라면
+        """);
+
+    assertEquals(List.of(), rows);
+    assertEquals(1, errors.size());
+    assertEquals(2L, errors.get(0).line());
+  }
+
+  @Test
+  void rejectsCsvWithoutRequiredColumns() {
+    assertThrows(IllegalArgumentException.class, () -> read(ProductImportFormat.CSV, 1024, "title,comment\n김밥,\n"));
+    assertThrows(IllegalArgumentException.class, () -> read(ProductImportFormat.CSV, 1024, ""));
+  }
+
+  @Test
+  void readsNdjsonAndSkipsLongLines() throws IOException {
+    read(ProductImportFormat.NDJSON, 80, """
+        {"price": 8000, "title": "떡볶이", "imageUrl": "http://img/2.png"}
+        {"price": 1.5, "title": "순대"}
+        not json
+        {"price": 3000, "title": "튀김", "comment": "%s"}
+        [1, 2]
+        {"price": "4500", "title": " 어묵 ", "image_url": null}
+        """.formatted("아주 긴 설명".repeat(20)));
+
+    assertEquals(List.of(
+        new ProductImportRow(1, 8000, "떡볶이", null, "http://img/2.png"),
+        new ProductImportRow(6, 4500, "어묵", null, null)), rows);
+    assertEquals(List.of(2L, 3L, 4L, 5L), errors.stream().map(ProductImportErrorDto::line).toList());
+  }
+
+  private void read(ProductImportFormat format, int maxRecordLength, String body) throws IOException {
+    new ProductImportReader(format, new StringReader(body), new ObjectMapper(), maxRecordLength)
+        .read(rows::add, errors::add);
+  }
+}
@@ -0,0 +1,137 @@
+package run.bemin.api.rider.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RiderDispatchEngineTest {
+
+  private static final int REGIONS = 50;
+  private static final int RIDERS_PER_REGION = 40;
+  private static final int ORDERS = 4_000;
+  private static final int THREADS = 16;
+
+  @Test
+  void fallsBackToSameSigunguWhenRegionIsEmpty() {
+    RiderDispatchEngine engine = new RiderDispatchEngine();
+    engine.register("010-0000-0001", "1111010100");
+
+    Optional<String> rider = engine.assign(UUID.randomUUID(), "1111010200");
+
+    assertEquals(Optional.of("010-0000-0001"), rider);
+    assertTrue(engine.assign(UUID.randomUUID(), "1111010100").isEmpty());
+  }
+
+  @Test
+  void releasedRiderBecomesAvailableAgain() {
+    RiderDispatchEngine engine = new RiderDispatchEngine();
+    engine.register("010-0000-0001", "1111010100");
+    UUID first = UUID.randomUUID();
+
+    engine.assign(first, "1111010100");
+    engine.release(first);
+
+    assertEquals(Optional.of("010-0000-0001"), engine.assign(UUID.randomUUID(), "1111010100"));
+    assertFalse(engine.findAssignedRider(first).isPresent());
+  }
+
+  @Test
+  void deliveringRiderIsVisibleOnlyAfterDeliveryStarts() {
+    RiderDispatchEngine engine = new RiderDispatchEngine();
+    engine.register("010-0000-0001", "1111010100");
+    UUID orderId = UUID.randomUUID();
+
+    engine.startDelivery(orderId);
+    engine.assign(orderId, "1111010100");
+    assertFalse(engine.findDeliveringRider(orderId).isPresent());
+
+    engine.startDelivery(orderId);
+    assertEquals(Optional.of("010-0000-0001"), engine.findDeliveringRider(orderId));
+
+    engine.release(orderId);
+    assertFalse(engine.findDeliveringRider(orderId).isPresent());
+    assertFalse(engine.isAssigned("010-0000-0001"));
+  }
+
+  @Test
+  void reRegistrationKeepsOneQueuedEntryPerRider() {
+    RiderDispatchEngine engine = new RiderDispatchEngine();
+    for (int i = 0; i < 1_000; i++) {
+      engine.register("010-0000-0001", i % 2 == 0 ? "1111010100" : "1111010200");
+      engine.register("010-0000-0002", "1111010100");
+      engine.unregister("010-0000-0003");
+    }
+    engine.register("010-0000-0003", "1111010300");
+    engine.unregister("010-0000-0003");
+
+    assertEquals(2, engine.queuedEntryCount());
+    assertEquals(Optional.of("010-0000-0001"), engine.assign(UUID.randomUUID(), "1111010200"));
+    assertEquals(Optional.of("010-0000-0002"), engine.assign(UUID.randomUUID(), "1111010200"));
+    assertEquals(0, engine.queuedEntryCount());
+  }
+
+  /**
+   * 2,000명의 기사와 4,000건의 동시 배차 요청에서 한 기사가 두 주문에 배정되지 않는지 확인
+   */
+  @Test
+  void concurrentAssignmentsNeverShareRider() throws Exception {
+    RiderDispatchEngine engine = new RiderDispatchEngine();
+    List<String> regions = new ArrayList<>();
+    for (int r = 0; r < REGIONS; r++) {
+      String bcode = String.format("11%03d10100", r);
+      regions.add(bcode);
+      for (int i = 0; i < RIDERS_PER_REGION; i++) {
+        engine.register("rider-" + r + "-" + i, bcode);
+      }
+    }
+
+    Set<String> assignedRiders = ConcurrentHashMap.newKeySet();
+    AtomicInteger duplicated = new AtomicInteger();
+    AtomicInteger assigned = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int t = 0; t < THREADS; t++) {
+      int threadNo = t;
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = threadNo; i < ORDERS; i += THREADS) {
+          Optional<String> rider = engine.assign(UUID.randomUUID(), regions.get(i % REGIONS));
+          rider.ifPresent(tel -> {
+            assigned.incrementAndGet();
+            if (!assignedRiders.add(tel)) {
+              duplicated.incrementAndGet();
+            }
+          });
+        }
+        return null;
+      }));
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertEquals(0, duplicated.get());
+    assertEquals(REGIONS * RIDERS_PER_REGION, assigned.get());
+    assertEquals(0, engine.availableRiderCount());
+    assertEquals(0, engine.queuedEntryCount());
+  }
+}
@@ -0,0 +1,81 @@
+package run.bemin.api.rider.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.rider.dto.RiderPosition;
+
+class RiderLocationTrackerTest {
+
+  private static final String RIDER = "010-0000-0001";
+  private static final long SAMPLE_INTERVAL = 10_000;
+  private static final long MAX_AGE = 300_000;
+  private static final long MAX_SKEW = 5_000;
+
+  private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+  private final List<RiderPosition> persisted = new ArrayList<>();
+  private final RiderLocationTracker tracker = new RiderLocationTracker(
+      new RiderLocationBatchWriter(null, 1) {
+        @Override
+        public void enqueue(String riderTel, RiderPosition position) {
+          persisted.add(position);
+        }
+      }, 8, SAMPLE_INTERVAL, 600_000, MAX_AGE, MAX_SKEW, now::get);
+
+  @Test
+  void outOfOrderPositionDoesNotReplaceLatest() {
+    tracker.ingest(RIDER, position(1, now.get()));
+    now.addAndGet(1_000);
+    tracker.ingest(RIDER, position(2, now.get() - 3_000));
+
+    assertEquals(1.0, tracker.findLatest(RIDER).orElseThrow().latitude());
+    assertEquals(List.of(1.0, 2.0), tracker.findRecent(RIDER, 8).stream().map(RiderPosition::latitude).toList());
+  }
+
+  @Test
+  void futureTimestampIsClampedToReceiveTime() {
+    long receivedAt = now.get();
+    tracker.ingest(RIDER, position(1, receivedAt + 3_600_000));
+
+    assertEquals(receivedAt, tracker.findLatest(RIDER).orElseThrow().recordedAt());
+
+    now.addAndGet(1_000);
+    tracker.ingest(RIDER, position(2, now.get()));
+    assertEquals(2.0, tracker.findLatest(RIDER).orElseThrow().latitude());
+  }
+
+  @Test
+  void smallClockSkewIsKept() {
+    long recordedAt = now.get() + MAX_SKEW;
+    tracker.ingest(RIDER, position(1, recordedAt));
+
+    assertEquals(recordedAt, tracker.findLatest(RIDER).orElseThrow().recordedAt());
+  }
+
+  @Test
+  void stalePositionIsDropped() {
+    assertFalse(tracker.ingest(RIDER, position(1, now.get() - MAX_AGE - 1)));
+    assertTrue(tracker.findLatest(RIDER).isEmpty());
+  }
+
+  @Test
+  void persistsOneSamplePerIntervalOfReceiveTime() {
+    // 첫 위치의 미래 시각이 이후 저장을 막지 않아야 한다.
+    tracker.ingest(RIDER, position(0, now.get() + 3_600_000));
+    for (int i = 1; i <= 15; i++) {
+      now.addAndGet(2_000);
+      tracker.ingest(RIDER, position(i, now.get()));
+    }
+
+    assertEquals(List.of(0.0, 5.0, 10.0, 15.0), persisted.stream().map(RiderPosition::latitude).toList());
+  }
+
+  private RiderPosition position(double latitude, long recordedAt) {
+    return new RiderPosition(latitude, 127.0, recordedAt);
+  }
+}
@@ -0,0 +1,142 @@
+package run.bemin.api.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.search.dto.SuggestionDto;
+import run.bemin.api.search.dto.SuggestionSource;
+import run.bemin.api.search.dto.SuggestionType;
+
+class AutocompleteIndexTest {
+
+  private final AutocompleteIndex index = new AutocompleteIndex();
+
+  @Test
+  void ranksByPopularityAndMergesSameNames() {
+    index.upsert(product("후라이드치킨"));
+    index.upsert(product("후라이드치킨"));
+    index.upsert(product(" 후라이드치킨"));
+    index.upsert(product("후라이드 감자"));
+    index.upsert(new SuggestionSource(SuggestionType.STORE, UUID.randomUUID(), "후라이드참잘하는집", 2));
+    index.upsert(new SuggestionSource(SuggestionType.CATEGORY, UUID.randomUUID(), "치킨", 5));
+
+    List<SuggestionDto> suggestions = index.suggest("후라", null, 10);
+
+    assertEquals(List.of(
+        new SuggestionDto(SuggestionType.PRODUCT, "후라이드치킨", 3),
+        new SuggestionDto(SuggestionType.STORE, "후라이드참잘하는집", 2),
+        new SuggestionDto(SuggestionType.PRODUCT, "후라이드 감자", 1)), suggestions);
+    assertEquals(1, index.suggest("후라", SuggestionType.STORE, 10).size());
+    assertEquals(List.of("후라이드치킨"), texts(index.suggest("후라", null, 1)));
+  }
+
+  @Test
+  void matchesSyllableBeingTyped() {
+    index.upsert(product("치킨"));
+    index.upsert(product("칰칰폭폭"));
+    index.upsert(product("닭강정"));
+    index.upsert(product("달기떡볶이"));
+    index.upsert(product("BBQ 황금올리브"));
+
+    assertEquals(List.of("치킨"), texts(index.suggest("치ㅋ", null, 10)));
+    assertEquals(List.of("치킨", "칰칰폭폭"), texts(index.suggest("칰", null, 10)));
+    assertEquals(List.of("달기떡볶이", "닭강정"), texts(index.suggest("닭", null, 10)));
+    assertEquals(List.of("BBQ 황금올리브"), texts(index.suggest("bbq 황ㄱ", null, 10)));
+    assertTrue(index.suggest("   ", null, 10).isEmpty());
+  }
+
+  @Test
+  void updatesAreIncrementalAndSurviveCompaction() {
+    SuggestionSource pizza = product("페퍼로니 피자");
+    index.upsert(pizza);
+    index.upsert(product("페퍼로니 피자"));
+    index.compact();
+
+    index.upsert(new SuggestionSource(SuggestionType.PRODUCT, pizza.id(), "고구마 피자", 1));
+    assertEquals(List.of(new SuggestionDto(SuggestionType.PRODUCT, "페퍼로니 피자", 1)), index.suggest("페퍼", null, 10));
+    assertEquals(List.of("고구마 피자"), texts(index.suggest("고구마", null, 10)));
+
+    index.compact();
+    assertEquals(0, index.deltaSize());
+    index.remove(pizza.id());
+    assertTrue(index.suggest("고구마", null, 10).isEmpty());
+    assertEquals(1, index.suggest("페퍼", null, 10).size());
+  }
+
+  @Test
+  void rebuildKeepsChangesMadeWhileLoading() {
+    SuggestionSource kimbap = product("김밥");
+    SuggestionSource ramen = product("라면");
+    index.rebuild(consumer -> {
+      consumer.accept(kimbap);
+      // 적재 도중 들어온 증분
+      index.upsert(ramen);
+      index.remove(kimbap.id());
+    });
+
+    assertTrue(index.suggest("김", null, 10).isEmpty());
+    assertEquals(List.of("라면"), texts(index.suggest("라", null, 10)));
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  void matchesBruteForce() {
+    Random random = new Random(7);
+    String[] syllables = {"치", "킨", "피", "자", "a", "b", "떡", "볶", "이"};
+    List<SuggestionSource> live = new ArrayList<>();
+    for (int step = 0; step < 5_000; step++) {
+      if (!live.isEmpty() && random.nextInt(5) == 0) {
+        SuggestionSource removed = live.remove(random.nextInt(live.size()));
+        index.remove(removed.id());
+      } else {
+        StringBuilder text = new StringBuilder();
+        for (int i = 1 + random.nextInt(4); i > 0; i--) {
+          text.append(syllables[random.nextInt(syllables.length)]);
+        }
+        SuggestionType type = SuggestionType.values()[random.nextInt(SuggestionType.values().length)];
+        SuggestionSource source = new SuggestionSource(type, UUID.randomUUID(), text.toString(), 1 + random.nextInt(3));
+        live.add(source);
+        index.upsert(source);
+      }
+      if (step % 700 == 0) {
+        index.compact();
+      }
+    }
+
+    for (String prefix : syllables) {
+      assertEquals(bruteForce(live, prefix, 8), index.suggest(prefix, null, 8), prefix);
+    }
+  }
+
+  private List<SuggestionDto> bruteForce(List<SuggestionSource> sources, String prefix, int limit) {
+    Map<String, SuggestionDto> merged = new HashMap<>();
+    for (SuggestionSource source : sources) {
+      if (source.text().startsWith(prefix)) {
+        merged.merge(source.type() + source.text(), new SuggestionDto(source.type(), source.text(), source.weight()),
+            (a, b) -> new SuggestionDto(a.type(), a.text(), a.weight() + b.weight()));
+      }
+    }
+    return merged.values().stream()
+        .sorted(Comparator.comparingLong(SuggestionDto::weight).reversed()
+            .thenComparing(SuggestionDto::text)
+            .thenComparing(SuggestionDto::type))
+        .limit(limit)
+        .toList();
+  }
+
+  private static SuggestionSource product(String title) {
+    return new SuggestionSource(SuggestionType.PRODUCT, UUID.randomUUID(), title, 1);
+  }
+
+  private static List<String> texts(List<SuggestionDto> suggestions) {
+    return suggestions.stream().map(SuggestionDto::text).toList();
+  }
+}
@@ -0,0 +1,134 @@
+package run.bemin.api.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.search.dto.SearchDocument;
+import run.bemin.api.search.dto.SearchDocumentType;
+import run.bemin.api.search.dto.SearchHits;
+import run.bemin.api.search.dto.SearchResultDto;
+
+class SearchIndexTest {
+
+  private final SearchIndex index = new SearchIndex();
+
+  @Test
+  void findsHangulSubstringsAndRanksTitleMatchesFirst() {
+    UUID storeId = UUID.randomUUID();
+    index.upsert(store(storeId, "BBQ 치킨 강남점"));
+    UUID fried = product(storeId, "후라이드치킨", "바삭한 닭");
+    UUID spicy = product(storeId, "양념 치킨", null);
+    UUID salad = product(storeId, "샐러드", "치킨 텐더가 올라간 샐러드");
+    product(storeId, "콜라", "탄산음료");
+
+    List<SearchResultDto> results = index.search("치킨", null, 10).results();
+
+    assertEquals(4, results.size());
+    assertEquals(salad, results.get(3).id());
+    assertTrue(results.stream().limit(3).map(SearchResultDto::id).toList().containsAll(List.of(fried, spicy)));
+    assertEquals(List.of(storeId), ids(index.search("bbq", SearchDocumentType.STORE, 10)));
+    assertEquals(List.of(fried), ids(index.search("라이드", SearchDocumentType.PRODUCT, 10)));
+  }
+
+  @Test
+  void findsOneSyllableQueryInsideWords() {
+    UUID storeId = UUID.randomUUID();
+    UUID gukbap = product(storeId, "순대국밥", null);
+    UUID soup = product(storeId, "된장국", null);
+    product(storeId, "비빔밥", null);
+
+    assertEquals(Set.of(gukbap, soup), new HashSet<>(ids(index.search("국", null, 10))));
+    assertEquals(List.of(gukbap), ids(index.search("국 밥", null, 10)));
+  }
+
+  @Test
+  void updatesAndDeletesAreIncremental() {
+    UUID storeId = UUID.randomUUID();
+    index.upsert(store(storeId, "피자집"));
+    UUID productId = product(storeId, "페퍼로니 피자", null);
+
+    index.upsert(new SearchDocument(SearchDocumentType.PRODUCT, productId, storeId, "고구마 피자", null));
+    assertEquals(0, index.search("페퍼로니", null, 10).total());
+    assertEquals(List.of(productId), ids(index.search("고구마", null, 10)));
+
+    index.removeStore(storeId);
+    assertEquals(0, index.search("피자", null, 10).total());
+  }
+
+  @Test
+  void rebuildKeepsChangesMadeWhileLoading() {
+    UUID storeId = UUID.randomUUID();
+    UUID productId = UUID.randomUUID();
+    index.rebuild(consumer -> {
+      consumer.accept(store(storeId, "분식집"));
+      // 적재 도중 들어온 증분
+      index.upsert(new SearchDocument(SearchDocumentType.PRODUCT, productId, storeId, "떡볶이", null));
+    });
+
+    assertEquals(List.of(productId), ids(index.search("떡볶이", null, 10)));
+    assertEquals(List.of(storeId), ids(index.search("분식", null, 10)));
+  }
+
+  @Test
+  void matchesBruteForce() {
+    Random random = new Random(7);
+    String[] words = {"치킨", "피자", "족발", "보쌈", "떡볶이", "마라탕", "햄버거", "초밥", "국밥", "냉면", "세트", "곱빼기"};
+    List<SearchDocument> documents = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      String title = words[random.nextInt(words.length)] + words[random.nextInt(words.length)];
+      String body = random.nextBoolean() ? words[random.nextInt(words.length)] + " 포함" : null;
+      SearchDocument document = new SearchDocument(SearchDocumentType.PRODUCT, UUID.randomUUID(), UUID.randomUUID(),
+          title, body);
+      documents.add(document);
+      index.upsert(document);
+    }
+
+    for (String query : List.of("치킨", "킨피", "떡볶이", "마라탕세트", "초밥 포함", "국", "밥 세")) {
+      int[] queryTokens = NGramTokenizer.queryTokens(query);
+      Set<UUID> expected = new HashSet<>();
+      for (SearchDocument document : documents) {
+        if (containsAll(NGramTokenizer.tokens(document.title()), queryTokens)
+            || containsAll(NGramTokenizer.tokens(document.body()), queryTokens)) {
+          expected.add(document.id());
+        }
+      }
+      SearchHits hits = index.search(query, null, documents.size());
+      assertEquals(expected.size(), hits.total(), query);
+      assertEquals(expected, new HashSet<>(ids(hits)), query);
+    }
+  }
+
+  private UUID product(UUID storeId, String title, String comment) {
+    UUID productId = UUID.randomUUID();
+    index.upsert(new SearchDocument(SearchDocumentType.PRODUCT, productId, storeId, title, comment));
+    return productId;
+  }
+
+  private static SearchDocument store(UUID storeId, String name) {
+    return new SearchDocument(SearchDocumentType.STORE, storeId, storeId, name, null);
+  }
+
+  private static List<UUID> ids(SearchHits hits) {
+    return hits.results().stream().map(SearchResultDto::id).toList();
+  }
+
+  private static boolean containsAll(int[] tokens, int[] queryTokens) {
+    Set<Integer> set = new HashSet<>();
+    for (int token : tokens) {
+      set.add(token);
+    }
+    for (int token : queryTokens) {
+      if (!set.contains(token)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
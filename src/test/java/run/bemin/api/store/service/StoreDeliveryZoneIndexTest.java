@@ -0,0 +1,86 @@
+package run.bemin.api.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class StoreDeliveryZoneIndexTest {
+
+  private static final String JUNG_GU = "1114010300";
+  private static final String JONGNO_GU = "1111010100";
+
+  private final StoreDeliveryZoneIndex index = new StoreDeliveryZoneIndex();
+
+  @Test
+  void looksUpFeeByStoreAndBcode() {
+    UUID storeId = UUID.randomUUID();
+    UUID unzoned = UUID.randomUUID();
+    index.loadAll(Map.of(storeId, Map.of(JUNG_GU, 3_000)));
+
+    assertEquals(3_000, index.deliveryFee(storeId, JUNG_GU));
+    assertEquals(StoreDeliveryZoneIndex.NOT_DELIVERABLE, index.deliveryFee(storeId, JONGNO_GU));
+    assertEquals(StoreDeliveryZoneIndex.NO_ZONE, index.deliveryFee(unzoned, JUNG_GU));
+    assertTrue(index.delivers(unzoned, JONGNO_GU));
+  }
+
+  @Test
+  void replaceStorePublishesNewSnapshot() {
+    UUID storeId = UUID.randomUUID();
+    index.loadAll(Map.of(storeId, Map.of(JUNG_GU, 3_000)));
+    StoreDeliveryZoneIndex.Coverage before = index.coverage(JUNG_GU);
+
+    index.replaceStore(storeId, Map.of(JONGNO_GU, 1_000));
+
+    // 이전에 얻은 조회기는 이전 스냅샷을 그대로 본다.
+    assertTrue(before.delivers(storeId));
+    assertFalse(index.delivers(storeId, JUNG_GU));
+    assertEquals(1_000, index.deliveryFee(storeId, JONGNO_GU));
+    assertEquals(List.of(storeId), index.storesDeliveringTo(JONGNO_GU));
+
+    index.replaceStore(storeId, Map.of());
+    assertEquals(StoreDeliveryZoneIndex.NO_ZONE, index.deliveryFee(storeId, JONGNO_GU));
+  }
+
+  @Test
+  void matchesBruteForce() {
+    Random random = new Random(42);
+    List<String> bcodes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      bcodes.add(String.valueOf(1_100_000_000L + i));
+    }
+
+    Map<UUID, Map<String, Integer>> zones = new HashMap<>();
+    for (int i = 0; i < 2_000; i++) {
+      Map<String, Integer> fees = new HashMap<>();
+      for (int j = 0; j < 1 + random.nextInt(20); j++) {
+        fees.put(bcodes.get(random.nextInt(bcodes.size())), random.nextInt(5) * 1_000);
+      }
+      zones.put(UUID.randomUUID(), fees);
+    }
+    index.loadAll(zones);
+
+    for (String bcode : bcodes) {
+      Set<UUID> expected = new HashSet<>();
+      zones.forEach((storeId, fees) -> {
+        if (fees.containsKey(bcode)) {
+          expected.add(storeId);
+        }
+      });
+      assertEquals(expected, new HashSet<>(index.storesDeliveringTo(bcode)));
+
+      StoreDeliveryZoneIndex.Coverage coverage = index.coverage(bcode);
+      zones.forEach((storeId, fees) -> assertEquals(
+          fees.getOrDefault(bcode, StoreDeliveryZoneIndex.NOT_DELIVERABLE), coverage.deliveryFee(storeId)));
+    }
+  }
+}
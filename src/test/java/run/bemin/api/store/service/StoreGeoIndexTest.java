@@ -0,0 +1,94 @@
+package run.bemin.api.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class StoreGeoIndexTest {
+
+  private static final int STORES = 100_000;
+  private static final int VERIFIED_QUERIES = 200;
+  private static final double RADIUS_METERS = 3_000;
+  private static final int LIMIT = 20;
+
+  // 서울 일대
+  private static final double MIN_LATITUDE = 37.40;
+  private static final double MAX_LATITUDE = 37.70;
+  private static final double MIN_LONGITUDE = 126.80;
+  private static final double MAX_LONGITUDE = 127.20;
+
+  private static final UUID[] CATEGORIES = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+
+  @Test
+  void updatedStoreMovesAndDeletedStoreDisappears() {
+    StoreGeoIndex index = new StoreGeoIndex(0.01);
+    UUID storeId = UUID.randomUUID();
+    index.upsert(entry(storeId, 37.5665, 126.9780, CATEGORIES[0]));
+
+    assertEquals(1, index.findNearest(37.5665, 126.9780, 500, 10, null).size());
+
+    index.upsert(entry(storeId, 37.4979, 127.0276, CATEGORIES[0]));
+    assertTrue(index.findNearest(37.5665, 126.9780, 500, 10, null).isEmpty());
+    assertEquals(storeId, index.findNearest(37.4979, 127.0276, 500, 10, null).get(0).entry().storeId());
+    assertTrue(index.findNearest(37.4979, 127.0276, 500, 10, CATEGORIES[1]).isEmpty());
+
+    index.remove(storeId);
+    assertTrue(index.findNearest(37.4979, 127.0276, 500, 10, null).isEmpty());
+    assertEquals(0, index.size());
+  }
+
+  /**
+   * 10만 개 가게에서 반경 3km, 상위 20개 조회 결과가 전수 비교 결과와 같은지 확인
+   */
+  @Test
+  void nearestStoresMatchBruteForceOnHundredThousandStores() {
+    Random random = new Random(37);
+    List<StoreGeoIndex.Entry> entries = new ArrayList<>(STORES);
+    for (int i = 0; i < STORES; i++) {
+      entries.add(entry(UUID.randomUUID(), randomLatitude(random), randomLongitude(random),
+          CATEGORIES[random.nextInt(CATEGORIES.length)]));
+    }
+    StoreGeoIndex index = new StoreGeoIndex(0.01);
+    index.loadAll(entries);
+    assertEquals(STORES, index.size());
+
+    for (int q = 0; q < VERIFIED_QUERIES; q++) {
+      double latitude = randomLatitude(random);
+      double longitude = randomLongitude(random);
+      UUID categoryId = q % 2 == 0 ? null : CATEGORIES[q % CATEGORIES.length];
+
+      List<StoreGeoIndex.Nearby> actual = index.findNearest(latitude, longitude, RADIUS_METERS, LIMIT, categoryId);
+      List<UUID> expected = entries.stream()
+          .filter(entry -> categoryId == null || entry.hasCategory(categoryId))
+          .map(entry -> new StoreGeoIndex.Nearby(entry,
+              StoreGeoIndex.distanceMeters(latitude, longitude, entry.latitude(), entry.longitude())))
+          .filter(nearby -> nearby.distanceMeters() <= RADIUS_METERS)
+          .sorted(Comparator.comparingDouble(StoreGeoIndex.Nearby::distanceMeters))
+          .limit(LIMIT)
+          .map(nearby -> nearby.entry().storeId())
+          .toList();
+
+      assertEquals(expected, actual.stream().map(nearby -> nearby.entry().storeId()).toList());
+      // 가게 밀도상 반경 3km 안에는 항상 LIMIT 개 이상이 있다.
+      assertEquals(LIMIT, actual.size());
+    }
+  }
+
+  private static StoreGeoIndex.Entry entry(UUID storeId, double latitude, double longitude, UUID categoryId) {
+    return new StoreGeoIndex.Entry(storeId, "store", 10_000, latitude, longitude, new UUID[]{categoryId});
+  }
+
+  private static double randomLatitude(Random random) {
+    return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+  }
+
+  private static double randomLongitude(Random random) {
+    return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+  }
+}
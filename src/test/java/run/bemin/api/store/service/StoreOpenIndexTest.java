@@ -0,0 +1,90 @@
+package run.bemin.api.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import run.bemin.api.store.entity.StoreHoliday;
+import run.bemin.api.store.entity.StoreOperatingHour;
+
+class StoreOpenIndexTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+  private final StoreOpenIndex index = new StoreOpenIndex("Asia/Seoul");
+
+  @Test
+  void slotBoundariesRoundTowardClosed() {
+    UUID storeId = UUID.randomUUID();
+    index.replaceStore(storeId, List.of(hour(storeId, DayOfWeek.MONDAY, 10, 10, 22, 0)), List.of());
+
+    assertFalse(index.isOpen(storeId, at(MONDAY, 10, 12)));
+    assertTrue(index.isOpen(storeId, at(MONDAY, 10, 15)));
+    assertTrue(index.isOpen(storeId, at(MONDAY, 21, 59)));
+    assertFalse(index.isOpen(storeId, at(MONDAY, 22, 0)));
+    assertFalse(index.isOpen(storeId, at(MONDAY.plusDays(1), 12, 0)));
+  }
+
+  @Test
+  void overnightHoursWrapFromSundayToMonday() {
+    UUID storeId = UUID.randomUUID();
+    index.replaceStore(storeId, List.of(hour(storeId, DayOfWeek.SUNDAY, 22, 0, 2, 0)), List.of());
+
+    assertTrue(index.isOpen(storeId, at(MONDAY, 1, 30)));
+    assertFalse(index.isOpen(storeId, at(MONDAY, 2, 0)));
+    assertTrue(index.isOpen(storeId, at(MONDAY.minusDays(1), 23, 0)));
+  }
+
+  @Test
+  void holidayOverridesOnlyItsDate() {
+    UUID storeId = UUID.randomUUID();
+    index.replaceStore(storeId, List.of(hour(storeId, DayOfWeek.MONDAY, 10, 0, 22, 0)),
+        List.of(StoreHoliday.create(storeId, MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0))));
+
+    assertFalse(index.isOpen(storeId, at(MONDAY, 10, 30)));
+    assertTrue(index.isOpen(storeId, at(MONDAY, 12, 30)));
+    assertTrue(index.isOpen(storeId, at(MONDAY.plusDays(7), 10, 30)));
+
+    index.pruneBefore(MONDAY.plusDays(1));
+    assertTrue(index.isOpen(storeId, at(MONDAY, 10, 30)));
+  }
+
+  @Test
+  void filterOpenKeepsOpenAndUnregisteredStores() {
+    UUID regular = UUID.randomUUID();
+    UUID closedToday = UUID.randomUUID();
+    UUID alwaysOpen = UUID.randomUUID();
+    UUID unregistered = UUID.randomUUID();
+    index.replaceStore(regular, List.of(hour(regular, DayOfWeek.MONDAY, 9, 0, 18, 0)), List.of());
+    index.replaceStore(closedToday, List.of(), List.of(StoreHoliday.create(closedToday, MONDAY, null, null)));
+    index.replaceStore(alwaysOpen, List.of(), List.of());
+
+    Set<UUID> open = index.filterOpen(List.of(regular, closedToday, alwaysOpen, unregistered), at(MONDAY, 12, 0));
+    assertEquals(Set.of(regular, alwaysOpen, unregistered), open);
+
+    // 휴무일을 지우면 해당 가게 비트만 다시 계산된다.
+    index.replaceStore(closedToday, List.of(), List.of());
+    assertTrue(index.isOpen(closedToday, at(MONDAY, 12, 0)));
+    assertFalse(index.isOpen(regular, at(MONDAY, 20, 0)));
+  }
+
+  private static StoreOperatingHour hour(UUID storeId, DayOfWeek dayOfWeek, int openHour, int openMinute,
+                                         int closeHour, int closeMinute) {
+    return StoreOperatingHour.create(storeId, dayOfWeek, LocalTime.of(openHour, openMinute),
+        LocalTime.of(closeHour, closeMinute));
+  }
+
+  private static Instant at(LocalDate date, int hour, int minute) {
+    return date.atTime(hour, minute).atZone(ZONE).toInstant();
+  }
+}
@@ -0,0 +1,147 @@
+package run.bemin.api.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import run.bemin.api.category.entity.Category;
+import run.bemin.api.store.dto.StoreDetailDto;
+import run.bemin.api.store.dto.StoreSummaryDto;
+import run.bemin.api.store.entity.Store;
+import run.bemin.api.store.entity.StoreAddress;
+import run.bemin.api.store.entity.StoreCategory;
+import run.bemin.api.store.exception.StoreNotFoundException;
+import run.bemin.api.store.repository.StoreBrowseJdbcRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({StoreQueryService.class, StoreBrowseJdbcRepository.class, StoreOpenIndex.class})
+class StoreQueryServiceTest {
+
+  private static final int STORES = 30;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private StoreQueryService storeQueryService;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private final List<Store> stores = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Category chicken = entityManager.persist(Category.create("치킨", "master@bemin.run"));
+    Category pizza = entityManager.persist(Category.create("피자", "master@bemin.run"));
+
+    for (int i = 0; i < STORES; i++) {
+      Store store = Store.create("가게" + i, "0212345678", 10_000, "owner@bemin.run", "owner@bemin.run");
+      store.addCategory(StoreCategory.create(store, chicken, true, "owner@bemin.run"));
+      store.addCategory(StoreCategory.create(store, pizza, false, "owner@bemin.run"));
+      entityManager.persist(store);
+
+      StoreAddress address = entityManager.persist(StoreAddress.create(store, "04524", "1114010300",
+          "서울 중구 태평로1가 31", "서울 중구 세종대로 110", i + "층", 37.5663, 126.9779));
+      store.changeAddress(address);
+      stores.add(store);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  /**
+   * 페이지 크기와 무관하게 ID 페이지 + count + 연관 조회 3번으로 끝나는지 확인
+   */
+  @Test
+  void storePageUsesFixedNumberOfQueries() {
+    Page<StoreSummaryDto> page = storeQueryService.getStores(1, PAGE_SIZE, "name", true);
+
+    assertEquals(3, statistics.getPrepareStatementCount());
+    assertEquals(PAGE_SIZE, page.getContent().size());
+    assertEquals(STORES, page.getTotalElements());
+    for (StoreSummaryDto store : page.getContent()) {
+      assertEquals("서울 중구 세종대로 110", store.roadAddress());
+      assertEquals(List.of("치킨", "피자"), store.categories().stream().map(category -> category.name()).toList());
+    }
+  }
+
+  @Test
+  void storePageKeepsRequestedOrder() {
+    List<String> names = storeQueryService.getStores(0, STORES, "name", false).getContent().stream()
+        .map(StoreSummaryDto::name)
+        .toList();
+
+    List<String> expected = new ArrayList<>(names);
+    expected.sort((a, b) -> b.compareTo(a));
+    assertEquals(expected, names);
+  }
+
+  @Test
+  void storeDetailUsesSingleQuery() {
+    StoreDetailDto store = storeQueryService.getStore(stores.get(0).getId());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals("0층", store.address().detail());
+    assertEquals(2, store.categories().size());
+    assertTrue(store.categories().get(0).isPrimary());
+  }
+
+  /**
+   * ETag 는 상세를 읽지 않고 버전 조회 한 번으로 계산하고, 가게가 바뀌면 달라지는지 확인
+   */
+  @Test
+  void storeEtagUsesSingleQueryAndFollowsUpdates() {
+    UUID storeId = stores.get(0).getId();
+    Instant at = Instant.now();
+
+    String etag = storeQueryService.getStoreEtag(storeId, at);
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(etag, storeQueryService.getStoreEtag(storeId, at));
+
+    entityManager.find(Store.class, storeId).update(null, "0299999999", null, "owner@bemin.run");
+    entityManager.flush();
+    assertNotEquals(etag, storeQueryService.getStoreEtag(storeId, at));
+  }
+
+  /**
+   * 삭제된 가게와 가게-카테고리 연결은 쿼리에 조건을 쓰지 않아도 softDeleteFilter 로 빠지는지 확인
+   */
+  @Test
+  void softDeletedRowsAreFilteredFromQueries() {
+    UUID deletedStoreId = stores.get(0).getId();
+    UUID storeId = stores.get(1).getId();
+    entityManager.find(Store.class, deletedStoreId).softDelete("owner@bemin.run");
+    entityManager.find(Store.class, storeId).getStoreCategories().stream()
+        .filter(storeCategory -> !storeCategory.getIsPrimary())
+        .forEach(storeCategory -> storeCategory.softDelete("owner@bemin.run"));
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(STORES - 1, storeQueryService.getStores(0, PAGE_SIZE, "name", true).getTotalElements());
+    assertThrows(StoreNotFoundException.class, () -> storeQueryService.getStore(deletedStoreId));
+    assertEquals(List.of("치킨"), storeQueryService.getStore(storeId).categories().stream()
+        .map(category -> category.name())
+        .toList());
+  }
+}